@@ -1,12 +1,16 @@
 package com.example.echoshotx.credit.application.service;
 
 import com.example.echoshotx.credit.domain.entity.CreditHistory;
+import com.example.echoshotx.credit.domain.entity.TransactionType;
 import com.example.echoshotx.credit.domain.util.CreditCalculator;
+import com.example.echoshotx.credit.infrastructure.persistence.CreditHistoryJdbcRepository;
 import com.example.echoshotx.credit.infrastructure.persistence.CreditHistoryRepository;
 import com.example.echoshotx.member.application.adaptor.MemberAdaptor;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.video.domain.entity.ProcessingType;
 import com.example.echoshotx.video.domain.entity.Video;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -21,9 +25,11 @@ public class CreditService {
 
     private static final String VIDEO_PROCESSING_DEDUCTION_KEY_PREFIX = "VIDEO_PROCESSING:";
     private static final String VIDEO_PROCESSING_REFUND_KEY_PREFIX = "VIDEO_PROCESSING_REFUND:";
+    private static final String VIDEO_PROCESSING_ADJUSTMENT_KEY_PREFIX = "VIDEO_PROCESSING_ADJUST:";
 
     private final MemberAdaptor memberAdaptor;
     private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditHistoryJdbcRepository creditHistoryJdbcRepository;
 
     /**
      * 크레딧 사용 (영상 처리용)
@@ -55,6 +61,37 @@ public class CreditService {
         }
     }
 
+    /**
+     * 크레딧 일괄 사용 (여러 영상 처리용)
+     *
+     * <p>회원을 한 번만 잠그고 합계 크레딧을 차감한 뒤 영상별 사용 내역을 배치 INSERT로 기록한다.
+     * 합계가 잔액보다 크면 아무것도 차감하지 않고 예외가 발생한다.
+     *
+     * @return 차감한 합계 크레딧
+     */
+    public int useCreditsForVideoProcessing(Member member, List<Video> videos) {
+        if (videos.isEmpty()) {
+            return 0;
+        }
+        List<CreditHistory> histories = videos.stream()
+                .map(video -> CreditHistory.createUsage(
+                        member.getId(),
+                        video.getId(),
+                        CreditCalculator.calculateRequiredCredits(
+                                video.getProcessingType(),
+                                video.getOriginalMetadata().getDurationSeconds()),
+                        video.getProcessingType(),
+                        VIDEO_PROCESSING_DEDUCTION_KEY_PREFIX + video.getId()))
+                .toList();
+        int totalCredits = histories.stream().mapToInt(CreditHistory::getAmount).sum();
+
+        Member lockedMember = memberAdaptor.queryByIdWithLock(member.getId());
+        lockedMember.useCredits(totalCredits);
+
+        creditHistoryJdbcRepository.batchInsert(histories, LocalDateTime.now());
+        return totalCredits;
+    }
+
     /**
      * 크레딧 충전
      */
@@ -116,6 +153,82 @@ public class CreditService {
         }
     }
 
+    /**
+     * 영상 처리 실패 환불. 업로드 완료 시 차감한 사용 내역(VIDEO_PROCESSING:{videoId})과 길이 정산 내역을 합친,
+     * 실제로 차감된 금액만큼 돌려준다. 차감 내역이 없으면 환불하지 않고 null.
+     */
+    public CreditHistory refundVideoProcessingCharge(Long memberId, Long videoId, String reason) {
+        // 길이 정산과 겹치지 않도록 회원 락을 잡은 뒤 차감액을 계산한다
+        memberAdaptor.queryByIdWithLock(memberId);
+        int charged = chargedForVideoProcessing(videoId);
+        if (charged <= 0) {
+            return null;
+        }
+        return refundCreditsForVideoProcessingFailure(memberId, videoId, charged, reason);
+    }
+
+    /**
+     * 영상 처리 크레딧 길이 정산.
+     *
+     * <p>업로드 완료 시에는 클라이언트가 보낸 길이로 차감한다. 서버에서 확인한 길이로 다시 계산한 금액과 차이가 나면
+     * 모자란 만큼 추가 차감하고 넘친 만큼 환불한다. 비디오당 한 번만 정산하고(VIDEO_PROCESSING_ADJUST:{videoId}),
+     * 차감 내역이 없거나 이미 실패 환불된 비디오, 차이가 없는 경우는 null.
+     * 잔액이 모자라면 CREDIT_NOT_ENOUGH 예외가 발생하고 아무것도 기록하지 않는다.
+     */
+    public CreditHistory reconcileVideoProcessingCharge(
+            Long memberId, Long videoId, ProcessingType processingType, Double durationSeconds) {
+        Member member = memberAdaptor.queryByIdWithLock(memberId);
+        String adjustmentKey = VIDEO_PROCESSING_ADJUSTMENT_KEY_PREFIX + videoId;
+
+        CreditHistory existing = creditHistoryRepository.findByDeductionKey(adjustmentKey).orElse(null);
+        if (existing != null) {
+            return existing;
+        }
+        CreditHistory usage = creditHistoryRepository.findByDeductionKey(VIDEO_PROCESSING_DEDUCTION_KEY_PREFIX + videoId)
+                .orElse(null);
+        if (usage == null
+                || creditHistoryRepository.findByDeductionKey(VIDEO_PROCESSING_REFUND_KEY_PREFIX + videoId).isPresent()) {
+            return null;
+        }
+
+        int difference = CreditCalculator.calculateRequiredCredits(processingType, durationSeconds) - usage.getAmount();
+        if (difference == 0) {
+            return null;
+        }
+
+        CreditHistory adjustment;
+        if (difference > 0) {
+            member.useCredits(difference);
+            adjustment = CreditHistory.createUsage(memberId, videoId, difference, processingType, adjustmentKey);
+        } else {
+            member.addCredits(-difference);
+            adjustment = CreditHistory.createRefund(
+                    memberId, videoId, -difference, "영상 길이 확인 후 차액 환불", adjustmentKey);
+        }
+        log.info("Video processing charge reconciled: videoId={}, charged={}, difference={}",
+                videoId, usage.getAmount(), difference);
+
+        try {
+            return creditHistoryRepository.save(adjustment);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Credit adjustment already recorded. adjustmentKey={}", adjustmentKey);
+            return creditHistoryRepository.findByDeductionKey(adjustmentKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private int chargedForVideoProcessing(Long videoId) {
+        int usage = creditHistoryRepository.findByDeductionKey(VIDEO_PROCESSING_DEDUCTION_KEY_PREFIX + videoId)
+                .map(CreditHistory::getAmount)
+                .orElse(0);
+        int adjustment = creditHistoryRepository.findByDeductionKey(VIDEO_PROCESSING_ADJUSTMENT_KEY_PREFIX + videoId)
+                .map(history -> history.getTransactionType() == TransactionType.REFUND
+                        ? -history.getAmount()
+                        : history.getAmount())
+                .orElse(0);
+        return usage + adjustment;
+    }
+
     /**
      * AI 서버 연동용 크레딧 차감
      */
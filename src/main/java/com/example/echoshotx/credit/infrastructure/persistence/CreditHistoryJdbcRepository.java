@@ -0,0 +1,52 @@
+package com.example.echoshotx.credit.infrastructure.persistence;
+
+import com.example.echoshotx.credit.domain.entity.CreditHistory;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * credit_history JDBC 배치 리포지토리.
+ *
+ * <p>IDENTITY 키라 Hibernate는 INSERT를 묶지 못하므로, 여러 영상의 차감 내역을 한 번의 배치 INSERT로 기록한다.
+ * JPA auditing을 거치지 않으므로 생성/수정 시각을 직접 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CreditHistoryJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO credit_history
+                   (member_id, transaction_type, amount, video_id, processing_type,
+                    description, deduction_key, created_date, last_modified_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 내역 일괄 기록. deduction_key가 중복되면 예외가 발생해 호출한 트랜잭션이 롤백된다.
+     */
+    public void batchInsert(List<CreditHistory> histories, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, history.getMemberId());
+            ps.setString(2, history.getTransactionType().name());
+            ps.setInt(3, history.getAmount());
+            if (history.getVideoId() == null) {
+                ps.setNull(4, Types.BIGINT);
+            } else {
+                ps.setLong(4, history.getVideoId());
+            }
+            ps.setString(5, history.getProcessingType() == null ? null : history.getProcessingType().name());
+            ps.setString(6, history.getDescription());
+            ps.setString(7, history.getDeductionKey());
+            ps.setTimestamp(8, created);
+            ps.setTimestamp(9, created);
+        });
+    }
+}
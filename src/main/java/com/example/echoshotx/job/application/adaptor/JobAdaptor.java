@@ -2,9 +2,12 @@ package com.example.echoshotx.job.application.adaptor;
 
 import com.example.echoshotx.job.domain.entity.Job;
 import com.example.echoshotx.job.domain.exception.JobErrorStatus;
+import com.example.echoshotx.job.infrastructure.persistence.JobJdbcRepository;
 import com.example.echoshotx.job.infrastructure.persistence.JobRepository;
 import com.example.echoshotx.job.presentation.exception.JobHandler;
 import com.example.echoshotx.shared.annotation.adaptor.Adaptor;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class JobAdaptor {
 
     private final JobRepository jobRepository;
+    private final JobJdbcRepository jobJdbcRepository;
 
     public Job queryById(Long jobId) {
         return jobRepository.findById(jobId)
@@ -27,4 +31,16 @@ public class JobAdaptor {
         return jobRepository.save(job);
     }
 
+    /**
+     * 작업 일괄 저장. 배치 INSERT 후 video_id로 한 번에 다시 읽어 id가 채워진 작업을 반환한다.
+     */
+    @Transactional
+    public List<Job> saveAllJobs(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        jobJdbcRepository.batchInsertJobs(jobs, LocalDateTime.now());
+        return jobRepository.findAllByVideoIdIn(jobs.stream().map(Job::getVideoId).toList());
+    }
+
 }
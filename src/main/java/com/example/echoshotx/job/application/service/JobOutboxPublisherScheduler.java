@@ -2,6 +2,7 @@ package com.example.echoshotx.job.application.service;
 
 import com.example.echoshotx.job.domain.entity.JobOutboxEvent;
 import com.example.echoshotx.job.domain.entity.JobOutboxStatus;
+import com.example.echoshotx.job.infrastructure.dto.JobMessage;
 import com.example.echoshotx.job.infrastructure.persistence.JobOutboxEventRepository;
 import com.example.echoshotx.job.infrastructure.publisher.JobPublisher;
 import java.time.LocalDateTime;
@@ -3,10 +3,12 @@ package com.example.echoshotx.job.application.service;
 import com.example.echoshotx.job.domain.entity.Job;
 import com.example.echoshotx.job.domain.entity.JobOutboxEvent;
 import com.example.echoshotx.job.infrastructure.dto.JobMessage;
+import com.example.echoshotx.job.infrastructure.persistence.JobJdbcRepository;
 import com.example.echoshotx.job.infrastructure.persistence.JobOutboxEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,19 +22,26 @@ public class JobOutboxService {
     static final int MAX_RETRIES = 10;
 
     private final JobOutboxEventRepository repository;
+    private final JobJdbcRepository jobJdbcRepository;
     private final ObjectMapper objectMapper;
 
     @Transactional
     public void enqueueJobCreated(Job job, Long memberId) {
-        JobMessage message = JobMessage.builder()
-                .jobId(job.getId())
-                .videoId(job.getVideoId())
-                .processingType(job.getProcessingType().name())
-                .memberId(memberId)
-                .s3Key(job.getS3Key())
-                .build();
+        repository.save(JobOutboxEvent.pending(job.getId(), serialize(toMessage(job, memberId)), LocalDateTime.now()));
+    }
 
-        repository.save(JobOutboxEvent.pending(job.getId(), serialize(message), LocalDateTime.now()));
+    /**
+     * 여러 작업의 outbox 이벤트를 한 번의 배치 INSERT로 기록한다.
+     */
+    @Transactional
+    public void enqueueJobsCreated(List<Job> jobs, Long memberId) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jobJdbcRepository.batchInsertOutboxEvents(jobs.stream()
+                .map(job -> JobOutboxEvent.pending(job.getId(), serialize(toMessage(job, memberId)), now))
+                .toList());
     }
 
     @Transactional
@@ -66,6 +75,16 @@ public class JobOutboxService {
         }
     }
 
+    private static JobMessage toMessage(Job job, Long memberId) {
+        return JobMessage.builder()
+                .jobId(job.getId())
+                .videoId(job.getVideoId())
+                .processingType(job.getProcessingType().name())
+                .memberId(memberId)
+                .s3Key(job.getS3Key())
+                .build();
+    }
+
     private String serialize(JobMessage message) {
         try {
             return objectMapper.writeValueAsString(message);
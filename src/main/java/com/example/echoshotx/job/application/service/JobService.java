@@ -8,6 +8,7 @@ import com.example.echoshotx.job.infrastructure.dto.JobMessage;
 import com.example.echoshotx.job.infrastructure.publisher.JobPublisher;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.video.domain.entity.ProcessingType;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,13 @@ public class JobService {
         return jobAdaptor.saveJob(Job.create(member.getId(), videoId, s3Key, processingType));
     }
 
+    /**
+     * 여러 작업을 한 번의 배치 INSERT로 생성한다.
+     */
+    public List<Job> createJobs(List<Job> jobs) {
+        return jobAdaptor.saveAllJobs(jobs);
+    }
+
     public void markSendFailed(Long jobId) {
         Job job = jobAdaptor.queryById(jobId);
         job.markFailed();
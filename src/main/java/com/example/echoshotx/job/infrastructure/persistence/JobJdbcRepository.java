@@ -0,0 +1,65 @@
+package com.example.echoshotx.job.infrastructure.persistence;
+
+import com.example.echoshotx.job.domain.entity.Job;
+import com.example.echoshotx.job.domain.entity.JobOutboxEvent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * job / job_outbox_event JDBC 배치 리포지토리.
+ *
+ * <p>여러 영상의 작업과 outbox 이벤트를 각각 한 번의 배치 INSERT로 기록한다.
+ * job.processing_type은 엔티티 매핑(@Enumerated 없음)에 맞춰 ordinal로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobJdbcRepository {
+
+    private static final String INSERT_JOB_SQL = """
+            INSERT INTO job
+                   (member_id, video_id, s3_key, processing_type, status, created_date, last_modified_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_OUTBOX_EVENT_SQL = """
+            INSERT INTO job_outbox_event
+                   (job_id, payload, status, retry_count, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 일괄 기록. 생성된 id는 video_id 유니크 키로 다시 조회한다.
+     */
+    public void batchInsertJobs(List<Job> jobs, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_JOB_SQL, jobs, jobs.size(), (ps, job) -> {
+            ps.setLong(1, job.getMemberId());
+            ps.setLong(2, job.getVideoId());
+            ps.setString(3, job.getS3Key());
+            ps.setInt(4, job.getProcessingType().ordinal());
+            ps.setString(5, job.getStatus().name());
+            ps.setTimestamp(6, created);
+            ps.setTimestamp(7, created);
+        });
+    }
+
+    /**
+     * outbox 이벤트 일괄 기록.
+     */
+    public void batchInsertOutboxEvents(List<JobOutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getJobId());
+            ps.setString(2, event.getPayload());
+            ps.setString(3, event.getStatus().name());
+            ps.setInt(4, event.getRetryCount());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getNextAttemptAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+}
@@ -3,8 +3,11 @@ package com.example.echoshotx.job.infrastructure.persistence;
 import com.example.echoshotx.job.domain.entity.Job;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByVideoId(Long videoId);
+
+    List<Job> findAllByVideoIdIn(Collection<Long> videoIds);
 }
@@ -3,6 +3,7 @@ package com.example.echoshotx.member.application.usecase;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.member.presentation.dto.request.AuthRequest;
 import com.example.echoshotx.notification.application.service.SseConnectionManager;
+import com.example.echoshotx.notification.application.service.WebSocketSessionManager;
 import com.example.echoshotx.shared.security.aop.CurrentMember;
 import com.example.echoshotx.shared.security.service.TokenService;
 import io.jsonwebtoken.Claims;
@@ -23,6 +24,7 @@ public class LogoutUseCase {
 
     private final TokenService tokenService;
     private final SseConnectionManager sseConnectionManager;
+    private final WebSocketSessionManager webSocketSessionManager;
 
     public void execute(AuthRequest.Logout request, Member member) {
         tokenService.logout(request.getRefreshToken());
@@ -31,6 +33,11 @@ public class LogoutUseCase {
         if (sseConnectionManager.isConnected(member.getId())) {
             sseConnectionManager.disconnectMember(member.getId());
         }
+
+        // WebSocket 세션 종료
+        if (webSocketSessionManager.isConnected(member.getId())) {
+            webSocketSessionManager.disconnectMember(member.getId());
+        }
     }
 
 }
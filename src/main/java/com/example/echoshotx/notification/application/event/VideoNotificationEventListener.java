@@ -1,10 +1,10 @@
 package com.example.echoshotx.notification.application.event;
 
+import com.example.echoshotx.notification.application.service.NotificationCoalescer;
 import com.example.echoshotx.notification.application.service.NotificationService;
 import com.example.echoshotx.notification.domain.entity.NotificationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -12,6 +12,9 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 영상 관련 이벤트를 수신하여 알림을 생성하는 리스너.
+ *
+ * <p>상태 전환 이벤트는 커밋 후에만 처리한다. 낙관적 락 충돌이나 webhook 배치 chunk 롤백으로 되돌려진 전환은
+ * 알림을 보내지 않으며, 트랜잭션 밖에서 발행된 이벤트는 즉시 처리한다 (fallbackExecution).
  */
 @Slf4j
 @Component
@@ -19,15 +22,17 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class VideoNotificationEventListener {
 
   private final NotificationService notificationService;
+  private final NotificationCoalescer notificationCoalescer;
 
   @Async
-  @EventListener
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
   public void handleVideoProcessingStarted(VideoProcessingStartedEvent event) {
 	log.info("Handling VideoProcessingStartedEvent for video: {}", event.getVideoId());
 
-	notificationService.createAndSendVideoNotification(
+	createAndSend(
 		event.getMemberId(),
 		event.getVideoId(),
+		event.getFileName(),
 		NotificationType.VIDEO_PROCESSING_STARTED,
 		"영상 처리 시작",
 		String.format(
@@ -36,13 +41,14 @@ public class VideoNotificationEventListener {
   }
 
   @Async
-  @EventListener
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
   public void handleVideoProcessingCompleted(VideoProcessingCompletedEvent event) {
 	log.info("Handling VideoProcessingCompletedEvent for video: {}", event.getVideoId());
 
-	notificationService.createAndSendVideoNotification(
+	createAndSend(
 		event.getMemberId(),
 		event.getVideoId(),
+		event.getFileName(),
 		NotificationType.VIDEO_PROCESSING_COMPLETED,
 		"영상 처리 완료",
 		String.format(
@@ -50,13 +56,14 @@ public class VideoNotificationEventListener {
   }
 
   @Async
-  @EventListener
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
   public void handleVideoProcessingFailed(VideoProcessingFailedEvent event) {
 	log.info("Handling VideoProcessingFailedEvent for video: {}", event.getVideoId());
 
-	notificationService.createAndSendVideoNotification(
+	createAndSend(
 		event.getMemberId(),
 		event.getVideoId(),
+		event.getFileName(),
 		NotificationType.VIDEO_PROCESSING_FAILED,
 		"영상 처리 실패",
 		String.format(
@@ -67,10 +74,10 @@ public class VideoNotificationEventListener {
   /**
    * 영상 처리 진행률 업데이트 이벤트 처리.
    * 트랜잭션 커밋 후에 실행되며, SSE를 통해 클라이언트에 실시간 전송합니다.
-   * 진행률은 DB에 저장하지 않고 SSE로만 전송합니다.
+   * write-behind 경로처럼 트랜잭션 밖에서 발행된 이벤트도 즉시 처리합니다 (fallbackExecution).
    */
   @Async
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
   public void handleVideoProcessingProgress(VideoProcessingProgressEvent event) {
 	log.debug(
 		"Handling VideoProcessingProgressEvent for video: {}, progress: {}%",
@@ -85,4 +92,21 @@ public class VideoNotificationEventListener {
 		event.getEstimatedTimeLeftSeconds(),
 		event.getCurrentStep());
   }
+
+  /**
+   * 병합 대상 타입이면 coalescer 윈도우에 넣고, 아니면 즉시 생성·전송.
+   */
+  private void createAndSend(
+	  Long memberId,
+	  Long videoId,
+	  String fileName,
+	  NotificationType type,
+	  String title,
+	  String content) {
+	if (notificationCoalescer.isCoalescing(type)) {
+	  notificationCoalescer.offer(memberId, videoId, fileName, type, title, content);
+	  return;
+	}
+	notificationService.createAndSendVideoNotification(memberId, videoId, type, title, content);
+  }
 }
@@ -0,0 +1,171 @@
+package com.example.echoshotx.notification.application.service;
+
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.shared.config.notification.props.NotificationProps;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원/알림 타입 단위 버스트 병합기.
+ *
+ * <p>첫 이벤트 시점부터 windowMillis 동안 같은 회원·타입으로 들어온 이벤트를 모아
+ * 한 건이면 일반 알림, 여러 건이면 다이제스트 알림 한 건으로 저장·전송합니다.
+ * 윈도우가 maxBatchSize에 도달하면 만료 전이라도 즉시 내보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final NotificationProps notificationProps;
+
+    private final Map<WindowKey, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 타입이 병합 대상인지 여부.
+     */
+    public boolean isCoalescing(NotificationType type) {
+        NotificationProps.Coalescing coalescing = notificationProps.getCoalescing();
+        return coalescing.isEnabled() && coalescing.getTypes().contains(type);
+    }
+
+    /**
+     * 이벤트를 현재 윈도우에 추가. 윈도우가 없으면 새로 연다.
+     */
+    public void offer(
+            Long memberId,
+            Long videoId,
+            String fileName,
+            NotificationType type,
+            String title,
+            String content) {
+        WindowKey key = new WindowKey(memberId, type);
+        PendingEvent event = new PendingEvent(videoId, fileName, title, content);
+        int maxBatchSize = Math.max(1, notificationProps.getCoalescing().getMaxBatchSize());
+
+        while (true) {
+            Window window = windows.computeIfAbsent(key, k -> new Window(System.currentTimeMillis()));
+            List<PendingEvent> ready = null;
+            synchronized (window) {
+                // flush 스레드가 방금 닫은 윈도우면 새 윈도우로 재시도
+                if (window.closed) {
+                    continue;
+                }
+                window.events.add(event);
+                if (window.events.size() >= maxBatchSize) {
+                    window.closed = true;
+                    windows.remove(key, window);
+                    ready = window.events;
+                }
+            }
+            if (ready != null) {
+                dispatch(key, ready);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 만료된 윈도우를 내보낸다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification.coalescing.flush-interval-millis:500}")
+    public void flushExpired() {
+        flushExpired(System.currentTimeMillis());
+    }
+
+    void flushExpired(long nowMillis) {
+        if (windows.isEmpty()) {
+            return;
+        }
+        long windowMillis = notificationProps.getCoalescing().getWindowMillis();
+        windows.forEach((key, window) -> {
+            List<PendingEvent> ready = null;
+            synchronized (window) {
+                if (!window.closed && nowMillis - window.openedAtMillis >= windowMillis) {
+                    window.closed = true;
+                    windows.remove(key, window);
+                    ready = window.events;
+                }
+            }
+            if (ready != null) {
+                dispatch(key, ready);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남은 윈도우를 모두 내보낸다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        flushExpired(Long.MAX_VALUE);
+    }
+
+    int getPendingWindowCount() {
+        return windows.size();
+    }
+
+    private void dispatch(WindowKey key, List<PendingEvent> events) {
+        try {
+            if (events.size() == 1) {
+                PendingEvent event = events.get(0);
+                notificationService.createAndSendVideoNotification(
+                        key.memberId(), event.videoId(), key.type(), event.title(), event.content());
+                return;
+            }
+
+            PendingEvent first = events.get(0);
+            List<Long> videoIds = events.stream().map(PendingEvent::videoId).collect(Collectors.toList());
+            notificationService.createAndSendVideoDigestNotification(
+                    key.memberId(),
+                    videoIds,
+                    key.type(),
+                    first.title(),
+                    createDigestContent(key.type(), first.fileName(), events.size()));
+        } catch (Exception e) {
+            log.error(
+                    "Failed to dispatch coalesced notification: memberId={}, type={}, count={}",
+                    key.memberId(),
+                    key.type(),
+                    events.size(),
+                    e);
+        }
+    }
+
+    private String createDigestContent(NotificationType type, String firstFileName, int count) {
+        int others = count - 1;
+        return switch (type) {
+            case VIDEO_PROCESSING_STARTED ->
+                    String.format("'%s' 외 %d개 영상 처리가 시작되었습니다.", firstFileName, others);
+            case VIDEO_PROCESSING_FAILED ->
+                    String.format("'%s' 외 %d개 영상 처리가 실패했습니다.", firstFileName, others);
+            default ->
+                    String.format("'%s' 외 %d개 영상 처리가 완료되었습니다. 다운로드 가능합니다.", firstFileName, others);
+        };
+    }
+
+    private record WindowKey(Long memberId, NotificationType type) {
+    }
+
+    private record PendingEvent(Long videoId, String fileName, String title, String content) {
+    }
+
+    private static final class Window {
+        private final long openedAtMillis;
+        private final List<PendingEvent> events = new ArrayList<>();
+        private boolean closed;
+
+        private Window(long openedAtMillis) {
+            this.openedAtMillis = openedAtMillis;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.echoshotx.notification.application.service;
 import com.example.echoshotx.notification.application.adaptor.NotificationAdaptor;
 import com.example.echoshotx.notification.domain.entity.Notification;
 import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
 import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
 import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
 
@@ -23,6 +24,9 @@ public class NotificationService {
 
     private final NotificationAdaptor notificationAdaptor;
     private final SseConnectionManager sseConnectionManager;
+    private final WebSocketSessionManager webSocketSessionManager;
+    private final NotificationMetrics notificationMetrics;
+    private final VideoProgressSnapshotCache videoProgressSnapshotCache;
 
     /**
      * 영상 관련 알림 생성 및 전송.
@@ -43,6 +47,27 @@ public class NotificationService {
         return notification;
     }
 
+    /**
+     * 여러 영상 이벤트를 묶은 다이제스트 알림 생성 및 전송.
+     */
+    public Notification createAndSendVideoDigestNotification(
+            Long memberId, List<Long> videoIds, NotificationType type, String title, String content) {
+
+        Notification notification =
+                Notification.createVideoDigestNotification(memberId, videoIds, type, title, content);
+
+        notification = notificationAdaptor.save(notification);
+        log.info(
+                "Video digest notification created: id={}, memberId={}, type={}, count={}",
+                notification.getId(),
+                memberId,
+                type,
+                videoIds.size());
+
+        sendNotificationRealtime(notification);
+        return notification;
+    }
+
     /**
      * 시스템 알림 생성 및 전송.
      */
@@ -75,21 +100,23 @@ public class NotificationService {
     }
 
     /**
-     * 실시간 알림 전송.
+     * 실시간 알림 전송 (SSE, WebSocket 중 하나라도 성공하면 전송 완료).
      */
     private void sendNotificationRealtime(Notification notification) {
         try {
             NotificationResponse response = NotificationResponse.from(notification);
-            boolean sent = sseConnectionManager.sendToMember(notification.getMemberId(), response);
+            boolean sentBySse = sseConnectionManager.sendToMember(notification.getMemberId(), response);
+            boolean sentByWebSocket = webSocketSessionManager.sendNotification(notification.getMemberId(), response);
+            boolean sent = sentBySse || sentByWebSocket;
 
             if (sent) {
                 notification.markAsSent();
                 notificationAdaptor.save(notification);
-                log.info("Notification sent successfully: id={}", notification.getId());
+                log.debug("Notification sent successfully: id={}", notification.getId());
             } else {
                 notification.markAsFailed();
                 notificationAdaptor.save(notification);
-                log.warn(
+                log.debug(
                         "Failed to send notification (no active connection): id={}", notification.getId());
             }
         } catch (Exception e) {
@@ -179,6 +206,7 @@ public class NotificationService {
         List<Notification> failedNotifications = notificationAdaptor.queryFailedNotificationsForRetry(retryAfter);
 
         log.info("Retrying {} failed notifications", failedNotifications.size());
+        notificationMetrics.updateRetryBacklog(failedNotifications.size());
 
         for (Notification notification : failedNotifications) {
             if (!notification.canRetry()) {
@@ -210,8 +238,8 @@ public class NotificationService {
     }
 
     /**
-     * 비디오 처리 진행률 업데이트를 SSE로 전송.
-     * 진행률은 DB에 저장하지 않고 실시간 전송만 수행합니다.
+     * 비디오 처리 진행률 업데이트를 SSE / WebSocket으로 전송.
+     * 진행률은 DB에 저장하지 않고 실시간 전송만 수행하며, 최신 값은 스냅샷 캐시에 남깁니다.
      */
     public void sendProgressUpdate(
             Long memberId,
@@ -228,13 +256,16 @@ public class NotificationService {
                 .currentStep(currentStep)
                 .timestamp(LocalDateTime.now())
                 .build();
+        videoProgressSnapshotCache.put(memberId, response);
 
-        // SSE로 실시간 전송 (DB에 저장하지 않음)
-        boolean sent = sseConnectionManager.sendToMember(memberId, response);
+        // SSE / WebSocket(구독 세션만)으로 실시간 전송 (DB에 저장하지 않음)
+        boolean sentBySse = sseConnectionManager.sendToMember(memberId, response);
+        boolean sentByWebSocket = webSocketSessionManager.sendProgress(memberId, response);
+        boolean sent = sentBySse || sentByWebSocket;
 
         if (!sent) {
             log.debug(
-                    "Failed to send progress update (no active SSE connection): memberId={}, videoId={}",
+                    "Failed to send progress update (no active connection): memberId={}, videoId={}",
                     memberId,
                     videoId);
         } else {
@@ -245,4 +276,16 @@ public class NotificationService {
                     progressPercentage);
         }
     }
+
+    /**
+     * SSE 연결 직후 회원의 진행 중인 비디오 최신 진행률을 재전송.
+     * 다음 push를 기다리지 않고 화면을 바로 채울 수 있도록 합니다.
+     */
+    public void replayProgressSnapshots(Long memberId) {
+        for (VideoProgressResponse snapshot : videoProgressSnapshotCache.getByMember(memberId)) {
+            if (!sseConnectionManager.sendToMember(memberId, snapshot)) {
+                return;
+            }
+        }
+    }
 }
@@ -1,10 +1,11 @@
 package com.example.echoshotx.notification.application.service;
 
 import com.example.echoshotx.notification.domain.exception.NotificationErrorStatus;
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
 import com.example.echoshotx.notification.presentation.exception.NotificationHandler;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,6 +29,12 @@ public class SseConnectionManager {
 
     // Key: memberId, Value: SseEmitter (단일 디바이스)
     private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final NotificationMetrics notificationMetrics;
+
+    public SseConnectionManager(NotificationMetrics notificationMetrics) {
+        this.notificationMetrics = notificationMetrics;
+        notificationMetrics.registerActiveConnections(NotificationMetrics.CHANNEL_SSE, emitters::size);
+    }
 
     public SseEmitter createConnection(Long memberId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
@@ -36,29 +43,31 @@ public class SseConnectionManager {
         // 기존 emitter는 자연스럽게 timeout/completion 처리됨
         SseEmitter oldEmitter = emitters.put(memberId, emitter);
         if (oldEmitter != null) {
+            notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_SSE, "replaced");
             log.info("Replacing existing SSE connection for member: {} (old connection will timeout naturally)", memberId);
         }
 
+        notificationMetrics.recordConnected(NotificationMetrics.CHANNEL_SSE);
         log.info("SSE connection created for member: {}", memberId);
 
         // 연결 완료 시 제거 (현재 활성 emitter인 경우만)
         emitter.onCompletion(
                 () -> {
-                    removeEmitterIfMatch(memberId, emitter);
+                    removeEmitterIfMatch(memberId, emitter, "completion");
                     log.info("SSE connection completed for member: {}", memberId);
                 });
 
         // 타임아웃 시 제거 (현재 활성 emitter인 경우만)
         emitter.onTimeout(
                 () -> {
-                    removeEmitterIfMatch(memberId, emitter);
+                    removeEmitterIfMatch(memberId, emitter, "timeout");
                     log.warn("SSE connection timeout for member: {}", memberId);
                 });
 
         // 에러 시 제거 (현재 활성 emitter인 경우만)
         emitter.onError(
                 e -> {
-                    removeEmitterIfMatch(memberId, emitter);
+                    removeEmitterIfMatch(memberId, emitter, "error");
                     log.error("SSE connection error for member: {}, error: {}", memberId, e.getMessage());
                 });
 
@@ -67,7 +76,7 @@ public class SseConnectionManager {
             emitter.send(SseEmitter.event().name("connected").data("SSE connection established"));
         } catch (IOException e) {
             log.error("Failed to send initial connection event to member: {}", memberId, e);
-            removeEmitterIfMatch(memberId, emitter);
+            removeEmitterIfMatch(memberId, emitter, "error");
             throw new NotificationHandler(NotificationErrorStatus.SSE_CONNECTION_FAILED);
         }
 
@@ -85,17 +94,25 @@ public class SseConnectionManager {
         SseEmitter emitter = emitters.get(memberId);
 
         if (emitter == null) {
-            log.warn("No active SSE connection for member: {}", memberId);
+            notificationMetrics.recordSendFailure(NotificationMetrics.CHANNEL_SSE, NotificationMetrics.CAUSE_NO_CONNECTION);
+            log.debug("No active SSE connection for member: {}", memberId);
             return false;
         }
 
+        long startNanos = System.nanoTime();
         try {
             emitter.send(SseEmitter.event().name(SSE_EVENT_NAME).data(data));
-            log.info("Notification sent to member: {}", memberId);
+            notificationMetrics.recordSendSuccess(NotificationMetrics.CHANNEL_SSE, startNanos);
+            log.debug("Notification sent to member: {}", memberId);
             return true;
         } catch (IOException | IllegalStateException e) {
-            log.error("Failed to send notification to member: {}, removing dead emitter", memberId, e);
-            removeEmitter(memberId);
+            notificationMetrics.recordSendFailure(
+                    NotificationMetrics.CHANNEL_SSE,
+                    e instanceof IOException ? NotificationMetrics.CAUSE_IO_ERROR : NotificationMetrics.CAUSE_CLOSED);
+            log.warn("Failed to send notification to member: {}, removing dead emitter: {}", memberId, e.getMessage());
+            if (removeEmitterIfMatch(memberId, emitter, "dead")) {
+                notificationMetrics.recordDeadEmitterRemoved("send", 1);
+            }
             return false;
         }
     }
@@ -129,26 +146,32 @@ public class SseConnectionManager {
      * @return 성공한 전송 수
      */
     public int sendHeartbeatToAll() {
+        long startNanos = System.nanoTime();
         int successCount = 0;
-        int failCount = 0;
-        List<Long> deadMemberIds = new ArrayList<>();
+        Map<Long, SseEmitter> deadEmitters = new HashMap<>();
 
         for (Map.Entry<Long, SseEmitter> entry : emitters.entrySet()) {
             try {
                 entry.getValue().send(SseEmitter.event().comment("heartbeat"));
                 successCount++;
             } catch (IOException | IllegalStateException e) {
-                deadMemberIds.add(entry.getKey());
-                failCount++;
+                deadEmitters.put(entry.getKey(), entry.getValue());
             }
         }
 
-        // dead emitter 즉시 제거
-        deadMemberIds.forEach(this::removeEmitter);
+        // dead emitter 즉시 제거 (그 사이 재연결한 emitter는 남긴다)
+        int removedCount = 0;
+        for (Map.Entry<Long, SseEmitter> entry : deadEmitters.entrySet()) {
+            if (removeEmitterIfMatch(entry.getKey(), entry.getValue(), "dead")) {
+                removedCount++;
+            }
+        }
+        notificationMetrics.recordDeadEmitterRemoved("heartbeat", removedCount);
+        notificationMetrics.recordHeartbeat(startNanos);
 
-        if (failCount > 0) {
+        if (removedCount > 0) {
             log.info("Heartbeat completed: success={}, removed={} dead connections",
-                    successCount, failCount);
+                    successCount, removedCount);
         }
 
         return successCount;
@@ -162,6 +185,7 @@ public class SseConnectionManager {
     public void disconnectMember(Long memberId) {
         SseEmitter emitter = emitters.remove(memberId);
         if (emitter != null) {
+            notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_SSE, "server");
             emitter.complete();
             log.info("Disconnected SSE connection for member: {}", memberId);
         }
@@ -193,19 +217,16 @@ public class SseConnectionManager {
         return emitters.containsKey(memberId);
     }
 
-    /**
-     * Emitter 제거 (내부 메서드).
-     */
-    private void removeEmitter(Long memberId) {
-        emitters.remove(memberId);
-    }
-
     /**
      * 특정 Emitter가 현재 활성 emitter인 경우에만 제거.
      * 이미 새 연결로 교체된 경우 이전 emitter의 콜백이 새 emitter를 제거하지 않도록 함.
      */
-    private void removeEmitterIfMatch(Long memberId, SseEmitter emitter) {
-        emitters.remove(memberId, emitter);
+    private boolean removeEmitterIfMatch(Long memberId, SseEmitter emitter, String reason) {
+        boolean removed = emitters.remove(memberId, emitter);
+        if (removed) {
+            notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_SSE, reason);
+        }
+        return removed;
     }
 
     /**
@@ -213,7 +234,10 @@ public class SseConnectionManager {
      */
     public void disconnectAll() {
         log.info("Disconnecting all SSE connections, total: {}", emitters.size());
-        emitters.values().forEach(SseEmitter::complete);
+        emitters.values().forEach(emitter -> {
+            notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_SSE, "server");
+            emitter.complete();
+        });
         emitters.clear();
     }
 }
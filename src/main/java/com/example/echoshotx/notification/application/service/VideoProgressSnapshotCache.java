@@ -0,0 +1,153 @@
+package com.example.echoshotx.notification.application.service;
+
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.shared.config.notification.props.NotificationProps;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비디오별 최신 진행률 스냅샷 캐시.
+ *
+ * <p>진행률 push 시점에 갱신되며, 새로 연결한 SSE/WebSocket 구독자에게 즉시 재전송하거나
+ * 진행률 조회 API가 DB 대신 읽는 용도로 사용합니다.
+ * 최대 maxEntries개(LRU)까지 보관하고 ttlMillis 동안 갱신이 없으면 만료됩니다.
+ * 완료/실패된 비디오는 ttlMillis 동안 종료로 기록해 두어, 늦게 도착한 진행률이 스냅샷을 다시 만들지 못하게 합니다.
+ * 따라서 캐시에 남은 스냅샷은 처리 중인 비디오의 것뿐입니다.
+ */
+@Component
+public class VideoProgressSnapshotCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    // Key: videoId (access order = LRU)
+    private final LinkedHashMap<Long, Snapshot> snapshots;
+    // Key: memberId, Value: videoIds
+    private final Map<Long, Set<Long>> memberIndex = new LinkedHashMap<>();
+    // Key: 종료된 videoId, Value: 종료 시각 (insertion order, 최대 maxEntries개)
+    private final LinkedHashMap<Long, Long> terminated;
+
+    public VideoProgressSnapshotCache(NotificationProps notificationProps) {
+        NotificationProps.ProgressSnapshot config = notificationProps.getProgressSnapshot();
+        this.maxEntries = Math.max(1, config.getMaxEntries());
+        this.ttlMillis = config.getTtlMillis();
+        this.snapshots = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+                if (size() > maxEntries) {
+                    unindex(eldest.getValue().memberId(), eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.terminated = new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 최신 스냅샷 저장. 이미 종료된 비디오의 늦은 진행률은 무시한다.
+     */
+    public synchronized void put(Long memberId, VideoProgressResponse response) {
+        Long videoId = response.getVideoId();
+        if (isTerminated(videoId, System.currentTimeMillis())) {
+            return;
+        }
+        Snapshot previous = snapshots.put(videoId, new Snapshot(memberId, response, System.currentTimeMillis()));
+        if (previous != null && !previous.memberId().equals(memberId)) {
+            unindex(previous.memberId(), videoId);
+        }
+        memberIndex.computeIfAbsent(memberId, id -> new HashSet<>()).add(videoId);
+    }
+
+    /**
+     * 회원 소유 비디오의 최신 스냅샷 조회 (다른 회원의 비디오이면 비어 있음).
+     */
+    public synchronized Optional<VideoProgressResponse> get(Long memberId, Long videoId) {
+        return get(videoId, System.currentTimeMillis())
+                .filter(snapshot -> snapshot.memberId().equals(memberId))
+                .map(Snapshot::response);
+    }
+
+    /**
+     * 회원의 진행 중인 모든 비디오 스냅샷 조회 (SSE 연결 직후 재전송용).
+     */
+    public synchronized List<VideoProgressResponse> getByMember(Long memberId) {
+        Set<Long> videoIds = memberIndex.get(memberId);
+        if (videoIds == null) {
+            return List.of();
+        }
+        long now = System.currentTimeMillis();
+        List<VideoProgressResponse> responses = new ArrayList<>(videoIds.size());
+        for (Long videoId : new ArrayList<>(videoIds)) {
+            get(videoId, now).ifPresent(snapshot -> responses.add(snapshot.response()));
+        }
+        return responses;
+    }
+
+    /**
+     * 완료/실패된 비디오의 스냅샷을 제거하고 종료로 기록한다.
+     */
+    public synchronized void evict(Long videoId) {
+        terminated.put(videoId, System.currentTimeMillis());
+        remove(videoId);
+    }
+
+    synchronized int size() {
+        return snapshots.size();
+    }
+
+    private boolean isTerminated(Long videoId, long now) {
+        Long terminatedAt = terminated.get(videoId);
+        if (terminatedAt == null) {
+            return false;
+        }
+        if (now - terminatedAt >= ttlMillis) {
+            terminated.remove(videoId);
+            return false;
+        }
+        return true;
+    }
+
+    private void remove(Long videoId) {
+        Snapshot removed = snapshots.remove(videoId);
+        if (removed != null) {
+            unindex(removed.memberId(), videoId);
+        }
+    }
+
+    private Optional<Snapshot> get(Long videoId, long now) {
+        Snapshot snapshot = snapshots.get(videoId);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (now - snapshot.storedAt() >= ttlMillis) {
+            remove(videoId);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    private void unindex(Long memberId, Long videoId) {
+        Set<Long> videoIds = memberIndex.get(memberId);
+        if (videoIds != null) {
+            videoIds.remove(videoId);
+            if (videoIds.isEmpty()) {
+                memberIndex.remove(memberId);
+            }
+        }
+    }
+
+    private record Snapshot(Long memberId, VideoProgressResponse response, long storedAt) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.echoshotx.notification.application.service;
+
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
+import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.notification.presentation.websocket.NotificationFrameCodec;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+/**
+ * WebSocket 세션 관리자.
+ *
+ * <p>회원별 WebSocket 세션과 세션별 진행률 구독(videoId)을 관리합니다.
+ * 알림은 회원의 모든 세션으로, 진행률은 해당 비디오를 구독한 세션으로만 전송합니다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionManager {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 256 * 1024;
+    private static final int MAX_SUBSCRIPTIONS_PER_SESSION = 100;
+
+    // Key: memberId, Value: (sessionId -> 세션)
+    private final Map<Long, Map<String, MemberSession>> sessions = new ConcurrentHashMap<>();
+    private final NotificationMetrics notificationMetrics;
+
+    public WebSocketSessionManager(NotificationMetrics notificationMetrics) {
+        this.notificationMetrics = notificationMetrics;
+        notificationMetrics.registerActiveConnections(NotificationMetrics.CHANNEL_WEBSOCKET, this::getTotalSessionCount);
+    }
+
+    public void register(Long memberId, WebSocketSession session) {
+        WebSocketSession decorated =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        sessions.computeIfAbsent(memberId, id -> new ConcurrentHashMap<>())
+                .put(session.getId(), new MemberSession(decorated));
+        notificationMetrics.recordConnected(NotificationMetrics.CHANNEL_WEBSOCKET);
+        log.info("WebSocket session registered: memberId={}, sessionId={}", memberId, session.getId());
+    }
+
+    public void unregister(Long memberId, WebSocketSession session) {
+        unregister(memberId, session, "completion");
+    }
+
+    private void unregister(Long memberId, WebSocketSession session, String reason) {
+        boolean[] removed = new boolean[1];
+        sessions.computeIfPresent(memberId, (id, memberSessions) -> {
+            removed[0] = memberSessions.remove(session.getId()) != null;
+            return memberSessions.isEmpty() ? null : memberSessions;
+        });
+        if (!removed[0]) {
+            return;
+        }
+        notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_WEBSOCKET, reason);
+        log.info("WebSocket session unregistered: memberId={}, sessionId={}", memberId, session.getId());
+    }
+
+    /**
+     * 세션의 진행률 구독 추가. 세션당 구독 수를 초과하면 false.
+     */
+    public boolean subscribe(Long memberId, WebSocketSession session, Long videoId) {
+        MemberSession memberSession = find(memberId, session);
+        if (memberSession == null || memberSession.videoIds.size() >= MAX_SUBSCRIPTIONS_PER_SESSION) {
+            return false;
+        }
+        memberSession.videoIds.add(videoId);
+        return true;
+    }
+
+    public void unsubscribe(Long memberId, WebSocketSession session, Long videoId) {
+        MemberSession memberSession = find(memberId, session);
+        if (memberSession != null) {
+            memberSession.videoIds.remove(videoId);
+        }
+    }
+
+    /**
+     * 회원의 모든 세션에 알림 전송.
+     *
+     * @return 한 세션 이상 전송 성공 여부
+     */
+    public boolean sendNotification(Long memberId, NotificationResponse response) {
+        Map<String, MemberSession> memberSessions = sessions.get(memberId);
+        if (memberSessions == null || memberSessions.isEmpty()) {
+            notificationMetrics.recordSendFailure(
+                    NotificationMetrics.CHANNEL_WEBSOCKET, NotificationMetrics.CAUSE_NO_CONNECTION);
+            return false;
+        }
+
+        BinaryMessage message = new BinaryMessage(NotificationFrameCodec.encodeNotification(response));
+        boolean sent = false;
+        for (MemberSession memberSession : memberSessions.values()) {
+            sent |= send(memberId, memberSession, message);
+        }
+        return sent;
+    }
+
+    /**
+     * 해당 비디오를 구독한 세션에만 진행률 전송.
+     *
+     * @return 한 세션 이상 전송 성공 여부
+     */
+    public boolean sendProgress(Long memberId, VideoProgressResponse response) {
+        Map<String, MemberSession> memberSessions = sessions.get(memberId);
+        if (memberSessions == null || memberSessions.isEmpty()) {
+            return false;
+        }
+
+        BinaryMessage message = null;
+        boolean sent = false;
+        for (MemberSession memberSession : memberSessions.values()) {
+            if (!memberSession.videoIds.contains(response.getVideoId())) {
+                continue;
+            }
+            if (message == null) {
+                message = new BinaryMessage(NotificationFrameCodec.encodeProgress(response));
+            }
+            sent |= send(memberId, memberSession, message);
+        }
+        return sent;
+    }
+
+    /**
+     * 특정 세션에만 진행률 전송 (구독 직후 스냅샷 재전송용).
+     */
+    public boolean sendProgress(Long memberId, WebSocketSession session, VideoProgressResponse response) {
+        MemberSession memberSession = find(memberId, session);
+        if (memberSession == null) {
+            return false;
+        }
+        return send(memberId, memberSession, new BinaryMessage(NotificationFrameCodec.encodeProgress(response)));
+    }
+
+    public boolean isConnected(Long memberId) {
+        Map<String, MemberSession> memberSessions = sessions.get(memberId);
+        return memberSessions != null && !memberSessions.isEmpty();
+    }
+
+    public int getTotalSessionCount() {
+        return sessions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 회원의 모든 세션 종료 (로그아웃 시 사용).
+     */
+    public void disconnectMember(Long memberId) {
+        Map<String, MemberSession> memberSessions = sessions.remove(memberId);
+        if (memberSessions == null) {
+            return;
+        }
+        memberSessions.values().forEach(memberSession -> close(memberSession, CloseStatus.NORMAL, "logout"));
+        log.info("WebSocket sessions disconnected: memberId={}, count={}", memberId, memberSessions.size());
+    }
+
+    /**
+     * 모든 세션 종료 (서버 종료 시 사용).
+     */
+    @PreDestroy
+    public void disconnectAll() {
+        sessions.values().forEach(memberSessions -> memberSessions.values()
+                .forEach(memberSession -> close(memberSession, CloseStatus.GOING_AWAY, "server")));
+        sessions.clear();
+    }
+
+    private void close(MemberSession memberSession, CloseStatus status, String reason) {
+        notificationMetrics.recordDisconnected(NotificationMetrics.CHANNEL_WEBSOCKET, reason);
+        try {
+            memberSession.session.close(status);
+        } catch (IOException e) {
+            log.debug("Failed to close WebSocket session: {}", memberSession.session.getId());
+        }
+    }
+
+    private boolean send(Long memberId, MemberSession memberSession, BinaryMessage message) {
+        WebSocketSession session = memberSession.session;
+        if (!session.isOpen()) {
+            notificationMetrics.recordSendFailure(NotificationMetrics.CHANNEL_WEBSOCKET, NotificationMetrics.CAUSE_CLOSED);
+            unregister(memberId, session, "dead");
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            session.sendMessage(message);
+            notificationMetrics.recordSendSuccess(NotificationMetrics.CHANNEL_WEBSOCKET, startNanos);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 전송 버퍼/시간 한도 초과 시 decorator가 세션을 닫고 SessionLimitExceededException을 던진다
+            notificationMetrics.recordSendFailure(NotificationMetrics.CHANNEL_WEBSOCKET, NotificationMetrics.CAUSE_IO_ERROR);
+            log.warn("Failed to send WebSocket message: memberId={}, sessionId={}", memberId, session.getId());
+            unregister(memberId, session, "dead");
+            return false;
+        }
+    }
+
+    private MemberSession find(Long memberId, WebSocketSession session) {
+        Map<String, MemberSession> memberSessions = sessions.get(memberId);
+        return memberSessions != null ? memberSessions.get(session.getId()) : null;
+    }
+
+    private static final class MemberSession {
+        private final WebSocketSession session;
+        private final Set<Long> videoIds = ConcurrentHashMap.newKeySet();
+
+        private MemberSession(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
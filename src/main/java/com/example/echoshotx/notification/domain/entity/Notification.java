@@ -11,6 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -74,6 +77,18 @@ public class Notification extends BaseTimeEntity {
   @Column
   private Long creditHistoryId;
 
+  /**
+   * 다이제스트 알림에 묶인 비디오 ID 목록 (콤마 구분). 단건 알림이면 null.
+   */
+  @Column(columnDefinition = "TEXT")
+  private String digestVideoIds;
+
+  /**
+   * 다이제스트 알림에 묶인 이벤트 수. 단건 알림이면 null.
+   */
+  @Column
+  private Integer digestCount;
+
   /**
    * 비디오 관련 알림 생성 팩토리.
    */
@@ -92,6 +107,30 @@ public class Notification extends BaseTimeEntity {
         .build();
   }
 
+  /**
+   * 여러 비디오 이벤트를 하나로 묶은 다이제스트 알림 생성 팩토리.
+   * videoId에는 가장 마지막 비디오를 기록합니다.
+   */
+  public static Notification createVideoDigestNotification(
+      Long memberId, List<Long> videoIds, NotificationType type, String title, String content) {
+    validateVideoNotificationType(type);
+    if (videoIds == null || videoIds.isEmpty()) {
+      throw new IllegalArgumentException("Digest notification requires at least one videoId");
+    }
+    return Notification.builder()
+        .memberId(memberId)
+        .videoId(videoIds.get(videoIds.size() - 1))
+        .digestVideoIds(videoIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+        .digestCount(videoIds.size())
+        .type(type)
+        .title(title)
+        .content(content)
+        .isRead(false)
+        .status(NotificationStatus.PENDING)
+        .retryCount(0)
+        .build();
+  }
+
   /**
    * 시스템 알림 생성 팩토리.
    */
@@ -124,6 +163,27 @@ public class Notification extends BaseTimeEntity {
         .build();
   }
 
+  /**
+   * 다이제스트 알림 여부.
+   */
+  public boolean isDigest() {
+    return this.digestCount != null && this.digestCount > 1;
+  }
+
+  /**
+   * 다이제스트에 묶인 비디오 ID 목록. 단건 알림이면 videoId 하나만 반환.
+   */
+  public List<Long> getDigestVideoIdList() {
+    if (this.digestVideoIds == null || this.digestVideoIds.isBlank()) {
+      return this.videoId != null ? List.of(this.videoId) : List.of();
+    }
+    return Arrays.stream(this.digestVideoIds.split(","))
+        .map(String::trim)
+        .filter(id -> !id.isEmpty())
+        .map(Long::valueOf)
+        .collect(Collectors.toList());
+  }
+
   /**
    * 읽음 처리.
    */
@@ -4,6 +4,7 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import com.example.echoshotx.shared.exception.payload.code.BaseCode;
 import com.example.echoshotx.shared.exception.payload.code.Reason;
@@ -24,7 +25,9 @@ public enum NotificationErrorStatus implements BaseCode {
   NOTIFICATION_SEND_FAILED(INTERNAL_SERVER_ERROR, 4403, "알림 전송에 실패했습니다"),
   SSE_CONNECTION_FAILED(INTERNAL_SERVER_ERROR, 4404, "SSE 연결에 실패했습니다"),
   INVALID_NOTIFICATION_TYPE(BAD_REQUEST, 4405, "잘못된 알림 타입입니다"),
-  NOTIFICATION_RETRY_EXCEEDED(BAD_REQUEST, 4406, "알림 재시도 횟수를 초과했습니다");
+  NOTIFICATION_RETRY_EXCEEDED(BAD_REQUEST, 4406, "알림 재시도 횟수를 초과했습니다"),
+  INVALID_WEBSOCKET_FRAME(BAD_REQUEST, 4407, "잘못된 WebSocket 프레임입니다"),
+  WEBSOCKET_UNAUTHORIZED(UNAUTHORIZED, 4408, "인증되지 않은 WebSocket 연결입니다");
 
   private final HttpStatus httpStatus;
   private final Integer code;
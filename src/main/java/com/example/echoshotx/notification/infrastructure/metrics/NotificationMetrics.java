@@ -0,0 +1,111 @@
+package com.example.echoshotx.notification.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 알림 전송(SSE / WebSocket) Micrometer 지표.
+ *
+ * <p>채널(channel) 태그는 {@link #CHANNEL_SSE}, {@link #CHANNEL_WEBSOCKET} 중 하나입니다.
+ * 태그 조합이 고정되어 있으므로 Counter/Timer는 MeterRegistry의 캐시를 그대로 사용합니다.
+ */
+@Component
+public class NotificationMetrics {
+
+    public static final String CHANNEL_SSE = "sse";
+    public static final String CHANNEL_WEBSOCKET = "websocket";
+
+    public static final String CAUSE_NO_CONNECTION = "no_connection";
+    public static final String CAUSE_IO_ERROR = "io_error";
+    public static final String CAUSE_CLOSED = "closed";
+
+    private static final String PREFIX = "notification.realtime.";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong retryBacklog = new AtomicLong();
+
+    public NotificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(PREFIX + "retry.backlog", retryBacklog, AtomicLong::get)
+                .description("Failed notifications waiting for retry (as of the last retry run)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널별 활성 연결 수 게이지 등록.
+     */
+    public void registerActiveConnections(String channel, Supplier<Number> activeConnections) {
+        Gauge.builder(PREFIX + "connections.active", activeConnections)
+                .description("Active realtime connections on this node")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    public void recordConnected(String channel) {
+        Counter.builder(PREFIX + "connections.opened")
+                .tag("channel", channel)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 연결 종료 기록. reason: completion, timeout, error, replaced, dead, server
+     */
+    public void recordDisconnected(String channel, String reason) {
+        Counter.builder(PREFIX + "connections.closed")
+                .tag("channel", channel)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordSendSuccess(String channel, long startNanos) {
+        Timer.builder(PREFIX + "send.latency")
+                .description("Time spent writing a realtime event to a connection")
+                .tag("channel", channel)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSendFailure(String channel, String cause) {
+        Counter.builder(PREFIX + "send.failures")
+                .tag("channel", channel)
+                .tag("cause", cause)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * dead emitter 제거 기록. source: send, heartbeat
+     */
+    public void recordDeadEmitterRemoved(String source, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(PREFIX + "sse.dead-emitters.removed")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void recordHeartbeat(long startNanos) {
+        Timer.builder(PREFIX + "sse.heartbeat.duration")
+                .description("Time to send one heartbeat round to all SSE connections")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateRetryBacklog(long backlog) {
+        retryBacklog.set(backlog);
+    }
+}
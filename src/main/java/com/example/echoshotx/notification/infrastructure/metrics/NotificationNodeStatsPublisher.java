@@ -0,0 +1,123 @@
+package com.example.echoshotx.notification.infrastructure.metrics;
+
+import com.example.echoshotx.notification.application.service.SseConnectionManager;
+import com.example.echoshotx.notification.application.service.WebSocketSessionManager;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 노드별 실시간 연결 수를 Redis 해시에 주기적으로 기록.
+ *
+ * <p>각 노드는 {@code notification:nodes} 해시의 자기 필드(nodeId)에 "sse|websocket|갱신시각(ms)"을 기록하고,
+ * actuator 엔드포인트는 이 해시를 읽어 전체 노드의 연결 분포를 보여줍니다.
+ */
+@Slf4j
+@Component
+public class NotificationNodeStatsPublisher {
+
+    static final String NODES_KEY = "notification:nodes";
+    private static final long PUBLISH_INTERVAL_MS = 15_000;
+    private static final Duration STALE_AFTER = Duration.ofMillis(PUBLISH_INTERVAL_MS * 4);
+    private static final Duration KEY_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SseConnectionManager sseConnectionManager;
+    private final WebSocketSessionManager webSocketSessionManager;
+
+    @Getter
+    private final String nodeId;
+
+    public NotificationNodeStatsPublisher(
+            RedisTemplate<String, String> redisTemplate,
+            SseConnectionManager sseConnectionManager,
+            WebSocketSessionManager webSocketSessionManager,
+            @Value("${app.notification.node-id:}") String configuredNodeId) {
+        this.redisTemplate = redisTemplate;
+        this.sseConnectionManager = sseConnectionManager;
+        this.webSocketSessionManager = webSocketSessionManager;
+        this.nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : defaultNodeId();
+    }
+
+    @Scheduled(fixedRate = PUBLISH_INTERVAL_MS)
+    public void publish() {
+        String value = sseConnectionManager.getTotalConnectionCount()
+                + "|" + webSocketSessionManager.getTotalSessionCount()
+                + "|" + System.currentTimeMillis();
+        try {
+            redisTemplate.opsForHash().put(NODES_KEY, nodeId, value);
+            redisTemplate.expire(NODES_KEY, KEY_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish notification node stats: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 노드 통계 조회. 갱신이 끊긴 노드는 stale로 표시합니다.
+     */
+    public List<NodeStats> readAll() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(NODES_KEY);
+        long staleBefore = System.currentTimeMillis() - STALE_AFTER.toMillis();
+
+        List<NodeStats> result = new ArrayList<>(entries.size());
+        entries.forEach((field, value) -> {
+            NodeStats stats = NodeStats.parse(String.valueOf(field), String.valueOf(value), staleBefore);
+            if (stats != null) {
+                result.add(stats);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void unregister() {
+        try {
+            redisTemplate.opsForHash().delete(NODES_KEY, nodeId);
+        } catch (RuntimeException e) {
+            log.debug("Failed to remove notification node stats: nodeId={}", nodeId);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String pid = String.valueOf(ProcessHandle.current().pid());
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + pid;
+        } catch (UnknownHostException e) {
+            return ManagementFactory.getRuntimeMXBean().getName();
+        }
+    }
+
+    public record NodeStats(
+            String nodeId, int sseConnections, int webSocketSessions, long updatedAtMillis, boolean stale) {
+
+        static NodeStats parse(String nodeId, String value, long staleBefore) {
+            String[] parts = value.split("\\|");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                long updatedAt = Long.parseLong(parts[2]);
+                return new NodeStats(
+                        nodeId,
+                        Integer.parseInt(parts[0]),
+                        Integer.parseInt(parts[1]),
+                        updatedAt,
+                        updatedAt < staleBefore);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
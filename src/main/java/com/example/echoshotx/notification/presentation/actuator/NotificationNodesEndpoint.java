@@ -0,0 +1,38 @@
+package com.example.echoshotx.notification.presentation.actuator;
+
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationNodeStatsPublisher;
+import com.example.echoshotx.notification.presentation.dto.response.NotificationNodeDistributionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 SSE / WebSocket 연결 분포 조회 ({@code /actuator/notificationnodes}).
+ *
+ * <p>GET은 Redis에 기록된 값만 읽는다. 조회 노드의 최신 값을 먼저 기록하려면 POST를 호출한다.
+ */
+@Component
+@Endpoint(id = "notificationnodes")
+@RequiredArgsConstructor
+public class NotificationNodesEndpoint {
+
+    private final NotificationNodeStatsPublisher notificationNodeStatsPublisher;
+
+    @ReadOperation
+    public NotificationNodeDistributionResponse distribution() {
+        return NotificationNodeDistributionResponse.of(
+                notificationNodeStatsPublisher.getNodeId(), notificationNodeStatsPublisher.readAll());
+    }
+
+    /**
+     * 조회 노드의 최신 값을 기록한 뒤 분포를 반환한다.
+     */
+    @WriteOperation
+    public NotificationNodeDistributionResponse refresh() {
+        notificationNodeStatsPublisher.publish();
+        return NotificationNodeDistributionResponse.of(
+                notificationNodeStatsPublisher.getNodeId(), notificationNodeStatsPublisher.readAll());
+    }
+}
@@ -38,11 +38,14 @@ public class NotificationController {
             summary = "SSE 연결",
             description =
                     "실시간 알림을 받기 위한 SSE 연결을 생성합니다. "
-                            + "클라이언트는 이 엔드포인트로 연결하여 서버로부터 실시간 알림을 수신할 수 있습니다.")
+                            + "클라이언트는 이 엔드포인트로 연결하여 서버로부터 실시간 알림을 수신할 수 있습니다. "
+                            + "연결 직후 진행 중인 영상의 최신 진행률이 전송됩니다.")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(@CurrentMember Member member) {
         log.info("SSE connection request from member: {}", member.getId());
-        return sseConnectionManager.createConnection(member.getId());
+        SseEmitter emitter = sseConnectionManager.createConnection(member.getId());
+        notificationService.replayProgressSnapshots(member.getId());
+        return emitter;
     }
 
     @Operation(
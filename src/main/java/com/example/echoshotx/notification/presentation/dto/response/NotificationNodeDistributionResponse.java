@@ -0,0 +1,76 @@
+package com.example.echoshotx.notification.presentation.dto.response;
+
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationNodeStatsPublisher.NodeStats;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드별 실시간 연결 분포 응답 DTO (actuator).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationNodeDistributionResponse {
+
+    private String currentNodeId;
+    private Integer activeNodes;
+    private Integer totalSseConnections;
+    private Integer totalWebSocketSessions;
+    private Integer maxConnectionsPerNode;
+    private Double avgConnectionsPerNode;
+    private List<Node> nodes;
+    private LocalDateTime timestamp;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Node {
+        private String nodeId;
+        private Integer sseConnections;
+        private Integer webSocketSessions;
+        private Boolean stale;
+        private LocalDateTime updatedAt;
+    }
+
+    public static NotificationNodeDistributionResponse of(String currentNodeId, List<NodeStats> stats) {
+        List<NodeStats> active = stats.stream().filter(node -> !node.stale()).toList();
+        int totalSse = active.stream().mapToInt(NodeStats::sseConnections).sum();
+        int totalWebSocket = active.stream().mapToInt(NodeStats::webSocketSessions).sum();
+        int max = active.stream()
+                .mapToInt(node -> node.sseConnections() + node.webSocketSessions())
+                .max()
+                .orElse(0);
+
+        List<Node> nodes = stats.stream()
+                .sorted(Comparator.comparing(NodeStats::nodeId))
+                .map(node -> Node.builder()
+                        .nodeId(node.nodeId())
+                        .sseConnections(node.sseConnections())
+                        .webSocketSessions(node.webSocketSessions())
+                        .stale(node.stale())
+                        .updatedAt(LocalDateTime.ofInstant(
+                                Instant.ofEpochMilli(node.updatedAtMillis()), ZoneId.systemDefault()))
+                        .build())
+                .toList();
+
+        return NotificationNodeDistributionResponse.builder()
+                .currentNodeId(currentNodeId)
+                .activeNodes(active.size())
+                .totalSseConnections(totalSse)
+                .totalWebSocketSessions(totalWebSocket)
+                .maxConnectionsPerNode(max)
+                .avgConnectionsPerNode(active.isEmpty() ? 0.0 : (double) (totalSse + totalWebSocket) / active.size())
+                .nodes(nodes)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.echoshotx.notification.domain.entity.NotificationStatus;
 import com.example.echoshotx.notification.domain.entity.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import lombok.NoArgsConstructor;
  * 알림(Notification) 정보를 클라이언트로 반환하기 위한 응답 DTO.
  *
  * <p>알림의 타입, 제목, 내용, 읽음 여부, 상태, 관련된 비디오/크레딧 정보 등을 포함한다.
+ * 다이제스트 알림이면 videoIds에 묶인 비디오 목록, aggregatedCount에 묶인 건수가 담긴다.
  */
 @Data
 @NoArgsConstructor
@@ -32,6 +34,8 @@ public class NotificationResponse {
     private Integer retryCount;
     private Long videoId;
     private Long creditHistoryId;
+    private List<Long> videoIds;
+    private Integer aggregatedCount;
     private LocalDateTime createdAt;
 
     /**
@@ -52,6 +56,8 @@ public class NotificationResponse {
                 .retryCount(notification.getRetryCount())
                 .videoId(notification.getVideoId())
                 .creditHistoryId(notification.getCreditHistoryId())
+                .videoIds(notification.getDigestVideoIdList())
+                .aggregatedCount(notification.getDigestCount() != null ? notification.getDigestCount() : 1)
                 .createdAt(notification.getCreatedDate())
                 .build();
     }
@@ -68,6 +74,8 @@ public class NotificationResponse {
                 .retryCount(notification.getRetryCount())
                 .videoId(notification.getVideoId())
                 .creditHistoryId(notification.getCreditHistoryId())
+                .videoIds(notification.getDigestVideoIdList())
+                .aggregatedCount(notification.getDigestCount() != null ? notification.getDigestCount() : 1)
                 .createdAt(notification.getCreatedDate())
                 .build();
     }
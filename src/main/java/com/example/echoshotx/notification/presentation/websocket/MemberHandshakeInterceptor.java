@@ -0,0 +1,66 @@
+package com.example.echoshotx.notification.presentation.websocket;
+
+import com.example.echoshotx.notification.domain.exception.NotificationErrorStatus;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * 핸드셰이크 시점의 인증 정보(JWT 필터가 설정한 SecurityContext)에서 memberId를 꺼내 세션 속성에 저장.
+ */
+@Slf4j
+@Component
+public class MemberHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String MEMBER_ID_ATTRIBUTE = "memberId";
+
+    public static Long getMemberId(WebSocketSession session) {
+        Object memberId = session.getAttributes().get(MEMBER_ID_ATTRIBUTE);
+        return memberId instanceof Long id ? id : null;
+    }
+
+    @Override
+    public boolean beforeHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return reject(response);
+        }
+
+        try {
+            attributes.put(MEMBER_ID_ATTRIBUTE, Long.valueOf(authentication.getName()));
+            return true;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid principal for WebSocket handshake: {}", authentication.getName());
+            return reject(response);
+        }
+    }
+
+    private static boolean reject(ServerHttpResponse response) {
+        NotificationErrorStatus errorStatus = NotificationErrorStatus.WEBSOCKET_UNAUTHORIZED;
+        response.setStatusCode(errorStatus.getHttpStatus());
+        log.debug("WebSocket handshake rejected: code={}, message={}", errorStatus.getCode(), errorStatus.getMessage());
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Exception exception) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.echoshotx.notification.presentation.websocket;
+
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.notification.domain.exception.NotificationErrorStatus;
+import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.notification.presentation.exception.NotificationHandler;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WebSocket 바이너리 프레임 인코더/디코더.
+ *
+ * <p>모든 프레임은 1바이트 opcode로 시작하고, 정수는 unsigned LEB128 varint로 인코딩합니다.
+ * null 허용 정수는 값+1, 문자열은 (UTF-8 바이트 길이+1) varint 뒤에 본문을 기록하며 0은 null입니다.
+ *
+ * <pre>
+ * 서버 → 클라이언트
+ *   0x01 NOTIFICATION : id, type(u8), flags(u8: bit0=isRead), videoId?, createdAt(epoch ms),
+ *                       title, content, videoIds(count + ids)
+ *   0x02 PROGRESS     : videoId, progress(u8), estimatedTimeLeft?, currentStep, timestamp(epoch ms)
+ * 클라이언트 → 서버
+ *   0x10 SUBSCRIBE    : videoId
+ *   0x11 UNSUBSCRIBE  : videoId
+ *   0x12 ACK          : notificationId (읽음 처리)
+ * </pre>
+ *
+ * <p>type은 enum 순서가 아니라 {@link #typeCode(NotificationType)}의 고정 코드로 기록한다.
+ * 유형을 추가하면 switch가 컴파일되지 않으므로 새 코드를 배정해야 하며, 기존 코드는 바꾸지 않는다.
+ */
+public final class NotificationFrameCodec {
+
+    public static final byte OP_NOTIFICATION = 0x01;
+    public static final byte OP_PROGRESS = 0x02;
+    public static final byte OP_SUBSCRIBE = 0x10;
+    public static final byte OP_UNSUBSCRIBE = 0x11;
+    public static final byte OP_ACK = 0x12;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+    private static final int MAX_DIGEST_IDS = 10_000;
+
+    private NotificationFrameCodec() {
+    }
+
+    /**
+     * 클라이언트 프레임. 모든 클라이언트 opcode는 ID 하나만 가진다.
+     */
+    public record ClientFrame(byte opcode, long id) {
+    }
+
+    public static byte[] encodeNotification(NotificationResponse response) {
+        FrameWriter writer = new FrameWriter(64 + lengthHint(response.getTitle()) + lengthHint(response.getContent()));
+        writer.writeByte(OP_NOTIFICATION);
+        writer.writeVarLong(response.getId() != null ? response.getId() : 0L);
+        writer.writeByte(typeCode(response.getType()));
+        writer.writeByte((byte) (Boolean.TRUE.equals(response.getIsRead()) ? 1 : 0));
+        writer.writeNullableVarLong(response.getVideoId());
+        writer.writeVarLong(toEpochMillis(response.getCreatedAt()));
+        writer.writeString(response.getTitle());
+        writer.writeString(response.getContent());
+
+        List<Long> videoIds = response.getVideoIds();
+        if (videoIds == null || videoIds.size() <= 1) {
+            writer.writeVarLong(0L);
+        } else {
+            writer.writeVarLong(videoIds.size());
+            videoIds.forEach(writer::writeVarLong);
+        }
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeProgress(VideoProgressResponse response) {
+        FrameWriter writer = new FrameWriter(32 + lengthHint(response.getCurrentStep()));
+        writer.writeByte(OP_PROGRESS);
+        writer.writeVarLong(response.getVideoId());
+        writer.writeByte((byte) clampPercentage(response.getProgressPercentage()));
+        writer.writeNullableVarLong(
+                response.getEstimatedTimeLeftSeconds() != null
+                        ? Long.valueOf(response.getEstimatedTimeLeftSeconds())
+                        : null);
+        writer.writeString(response.getCurrentStep());
+        writer.writeVarLong(toEpochMillis(response.getTimestamp()));
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeClientFrame(byte opcode, long id) {
+        FrameWriter writer = new FrameWriter(11);
+        writer.writeByte(opcode);
+        writer.writeVarLong(id);
+        return writer.toByteArray();
+    }
+
+    public static ClientFrame decodeClientFrame(ByteBuffer buffer) {
+        try {
+            byte opcode = buffer.get();
+            if (opcode != OP_SUBSCRIBE && opcode != OP_UNSUBSCRIBE && opcode != OP_ACK) {
+                throw invalidFrame();
+            }
+            long id = readVarLong(buffer);
+            if (buffer.hasRemaining()) {
+                throw invalidFrame();
+            }
+            return new ClientFrame(opcode, id);
+        } catch (BufferUnderflowException e) {
+            throw invalidFrame();
+        }
+    }
+
+    public static NotificationResponse decodeNotification(ByteBuffer buffer) {
+        try {
+            expectOpcode(buffer, OP_NOTIFICATION);
+            long id = readVarLong(buffer);
+            NotificationType type = typeOf(buffer.get());
+            byte flags = buffer.get();
+            Long videoId = readNullableVarLong(buffer);
+            LocalDateTime createdAt = fromEpochMillis(readVarLong(buffer));
+            String title = readString(buffer);
+            String content = readString(buffer);
+
+            long count = readVarLong(buffer);
+            if (count > MAX_DIGEST_IDS) {
+                throw invalidFrame();
+            }
+            List<Long> videoIds = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++) {
+                videoIds.add(readVarLong(buffer));
+            }
+            if (videoIds.isEmpty() && videoId != null) {
+                videoIds.add(videoId);
+            }
+
+            return NotificationResponse.builder()
+                    .id(id)
+                    .type(type)
+                    .category(type.getCategory())
+                    .isRead((flags & 1) != 0)
+                    .videoId(videoId)
+                    .createdAt(createdAt)
+                    .title(title)
+                    .content(content)
+                    .videoIds(videoIds)
+                    .aggregatedCount(Math.max(1, videoIds.size()))
+                    .build();
+        } catch (BufferUnderflowException e) {
+            throw invalidFrame();
+        }
+    }
+
+    public static VideoProgressResponse decodeProgress(ByteBuffer buffer) {
+        try {
+            expectOpcode(buffer, OP_PROGRESS);
+            long videoId = readVarLong(buffer);
+            int progress = Byte.toUnsignedInt(buffer.get());
+            Long estimated = readNullableVarLong(buffer);
+            String currentStep = readString(buffer);
+            LocalDateTime timestamp = fromEpochMillis(readVarLong(buffer));
+            return VideoProgressResponse.builder()
+                    .videoId(videoId)
+                    .progressPercentage(progress)
+                    .estimatedTimeLeftSeconds(estimated != null ? estimated.intValue() : null)
+                    .currentStep(currentStep)
+                    .timestamp(timestamp)
+                    .build();
+        } catch (BufferUnderflowException e) {
+            throw invalidFrame();
+        }
+    }
+
+    /**
+     * 알림 유형의 프레임 코드. 클라이언트와 약속한 값이므로 변경하지 않는다.
+     */
+    static byte typeCode(NotificationType type) {
+        return switch (type) {
+            case VIDEO_PROCESSING_STARTED -> 0;
+            case VIDEO_PROCESSING_COMPLETED -> 1;
+            case VIDEO_PROCESSING_FAILED -> 2;
+            case TEST_NOTIFICATION -> 3;
+            case SYSTEM_ANNOUNCEMENT -> 4;
+        };
+    }
+
+    static NotificationType typeOf(byte code) {
+        return switch (code) {
+            case 0 -> NotificationType.VIDEO_PROCESSING_STARTED;
+            case 1 -> NotificationType.VIDEO_PROCESSING_COMPLETED;
+            case 2 -> NotificationType.VIDEO_PROCESSING_FAILED;
+            case 3 -> NotificationType.TEST_NOTIFICATION;
+            case 4 -> NotificationType.SYSTEM_ANNOUNCEMENT;
+            default -> throw invalidFrame();
+        };
+    }
+
+    private static void expectOpcode(ByteBuffer buffer, byte opcode) {
+        if (buffer.get() != opcode) {
+            throw invalidFrame();
+        }
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw invalidFrame();
+    }
+
+    private static Long readNullableVarLong(ByteBuffer buffer) {
+        long raw = readVarLong(buffer);
+        return raw == 0 ? null : raw - 1;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length == 0) {
+            return null;
+        }
+        length -= 1;
+        if (length > MAX_STRING_BYTES || length > buffer.remaining()) {
+            throw invalidFrame();
+        }
+        byte[] bytes = new byte[(int) length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int clampPercentage(Integer percentage) {
+        if (percentage == null) {
+            return 0;
+        }
+        return Math.max(0, Math.min(100, percentage));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZONE).toInstant().toEpochMilli() : 0L;
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return epochMillis == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    private static int lengthHint(String value) {
+        return value != null ? value.length() * 3 : 0;
+    }
+
+    private static NotificationHandler invalidFrame() {
+        return new NotificationHandler(NotificationErrorStatus.INVALID_WEBSOCKET_FRAME);
+    }
+
+    /**
+     * 프레임 작성용 버퍼.
+     */
+    private static final class FrameWriter extends ByteArrayOutputStream {
+
+        private FrameWriter(int initialSize) {
+            super(initialSize);
+        }
+
+        private void writeByte(byte value) {
+            write(value);
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void writeNullableVarLong(Long value) {
+            writeVarLong(value == null ? 0L : value + 1);
+        }
+
+        /** 문자열 길이는 길이+1로 기록해 null(0)과 빈 문자열(1)을 구분한다. */
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0L);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.echoshotx.notification.presentation.websocket;
+
+import com.example.echoshotx.notification.application.service.NotificationService;
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.notification.application.service.WebSocketSessionManager;
+import com.example.echoshotx.notification.presentation.exception.NotificationHandler;
+import com.example.echoshotx.notification.presentation.websocket.NotificationFrameCodec.ClientFrame;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+/**
+ * 알림/진행률 WebSocket 핸들러.
+ *
+ * <p>클라이언트 프레임(SUBSCRIBE / UNSUBSCRIBE / ACK)을 처리하고,
+ * 서버 → 클라이언트 전송은 {@link WebSocketSessionManager}가 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWebSocketHandler extends BinaryWebSocketHandler {
+
+    private final WebSocketSessionManager webSocketSessionManager;
+    private final NotificationService notificationService;
+    private final VideoProgressSnapshotCache videoProgressSnapshotCache;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long memberId = MemberHandshakeInterceptor.getMemberId(session);
+        if (memberId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        webSocketSessionManager.register(memberId, session);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        Long memberId = MemberHandshakeInterceptor.getMemberId(session);
+        ClientFrame frame;
+        try {
+            frame = NotificationFrameCodec.decodeClientFrame(message.getPayload());
+        } catch (NotificationHandler e) {
+            log.warn("Invalid WebSocket frame: memberId={}, sessionId={}", memberId, session.getId());
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        switch (frame.opcode()) {
+            case NotificationFrameCodec.OP_SUBSCRIBE -> {
+                if (!webSocketSessionManager.subscribe(memberId, session, frame.id())) {
+                    log.warn("WebSocket subscription rejected: memberId={}, videoId={}", memberId, frame.id());
+                    return;
+                }
+                // 구독 직후 최신 진행률을 바로 전송 (다음 push를 기다리지 않음)
+                videoProgressSnapshotCache.get(memberId, frame.id())
+                        .ifPresent(snapshot -> webSocketSessionManager.sendProgress(memberId, session, snapshot));
+            }
+            case NotificationFrameCodec.OP_UNSUBSCRIBE ->
+                    webSocketSessionManager.unsubscribe(memberId, session, frame.id());
+            case NotificationFrameCodec.OP_ACK -> acknowledge(memberId, frame.id());
+            default -> session.close(CloseStatus.BAD_DATA);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("WebSocket transport error: sessionId={}, error={}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Long memberId = MemberHandshakeInterceptor.getMemberId(session);
+        if (memberId != null) {
+            webSocketSessionManager.unregister(memberId, session);
+        }
+    }
+
+    private void acknowledge(Long memberId, long notificationId) {
+        try {
+            notificationService.markAsRead(notificationId, memberId);
+        } catch (NotificationHandler e) {
+            log.warn(
+                    "WebSocket ack rejected: memberId={}, notificationId={}, reason={}",
+                    memberId,
+                    notificationId,
+                    e.getMessage());
+        }
+    }
+}
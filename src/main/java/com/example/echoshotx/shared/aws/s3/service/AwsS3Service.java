@@ -1,13 +1,27 @@
 package com.example.echoshotx.shared.aws.s3.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.HttpMethod;
 
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
 import com.example.echoshotx.video.application.dto.PresignedUploadUrlResponse;
 import com.example.echoshotx.shared.aws.s3.validator.S3Validator;
 import com.example.echoshotx.shared.exception.object.domain.S3Handler;
@@ -81,6 +95,155 @@ public class AwsS3Service {
 
     }
 
+    /**
+     * 멀티파트 업로드 시작
+     *
+     * @return S3 멀티파트 업로드 ID
+     */
+    public String initiateMultipartUpload(String s3Key, String contentType, long contentLength) {
+        S3Validator.validateUploadSize(contentLength);
+        S3Validator.validateVideoContentType(contentType);
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            return amazonS3Client.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucket, s3Key, metadata)).getUploadId();
+        } catch (Exception e) {
+            log.error("Failed to initiate multipart upload for key: {}", s3Key, e);
+            throw new S3Handler(ErrorStatus.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드의 파트별 Pre-signed PUT URL 생성
+     */
+    public List<PresignedPartUploadUrl> generateUploadPartUrls(
+            String s3Key, String multipartUploadId, Collection<Integer> partNumbers, long ttlMillis) {
+        try {
+            Date expiration = new Date(System.currentTimeMillis() + ttlMillis);
+            List<PresignedPartUploadUrl> urls = new ArrayList<>(partNumbers.size());
+            for (int partNumber : partNumbers) {
+                GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, s3Key)
+                        .withMethod(HttpMethod.PUT)
+                        .withExpiration(expiration);
+                request.addRequestParameter("uploadId", multipartUploadId);
+                request.addRequestParameter("partNumber", String.valueOf(partNumber));
+
+                urls.add(PresignedPartUploadUrl.builder()
+                        .partNumber(partNumber)
+                        .uploadUrl(amazonS3Client.generatePresignedUrl(request).toString())
+                        .expiresAt(expiration.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime())
+                        .build());
+            }
+            return urls;
+        } catch (Exception e) {
+            log.error("Failed to generate part upload URLs for key: {}", s3Key, e);
+            throw new S3Handler(ErrorStatus.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 완료 (파트 조립).
+     * 이미 완료된 업로드(재시도)는 객체가 있으면 성공으로 본다.
+     *
+     * @param eTagsByPartNumber 파트 번호 → ETag
+     */
+    public void completeMultipartUpload(
+            String s3Key, String multipartUploadId, SortedMap<Integer, String> eTagsByPartNumber) {
+        List<PartETag> partETags = eTagsByPartNumber.entrySet().stream()
+                .map(entry -> new PartETag(entry.getKey(), entry.getValue()))
+                .toList();
+        try {
+            amazonS3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, s3Key, multipartUploadId, partETags));
+        } catch (AmazonS3Exception e) {
+            if ("NoSuchUpload".equals(e.getErrorCode()) && doesObjectExist(s3Key)) {
+                log.info("Multipart upload already completed for key: {}", s3Key);
+                return;
+            }
+            log.error("Failed to complete multipart upload for key: {}", s3Key, e);
+            throw new S3Handler(ErrorStatus.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드에 올라간 파트 조회. 업로드가 없으면(완료·중단) 빈 맵.
+     *
+     * @return 파트 번호 → ETag
+     */
+    public SortedMap<Integer, String> listUploadedParts(String s3Key, String multipartUploadId) {
+        SortedMap<Integer, String> eTagsByPartNumber = new TreeMap<>();
+        ListPartsRequest request = new ListPartsRequest(bucket, s3Key, multipartUploadId);
+        try {
+            PartListing listing;
+            do {
+                listing = amazonS3Client.listParts(request);
+                for (PartSummary part : listing.getParts()) {
+                    eTagsByPartNumber.put(part.getPartNumber(), part.getETag());
+                }
+                request.setPartNumberMarker(listing.getNextPartNumberMarker());
+            } while (listing.isTruncated());
+            return eTagsByPartNumber;
+        } catch (AmazonS3Exception e) {
+            if ("NoSuchUpload".equals(e.getErrorCode())) {
+                return eTagsByPartNumber;
+            }
+            log.error("Failed to list multipart upload parts for key: {}", s3Key, e);
+            throw new S3Handler(ErrorStatus.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 미완료 멀티파트 업로드 중단 (업로드된 파트 삭제)
+     */
+    public void abortMultipartUpload(String s3Key, String multipartUploadId) {
+        amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, s3Key, multipartUploadId));
+    }
+
+    /**
+     * prefix 아래에서 cutoff 이전에 시작된 미완료 멀티파트 업로드를 모두 중단
+     *
+     * @return 중단한 업로드 수
+     */
+    public int abortMultipartUploadsInitiatedBefore(String prefix, Date cutoff) {
+        int aborted = 0;
+        ListMultipartUploadsRequest request = new ListMultipartUploadsRequest(bucket).withPrefix(prefix);
+        MultipartUploadListing listing;
+        do {
+            listing = amazonS3Client.listMultipartUploads(request);
+            for (MultipartUpload upload : listing.getMultipartUploads()) {
+                if (upload.getInitiated().before(cutoff)) {
+                    abortMultipartUpload(upload.getKey(), upload.getUploadId());
+                    aborted++;
+                }
+            }
+            request.setKeyMarker(listing.getNextKeyMarker());
+            request.setUploadIdMarker(listing.getNextUploadIdMarker());
+        } while (listing.isTruncated());
+        return aborted;
+    }
+
+    /**
+     * 객체 크기 (HEAD 요청)
+     */
+    public long getObjectSize(String s3Key) {
+        return amazonS3Client.getObjectMetadata(bucket, s3Key).getContentLength();
+    }
+
+    /**
+     * 객체의 일부 구간만 읽기 (ranged GET)
+     *
+     * @param end 마지막 byte 위치 (포함)
+     */
+    public byte[] readRange(String s3Key, long start, long end) {
+        try (S3Object object = amazonS3Client.getObject(new GetObjectRequest(bucket, s3Key).withRange(start, end))) {
+            return object.getObjectContent().readAllBytes();
+        } catch (IOException e) {
+            log.error("Failed to read range {}-{} of key: {}", start, end, s3Key, e);
+            throw new S3Handler(ErrorStatus.FILE_UPLOAD_FAILED);
+        }
+    }
+
     public void deleteFile(String s3Key) {
         amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, s3Key));
     }
@@ -11,10 +11,15 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsClientBuilder;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.Optional;
 
 @Configuration
 @RequiredArgsConstructor
@@ -24,18 +29,20 @@ public class AwsSqsConfig {
 
     @Bean
     public SqsClient sqsClient() {
-        return SqsClient.builder()
+        SqsClientBuilder builder = SqsClient.builder()
                 .region(Region.of(awsProps.getRegion()))
-                .credentialsProvider(sqsCredentialsProvider())
-                .build();
+                .credentialsProvider(sqsCredentialsProvider());
+        endpointOverride().ifPresent(builder::endpointOverride);
+        return builder.build();
     }
 
     @Bean
     public SqsAsyncClient sqsAsyncClient() {
-        return SqsAsyncClient.builder()
+        SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
                 .region(Region.of(awsProps.getRegion()))
-                .credentialsProvider(sqsCredentialsProvider())
-                .build();
+                .credentialsProvider(sqsCredentialsProvider());
+        endpointOverride().ifPresent(builder::endpointOverride);
+        return builder.build();
     }
 
     @Bean
@@ -59,6 +66,14 @@ public class AwsSqsConfig {
                 .build();
     }
 
+    // 로컬 SQS 대체 서버로 연결할 때만 설정
+    private Optional<URI> endpointOverride() {
+        return Optional.ofNullable(awsProps.getSqs())
+                .map(AwsProps.Sqs::getEndpoint)
+                .filter(StringUtils::hasText)
+                .map(URI::create);
+    }
+
     private AwsCredentialsProvider sqsCredentialsProvider() {
         return StaticCredentialsProvider.create(
                 AwsBasicCredentials.create(
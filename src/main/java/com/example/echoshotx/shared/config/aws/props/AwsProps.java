@@ -20,6 +20,8 @@ public class AwsProps {
         private String queueUrl;
         private boolean fifo;
         private String messageGroupId;
+        /** 로컬 SQS 대체 서버(ElasticMQ, LocalStack 등) 주소. 비어 있으면 AWS 기본 엔드포인트 */
+        private String endpoint;
     }
 
     @Getter @Setter
@@ -31,5 +33,7 @@ public class AwsProps {
     @Getter @Setter
     public static class S3 {
         private String bucket;
+        /** 로컬 S3 대체 서버(LocalStack, MinIO 등) 주소. 비어 있으면 AWS 기본 엔드포인트 */
+        private String endpoint;
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.echoshotx.shared.config.notification.props;
+
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProps {
+    private Coalescing coalescing = new Coalescing();
+    private ProgressSnapshot progressSnapshot = new ProgressSnapshot();
+
+    /**
+     * 회원/타입 단위 알림 버스트 병합 설정.
+     */
+    @Getter @Setter
+    public static class Coalescing {
+        private boolean enabled = false;
+        private long windowMillis = 3000;
+        private int maxBatchSize = 50;
+        private Set<NotificationType> types = EnumSet.of(NotificationType.VIDEO_PROCESSING_COMPLETED);
+    }
+
+    /**
+     * 비디오별 최신 진행률 스냅샷 캐시 설정 (늦게 연결한 구독자/폴링 클라이언트용).
+     */
+    @Getter @Setter
+    public static class ProgressSnapshot {
+        private int maxEntries = 10_000;
+        private long ttlMillis = 600_000;
+    }
+}
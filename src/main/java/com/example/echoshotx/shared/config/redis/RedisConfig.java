@@ -1,8 +1,14 @@
 package com.example.echoshotx.shared.config.redis;
 
+import com.example.echoshotx.shared.config.redis.props.RedisLockProps;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.redis.service.RedisLockReleaseSubscriber;
+import com.example.echoshotx.video.infrastructure.redis.VideoProgressFanout;
 import com.example.echoshotx.video.infrastructure.redis.VideoProgressRedisListener;
+import com.example.echoshotx.video.infrastructure.redis.VideoProgressTerminalBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -79,8 +85,10 @@ public class RedisConfig {
     /**
      * Redis 메시지 리스너 컨테이너.
      * Redis Pub/Sub 메시지를 수신하여 리스너에게 전달합니다.
+     * app.video.progress.ingestion=stream 이면 VideoProgressStreamConsumer가 대신 수신합니다.
      */
     @Bean
+    @ConditionalOnProperty(name = "app.video.progress.ingestion", havingValue = "pubsub", matchIfMissing = true)
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter videoProgressListenerAdapter,
@@ -91,4 +99,56 @@ public class RedisConfig {
         container.addMessageListener(videoProgressListenerAdapter, videoProgressTopic);
         return container;
     }
+
+    /**
+     * stream 수신 모드의 진행률 전달 리스너 컨테이너.
+     * consumer group은 메시지를 한 노드에만 주므로 다른 노드의 세션에는 이 채널로 전달합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.video.progress.ingestion", havingValue = "stream")
+    public RedisMessageListenerContainer videoProgressFanoutListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            VideoProgressFanout videoProgressFanout,
+            VideoProps videoProps) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                videoProgressFanout, new ChannelTopic(videoProps.getProgress().getFanoutChannel()));
+        return container;
+    }
+
+    /**
+     * 분산락 해제 알림 리스너 컨테이너.
+     * 진행률 수신 방식과 무관하게 동작해야 하므로 별도 컨테이너로 둡니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.redis.lock.pubsub-wakeup", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisLockListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisLockReleaseSubscriber releaseSubscriber,
+            RedisLockProps redisLockProps) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(releaseSubscriber, new ChannelTopic(redisLockProps.getReleaseChannel()));
+        return container;
+    }
+
+    /**
+     * 진행률 종료 알림 리스너 컨테이너.
+     * 진행률 스냅샷은 수신 방식과 무관하게 노드마다 쌓이므로 별도 컨테이너로 둡니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer videoProgressTerminalListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            VideoProgressTerminalBroadcaster terminalBroadcaster,
+            VideoProps videoProps) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                terminalBroadcaster, new ChannelTopic(videoProps.getProgress().getTerminalChannel()));
+        return container;
+    }
 }
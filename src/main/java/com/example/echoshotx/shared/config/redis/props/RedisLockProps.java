@@ -0,0 +1,25 @@
+package com.example.echoshotx.shared.config.redis.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 분산락 설정.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.redis.lock")
+public class RedisLockProps {
+    /** 락 lease 시간. watchdog이 lease의 1/3마다 연장하므로 보유자가 죽었을 때만 만료된다 */
+    private long leaseMillis = 30_000;
+    /** 해제 알림(pub/sub)을 놓쳤을 때를 대비한 최대 대기 간격 */
+    private long maxWaitSliceMillis = 200;
+    /** 해제 시 pub/sub으로 대기자를 깨운다. 끄면 maxWaitSliceMillis 간격으로만 재시도한다 */
+    private boolean pubsubWakeup = true;
+    private String releaseChannel = "redis:lock:released";
+    /** 펜싱 토큰 카운터 키 (모든 락이 공유하는 단조 증가 값) */
+    private String fenceKey = "redis:lock:fence";
+}
@@ -0,0 +1,191 @@
+package com.example.echoshotx.shared.config.video.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.video")
+public class VideoProps {
+    private Progress progress = new Progress();
+    private Transition transition = new Transition();
+    private CompleteUpload completeUpload = new CompleteUpload();
+    private Idempotency idempotency = new Idempotency();
+    private S3Event s3Event = new S3Event();
+    private Multipart multipart = new Multipart();
+    private MetadataExtraction metadataExtraction = new MetadataExtraction();
+    private Dedup dedup = new Dedup();
+
+    /**
+     * 영상 상태 전환(업로드 완료, 처리 완료/실패) 동시성 제어 설정.
+     * 업로드 완료는 complete-upload.lock-strategy가 지정되지 않았을 때만 lock-mode를 따른다.
+     */
+    @Getter @Setter
+    public static class Transition {
+        /** pessimistic (SELECT ... FOR UPDATE) | optimistic (@Version 검사 + 충돌 시 재시도) */
+        private String lockMode = "pessimistic";
+        /** optimistic 모드에서 버전 충돌 시 재시도 횟수 */
+        private int maxRetries = 3;
+        private long retryBackoffMillis = 20;
+    }
+
+    /**
+     * 업로드 완료 동시성 제어 전략 설정.
+     */
+    @Getter @Setter
+    public static class CompleteUpload {
+        /**
+         * none | db-pessimistic | redis | redis+db | optimistic | striped.
+         * 비어 있으면 transition.lock-mode에서 정한다 (optimistic → optimistic, pessimistic → redis+db).
+         */
+        private String lockStrategy;
+        /** redis, striped 전략에서 락을 기다리는 최대 시간 */
+        private long lockWaitMillis = 3_000;
+        /** striped 전략의 락 개수 (2의 거듭제곱으로 올림) */
+        private int lockStripes = 256;
+        /** 배치 업로드 완료 요청 한 번에 받을 수 있는 최대 영상 수 */
+        private int maxBatchSize = 100;
+    }
+
+    /**
+     * 대용량 영상의 S3 멀티파트 presigned 업로드 설정.
+     */
+    @Getter @Setter
+    public static class Multipart {
+        private boolean enabled = true;
+        /** 이 크기 이상이면 클라이언트가 요청하지 않아도 멀티파트로 시작 */
+        private long thresholdBytes = 64L * 1024 * 1024;
+        /** 파트 크기 (S3 최소 5MB, 파트 수가 10000을 넘으면 늘림) */
+        private long partSizeBytes = 8L * 1024 * 1024;
+        /** initiate-upload 응답에 담는 파트 URL 수 */
+        private int initialPartUrls = 20;
+        /** 파트 URL 재발급 한 번에 요청할 수 있는 최대 수 */
+        private int maxPartUrlsPerRequest = 100;
+        private long partUrlTtlMillis = 3_600_000;
+        /** 이 시간보다 오래된 미완료 멀티파트 업로드는 sweeper가 중단 */
+        private long abandonAfterMillis = 86_400_000;
+        /** 이어 올리기 세션(완료된 파트 ETag) Redis 키 prefix. 세션은 presignedUrlExpiresAt에 만료 */
+        private String sessionKeyPrefix = "video:upload-session:";
+    }
+
+    /**
+     * 업로드된 원본의 컨테이너 헤더(S3 ranged GET)에서 메타데이터를 추출하는 설정.
+     */
+    @Getter @Setter
+    public static class MetadataExtraction {
+        private boolean enabled = true;
+        /** 컨테이너 판별과 앞쪽 헤더 파싱에 읽는 크기 */
+        private int headBytes = 64 * 1024;
+        /** 추가로 읽을 moov / Info·Tracks 요소의 최대 크기 (넘으면 추출 포기) */
+        private int maxMetadataBytes = 8 * 1024 * 1024;
+        /** 클라이언트가 보낸 길이와 이 비율 이상 다르면 불일치로 기록 */
+        private double durationTolerance = 0.05;
+    }
+
+    /**
+     * 같은 회원이 같은 내용(SHA-256, 크기)의 원본을 다시 올릴 때 기존 S3 객체를 공유하는 설정.
+     */
+    @Getter @Setter
+    public static class Dedup {
+        private boolean enabled = true;
+    }
+
+    /**
+     * S3 ObjectCreated 이벤트(SQS)로 업로드 완료를 처리하는 설정.
+     */
+    @Getter @Setter
+    public static class S3Event {
+        private boolean enabled = false;
+        /** S3 이벤트 알림을 받는 SQS 큐 URL (작업 큐와 별도) */
+        private String queueUrl;
+    }
+
+    /**
+     * 업로드 완료 멱등 응답 캐시 설정 (로컬 LRU → Redis → MySQL).
+     */
+    @Getter @Setter
+    public static class Idempotency {
+        private int localMaxEntries = 10_000;
+        private long localTtlMillis = 600_000;
+        /** 아직 기록이 없는 키의 조회 결과를 기억하는 시간 */
+        private long negativeTtlMillis = 2_000;
+        private boolean redisEnabled = true;
+        private String redisKeyPrefix = "video:idem:";
+        /** 만료 기록 삭제 시 한 번에 지우는 행 수 */
+        private int purgeChunkSize = 1_000;
+    }
+
+    @Getter @Setter
+    public static class Progress {
+        /** 진행률 수신 방식: pubsub (노드마다 전체 수신) | stream (consumer group으로 클러스터 내 1회 처리) */
+        private String ingestion = "pubsub";
+        /** 완료/실패 시 모든 노드의 진행률 스냅샷을 지우도록 알리는 Pub/Sub 채널 */
+        private String terminalChannel = "video:progress:terminal";
+        /** stream 수신 시 처리한 노드가 다른 노드의 세션에도 진행률을 전달하는 Pub/Sub 채널 */
+        private String fanoutChannel = "video:progress:fanout";
+        private WriteBehind writeBehind = new WriteBehind();
+        private Dispatcher dispatcher = new Dispatcher();
+        private Stream stream = new Stream();
+        private State state = new State();
+    }
+
+    /**
+     * 진행률 write-behind 설정. 비활성화하면 메시지마다 조회 + 저장하는 동기 경로를 사용한다.
+     */
+    @Getter @Setter
+    public static class WriteBehind {
+        private boolean enabled = true;
+        private long flushIntervalMillis = 1000;
+        private int maxBatchSize = 500;
+        private int ownerCacheSize = 10_000;
+    }
+
+    /**
+     * 진행률 메시지 샤딩 실행기 설정 (레인 수, 레인별 큐 용량).
+     */
+    @Getter @Setter
+    public static class Dispatcher {
+        private int lanes = 4;
+        private int laneCapacity = 1000;
+    }
+
+    /**
+     * 진행률 Redis Stream 소비 설정.
+     */
+    @Getter @Setter
+    public static class Stream {
+        private String key = "video:progress:stream";
+        private String group = "echoshotx-backend";
+        /** 비어 있으면 hostname:pid */
+        private String consumerName;
+        private int batchSize = 100;
+        private long blockMillis = 2000;
+        /** 이 시간 이상 ACK되지 않은 다른 consumer의 메시지를 가져온다 */
+        private long reclaimIdleMillis = 30_000;
+        private long reclaimIntervalMillis = 15_000;
+        /** pending 메시지 없이 이 시간 이상 읽지 않은 다른 consumer는 group에서 제거 (XGROUP DELCONSUMER) */
+        private long deadConsumerIdleMillis = 3_600_000;
+        /** 대략적(~) MAXLEN 트리밍 기준 */
+        private long maxLen = 100_000;
+    }
+
+    /**
+     * 진행률 상태 테이블 설정 (sequence/역행/종료 후 메시지 필터링).
+     */
+    @Getter @Setter
+    public static class State {
+        /** memory (노드 로컬) | redis (노드 간 공유) */
+        private String store = "memory";
+        private String redisKeyPrefix = "video:progress:state:";
+        /** 진행 중 상태가 갱신 없이 유지되는 시간 */
+        private long entryTtlMillis = 1_800_000;
+        /** 완료/실패 tombstone 유지 시간 */
+        private long tombstoneTtlMillis = 600_000;
+        private long sweepIntervalMillis = 60_000;
+        /** 초과 시 즉시 만료 항목을 정리한다 */
+        private int maxEntries = 100_000;
+    }
+}
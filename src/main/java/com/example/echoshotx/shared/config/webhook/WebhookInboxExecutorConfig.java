@@ -0,0 +1,32 @@
+package com.example.echoshotx.shared.config.webhook;
+
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 웹훅 inbox worker 풀.
+ *
+ * <p>기본 후보에서 제외(defaultCandidate = false)하여 @Async용 applicationTaskExecutor 자동 구성을 대체하지 않고,
+ * {@code webhookInboxExecutor} 이름으로 주입받는 곳에서만 사용합니다.
+ * 종료 시 진행 중인 웹훅 처리가 끝날 때까지 최대 10초 기다립니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.webhook.inbox.enabled", havingValue = "true")
+public class WebhookInboxExecutorConfig {
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor webhookInboxExecutor(WebhookProps webhookProps) {
+        int workers = Math.max(1, webhookProps.getInbox().getWorkers());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("webhook-inbox-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.echoshotx.shared.config.webhook.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.webhook")
+public class WebhookProps {
+    private Inbox inbox = new Inbox();
+    private Batch batch = new Batch();
+
+    /**
+     * 웹훅 inbox 설정. 활성화하면 웹훅은 검증 후 webhook_inbox에 저장하고 202로 바로 응답하며,
+     * 실제 처리는 worker가 배치로 수행한다.
+     */
+    @Getter @Setter
+    public static class Inbox {
+        private boolean enabled = false;
+        private int workers = 4;
+        private int batchSize = 50;
+        private long pollIntervalMillis = 200;
+        /** PROCESSING 상태로 이 시간 이상 남은 행은 worker가 죽은 것으로 보고 다시 PENDING으로 돌린다 */
+        private long staleClaimMillis = 60_000;
+        private int maxRetries = 10;
+        private int retentionDays = 3;
+    }
+
+    /**
+     * 배치 웹훅(/videos/webhook/batch) 설정. 항목은 chunkSize개씩 한 트랜잭션으로 반영한다.
+     */
+    @Getter @Setter
+    public static class Batch {
+        private int maxEntries = 500;
+        private int chunkSize = 50;
+    }
+}
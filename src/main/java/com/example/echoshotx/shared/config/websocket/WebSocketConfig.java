@@ -0,0 +1,48 @@
+package com.example.echoshotx.shared.config.websocket;
+
+import com.example.echoshotx.notification.presentation.websocket.MemberHandshakeInterceptor;
+import com.example.echoshotx.notification.presentation.websocket.NotificationWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private static final int MAX_BINARY_MESSAGE_BYTES = 8 * 1024;
+    private static final long MAX_SESSION_IDLE_TIMEOUT_MS = 60L * 1000 * 60; // 60분 (SSE 타임아웃과 동일)
+
+    private final String CORS_FRONT_PATH;
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final MemberHandshakeInterceptor memberHandshakeInterceptor;
+
+    public WebSocketConfig(
+            @Value("${app.cors.front-path}") String CORS_FRONT_PATH,
+            NotificationWebSocketHandler notificationWebSocketHandler,
+            MemberHandshakeInterceptor memberHandshakeInterceptor) {
+        this.CORS_FRONT_PATH = CORS_FRONT_PATH;
+        this.notificationWebSocketHandler = notificationWebSocketHandler;
+        this.memberHandshakeInterceptor = memberHandshakeInterceptor;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(notificationWebSocketHandler, "/ws/notifications")
+                .addInterceptors(memberHandshakeInterceptor)
+                .setAllowedOriginPatterns(CORS_FRONT_PATH);
+    }
+
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(MAX_BINARY_MESSAGE_BYTES);
+        container.setMaxTextMessageBufferSize(MAX_BINARY_MESSAGE_BYTES);
+        container.setMaxSessionIdleTimeout(MAX_SESSION_IDLE_TIMEOUT_MS);
+        return container;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.echoshotx.shared.redis.service;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+
+/**
+ * 획득한 Redis 락 핸들. try-with-resources로 해제한다.
+ *
+ * <p>fencingToken은 락을 얻을 때마다 증가하는 값이다. 하위 저장소(DB)는 이 값을 검사하지 않으므로
+ * 쓰기 순서를 보장하지 않고, 로그에서 보유자를 구분하는 데만 쓴다. 늦은 쓰기는 DB의 @Version 검사가 막는다.
+ * watchdog이 연장에 실패하면(다른 보유자가 생기거나 lease가 지나도록 연장하지 못함) {@link #isHeld()}가 false가 된다.
+ */
+public class RedisLock implements AutoCloseable {
+
+    @Getter
+    private final String key;
+    @Getter
+    private final String token;
+    @Getter
+    private final long fencingToken;
+    @Getter
+    private final long acquiredAtNanos;
+    private final RedisLockService lockService;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean lost;
+    @Getter
+    private volatile long lastRenewedAtNanos;
+    private volatile ScheduledFuture<?> renewal;
+
+    RedisLock(RedisLockService lockService, String key, String token, long fencingToken) {
+        this.lockService = lockService;
+        this.key = key;
+        this.token = token;
+        this.fencingToken = fencingToken;
+        this.acquiredAtNanos = System.nanoTime();
+        this.lastRenewedAtNanos = acquiredAtNanos;
+    }
+
+    public boolean isHeld() {
+        return !released.get() && !lost;
+    }
+
+    @Override
+    public void close() {
+        lockService.release(this);
+    }
+
+    boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
+    void markRenewed() {
+        lastRenewedAtNanos = System.nanoTime();
+    }
+
+    void markLost() {
+        lost = true;
+    }
+
+    void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    void cancelRenewal() {
+        ScheduledFuture<?> current = renewal;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+}
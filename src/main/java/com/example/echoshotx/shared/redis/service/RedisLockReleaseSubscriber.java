@@ -0,0 +1,49 @@
+package com.example.echoshotx.shared.redis.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 해제 알림 수신기.
+ *
+ * <p>대기자는 락 획득을 시도하기 전에 키의 해제 신호를 받아 두고, 실패하면 그 신호를 기다린다.
+ * 시도와 대기 사이에 해제되어도 이미 받아 둔 신호가 완료되므로 알림을 놓치지 않는다.
+ */
+@Component
+public class RedisLockReleaseSubscriber implements MessageListener {
+
+    private final Map<String, CompletableFuture<Void>> signals = new ConcurrentHashMap<>();
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        signal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 해제 시 완료되는 신호.
+     */
+    public CompletableFuture<Void> releaseSignal(String key) {
+        return signals.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    /**
+     * 대기를 포기한 신호 정리. 다른 대기자가 공유 중이어도 다음 대기 간격 안에 다시 시도하므로 문제없다.
+     */
+    public void discard(String key, CompletableFuture<Void> signal) {
+        if (signal != null) {
+            signals.remove(key, signal);
+        }
+    }
+
+    public void signal(String key) {
+        CompletableFuture<Void> signal = signals.remove(key);
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+}
@@ -1,33 +1,293 @@
 package com.example.echoshotx.shared.redis.service;
 
+import com.example.echoshotx.shared.config.redis.props.RedisLockProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Collections;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+/**
+ * Redis 분산락.
+ *
+ * <ul>
+ *   <li>lease + watchdog: 보유 중에는 lease의 1/3마다 연장한다. 다른 보유자가 생겼거나,
+ *       Redis 오류로 마지막 연장 이후 lease가 지나도록 연장하지 못하면 핸들을 lost로 표시한다</li>
+ *   <li>fencing token: 획득 시 공유 카운터를 INCR한 값을 함께 돌려준다 (로그에서 보유 순서를 구분하는 용도)</li>
+ *   <li>스크립트는 상수로 한 번만 만들고 EVALSHA로 호출한다 (NOSCRIPT면 Spring이 EVAL로 재시도)</li>
+ *   <li>대기 획득: 해제 시 publish되는 알림으로 깨어나 다시 시도한다</li>
+ * </ul>
+ * 획득 스크립트는 락 키와 fence 키를 함께 다루므로 단일 노드(standalone) Redis를 전제로 한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisLockService {
 
-    private static final String UNLOCK_LUA_SCRIPT =
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then "
+                    + "return redis.call('incr', KEYS[2]) "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
             "if redis.call('get', KEYS[1]) == ARGV[1] then "
-                    + "return redis.call('del', KEYS[1]) "
-                    + "else return 0 end";
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('publish', ARGV[2], KEYS[1]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0",
+            Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLockProps props;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService watchdog;
+
+    public RedisLockService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisLockReleaseSubscriber releaseSubscriber,
+            RedisLockProps props,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "redis-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스크립트를 미리 SCRIPT LOAD 해 둔다. 실패해도 첫 호출에서 EVAL로 적재되므로 경고만 남긴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                load(connection, ACQUIRE_SCRIPT);
+                load(connection, RENEW_SCRIPT);
+                load(connection, RELEASE_SCRIPT);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Redis lock script preload failed", e);
+        }
+    }
+
+    /**
+     * 한 번만 시도한다.
+     */
+    public Optional<RedisLock> tryAcquire(String key) {
+        return tryAcquire(key, Duration.ZERO);
+    }
+
+    /**
+     * waitTime 동안 해제 알림을 기다리며 재시도한다.
+     */
+    public Optional<RedisLock> tryAcquire(String key, Duration waitTime) {
+        String name = lockName(key);
+        String token = UUID.randomUUID().toString();
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + waitTime.toNanos();
+        boolean canWait = waitTime.toNanos() > 0;
+        boolean contended = false;
+
+        while (true) {
+            CompletableFuture<Void> signal = canWait ? releaseSubscriber.releaseSignal(key) : null;
+            long fencingToken = acquireOnce(key, token, props.getLeaseMillis());
+            if (fencingToken > 0) {
+                releaseSubscriber.discard(key, signal);
+                if (contended) {
+                    waitTimer(name, "acquired").record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                }
+                return Optional.of(startWatchdog(new RedisLock(this, key, token, fencingToken)));
+            }
+
+            if (!contended) {
+                contended = true;
+                contentionCounter(name).increment();
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                releaseSubscriber.discard(key, signal);
+                waitTimer(name, "timeout").record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+            if (!awaitRelease(signal, Math.min(remainingNanos,
+                    TimeUnit.MILLISECONDS.toNanos(props.getMaxWaitSliceMillis())))) {
+                releaseSubscriber.discard(key, signal);
+                waitTimer(name, "interrupted").record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+        }
+    }
+
+    void release(RedisLock lock) {
+        if (!lock.markReleased()) {
+            return;
+        }
+        lock.cancelRenewal();
+        Timer.builder("redis.lock.hold")
+                .description("Redis lock hold time")
+                .tag("name", lockName(lock.getKey()))
+                .register(meterRegistry)
+                .record(System.nanoTime() - lock.getAcquiredAtNanos(), TimeUnit.NANOSECONDS);
+        try {
+            if (!releaseOnce(lock.getKey(), lock.getToken())) {
+                log.warn("Redis lock was already taken over before release. key={}, fencingToken={}",
+                        lock.getKey(), lock.getFencingToken());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis unlock failed. key={}", lock.getKey(), e);
+        }
+    }
+
+    /**
+     * 획득 시 fencing token, 이미 잡혀 있으면 0.
+     */
+    protected long acquireOnce(String key, String token, long leaseMillis) {
+        Long result = redisTemplate.execute(
+                ACQUIRE_SCRIPT, List.of(key, props.getFenceKey()), token, String.valueOf(leaseMillis));
+        return result == null ? 0 : result;
+    }
+
+    protected boolean renewOnce(String key, String token, long leaseMillis) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(leaseMillis));
+        return result != null && result > 0;
+    }
+
+    protected boolean releaseOnce(String key, String token) {
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token, props.getReleaseChannel());
+        return result != null && result > 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private RedisLock startWatchdog(RedisLock lock) {
+        long leaseMillis = props.getLeaseMillis();
+        long intervalMillis = Math.max(10, leaseMillis / 3);
+        lock.setRenewal(watchdog.scheduleAtFixedRate(
+                () -> renew(lock, leaseMillis), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS));
+        return lock;
+    }
+
+    private void renew(RedisLock lock, long leaseMillis) {
+        if (!lock.isHeld()) {
+            lock.cancelRenewal();
+            return;
+        }
+        try {
+            if (renewOnce(lock.getKey(), lock.getToken(), leaseMillis)) {
+                lock.markRenewed();
+                return;
+            }
+            log.warn("Redis lock lease lost. key={}, fencingToken={}", lock.getKey(), lock.getFencingToken());
+            markLeaseLost(lock);
+        } catch (RuntimeException e) {
+            // 마지막 연장 이후 lease가 지났으면 Redis에서도 만료됐을 수 있으므로 더 이상 보유로 보지 않는다
+            if (System.nanoTime() - lock.getLastRenewedAtNanos() >= TimeUnit.MILLISECONDS.toNanos(leaseMillis)) {
+                log.warn("Redis lock renewal failed past lease, marking lost. key={}, fencingToken={}",
+                        lock.getKey(), lock.getFencingToken(), e);
+                markLeaseLost(lock);
+                return;
+            }
+            // lease가 남아 있는 동안은 다음 주기에 다시 연장한다
+            log.warn("Redis lock renewal failed. key={}", lock.getKey(), e);
+        }
+    }
 
-    public boolean tryLock(String key, String token, Duration ttl) {
-        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
-        return Boolean.TRUE.equals(acquired);
+    private void markLeaseLost(RedisLock lock) {
+        Counter.builder("redis.lock.lease.lost")
+                .description("Redis locks whose lease expired while held")
+                .tag("name", lockName(lock.getKey()))
+                .register(meterRegistry)
+                .increment();
+        lock.markLost();
+        lock.cancelRenewal();
     }
 
-    public void unlock(String key, String token) {
-        DefaultRedisScript<Long> unlockScript = new DefaultRedisScript<>();
-        unlockScript.setScriptText(UNLOCK_LUA_SCRIPT);
-        unlockScript.setResultType(Long.class);
+    private boolean awaitRelease(CompletableFuture<Void> signal, long timeoutNanos) {
+        if (!props.isPubsubWakeup()) {
+            return sleep(timeoutNanos);
+        }
+        try {
+            signal.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Timer waitTimer(String name, String outcome) {
+        return Timer.builder("redis.lock.wait")
+                .description("Time spent waiting for a contended Redis lock")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter contentionCounter(String name) {
+        return Counter.builder("redis.lock.contention")
+                .description("Lock acquisitions that found the lock already held")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static void load(RedisConnection connection, DefaultRedisScript<Long> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
 
-        redisTemplate.execute(unlockScript, Collections.singletonList(key), token);
+    /**
+     * 메트릭 태그용 락 이름. 키의 마지막 구분자 앞부분 (video:complete:42 → video:complete).
+     */
+    private static String lockName(String key) {
+        int index = key.lastIndexOf(':');
+        return index > 0 ? key.substring(0, index) : key;
     }
 }
@@ -97,6 +97,8 @@ public class SecurityConfig {
                             .requestMatchers(additionalSwaggerRequests()).permitAll()
                             .requestMatchers(HttpMethod.POST, "/videos/webhook/**").permitAll()
                             .requestMatchers(HttpMethod.POST, "/api/videos/webhook/**").permitAll()
+                            // health 외의 actuator(노드별 지표, notificationnodes 갱신)는 관리자만
+                            .requestMatchers("/actuator/**").hasRole("ADMIN")
                             .anyRequest().authenticated();
                 });
     }
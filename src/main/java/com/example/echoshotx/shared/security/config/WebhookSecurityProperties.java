@@ -13,4 +13,29 @@ public class WebhookSecurityProperties {
 
     @Value("${app.webhook.allowed-skew-seconds:300}")
     private long allowedSkewSeconds;
+
+    @Value("${app.webhook.max-body-bytes:1048576}")
+    private int maxBodyBytes;
+
+    /** 로컬 nonce 필터의 버킷 크기. 허용 시각 범위(±allowedSkewSeconds)를 이 단위로 나눠 보관한다 */
+    @Value("${app.webhook.nonce.bucket-seconds:30}")
+    private long nonceBucketSeconds;
+
+    /** Redis 오류 후 이 시간 동안은 Redis를 건너뛰고 DB 배치 경로를 사용한다 */
+    @Value("${app.webhook.nonce.redis-backoff-millis:1000}")
+    private long nonceRedisBackoffMillis;
+
+    @Value("${app.webhook.nonce.db-batch-size:100}")
+    private int nonceDbBatchSize;
+
+    /** DB 배치 등록 시 다른 요청을 모으기 위해 기다리는 최대 시간 */
+    @Value("${app.webhook.nonce.db-max-wait-millis:5}")
+    private long nonceDbMaxWaitMillis;
+
+    /**
+     * nonce 보관 기간. 서명 시각이 ±allowedSkewSeconds 안에서 유효하므로 그 두 배 동안 기억해야 재전송을 막을 수 있다.
+     */
+    public long getNonceRetentionSeconds() {
+        return allowedSkewSeconds * 2;
+    }
 }
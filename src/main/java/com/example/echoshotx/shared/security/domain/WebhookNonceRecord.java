@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -23,6 +24,9 @@ import lombok.NoArgsConstructor;
         name = "webhook_nonce_record",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_webhook_nonce", columnNames = "nonce")
+        },
+        indexes = {
+                @Index(name = "idx_webhook_nonce_expire_bucket", columnList = "expire_bucket")
         })
 public class WebhookNonceRecord {
 
@@ -33,15 +37,21 @@ public class WebhookNonceRecord {
     @Column(name = "nonce", nullable = false, length = 120)
     private String nonce;
 
+    /** 만료 버킷 번호. 현재 버킷보다 작으면 삭제 대상 */
+    @Column(name = "expire_bucket")
+    private Long expireBucket;
+
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    public static WebhookNonceRecord create(String nonce, LocalDateTime now, LocalDateTime expiresAt) {
+    public static WebhookNonceRecord create(
+            String nonce, long expireBucket, LocalDateTime now, LocalDateTime expiresAt) {
         return WebhookNonceRecord.builder()
                 .nonce(nonce)
+                .expireBucket(expireBucket)
                 .expiresAt(expiresAt)
                 .createdAt(now)
                 .build();
@@ -5,45 +5,28 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import org.springframework.util.StreamUtils;
 
+/**
+ * 이미 읽은 본문을 다시 읽을 수 있게 하는 요청 래퍼.
+ *
+ * <p>서명 검증에서 읽은 버퍼를 복사 없이 그대로 넘겨받아 [0, length) 구간만 본문으로 노출한다.
+ */
 public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
     private final byte[] cachedBody;
+    private final int length;
 
-    public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+    public CachedBodyHttpServletRequest(HttpServletRequest request, byte[] cachedBody, int length) {
         super(request);
-        this.cachedBody = StreamUtils.copyToByteArray(request.getInputStream());
+        this.cachedBody = cachedBody;
+        this.length = length;
     }
 
     @Override
     public ServletInputStream getInputStream() {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(cachedBody);
-        return new ServletInputStream() {
-            @Override
-            public boolean isFinished() {
-                return byteArrayInputStream.available() == 0;
-            }
-
-            @Override
-            public boolean isReady() {
-                return true;
-            }
-
-            @Override
-            public void setReadListener(ReadListener listener) {
-                // no-op
-            }
-
-            @Override
-            public int read() {
-                return byteArrayInputStream.read();
-            }
-        };
+        return new CachedBodyInputStream(cachedBody, length);
     }
 
     @Override
@@ -51,7 +34,61 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
     }
 
-    public String getCachedBodyAsString() {
-        return new String(cachedBody, StandardCharsets.UTF_8);
+    @Override
+    public int getContentLength() {
+        return length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return length;
+    }
+
+    private static final class CachedBodyInputStream extends ServletInputStream {
+
+        private final byte[] buffer;
+        private final int length;
+        private int position;
+
+        private CachedBodyInputStream(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= length;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            // no-op
+        }
+
+        @Override
+        public int read() {
+            return position < length ? buffer[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= length) {
+                return -1;
+            }
+            int count = Math.min(len, length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return length - position;
+        }
     }
 }
@@ -27,6 +27,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    private static final String WEBSOCKET_PATH_PATTERN = "/ws/**";
+    private static final String WEBSOCKET_TOKEN_PARAMETER = "access_token";
+
     // 필터를 건너뛸 경로 목록 (인증 없이 접근 가능한 테스트 API 등)
     private static final List<String> SKIP_FILTER_PATHS = List.of(
             "/test/notifications/**",
@@ -76,11 +79,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (!StringUtils.hasText(bearerToken)) {
-            return null;
+            return resolveWebSocketToken(request);
         }
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
         return bearerToken;
     }
+
+    // 브라우저 WebSocket API는 헤더를 지정할 수 없으므로 핸드셰이크 요청에 한해 쿼리 파라미터 허용
+    private String resolveWebSocketToken(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api")) {
+            path = path.substring(4);
+        }
+        if (!pathMatcher.match(WEBSOCKET_PATH_PATTERN, path)) {
+            return null;
+        }
+        String token = request.getParameter(WEBSOCKET_TOKEN_PARAMETER);
+        return StringUtils.hasText(token) ? token : null;
+    }
 }
@@ -7,10 +7,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.HexFormat;
+import java.util.Arrays;
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,10 +30,13 @@ public class WebhookSignatureFilter extends OncePerRequestFilter {
     private static final String SIGNATURE_HEADER = "X-Signature";
     private static final String TIMESTAMP_HEADER = "X-Timestamp";
     private static final String NONCE_HEADER = "X-Nonce";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
     private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
 
     private final WebhookSecurityProperties properties;
     private final WebhookReplayGuardService replayGuardService;
+    private final ThreadLocal<HmacContext> hmacContext = ThreadLocal.withInitial(this::createHmacContext);
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -77,20 +83,29 @@ public class WebhookSignatureFilter extends OncePerRequestFilter {
             return;
         }
 
-        CachedBodyHttpServletRequest wrappedRequest = new CachedBodyHttpServletRequest(request);
-        String signingPayload =
-                timestamp
-                        + "."
-                        + nonce
-                        + "."
-                        + wrappedRequest.getMethod()
-                        + "."
-                        + wrappedRequest.getRequestURI()
-                        + "."
-                        + wrappedRequest.getCachedBodyAsString();
-        String expectedSignature = hmacSha256Hex(signingPayload, properties.getSecret());
-
-        if (!constantTimeEquals(expectedSignature, signature.trim().toLowerCase())) {
+        int contentLength = request.getContentLength();
+        if (contentLength > properties.getMaxBodyBytes()) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Webhook body too large");
+            return;
+        }
+
+        // 서명 대상: timestamp.nonce.method.uri.body - 본문은 읽는 즉시 Mac에 흘려 넣는다
+        HmacContext context = hmacContext.get();
+        Mac hmac = context.mac;
+        hmac.reset();
+        updateWithSeparator(hmac, timestamp);
+        updateWithSeparator(hmac, nonce);
+        updateWithSeparator(hmac, request.getMethod());
+        updateWithSeparator(hmac, request.getRequestURI());
+
+        byte[] body = readBody(request.getInputStream(), contentLength, hmac, context);
+        if (body == null) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Webhook body too large");
+            return;
+        }
+        int length = context.bodyLength;
+
+        if (!verifySignature(hmac, context, signature.trim())) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid webhook signature");
             return;
         }
@@ -100,29 +115,97 @@ public class WebhookSignatureFilter extends OncePerRequestFilter {
             return;
         }
 
-        filterChain.doFilter(wrappedRequest, response);
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request, body, length), response);
+    }
+
+    /**
+     * 본문을 읽으면서 Mac을 갱신한다. Content-Length를 알면 그 크기로 한 번만 할당하고,
+     * 모르면 maxBodyBytes까지 버퍼를 두 배씩 키운다. 읽은 길이는 {@link HmacContext#bodyLength}에 기록한다.
+     *
+     * @return 본문 버퍼 ([0, bodyLength) 구간이 유효), 최대 크기를 넘으면 null
+     */
+    private byte[] readBody(InputStream in, int contentLength, Mac hmac, HmacContext context) throws IOException {
+        int max = properties.getMaxBodyBytes();
+        boolean lengthKnown = contentLength >= 0;
+        byte[] buffer = new byte[lengthKnown ? contentLength : Math.min(INITIAL_BUFFER_SIZE, max)];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                if (lengthKnown || length >= max) {
+                    if (in.read() != -1) {
+                        return null;
+                    }
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(max, buffer.length * 2L));
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            hmac.update(buffer, length, read);
+            length += read;
+        }
+        context.bodyLength = length;
+        return buffer;
     }
 
-    private String hmacSha256Hex(String payload, String secret) {
+    private boolean verifySignature(Mac hmac, HmacContext context, String signature) {
+        if (signature.length() != context.expected.length * 2) {
+            return false;
+        }
+        for (int i = 0; i < context.received.length; i++) {
+            int high = Character.digit(signature.charAt(i * 2), 16);
+            int low = Character.digit(signature.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                return false;
+            }
+            context.received[i] = (byte) ((high << 4) | low);
+        }
         try {
-            Mac hmac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            hmac.init(key);
-            return HexFormat.of().formatHex(hmac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
-        } catch (Exception e) {
-            log.error("Webhook HMAC generation failed", e);
+            hmac.doFinal(context.expected, 0);
+        } catch (ShortBufferException e) {
             throw new IllegalStateException("Webhook HMAC generation failed", e);
         }
+        return MessageDigest.isEqual(context.expected, context.received);
     }
 
-    private boolean constantTimeEquals(String left, String right) {
-        if (left.length() != right.length()) {
-            return false;
+    private static void updateWithSeparator(Mac hmac, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                hmac.update(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+            hmac.update((byte) c);
         }
-        int result = 0;
-        for (int i = 0; i < left.length(); i++) {
-            result |= left.charAt(i) ^ right.charAt(i);
+        hmac.update((byte) '.');
+    }
+
+    private HmacContext createHmacContext() {
+        try {
+            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
+            hmac.init(new SecretKeySpec(properties.getSecret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return new HmacContext(hmac);
+        } catch (Exception e) {
+            log.error("Webhook HMAC initialization failed", e);
+            throw new IllegalStateException("Webhook HMAC initialization failed", e);
+        }
+    }
+
+    /**
+     * 스레드별로 재사용하는 Mac과 서명 비교용 버퍼.
+     */
+    private static final class HmacContext {
+        private final Mac mac;
+        private final byte[] expected;
+        private final byte[] received;
+        private int bodyLength;
+
+        private HmacContext(Mac mac) {
+            this.mac = mac;
+            this.expected = new byte[mac.getMacLength()];
+            this.received = new byte[mac.getMacLength()];
         }
-        return result == 0;
     }
 }
@@ -0,0 +1,73 @@
+package com.example.echoshotx.shared.security.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * webhook_nonce_record JDBC 배치 리포지토리.
+ *
+ * <p>Redis 장애 시 여러 요청의 nonce를 모아 한 번의 조회와 한 번의 배치 INSERT로 기록한다.
+ * 만료는 expire_bucket 인덱스로 버킷 단위 삭제한다. expire_bucket 컬럼 추가 전에 기록된 행(NULL)은 expires_at으로 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WebhookNonceJdbcRepository {
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO webhook_nonce_record (nonce, expire_bucket, expires_at, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM webhook_nonce_record
+             WHERE expire_bucket < ?
+                OR (expire_bucket IS NULL AND expires_at < ?)
+             LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 기록된 nonce 조회.
+     */
+    public Set<String> findExisting(List<String> nonces) {
+        String placeholders = String.join(",", Collections.nCopies(nonces.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT nonce FROM webhook_nonce_record WHERE nonce IN (" + placeholders + ")",
+                String.class,
+                nonces.toArray()));
+    }
+
+    /**
+     * nonce 일괄 기록. 이미 있는 nonce는 무시된다.
+     *
+     * @return nonce별 반영 행 수 (0이면 중복, 드라이버가 배치를 재작성하면 SUCCESS_NO_INFO)
+     */
+    public int[] batchInsertIgnore(
+            List<String> nonces, long expireBucket, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        Timestamp expires = Timestamp.valueOf(expiresAt);
+        int[][] result = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, nonces, nonces.size(), (ps, nonce) -> {
+            ps.setString(1, nonce);
+            ps.setLong(2, expireBucket);
+            ps.setTimestamp(3, expires);
+            ps.setTimestamp(4, created);
+        });
+        return Arrays.stream(result).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    /**
+     * 만료 버킷(버킷이 없는 이전 행은 만료 시각 기준) 삭제. 한 번에 limit 행까지만 지워 긴 락을 피한다.
+     */
+    public int deleteExpiredBuckets(long currentBucket, LocalDateTime now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, currentBucket, Timestamp.valueOf(now), limit);
+    }
+}
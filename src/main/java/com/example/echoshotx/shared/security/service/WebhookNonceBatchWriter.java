@@ -0,0 +1,141 @@
+package com.example.echoshotx.shared.security.service;
+
+import com.example.echoshotx.shared.security.config.WebhookSecurityProperties;
+import com.example.echoshotx.shared.security.infrastructure.WebhookNonceJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis를 쓸 수 없을 때 nonce를 DB에 기록하는 group commit 작성기.
+ *
+ * <p>요청 스레드는 nonce를 큐에 넣고 결과를 기다리며, 단일 작성 스레드가 최대 dbBatchSize개를 모아
+ * 중복 조회 한 번과 배치 INSERT 한 번으로 처리한다. Redis 장애가 요청 수만큼의 DB 왕복으로 번지지 않는다.
+ */
+@Slf4j
+@Component
+public class WebhookNonceBatchWriter {
+
+    private static final long RESULT_TIMEOUT_MS = 5_000;
+
+    private final WebhookNonceJdbcRepository nonceJdbcRepository;
+    private final WebhookNonceLocalFilter localFilter;
+    private final WebhookSecurityProperties properties;
+    private final BlockingQueue<PendingNonce> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WebhookNonceBatchWriter(
+            WebhookNonceJdbcRepository nonceJdbcRepository,
+            WebhookNonceLocalFilter localFilter,
+            WebhookSecurityProperties properties) {
+        this.nonceJdbcRepository = nonceJdbcRepository;
+        this.localFilter = localFilter;
+        this.properties = properties;
+        this.writer = new Thread(this::runLoop, "webhook-nonce-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * nonce를 DB에 기록한다.
+     *
+     * @return 새로 기록했으면 true, 이미 있으면 false
+     */
+    public boolean register(String nonce) {
+        PendingNonce pending = new PendingNonce(nonce, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            return pending.result().get(RESULT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while registering webhook nonce", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Webhook nonce registration failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+    }
+
+    private void runLoop() {
+        List<PendingNonce> batch = new ArrayList<>();
+        while (running) {
+            try {
+                PendingNonce first = queue.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getNonceDbMaxWaitMillis());
+                int batchSize = Math.max(1, properties.getNonceDbBatchSize());
+                while (batch.size() < batchSize) {
+                    PendingNonce next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        PendingNonce remaining;
+        while ((remaining = queue.poll()) != null) {
+            remaining.result().completeExceptionally(new IllegalStateException("Webhook nonce writer stopped"));
+        }
+    }
+
+    void flush(List<PendingNonce> batch) {
+        try {
+            List<String> nonces = new ArrayList<>(batch.size());
+            List<PendingNonce> candidates = new ArrayList<>(batch.size());
+            Set<String> existing = nonceJdbcRepository.findExisting(batch.stream().map(PendingNonce::nonce).toList());
+            for (PendingNonce pending : batch) {
+                // 같은 배치 안의 중복은 로컬 필터가 이미 걸렀지만, 다른 노드에서 기록한 nonce는 여기서 걸린다
+                if (existing.contains(pending.nonce()) || nonces.contains(pending.nonce())) {
+                    pending.result().complete(false);
+                } else {
+                    nonces.add(pending.nonce());
+                    candidates.add(pending);
+                }
+            }
+            if (nonces.isEmpty()) {
+                return;
+            }
+
+            long nowMillis = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+            int[] counts = nonceJdbcRepository.batchInsertIgnore(
+                    nonces,
+                    localFilter.expireBucketOf(nowMillis),
+                    now,
+                    now.plusSeconds(properties.getNonceRetentionSeconds()));
+            for (int i = 0; i < candidates.size(); i++) {
+                int count = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+                candidates.get(i).result().complete(count != 0);
+            }
+        } catch (RuntimeException e) {
+            log.error("Webhook nonce batch write failed. size={}", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    record PendingNonce(String nonce, CompletableFuture<Boolean> result) {
+    }
+}
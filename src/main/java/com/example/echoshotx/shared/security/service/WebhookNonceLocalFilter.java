@@ -0,0 +1,87 @@
+package com.example.echoshotx.shared.security.service;
+
+import com.example.echoshotx.shared.security.config.WebhookSecurityProperties;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * nonce 재전송 검사의 로컬 1차 계층.
+ *
+ * <p>수신 시각 기준 bucketSeconds 단위의 버킷(Set)에 nonce를 기록하고, 보관 기간을 덮는 버킷만 조회한다.
+ * 만료는 버킷 단위로 통째로 버리므로 개별 만료 처리가 없다.
+ * 현재 버킷에 먼저 추가한 뒤 이전 버킷을 확인하므로, 같은 nonce가 버킷 경계에서 동시에 들어와도 하나만 통과한다.
+ */
+@Component
+public class WebhookNonceLocalFilter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    public WebhookNonceLocalFilter(WebhookSecurityProperties properties) {
+        long bucketSeconds = Math.max(1, properties.getNonceBucketSeconds());
+        this.bucketMillis = bucketSeconds * 1000;
+        this.bucketCount = (int) ((properties.getNonceRetentionSeconds() + bucketSeconds - 1) / bucketSeconds) + 1;
+    }
+
+    /**
+     * 처음 보는 nonce면 기록하고 true, 보관 기간 안에 이미 본 nonce면 false.
+     */
+    public boolean markIfAbsent(String nonce) {
+        return markIfAbsent(nonce, System.currentTimeMillis());
+    }
+
+    boolean markIfAbsent(String nonce, long nowMillis) {
+        long current = nowMillis / bucketMillis;
+        if (!buckets.computeIfAbsent(current, key -> ConcurrentHashMap.newKeySet()).add(nonce)) {
+            return false;
+        }
+        for (long bucket = current - bucketCount + 1; bucket < current; bucket++) {
+            Set<String> nonces = buckets.get(bucket);
+            if (nonces != null && nonces.contains(nonce)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기록한 nonce를 지운다. 뒤 계층에서 등록에 실패해 요청이 처리되지 않았을 때 사용한다.
+     */
+    public void unmark(String nonce) {
+        buckets.values().forEach(nonces -> nonces.remove(nonce));
+    }
+
+    /**
+     * 보관 기간이 지난 버킷을 버린다.
+     *
+     * @return 버린 버킷 수
+     */
+    public int dropExpiredBuckets() {
+        return dropExpiredBuckets(System.currentTimeMillis());
+    }
+
+    int dropExpiredBuckets(long nowMillis) {
+        long oldestLive = nowMillis / bucketMillis - bucketCount + 1;
+        int before = buckets.size();
+        buckets.keySet().removeIf(bucket -> bucket < oldestLive);
+        return before - buckets.size();
+    }
+
+    /**
+     * DB에 기록할 만료 버킷 번호 (이 번호보다 작은 버킷은 통째로 삭제 대상).
+     */
+    public long expireBucketOf(long nowMillis) {
+        return nowMillis / bucketMillis + bucketCount;
+    }
+
+    public long currentBucket(long nowMillis) {
+        return nowMillis / bucketMillis;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+}
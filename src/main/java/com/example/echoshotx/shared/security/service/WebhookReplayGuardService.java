@@ -1,57 +1,113 @@
 package com.example.echoshotx.shared.security.service;
 
 import com.example.echoshotx.shared.redis.service.RedisService;
-import com.example.echoshotx.shared.security.domain.WebhookNonceRecord;
-import com.example.echoshotx.shared.security.infrastructure.WebhookNonceRepository;
+import com.example.echoshotx.shared.security.config.WebhookSecurityProperties;
+import com.example.echoshotx.shared.security.infrastructure.WebhookNonceJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 웹훅 nonce 재전송 방지.
+ *
+ * <p>1차로 로컬 버킷 필터에서 같은 노드의 재전송을 Redis 왕복 없이 거르고, 처음 보는 nonce만 Redis SETNX로
+ * 노드 간 중복을 확인한다. Redis 오류 시에는 backoff 동안 Redis를 건너뛰고 DB group commit 경로를 사용한다.
+ * Redis와 DB가 모두 nonce를 받지 못하고 예외가 나면 로컬 기록도 지워, 같은 요청의 재시도가 재전송으로 거부되지 않게 한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WebhookReplayGuardService {
 
     private static final String NONCE_PREFIX = "webhook:nonce:";
-    private static final Duration NONCE_TTL = Duration.ofMinutes(5);
+    private static final int CLEANUP_DELETE_LIMIT = 5_000;
 
     private final RedisService redisService;
-    private final WebhookNonceRepository nonceRepository;
+    private final WebhookNonceLocalFilter localFilter;
+    private final WebhookNonceBatchWriter nonceBatchWriter;
+    private final WebhookNonceJdbcRepository nonceJdbcRepository;
+    private final WebhookSecurityProperties properties;
+    private final Counter localRejectedCounter;
+    private final Counter redisRejectedCounter;
+    private final Counter dbRejectedCounter;
+
+    private volatile long redisRetryAtMillis;
+
+    public WebhookReplayGuardService(
+            RedisService redisService,
+            WebhookNonceLocalFilter localFilter,
+            WebhookNonceBatchWriter nonceBatchWriter,
+            WebhookNonceJdbcRepository nonceJdbcRepository,
+            WebhookSecurityProperties properties,
+            MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.localFilter = localFilter;
+        this.nonceBatchWriter = nonceBatchWriter;
+        this.nonceJdbcRepository = nonceJdbcRepository;
+        this.properties = properties;
+        this.localRejectedCounter = rejectedCounter(meterRegistry, "local");
+        this.redisRejectedCounter = rejectedCounter(meterRegistry, "redis");
+        this.dbRejectedCounter = rejectedCounter(meterRegistry, "db");
+    }
 
-    @Transactional
     public boolean registerNonce(String nonce) {
-        String key = NONCE_PREFIX + nonce;
+        if (!localFilter.markIfAbsent(nonce)) {
+            localRejectedCounter.increment();
+            return false;
+        }
 
         try {
-            if (!redisService.setIfAbsent(key, "1", NONCE_TTL)) {
-                return false;
-            }
-            return true;
+            return registerRemote(nonce);
         } catch (RuntimeException e) {
-            log.warn("Redis nonce registration failed. fallback to DB. nonce={}", nonce, e);
+            localFilter.unmark(nonce);
+            throw e;
         }
+    }
 
-        if (nonceRepository.existsByNonce(nonce)) {
-            return false;
+    private boolean registerRemote(String nonce) {
+        if (System.currentTimeMillis() >= redisRetryAtMillis) {
+            try {
+                if (!redisService.setIfAbsent(
+                        NONCE_PREFIX + nonce, "1", Duration.ofSeconds(properties.getNonceRetentionSeconds()))) {
+                    redisRejectedCounter.increment();
+                    return false;
+                }
+                return true;
+            } catch (RuntimeException e) {
+                redisRetryAtMillis = System.currentTimeMillis() + properties.getNonceRedisBackoffMillis();
+                log.warn("Redis nonce registration failed. fallback to DB for {}ms. nonce={}",
+                        properties.getNonceRedisBackoffMillis(), nonce, e);
+            }
         }
 
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            nonceRepository.save(WebhookNonceRecord.create(nonce, now, now.plus(NONCE_TTL)));
-            return true;
-        } catch (DataIntegrityViolationException e) {
+        if (!nonceBatchWriter.register(nonce)) {
+            dbRejectedCounter.increment();
             return false;
         }
+        return true;
     }
 
-    @Scheduled(cron = "0 */10 * * * *")
-    @Transactional
+    /**
+     * 만료 버킷 정리. 로컬 필터는 버킷을 통째로 버리고, DB는 expire_bucket 인덱스로 나눠 삭제한다.
+     */
+    @Scheduled(cron = "0 * * * * *")
     public void cleanupExpiredNonces() {
-        nonceRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        localFilter.dropExpiredBuckets();
+        long currentBucket = localFilter.currentBucket(System.currentTimeMillis());
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        do {
+            deleted = nonceJdbcRepository.deleteExpiredBuckets(currentBucket, now, CLEANUP_DELETE_LIMIT);
+        } while (deleted == CLEANUP_DELETE_LIMIT);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("webhook.nonce.rejected")
+                .description("Webhook requests rejected as nonce replays")
+                .tag("tier", tier)
+                .register(meterRegistry);
     }
 }
@@ -4,8 +4,11 @@ import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.domain.entity.VideoStatus;
 import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
 import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressTarget;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressView;
 import com.example.echoshotx.video.infrastructure.persistence.VideoRepository;
 import com.example.echoshotx.shared.annotation.adaptor.Adaptor;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +37,43 @@ public class VideoAdaptor {
                 .orElseThrow(() -> new VideoHandler(VideoErrorStatus.VIDEO_NOT_FOUND));
     }
 
+    /**
+     * 여러 영상을 id 순서로 잠가서 조회 (없는 id는 결과에서 빠짐)
+     */
+    public List<Video> queryAllByIdsWithLock(Collection<Long> videoIds) {
+        return videoRepository.findAllByIdInWithLock(videoIds);
+    }
+
+    /**
+     * 여러 영상을 잠금 없이 조회 (없는 id는 결과에서 빠짐)
+     */
+    public List<Video> queryAllByIds(Collection<Long> videoIds) {
+        return videoRepository.findAllById(videoIds);
+    }
+
+    /**
+     * 업로드 추적 ID로 여러 영상 조회 (없는 id는 결과에서 빠짐)
+     */
+    public List<Video> queryAllByUploadIds(Collection<String> uploadIds) {
+        return videoRepository.findAllByUploadIdIn(uploadIds);
+    }
+
+    /**
+     * 진행률 처리용 소유자/상태만 조회
+     */
+    public VideoProgressTarget queryProgressTarget(Long videoId) {
+        return videoRepository.findProgressTargetById(videoId)
+                .orElseThrow(() -> new VideoHandler(VideoErrorStatus.VIDEO_NOT_FOUND));
+    }
+
+    /**
+     * 진행률 조회 API용 진행률 컬럼만 조회
+     */
+    public VideoProgressView queryProgressView(Long videoId) {
+        return videoRepository.findProgressViewById(videoId)
+                .orElseThrow(() -> new VideoHandler(VideoErrorStatus.VIDEO_NOT_FOUND));
+    }
+
     /**
      * 회원별 특정 상태의 영상 목록 조회
      */
@@ -0,0 +1,16 @@
+package com.example.echoshotx.video.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PresignedPartUploadUrl {
+
+    private int partNumber;
+    private String uploadUrl;
+    private LocalDateTime expiresAt;
+
+}
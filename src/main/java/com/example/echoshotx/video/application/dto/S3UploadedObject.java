@@ -0,0 +1,11 @@
+package com.example.echoshotx.video.application.dto;
+
+/**
+ * S3 ObjectCreated 이벤트로 확인된 업로드 객체.
+ *
+ * @param bucket 버킷 이름
+ * @param key    URL 디코딩된 객체 키
+ * @param size   객체 크기 (bytes)
+ */
+public record S3UploadedObject(String bucket, String key, long size) {
+}
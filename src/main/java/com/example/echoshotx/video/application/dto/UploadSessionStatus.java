@@ -0,0 +1,20 @@
+package com.example.echoshotx.video.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * 멀티파트 업로드 이어 올리기 상태.
+ */
+@Getter
+@Builder
+public class UploadSessionStatus {
+
+    private SortedMap<Integer, String> completedParts;   // 파트 번호 → ETag
+    private List<Integer> missingPartNumbers;            // 아직 올리지 않은 파트 번호 (오름차순)
+    private List<PresignedPartUploadUrl> parts;          // 다음에 올릴 파트 URL
+
+}
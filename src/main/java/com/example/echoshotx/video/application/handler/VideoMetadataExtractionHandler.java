@@ -0,0 +1,32 @@
+package com.example.echoshotx.video.application.handler;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingStartedEvent;
+import com.example.echoshotx.video.application.service.VideoMetadataExtractionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 처리 시작이 커밋된 영상의 원본 메타데이터를 비동기로 추출한다.
+ * 업로드 완료 응답 경로에서 S3를 읽지 않으므로 완료 지연에 영향이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoMetadataExtractionHandler {
+
+    private final VideoMetadataExtractionService videoMetadataExtractionService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStarted(VideoProcessingStartedEvent event) {
+        try {
+            videoMetadataExtractionService.extract(event.getVideoId());
+        } catch (RuntimeException e) {
+            log.warn("Metadata extraction skipped: videoId={}, error={}", event.getVideoId(), e.getMessage());
+        }
+    }
+}
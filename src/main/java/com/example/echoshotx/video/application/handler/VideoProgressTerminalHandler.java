@@ -0,0 +1,48 @@
+package com.example.echoshotx.video.application.handler;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingCompletedEvent;
+import com.example.echoshotx.notification.application.event.VideoProcessingFailedEvent;
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore;
+import com.example.echoshotx.video.application.service.VideoProgressWriteBehindBuffer;
+import com.example.echoshotx.video.infrastructure.redis.VideoProgressTerminalBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 완료/실패가 커밋된 비디오의 진행률 상태를 종료 처리한다.
+ * 이후 늦게 도착한 진행률 메시지는 DB 조회 없이 걸러지고, 아직 반영되지 않은 write-behind 값과
+ * 진행률 스냅샷은 버려진다 (조회 API는 DB의 최종 상태를 응답).
+ * 상태 테이블(메모리 저장소)·write-behind 버퍼·스냅샷은 노드마다 따로 있으므로 다른 노드에도 종료를 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoProgressTerminalHandler {
+
+    private final VideoProgressStateStore videoProgressStateStore;
+    private final VideoProgressWriteBehindBuffer videoProgressWriteBehindBuffer;
+    private final VideoProgressSnapshotCache videoProgressSnapshotCache;
+    private final VideoProgressTerminalBroadcaster videoProgressTerminalBroadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCompleted(VideoProcessingCompletedEvent event) {
+        markTerminal(event.getVideoId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFailed(VideoProcessingFailedEvent event) {
+        markTerminal(event.getVideoId());
+    }
+
+    private void markTerminal(Long videoId) {
+        videoProgressStateStore.markTerminal(videoId);
+        videoProgressWriteBehindBuffer.discard(videoId);
+        videoProgressSnapshotCache.evict(videoId);
+        videoProgressTerminalBroadcaster.publish(videoId);
+        log.debug("Progress state marked terminal: videoId={}", videoId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 비관락 (db-pessimistic). 영상 행을 SELECT ... FOR UPDATE로 잠가 트랜잭션 끝까지 직렬화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DbPessimisticLockStrategy implements LockStrategy {
+
+    public static final String NAME = "db-pessimistic";
+
+    private final VideoTransitionExecutor videoTransitionExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        return videoTransitionExecutor.executeWithLock(videoId, transition);
+    }
+}
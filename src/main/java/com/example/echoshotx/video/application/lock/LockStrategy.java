@@ -0,0 +1,21 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.video.domain.entity.Video;
+import java.util.function.Function;
+
+/**
+ * 업로드 완료 전환의 동시성 제어 전략.
+ *
+ * <p>구현체는 잠금 획득/해제와 영상 조회 방식을 정하고, 전환 작업(상태 변경 + 크레딧 차감 + outbox 기록)을
+ * 한 트랜잭션으로 실행한다. 사용할 전략은 app.video.complete-upload.lock-strategy로 선택하며,
+ * 비어 있으면 app.video.transition.lock-mode에서 정한다 ({@link LockStrategyRegistry}).
+ */
+public interface LockStrategy {
+
+    /**
+     * 설정에서 사용하는 전략 이름.
+     */
+    String name();
+
+    <T> T execute(Long videoId, Function<Video, T> transition);
+}
@@ -0,0 +1,56 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 이름으로 LockStrategy를 찾는다. 설정 값은 호출마다 읽으므로 런타임에 전략을 바꿀 수 있다.
+ *
+ * <p>업로드 완료 전략은 app.video.complete-upload.lock-strategy가 비어 있으면
+ * 웹훅 전환과 같은 app.video.transition.lock-mode에서 정한다 (optimistic → optimistic, pessimistic → redis+db).
+ * lock-strategy를 지정하면 업로드 완료에만 그 전략을 쓰고, 웹훅 전환은 계속 lock-mode를 따른다.
+ */
+@Component
+public class LockStrategyRegistry {
+
+    private final Map<String, LockStrategy> strategies = new HashMap<>();
+    private final VideoProps videoProps;
+
+    public LockStrategyRegistry(List<LockStrategy> strategies, VideoProps videoProps) {
+        for (LockStrategy strategy : strategies) {
+            this.strategies.put(strategy.name(), strategy);
+        }
+        this.videoProps = videoProps;
+        current();
+    }
+
+    /**
+     * 업로드 완료에 쓸 전략. lock-strategy가 없으면 transition.lock-mode에서 정한다.
+     */
+    public LockStrategy current() {
+        return get(currentName());
+    }
+
+    String currentName() {
+        String configured = videoProps.getCompleteUpload().getLockStrategy();
+        if (StringUtils.hasText(configured)) {
+            return configured;
+        }
+        return OptimisticLockStrategy.NAME.equalsIgnoreCase(videoProps.getTransition().getLockMode())
+                ? OptimisticLockStrategy.NAME
+                : RedisDbLockStrategy.NAME;
+    }
+
+    public LockStrategy get(String name) {
+        LockStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalStateException(
+                    "Unknown complete-upload lock strategy: " + name + " (available: " + strategies.keySet() + ")");
+        }
+        return strategy;
+    }
+}
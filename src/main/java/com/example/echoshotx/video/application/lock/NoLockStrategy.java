@@ -0,0 +1,32 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잠금 없이 실행 (none).
+ *
+ * <p>동시 요청은 모두 같은 상태를 읽고 진행하며, 커밋 시 @Version 검사에서 하나만 남고 나머지는 충돌로 실패한다.
+ * 비교 기준선 용도.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoLockStrategy implements LockStrategy {
+
+    public static final String NAME = "none";
+
+    private final VideoTransitionExecutor videoTransitionExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        return videoTransitionExecutor.executeWithoutLock(videoId, transition);
+    }
+}
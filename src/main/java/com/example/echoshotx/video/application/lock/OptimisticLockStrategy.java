@@ -0,0 +1,29 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관락 (optimistic). 잠금 없이 읽고 @Version 충돌 시 app.video.transition.max-retries만큼 다시 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockStrategy implements LockStrategy {
+
+    public static final String NAME = "optimistic";
+
+    private final VideoTransitionExecutor videoTransitionExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        return videoTransitionExecutor.executeOptimistic(videoId, transition);
+    }
+}
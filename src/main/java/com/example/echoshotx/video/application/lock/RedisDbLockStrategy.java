@@ -0,0 +1,57 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.shared.redis.service.RedisLock;
+import com.example.echoshotx.shared.redis.service.RedisLockService;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 락 + DB 비관락 (redis+db).
+ *
+ * <p>Redis 락은 중복 요청이 DB 행 락 대기열에 쌓이지 않게 하는 1차 필터이고, 정합성은 DB 비관락이 보장한다.
+ * Redis 락을 얻지 못하거나 Redis 오류가 나도 DB 비관락으로 계속 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisDbLockStrategy implements LockStrategy {
+
+    public static final String NAME = "redis+db";
+
+    private final RedisLockService redisLockService;
+    private final VideoTransitionExecutor videoTransitionExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        String lockKey = RedisLockStrategy.LOCK_KEY_PREFIX + videoId;
+        Optional<RedisLock> lock = tryAcquire(lockKey);
+        if (lock.isEmpty()) {
+            log.info("Redis lock not acquired. continue with DB lock. key={}", lockKey);
+        }
+
+        try {
+            return videoTransitionExecutor.executeWithLock(videoId, transition);
+        } finally {
+            lock.ifPresent(RedisLock::close);
+        }
+    }
+
+    private Optional<RedisLock> tryAcquire(String lockKey) {
+        try {
+            return redisLockService.tryAcquire(lockKey);
+        } catch (RuntimeException e) {
+            log.warn("Redis lock acquire failed. fallback to DB lock. key={}", lockKey, e);
+            return Optional.empty();
+        }
+    }
+}
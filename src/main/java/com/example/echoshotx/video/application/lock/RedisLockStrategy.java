@@ -0,0 +1,59 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.redis.service.RedisLock;
+import com.example.echoshotx.shared.redis.service.RedisLockService;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 분산락 (redis).
+ *
+ * <p>lockWaitMillis 동안 해제 알림을 기다려 락을 얻은 뒤 DB 잠금 없이 실행한다. 대기 시간을 넘기면
+ * VIDEO_TRANSITION_CONFLICT. 전환 작업 도중 lease를 잃었으면 커밋하지 않고 같은 예외로 롤백한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockStrategy implements LockStrategy {
+
+    public static final String NAME = "redis";
+    static final String LOCK_KEY_PREFIX = "video:complete:";
+
+    private final RedisLockService redisLockService;
+    private final VideoTransitionExecutor videoTransitionExecutor;
+    private final VideoProps videoProps;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        String lockKey = LOCK_KEY_PREFIX + videoId;
+        Duration waitTime = Duration.ofMillis(videoProps.getCompleteUpload().getLockWaitMillis());
+
+        try (RedisLock lock = redisLockService.tryAcquire(lockKey, waitTime).orElseThrow(() -> {
+            log.info("Redis lock wait timed out. key={}", lockKey);
+            return new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+        })) {
+            return videoTransitionExecutor.executeWithoutLock(videoId, video -> {
+                T result = transition.apply(video);
+                if (!lock.isHeld()) {
+                    log.warn("Redis lock lost during transition. key={}, fencingToken={}",
+                            lockKey, lock.getFencingToken());
+                    throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.echoshotx.video.application.lock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 내 striped 락 (striped).
+ *
+ * <p>videoId 해시로 고른 ReentrantLock으로 같은 노드 안의 요청만 직렬화한다. 네트워크 왕복이 없지만
+ * 노드 간에는 보호되지 않으므로 다중 인스턴스에서는 커밋 시 @Version 검사에 의존한다.
+ */
+@Component
+public class StripedLockStrategy implements LockStrategy {
+
+    public static final String NAME = "striped";
+
+    private final VideoTransitionExecutor videoTransitionExecutor;
+    private final VideoProps videoProps;
+    private final ReentrantLock[] stripes;
+
+    public StripedLockStrategy(VideoTransitionExecutor videoTransitionExecutor, VideoProps videoProps) {
+        this.videoTransitionExecutor = videoTransitionExecutor;
+        this.videoProps = videoProps;
+        int size = Integer.highestOneBit(Math.max(1, videoProps.getCompleteUpload().getLockStripes() - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        ReentrantLock lock = stripeFor(videoId);
+        acquire(lock);
+        try {
+            return videoTransitionExecutor.executeWithoutLock(videoId, transition);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(Long videoId) {
+        int hash = videoId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(videoProps.getCompleteUpload().getLockWaitMillis(), TimeUnit.MILLISECONDS)) {
+                throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+        }
+    }
+}
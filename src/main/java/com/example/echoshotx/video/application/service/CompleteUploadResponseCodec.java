@@ -0,0 +1,99 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 멱등 응답 저장용 바이너리 인코딩.
+ *
+ * <p>[version][flags][videoId?][status?][message?][sqsMessageId?] 순서로 기록하며, null 필드는 flags 비트로
+ * 표시하고 생략한다. 기본 안내 문구는 비트 하나로 대신한다. JSON(약 150바이트) 대비 30바이트 안팎이다.
+ */
+final class CompleteUploadResponseCodec {
+
+    private static final byte VERSION = 1;
+    private static final String DEFAULT_MESSAGE = "영상 처리가 시작되었습니다.";
+
+    private static final int HAS_VIDEO_ID = 1;
+    private static final int HAS_STATUS = 1 << 1;
+    private static final int HAS_MESSAGE = 1 << 2;
+    private static final int DEFAULT_MESSAGE_FLAG = 1 << 3;
+    private static final int HAS_SQS_MESSAGE_ID = 1 << 4;
+
+    private CompleteUploadResponseCodec() {
+    }
+
+    static byte[] encode(CompleteUploadResponse response) {
+        int flags = 0;
+        if (response.getVideoId() != null) {
+            flags |= HAS_VIDEO_ID;
+        }
+        if (response.getStatus() != null) {
+            flags |= HAS_STATUS;
+        }
+        if (DEFAULT_MESSAGE.equals(response.getMessage())) {
+            flags |= DEFAULT_MESSAGE_FLAG;
+        } else if (response.getMessage() != null) {
+            flags |= HAS_MESSAGE;
+        }
+        if (response.getSqsMessageId() != null) {
+            flags |= HAS_SQS_MESSAGE_ID;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(flags);
+            if ((flags & HAS_VIDEO_ID) != 0) {
+                out.writeLong(response.getVideoId());
+            }
+            if ((flags & HAS_STATUS) != 0) {
+                // ordinal은 enum 순서 변경에 취약하므로 이름으로 기록
+                out.writeUTF(response.getStatus().name());
+            }
+            if ((flags & HAS_MESSAGE) != 0) {
+                out.writeUTF(response.getMessage());
+            }
+            if ((flags & HAS_SQS_MESSAGE_ID) != 0) {
+                out.writeUTF(response.getSqsMessageId());
+            }
+        } catch (IOException e) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_SERIALIZATION_FAILED);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CompleteUploadResponse decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_DESERIALIZATION_FAILED);
+            }
+            int flags = in.readByte();
+            CompleteUploadResponse.CompleteUploadResponseBuilder builder = CompleteUploadResponse.builder();
+            if ((flags & HAS_VIDEO_ID) != 0) {
+                builder.videoId(in.readLong());
+            }
+            if ((flags & HAS_STATUS) != 0) {
+                builder.status(VideoStatus.valueOf(in.readUTF()));
+            }
+            if ((flags & DEFAULT_MESSAGE_FLAG) != 0) {
+                builder.message(DEFAULT_MESSAGE);
+            } else if ((flags & HAS_MESSAGE) != 0) {
+                builder.message(in.readUTF());
+            }
+            if ((flags & HAS_SQS_MESSAGE_ID) != 0) {
+                builder.sqsMessageId(in.readUTF());
+            }
+            return builder.build();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_DESERIALIZATION_FAILED);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 완료 요청의 노드 로컬 single-flight.
+ *
+ * <p>같은 (memberId, videoId, idempotencyKey)로 동시에 들어온 재시도는 먼저 들어온 요청의 결과를 기다렸다가
+ * 같은 응답(또는 같은 예외)을 받는다. 뒤따른 요청은 멱등 조회, Redis 락, DB 락을 거치지 않는다.
+ * 실행이 끝나면 키를 지우므로 이후 요청은 멱등 캐시 경로를 탄다.
+ */
+@Component
+public class CompleteUploadSingleFlight {
+
+    private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    public CompleteUploadSingleFlight(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder("video.complete_upload.coalesced")
+                .description("Complete-upload retries served by an in-flight execution on this node")
+                .register(meterRegistry);
+    }
+
+    public CompleteUploadResponse execute(
+            Long memberId,
+            Long videoId,
+            String idempotencyKey,
+            String requestHash,
+            Supplier<CompleteUploadResponse> call) {
+        FlightKey key = new FlightKey(memberId, videoId, idempotencyKey);
+        Flight flight = new Flight(requestHash, new CompletableFuture<>());
+        Flight existing = flights.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            if (!existing.requestHash().equals(requestHash)) {
+                throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_KEY_CONFLICT);
+            }
+            coalescedCounter.increment();
+            return await(existing.result());
+        }
+
+        try {
+            CompleteUploadResponse response = call.get();
+            flight.result().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    int inFlightCount() {
+        return flights.size();
+    }
+
+    private static CompleteUploadResponse await(CompletableFuture<CompleteUploadResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record FlightKey(Long memberId, Long videoId, String idempotencyKey) {
+    }
+
+    private record Flight(String requestHash, CompletableFuture<CompleteUploadResponse> result) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
+import com.example.echoshotx.video.application.dto.UploadSessionStatus;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 대용량 영상의 S3 멀티파트 presigned 업로드.
+ *
+ * <p>클라이언트는 파트별 presigned PUT URL로 여러 파트를 병렬 업로드하고, 실패한 파트만 다시 올린다.
+ * URL이 만료되면 재발급받으며, complete-upload에서 파트 ETag 목록으로 CompleteMultipartUpload를 호출한다.
+ * 완료되지 않은 업로드의 파트는 S3 요금이 계속 나가므로 sweeper가 abandonAfterMillis 이후 중단한다.
+ *
+ * <p>클라이언트가 올린 파트를 알려주면 {@link UploadSessionStore}에 기록해 두고, 앱 재시작 후 세션 상태 조회로
+ * 빠진 파트만 이어 올린다. 세션이 없으면 S3 ListParts로 다시 채우며, complete-upload에 파트 목록이 없으면 기록된 파트로 조립한다.
+ */
+@Slf4j
+@Service
+public class MultipartUploadService {
+
+    /** S3 멀티파트 업로드의 최대 파트 수 */
+    static final int MAX_PARTS = 10_000;
+    private static final String ORIGINAL_KEY_PREFIX = "videos/";
+
+    private final AwsS3Service awsS3Service;
+    private final UploadSessionStore uploadSessionStore;
+    private final VideoProps.Multipart config;
+
+    public MultipartUploadService(
+            AwsS3Service awsS3Service, UploadSessionStore uploadSessionStore, VideoProps videoProps) {
+        this.awsS3Service = awsS3Service;
+        this.uploadSessionStore = uploadSessionStore;
+        this.config = videoProps.getMultipart();
+    }
+
+    /**
+     * 멀티파트로 업로드할지 여부. 클라이언트가 요청했거나 파일이 임계 크기 이상이면 멀티파트.
+     */
+    public boolean shouldUseMultipart(Boolean requested, long fileSizeBytes) {
+        return config.isEnabled() && (Boolean.TRUE.equals(requested) || fileSizeBytes >= config.getThresholdBytes());
+    }
+
+    /**
+     * 멀티파트 업로드 만료 시각 (sweeper가 중단하기 전까지 이어 올릴 수 있다).
+     */
+    public Date expiresAt() {
+        return new Date(System.currentTimeMillis() + config.getAbandonAfterMillis());
+    }
+
+    /**
+     * S3 멀티파트 업로드를 시작하고 앞쪽 파트 URL을 발급한다.
+     */
+    public List<PresignedPartUploadUrl> start(Video video, String contentType) {
+        long fileSizeBytes = video.getOriginalFile().getFileSizeBytes();
+        String multipartUploadId = awsS3Service.initiateMultipartUpload(
+                video.getOriginalFile().getS3Key(), contentType, fileSizeBytes);
+        video.startMultipartUpload(multipartUploadId, partSizeFor(fileSizeBytes));
+
+        int initialParts = Math.min(Math.max(1, config.getInitialPartUrls()), video.getMultipartPartCount());
+        return generatePartUrls(video, IntStream.rangeClosed(1, initialParts).boxed().toList());
+    }
+
+    /**
+     * 파트 URL 재발급 (만료 또는 이어 올리기).
+     */
+    public List<PresignedPartUploadUrl> refreshPartUrls(Video video, List<Integer> partNumbers) {
+        validateResumable(video);
+        if (partNumbers.size() > config.getMaxPartUrlsPerRequest()) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_MULTIPART_TOO_MANY_PART_URLS);
+        }
+        int partCount = video.getMultipartPartCount();
+        List<Integer> sorted = partNumbers.stream().distinct().sorted().toList();
+        if (sorted.isEmpty() || sorted.get(0) < 1 || sorted.get(sorted.size() - 1) > partCount) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_PART_NUMBER);
+        }
+        return generatePartUrls(video, sorted);
+    }
+
+    /**
+     * 업로드가 끝난 파트를 세션에 기록한다.
+     */
+    public UploadSessionStatus recordUploadedParts(Video video, List<CompleteUploadRequest.Part> parts) {
+        validateResumable(video);
+        SortedMap<Integer, String> eTags = toETagMap(parts);
+        if (eTags.firstKey() < 1 || eTags.lastKey() > video.getMultipartPartCount()) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_PART_NUMBER);
+        }
+        uploadSessionStore.recordParts(video, eTags);
+        return getSessionStatus(video);
+    }
+
+    /**
+     * 이어 올리기 상태: 완료된 파트, 빠진 파트, 다음에 올릴 파트 URL.
+     */
+    public UploadSessionStatus getSessionStatus(Video video) {
+        validateResumable(video);
+        int partCount = video.getMultipartPartCount();
+        SortedMap<Integer, String> completed = new TreeMap<>(trackedParts(video).headMap(partCount + 1));
+        List<Integer> missing = IntStream.rangeClosed(1, partCount)
+                .filter(partNumber -> !completed.containsKey(partNumber))
+                .boxed()
+                .toList();
+        List<Integer> next = missing.subList(0, Math.min(missing.size(), Math.max(1, config.getInitialPartUrls())));
+        return UploadSessionStatus.builder()
+                .completedParts(completed)
+                .missingPartNumbers(missing)
+                .parts(next.isEmpty() ? List.of() : generatePartUrls(video, next))
+                .build();
+    }
+
+    /**
+     * 멀티파트 업로드 영상이면 파트를 조립해 S3 객체를 만든다.
+     *
+     * <p>파트 목록이 없으면 이어 올리기 세션에 기록된 파트로 조립하고,
+     * 이미 조립된 업로드(재시도, S3 이벤트 경로)는 파트 없이도 통과한다.
+     * S3 호출은 DB 트랜잭션 밖에서 해야 하므로 업로드 완료 전이 전에 호출한다.
+     */
+    public void completeIfMultipart(Video video, List<CompleteUploadRequest.Part> parts) {
+        if (!video.isMultipartUpload() || video.getStatus() != VideoStatus.PENDING_UPLOAD) {
+            return;
+        }
+        String s3Key = video.getOriginalFile().getS3Key();
+        int partCount = video.getMultipartPartCount();
+        SortedMap<Integer, String> eTags;
+        if (parts == null || parts.isEmpty()) {
+            eTags = uploadSessionStore.findParts(video).orElseGet(TreeMap::new);
+            if (!coversAllParts(eTags, partCount)) {
+                if (awsS3Service.doesObjectExist(s3Key)) {
+                    uploadSessionStore.delete(video);
+                    return;
+                }
+                throw new VideoHandler(VideoErrorStatus.VIDEO_MULTIPART_PARTS_REQUIRED);
+            }
+        } else {
+            eTags = toETagMap(parts);
+            if (!coversAllParts(eTags, partCount)) {
+                throw new VideoHandler(VideoErrorStatus.VIDEO_MULTIPART_PARTS_REQUIRED);
+            }
+        }
+
+        awsS3Service.completeMultipartUpload(s3Key, video.getMultipartUploadId(), eTags);
+        uploadSessionStore.delete(video);
+        log.info("Multipart upload completed: videoId={}, parts={}", video.getId(), partCount);
+    }
+
+    /**
+     * 오래된 미완료 멀티파트 업로드 중단.
+     */
+    @Scheduled(cron = "${app.video.multipart.sweep-cron:0 30 * * * *}")
+    public void abortAbandonedUploads() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Date cutoff = new Date(System.currentTimeMillis() - config.getAbandonAfterMillis());
+            int aborted = awsS3Service.abortMultipartUploadsInitiatedBefore(ORIGINAL_KEY_PREFIX, cutoff);
+            if (aborted > 0) {
+                log.info("Aborted abandoned multipart uploads: count={}", aborted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to sweep abandoned multipart uploads", e);
+        }
+    }
+
+    long partSizeFor(long fileSizeBytes) {
+        long minimumForPartLimit = (fileSizeBytes + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(config.getPartSizeBytes(), minimumForPartLimit);
+    }
+
+    private void validateResumable(Video video) {
+        if (!video.isMultipartUpload()) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_NOT_MULTIPART_UPLOAD);
+        }
+        if (video.getStatus() != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_ALREADY_PROCESSED);
+        }
+        if (video.isUploadSessionExpired(LocalDateTime.now())) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_UPLOAD_SESSION_EXPIRED);
+        }
+    }
+
+    /**
+     * 세션에 기록된 파트. 세션이 없으면(만료 전 Redis 유실, 기록 누락) S3에 올라간 파트로 다시 채운다.
+     */
+    private SortedMap<Integer, String> trackedParts(Video video) {
+        return uploadSessionStore.findParts(video).orElseGet(() -> {
+            SortedMap<Integer, String> uploaded = awsS3Service.listUploadedParts(
+                    video.getOriginalFile().getS3Key(), video.getMultipartUploadId());
+            uploadSessionStore.recordParts(video, uploaded);
+            return uploaded;
+        });
+    }
+
+    private static SortedMap<Integer, String> toETagMap(List<CompleteUploadRequest.Part> parts) {
+        SortedMap<Integer, String> eTags = new TreeMap<>();
+        parts.forEach(part -> eTags.put(part.getPartNumber(), part.getEtag()));
+        return eTags;
+    }
+
+    private static boolean coversAllParts(Map<Integer, String> eTags, int partCount) {
+        return eTags.size() == partCount
+                && eTags.keySet().stream().allMatch(partNumber -> partNumber >= 1 && partNumber <= partCount)
+                && eTags.values().stream().allMatch(StringUtils::hasText);
+    }
+
+    private List<PresignedPartUploadUrl> generatePartUrls(Video video, List<Integer> partNumbers) {
+        return awsS3Service.generateUploadPartUrls(
+                video.getOriginalFile().getS3Key(),
+                video.getMultipartUploadId(),
+                partNumbers,
+                config.getPartUrlTtlMillis());
+    }
+}
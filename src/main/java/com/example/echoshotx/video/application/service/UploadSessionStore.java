@@ -0,0 +1,89 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.entity.Video;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이어 올리기 세션 저장소 (uploadId 단위 Redis 해시: 파트 번호 → ETag).
+ *
+ * <p>세션 키는 영상의 presignedUrlExpiresAt에 맞춰 만료된다. Redis 오류나 세션 유실은 "세션 없음"으로 취급하며,
+ * 호출 쪽은 S3 ListParts로 다시 채운다. 따라서 여기에 기록하지 못해도 업로드된 파트는 잃지 않는다.
+ */
+@Slf4j
+@Component
+public class UploadSessionStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoProps.Multipart config;
+
+    public UploadSessionStore(StringRedisTemplate stringRedisTemplate, VideoProps videoProps) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.config = videoProps.getMultipart();
+    }
+
+    /**
+     * 업로드가 끝난 파트를 기록한다. 같은 파트를 다시 올렸으면 ETag를 덮어쓴다.
+     */
+    public void recordParts(Video video, Map<Integer, String> eTagsByPartNumber) {
+        if (eTagsByPartNumber.isEmpty()) {
+            return;
+        }
+        String key = redisKey(video);
+        Map<String, String> fields = new HashMap<>();
+        eTagsByPartNumber.forEach((partNumber, eTag) -> fields.put(String.valueOf(partNumber), eTag));
+        try {
+            stringRedisTemplate.opsForHash().putAll(key, fields);
+            stringRedisTemplate.expireAt(key, expiresAt(video));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record upload session parts: videoId={}, error={}", video.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기록된 파트 조회. 세션이 없거나 Redis를 읽지 못하면 empty.
+     */
+    public Optional<SortedMap<Integer, String>> findParts(Video video) {
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(redisKey(video));
+            if (entries == null || entries.isEmpty()) {
+                return Optional.empty();
+            }
+            SortedMap<Integer, String> eTagsByPartNumber = new TreeMap<>();
+            entries.forEach((partNumber, eTag) ->
+                    eTagsByPartNumber.put(Integer.valueOf(partNumber.toString()), eTag.toString()));
+            return Optional.of(eTagsByPartNumber);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read upload session: videoId={}, error={}", video.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void delete(Video video) {
+        try {
+            stringRedisTemplate.delete(redisKey(video));
+        } catch (RuntimeException e) {
+            log.debug("Failed to delete upload session: videoId={}, error={}", video.getId(), e.getMessage());
+        }
+    }
+
+    private Date expiresAt(Video video) {
+        if (video.getPresignedUrlExpiresAt() == null) {
+            return new Date(System.currentTimeMillis() + config.getAbandonAfterMillis());
+        }
+        return Date.from(video.getPresignedUrlExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private String redisKey(Video video) {
+        return config.getSessionKeyPrefix() + video.getUploadId();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.credit.application.service.CreditService;
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import com.example.echoshotx.video.infrastructure.media.ContainerMetadataExtractor;
+import com.example.echoshotx.video.infrastructure.media.S3RangeReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드된 원본의 메타데이터를 서버에서 확인한다.
+ *
+ * <p>complete-upload의 메타데이터(길이, 해상도, 코덱 등)는 클라이언트가 보낸 값이다. 처리 시작 후 비동기로
+ * 컨테이너 헤더만 ranged GET으로 읽어 원본 메타데이터를 추출한 값으로 덮어쓰고(추출하지 못한 필드는 클라이언트 값 유지),
+ * 크레딧 계산에 쓰인 길이가 durationTolerance 이상 다르면 불일치로 기록한다.
+ * 추출한 길이로 크레딧을 다시 계산해 업로드 완료 시 차감한 금액과의 차이를 추가 차감하거나 환불한다.
+ */
+@Slf4j
+@Service
+public class VideoMetadataExtractionService {
+
+    private final VideoAdaptor videoAdaptor;
+    private final VideoService videoService;
+    private final CreditService creditService;
+    private final AwsS3Service awsS3Service;
+    private final ContainerMetadataExtractor containerMetadataExtractor;
+    private final VideoProps.MetadataExtraction config;
+    private final MeterRegistry meterRegistry;
+
+    public VideoMetadataExtractionService(
+            VideoAdaptor videoAdaptor,
+            VideoService videoService,
+            CreditService creditService,
+            AwsS3Service awsS3Service,
+            ContainerMetadataExtractor containerMetadataExtractor,
+            VideoProps videoProps,
+            MeterRegistry meterRegistry) {
+        this.videoAdaptor = videoAdaptor;
+        this.videoService = videoService;
+        this.creditService = creditService;
+        this.awsS3Service = awsS3Service;
+        this.containerMetadataExtractor = containerMetadataExtractor;
+        this.config = videoProps.getMetadataExtraction();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void extract(Long videoId) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Video video = videoAdaptor.queryById(videoId);
+        String s3Key = video.getOriginalFile().getS3Key();
+
+        Optional<VideoMetadata> extracted;
+        try {
+            extracted = containerMetadataExtractor.extract(
+                    new S3RangeReader(awsS3Service, s3Key, awsS3Service.getObjectSize(s3Key)));
+        } catch (RuntimeException e) {
+            log.warn("Metadata extraction failed: videoId={}, key={}, error={}", videoId, s3Key, e.getMessage());
+            count("failed");
+            return;
+        }
+        if (extracted.isEmpty()) {
+            log.info("Unsupported container for metadata extraction: videoId={}, key={}", videoId, s3Key);
+            count("unsupported");
+            return;
+        }
+
+        VideoMetadata declared = video.getOriginalMetadata();
+        videoService.applyExtractedMetadata(videoId, extracted.get().orElse(declared));
+
+        if (isDurationMismatch(declared, extracted.get())) {
+            log.warn("Declared duration differs from container: videoId={}, declared={}, extracted={}",
+                    videoId, declared.getDurationSeconds(), extracted.get().getDurationSeconds());
+            count("mismatch");
+        } else {
+            count("verified");
+        }
+        reconcileCharge(videoId, video, extracted.get().getDurationSeconds());
+    }
+
+    private void reconcileCharge(Long videoId, Video video, Double durationSeconds) {
+        if (durationSeconds == null || durationSeconds <= 0) {
+            return;
+        }
+        try {
+            creditService.reconcileVideoProcessingCharge(
+                    video.getMemberId(), videoId, video.getProcessingType(), durationSeconds);
+        } catch (RuntimeException e) {
+            // 잔액 부족 등으로 정산하지 못해도 추출한 메타데이터는 유지한다
+            log.warn("Credit reconciliation failed: videoId={}, duration={}, error={}",
+                    videoId, durationSeconds, e.getMessage());
+            count("reconcile_failed");
+        }
+    }
+
+    private boolean isDurationMismatch(VideoMetadata declared, VideoMetadata extracted) {
+        if (declared == null || declared.getDurationSeconds() == null || extracted.getDurationSeconds() == null) {
+            return false;
+        }
+        double actual = extracted.getDurationSeconds();
+        return Math.abs(declared.getDurationSeconds() - actual) > actual * config.getDurationTolerance();
+    }
+
+    private void count(String outcome) {
+        Counter.builder("video.metadata.extraction")
+                .description("Server-side container metadata extraction by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoOriginalObject;
+import com.example.echoshotx.video.infrastructure.persistence.VideoOriginalObjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 회원이 같은 원본을 다시 올릴 때 기존 S3 객체를 공유하는 참조 카운트 관리.
+ *
+ * <p>initiate-upload에 내용 해시(SHA-256)와 크기가 오면 참조가 남은 같은 원본을 찾아 업로드 없이 그 키를 쓰게 한다.
+ * 참조는 업로드 완료 트랜잭션에서 잡으므로 완료되지 않고 버려진 업로드는 참조를 남기지 않는다.
+ * 처음 올린 원본은 업로드 완료 시 참조 1로 등록하고, 원본 삭제는 참조를 하나 놓아 마지막 참조일 때만 S3 객체를 지운다.
+ * 해시는 클라이언트가 계산한 값이므로 공유 범위를 같은 회원의 원본으로 제한한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class VideoOriginalObjectService {
+
+    private final VideoOriginalObjectRepository repository;
+    private final VideoProps.Dedup config;
+    private final MeterRegistry meterRegistry;
+
+    public VideoOriginalObjectService(
+            VideoOriginalObjectRepository repository, VideoProps videoProps, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.config = videoProps.getDedup();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 공유할 수 있는 같은 내용의 원본. 해시가 없거나 기능이 꺼져 있으면 empty.
+     */
+    public Optional<VideoOriginalObject> findShareable(Long memberId, String contentSha256, long fileSizeBytes) {
+        if (!config.isEnabled() || contentSha256 == null) {
+            return Optional.empty();
+        }
+        Optional<VideoOriginalObject> shareable = repository.findShareable(memberId, contentSha256, fileSizeBytes);
+        count(shareable.isPresent() ? "hit" : "miss");
+        return shareable;
+    }
+
+    /**
+     * 업로드 완료 시 원본 참조를 잡는다. 업로드 완료 전이와 같은 트랜잭션에서 호출한다.
+     *
+     * <p>공유 원본이면 참조를 하나 늘리고, 해시와 함께 직접 올린 원본이면 참조 1로 등록한다.
+     * 같은 내용이 먼저 등록돼 있으면(동시 업로드) 등록하지 않고 이 영상만 쓰는 원본으로 남는다.
+     *
+     * @return 공유하던 원본의 참조가 이미 모두 놓여 삭제됐으면 false
+     */
+    @Transactional
+    public boolean retain(Video video) {
+        if (video.isSharedOriginal()) {
+            return repository.retain(video.getSharedOriginalObjectId()) == 1;
+        }
+        if (config.isEnabled() && video.getOriginalContentSha256() != null) {
+            repository.register(
+                    video.getMemberId(),
+                    video.getOriginalContentSha256(),
+                    video.getOriginalFile().getFileSizeBytes(),
+                    video.getOriginalFile().getS3Key(),
+                    LocalDateTime.now());
+        }
+        return true;
+    }
+
+    /**
+     * 원본 참조를 하나 놓는다. 원본 삭제 트랜잭션에서 호출한다.
+     *
+     * @return 마지막 참조였으면(등록되지 않은 단독 원본 포함) true. 호출자가 커밋 후 S3 객체를 지운다.
+     */
+    @Transactional
+    public boolean release(String s3Key) {
+        if (repository.release(s3Key) == 0) {
+            return true;
+        }
+        boolean lastReference = repository.deleteReleased(s3Key) == 1;
+        log.debug("Original reference released: s3Key={}, lastReference={}", s3Key, lastReference);
+        return lastReference;
+    }
+
+    private void count(String outcome) {
+        Counter.builder("video.upload.dedup")
+                .description("Initiate-upload content hash lookups by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
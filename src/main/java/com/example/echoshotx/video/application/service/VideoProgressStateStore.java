@@ -0,0 +1,210 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비디오별 진행률 상태 테이블 (마지막 sequence, 진행률, 종료 여부).
+ *
+ * <p>DB 조회나 SSE 전송 전에 다음 메시지를 걸러냅니다.
+ * <ul>
+ *   <li>STALE: 이미 처리한 것보다 작거나 같은 sequence</li>
+ *   <li>REGRESSION: 이전보다 낮은 진행률</li>
+ *   <li>TERMINAL: 완료/실패 webhook 이후 도착한 메시지</li>
+ * </ul>
+ * 비디오가 종료되면 진행 상태는 버리고 작은 tombstone만 tombstoneTtl 동안 남깁니다.
+ * store=redis이면 같은 판단을 Lua 스크립트로 수행하여 노드 간 상태를 공유합니다.
+ */
+@Slf4j
+@Service
+public class VideoProgressStateStore {
+
+    public enum Decision {
+        ACCEPT, STALE, REGRESSION, TERMINAL
+    }
+
+    static final String STORE_REDIS = "redis";
+
+    /**
+     * KEYS[1]=상태 키, ARGV[1]=sequence(-1이면 없음), ARGV[2]=진행률(-1이면 없음), ARGV[3]=entry TTL(ms).
+     * 반환: 0=ACCEPT, 1=STALE, 2=REGRESSION, 3=TERMINAL
+     */
+    private static final String EVALUATE_LUA_SCRIPT =
+            "local s = redis.call('hmget', KEYS[1], 'seq', 'pct', 'terminal') "
+                    + "if s[3] == '1' then return 3 end "
+                    + "local seq = tonumber(ARGV[1]) "
+                    + "local pct = tonumber(ARGV[2]) "
+                    + "if seq >= 0 and s[1] and seq <= tonumber(s[1]) then return 1 end "
+                    + "if pct >= 0 and s[2] and pct < tonumber(s[2]) then return 2 end "
+                    + "if seq >= 0 then redis.call('hset', KEYS[1], 'seq', seq) end "
+                    + "if pct >= 0 then redis.call('hset', KEYS[1], 'pct', pct) end "
+                    + "redis.call('pexpire', KEYS[1], ARGV[3]) "
+                    + "return 0";
+
+    private static final String TERMINAL_LUA_SCRIPT =
+            "redis.call('del', KEYS[1]) "
+                    + "redis.call('hset', KEYS[1], 'terminal', '1') "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[1])";
+
+    private static final Decision[] DECISIONS = Decision.values();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoProps.State config;
+    private final DefaultRedisScript<Long> evaluateScript;
+    private final DefaultRedisScript<Long> terminalScript;
+    private final Map<Decision, Counter> rejectedCounters = new EnumMap<>(Decision.class);
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public VideoProgressStateStore(
+            StringRedisTemplate stringRedisTemplate, VideoProps videoProps, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.config = videoProps.getProgress().getState();
+        this.evaluateScript = new DefaultRedisScript<>(EVALUATE_LUA_SCRIPT, Long.class);
+        this.terminalScript = new DefaultRedisScript<>(TERMINAL_LUA_SCRIPT, Long.class);
+        for (Decision decision : DECISIONS) {
+            if (decision != Decision.ACCEPT) {
+                rejectedCounters.put(decision, Counter.builder("video.progress.rejected")
+                        .description("상태 테이블에서 걸러진 진행률 메시지 수")
+                        .tag("reason", decision.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * 진행률 메시지를 적용해도 되는지 판단하고, 허용되면 상태를 갱신한다.
+     *
+     * @param sequence 생산자가 붙인 단조 증가 번호 (없으면 진행률만 비교)
+     */
+    public Decision evaluate(Long videoId, Long sequence, Integer progressPercentage) {
+        Decision decision = isRedisStore()
+                ? evaluateInRedis(videoId, sequence, progressPercentage)
+                : evaluateInMemory(videoId, sequence, progressPercentage);
+
+        if (decision != Decision.ACCEPT) {
+            rejectedCounters.get(decision).increment();
+            log.debug("Progress update dropped: videoId={}, sequence={}, progress={}, reason={}",
+                    videoId, sequence, progressPercentage, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * 완료/실패된 비디오를 tombstone으로 표시한다. 이후 진행률 메시지는 TERMINAL로 걸러진다.
+     */
+    public void markTerminal(Long videoId) {
+        if (isRedisStore()) {
+            try {
+                stringRedisTemplate.execute(terminalScript, List.of(redisKey(videoId)),
+                        String.valueOf(config.getTombstoneTtlMillis()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to mark progress state terminal in Redis: videoId={}, error={}",
+                        videoId, e.getMessage());
+            }
+            return;
+        }
+        entries.put(videoId, Entry.terminal(System.currentTimeMillis()));
+    }
+
+    /**
+     * 만료된 진행 상태와 tombstone을 제거한다 (메모리 저장소 전용, Redis는 키 TTL로 만료).
+     */
+    @Scheduled(fixedDelayString = "${app.video.progress.state.sweep-interval-millis:60000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long now) {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now, config));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Decision evaluateInMemory(Long videoId, Long sequence, Integer progressPercentage) {
+        Decision[] result = new Decision[1];
+        long now = System.currentTimeMillis();
+        entries.compute(videoId, (id, current) -> {
+            if (current == null) {
+                result[0] = Decision.ACCEPT;
+                return Entry.active(sequence, progressPercentage, now);
+            }
+            if (current.terminal) {
+                result[0] = Decision.TERMINAL;
+                return current;
+            }
+            if (sequence != null && current.sequence != null && sequence <= current.sequence) {
+                result[0] = Decision.STALE;
+                return current;
+            }
+            if (progressPercentage != null && current.percentage != null
+                    && progressPercentage < current.percentage) {
+                result[0] = Decision.REGRESSION;
+                return current;
+            }
+            result[0] = Decision.ACCEPT;
+            return Entry.active(
+                    sequence != null ? sequence : current.sequence,
+                    progressPercentage != null ? progressPercentage : current.percentage,
+                    now);
+        });
+
+        if (result[0] == Decision.ACCEPT && entries.size() > config.getMaxEntries()) {
+            sweep(now);
+        }
+        return result[0];
+    }
+
+    private Decision evaluateInRedis(Long videoId, Long sequence, Integer progressPercentage) {
+        try {
+            Long code = stringRedisTemplate.execute(evaluateScript, List.of(redisKey(videoId)),
+                    String.valueOf(sequence != null ? sequence : -1),
+                    String.valueOf(progressPercentage != null ? progressPercentage : -1),
+                    String.valueOf(config.getEntryTtlMillis()));
+            return code != null && code >= 0 && code < DECISIONS.length
+                    ? DECISIONS[code.intValue()]
+                    : Decision.ACCEPT;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 걸러내지 않고 DB 상태 검증에 맡긴다
+            log.warn("Progress state evaluation failed, accepting update: videoId={}, error={}",
+                    videoId, e.getMessage());
+            return Decision.ACCEPT;
+        }
+    }
+
+    private boolean isRedisStore() {
+        return STORE_REDIS.equalsIgnoreCase(config.getStore());
+    }
+
+    private String redisKey(Long videoId) {
+        return config.getRedisKeyPrefix() + videoId;
+    }
+
+    private record Entry(Long sequence, Integer percentage, boolean terminal, long updatedAt) {
+
+        static Entry active(Long sequence, Integer percentage, long now) {
+            return new Entry(sequence, percentage, false, now);
+        }
+
+        static Entry terminal(long now) {
+            return new Entry(null, null, true, now);
+        }
+
+        boolean isExpired(long now, VideoProps.State config) {
+            long ttl = terminal ? config.getTombstoneTtlMillis() : config.getEntryTtlMillis();
+            return now - updatedAt >= ttl;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingProgressEvent;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.domain.vo.VideoProgressUpdate;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressJdbcRepository;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressTarget;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진행률 write-behind 버퍼.
+ *
+ * <p>비디오별 최신 진행률만 메모리에 보관하고, 주기적으로 video_progress 테이블에 JDBC 배치 upsert로 반영합니다.
+ * video 행은 비디오마다 처음 한 번(QUEUED → PROCESSING)만 갱신하므로 webhook의 행 락과 경쟁하지 않습니다.
+ * 진행률 이벤트(SSE 전송)는 DB 반영을 기다리지 않고 즉시 발행합니다.
+ * 소유자(memberId)는 projection 조회 결과를 캐시하여 메시지마다 엔티티를 로드하지 않습니다.
+ */
+@Slf4j
+@Service
+public class VideoProgressWriteBehindBuffer {
+
+    private final VideoAdaptor videoAdaptor;
+    private final VideoProgressJdbcRepository videoProgressJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoProps.WriteBehind config;
+
+    private final Map<Long, VideoProgressUpdate> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> ownerCache;
+    // PROCESSING 전환이 끝난 비디오 (video 행을 다시 갱신하지 않음)
+    private final Set<Long> startedVideoIds;
+
+    public VideoProgressWriteBehindBuffer(
+            VideoAdaptor videoAdaptor,
+            VideoProgressJdbcRepository videoProgressJdbcRepository,
+            ApplicationEventPublisher eventPublisher,
+            VideoProps videoProps) {
+        this.videoAdaptor = videoAdaptor;
+        this.videoProgressJdbcRepository = videoProgressJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.config = videoProps.getProgress().getWriteBehind();
+        int ownerCacheSize = Math.max(1, config.getOwnerCacheSize());
+        this.ownerCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > ownerCacheSize;
+            }
+        });
+        this.startedVideoIds = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<>(256, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                        return size() > ownerCacheSize;
+                    }
+                }));
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 최신 진행률을 버퍼에 기록하고 진행률 이벤트를 즉시 발행한다.
+     */
+    public void submit(
+            Long videoId, Integer progressPercentage, Integer estimatedTimeLeft, String currentStep) {
+        Video.validateProgressPercentage(progressPercentage);
+        Long memberId = resolveOwner(videoId);
+
+        pending.put(videoId, VideoProgressUpdate.builder()
+                .videoId(videoId)
+                .progressPercentage(progressPercentage)
+                .estimatedTimeLeftSeconds(estimatedTimeLeft)
+                .currentStep(currentStep)
+                .reportedAt(LocalDateTime.now())
+                .build());
+
+        eventPublisher.publishEvent(
+                new VideoProcessingProgressEvent(
+                        videoId, memberId, progressPercentage, estimatedTimeLeft, currentStep));
+    }
+
+    /**
+     * 대기 중인 진행률을 배치로 반영한다. 실패한 항목은 더 최신 값이 없을 때만 다시 대기열에 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${app.video.progress.write-behind.flush-interval-millis:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<VideoProgressUpdate> drained = new ArrayList<>(pending.size());
+        for (Long videoId : pending.keySet()) {
+            VideoProgressUpdate update = pending.remove(videoId);
+            if (update != null) {
+                drained.add(update);
+            }
+        }
+
+        int batchSize = Math.max(1, config.getMaxBatchSize());
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<VideoProgressUpdate> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                videoProgressJdbcRepository.batchUpsertProgress(chunk);
+                markProcessingStarted(chunk);
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush video progress batch: size={}, error={}", chunk.size(), e.getMessage());
+                chunk.forEach(update -> pending.putIfAbsent(update.getVideoId(), update));
+            }
+        }
+        log.debug("Flushed video progress updates: count={}", drained.size());
+    }
+
+    /**
+     * 종료된 비디오의 대기 중인 진행률과 소유자 캐시를 버린다.
+     */
+    public void discard(Long videoId) {
+        pending.remove(videoId);
+        ownerCache.remove(videoId);
+        startedVideoIds.remove(videoId);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    private void markProcessingStarted(List<VideoProgressUpdate> chunk) {
+        List<Long> queuedVideoIds = new ArrayList<>();
+        for (VideoProgressUpdate update : chunk) {
+            if (!startedVideoIds.contains(update.getVideoId())) {
+                queuedVideoIds.add(update.getVideoId());
+            }
+        }
+        if (queuedVideoIds.isEmpty()) {
+            return;
+        }
+        // 반영 행 수가 0이어도 이미 PROCESSING이거나 종료된 비디오이므로 다시 시도하지 않는다
+        videoProgressJdbcRepository.batchMarkProcessingStarted(queuedVideoIds, LocalDateTime.now());
+        startedVideoIds.addAll(queuedVideoIds);
+    }
+
+    private Long resolveOwner(Long videoId) {
+        Long cached = ownerCache.get(videoId);
+        if (cached != null) {
+            return cached;
+        }
+
+        VideoProgressTarget target = videoAdaptor.queryProgressTarget(videoId);
+        if (!Video.isProgressUpdatable(target.getStatus())) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_FOR_PROGRESS_UPDATE);
+        }
+        if (target.getStatus() == VideoStatus.PROCESSING) {
+            startedVideoIds.add(videoId);
+        }
+        ownerCache.put(videoId, target.getMemberId());
+        return target.getMemberId();
+    }
+}
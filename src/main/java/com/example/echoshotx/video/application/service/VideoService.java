@@ -8,9 +8,12 @@ import com.example.echoshotx.video.domain.entity.ProcessingType;
 import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.domain.vo.ProcessedVideo;
 import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import com.example.echoshotx.video.domain.vo.VideoProgressUpdate;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressJdbcRepository;
 import com.example.echoshotx.video.infrastructure.persistence.VideoRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class VideoService {
 
     private final VideoRepository videoRepository;
+    private final VideoProgressJdbcRepository videoProgressJdbcRepository;
+    private final VideoOriginalObjectService videoOriginalObjectService;
     private final ApplicationEventPublisher eventPublisher; // 이벤트 발행용 의존성
 
     /**
@@ -58,6 +63,27 @@ public class VideoService {
         return videoRepository.save(video);
     }
 
+    /**
+     * 서버에서 추출한 원본 메타데이터를 반영한다.
+     */
+    @Transactional
+    public void applyExtractedMetadata(Long videoId, VideoMetadata metadata) {
+        videoRepository.updateOriginalMetadata(videoId, metadata, LocalDateTime.now());
+    }
+
+    /**
+     * 원본 파일 삭제 처리. 공유 원본이면 참조만 놓는다.
+     *
+     * @return S3 원본 객체를 지워야 하면(마지막 참조) true. S3 삭제는 커밋 후 호출자가 한다.
+     */
+    @Transactional
+    public boolean deleteOriginal(Video video) {
+        String s3Key = video.getOriginalFile().getS3Key();
+        video.markOriginalAsDeleted();
+        videoRepository.save(video);
+        return videoOriginalObjectService.release(s3Key);
+    }
+
     /**
      * AI 처리 대기열에 추가하고, 처리 시작 이벤트를 발행한다.
      */
@@ -103,8 +129,16 @@ public class VideoService {
     public Video updateProcessingProgress(
             Video video, Integer progressPercentage, Integer estimatedTimeLeft, String currentStep) {
 
-        video.updateProcessingProgress(progressPercentage, estimatedTimeLeft, currentStep);
+        // video 행은 QUEUED → PROCESSING 전환 시에만 변경되고, 진행률 값은 video_progress에 upsert
+        video.reportProgress(progressPercentage);
         video = videoRepository.save(video);
+        videoProgressJdbcRepository.batchUpsertProgress(List.of(VideoProgressUpdate.builder()
+                .videoId(video.getId())
+                .progressPercentage(progressPercentage)
+                .estimatedTimeLeftSeconds(estimatedTimeLeft)
+                .currentStep(currentStep)
+                .reportedAt(LocalDateTime.now())
+                .build()));
 
         // 진행률 업데이트 이벤트 발행
         eventPublisher.publishEvent(
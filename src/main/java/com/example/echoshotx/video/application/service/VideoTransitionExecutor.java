@@ -0,0 +1,135 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 영상 상태 전환 실행기.
+ *
+ * <p>전환 작업(상태 변경 + 크레딧/outbox 등 같은 트랜잭션의 작업)을 트랜잭션으로 감싸 실행한다.
+ * <ul>
+ *   <li>pessimistic: 영상을 SELECT ... FOR UPDATE로 잠근 뒤 실행 (행 락이 트랜잭션 끝까지 유지됨)</li>
+ *   <li>optimistic: 잠금 없이 읽고 커밋 시 {@code UPDATE ... WHERE id = ? AND version = ?}로 검사한다.
+ *       상태는 버전 없이 바뀌지 않으므로 버전 일치가 곧 읽은 상태(도메인 메서드가 검사한 전이 조건) 유지를 뜻한다.
+ *       충돌하면 트랜잭션 전체를 롤백하고 최대 maxRetries번 다시 실행한다.</li>
+ * </ul>
+ * 이미 트랜잭션 안에서 호출되면 재시도할 수 없으므로 한 번만 실행하고 충돌은 그대로 전파한다.
+ */
+@Slf4j
+@Service
+public class VideoTransitionExecutor {
+
+    private static final String OPTIMISTIC = "optimistic";
+
+    private final VideoAdaptor videoAdaptor;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoProps.Transition config;
+    private final Counter retriedCounter;
+    private final Counter exhaustedCounter;
+
+    public VideoTransitionExecutor(
+            VideoAdaptor videoAdaptor,
+            PlatformTransactionManager transactionManager,
+            VideoProps videoProps,
+            MeterRegistry meterRegistry) {
+        this.videoAdaptor = videoAdaptor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = videoProps.getTransition();
+        this.retriedCounter = conflictCounter(meterRegistry, "retried");
+        this.exhaustedCounter = conflictCounter(meterRegistry, "exhausted");
+    }
+
+    public boolean isOptimistic() {
+        return OPTIMISTIC.equalsIgnoreCase(config.getLockMode());
+    }
+
+    /**
+     * 결과가 없는 전환 실행.
+     */
+    public void run(Long videoId, Consumer<Video> transition) {
+        execute(videoId, video -> {
+            transition.accept(video);
+            return null;
+        });
+    }
+
+    /**
+     * 설정된 잠금 방식(app.video.transition.lock-mode)으로 전환을 실행한다.
+     */
+    public <T> T execute(Long videoId, Function<Video, T> transition) {
+        return isOptimistic() ? executeOptimistic(videoId, transition) : executeWithLock(videoId, transition);
+    }
+
+    /**
+     * SELECT ... FOR UPDATE로 잠근 뒤 실행.
+     */
+    public <T> T executeWithLock(Long videoId, Function<Video, T> transition) {
+        return transactionTemplate.execute(status -> transition.apply(videoAdaptor.queryByIdWithLock(videoId)));
+    }
+
+    /**
+     * 잠금 없이 실행. 외부 잠금(Redis, JVM 락)으로 직렬화하는 경우에 사용하며, 버전 검사는 커밋 시 그대로 적용된다.
+     */
+    public <T> T executeWithoutLock(Long videoId, Function<Video, T> transition) {
+        return transactionTemplate.execute(status -> transition.apply(videoAdaptor.queryById(videoId)));
+    }
+
+    /**
+     * 잠금 없이 읽고 버전 충돌 시 새 트랜잭션으로 재시도.
+     */
+    public <T> T executeOptimistic(Long videoId, Function<Video, T> transition) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transition.apply(videoAdaptor.queryById(videoId));
+        }
+
+        int maxRetries = Math.max(0, config.getMaxRetries());
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return executeWithoutLock(videoId, transition);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxRetries) {
+                    exhaustedCounter.increment();
+                    log.warn("Video transition conflict retries exhausted: videoId={}, attempts={}",
+                            videoId, attempt + 1);
+                    throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+                }
+                retriedCounter.increment();
+                log.debug("Video transition conflict, retrying: videoId={}, attempt={}", videoId, attempt + 1);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = config.getRetryBackoffMillis() * (attempt + 1);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+        }
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("video.transition.conflict")
+                .description("Optimistic video transition version conflicts")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.redis.service.RedisService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 완료 멱등 응답 캐시.
+ *
+ * <p>노드 로컬 LRU(TTL) → Redis → MySQL 순으로 조회한다. Redis에는 (member, video, key) 단위로
+ * 요청 해시와 응답 바이너리(Base64)를 기록 만료 시각까지 저장한다. 아직 기록이 없는 키는 negativeTtlMillis 동안
+ * "없음"으로 기억하며, Redis에는 SET NX로만 쓰므로 다른 노드가 저장한 응답을 덮어쓰지 않는다.
+ * Redis 오류는 캐시 미스로 취급한다.
+ */
+@Slf4j
+@Component
+public class VideoUploadIdempotencyCache {
+
+    private static final String MISSING_VALUE = "-";
+    private static final char SEPARATOR = '\n';
+
+    private final RedisService redisService;
+    private final VideoProps.Idempotency config;
+    private final LinkedHashMap<String, LocalEntry> localEntries;
+
+    public VideoUploadIdempotencyCache(RedisService redisService, VideoProps videoProps) {
+        this.redisService = redisService;
+        this.config = videoProps.getIdempotency();
+        int maxEntries = Math.max(1, config.getLocalMaxEntries());
+        this.localEntries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Optional<CachedResponse> get(Long memberId, Long videoId, String idempotencyKey) {
+        String key = cacheKey(memberId, videoId, idempotencyKey);
+        long now = System.currentTimeMillis();
+
+        Optional<CachedResponse> local = getLocal(key, now);
+        if (local.isPresent()) {
+            return local;
+        }
+
+        if (!config.isRedisEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String value = redisService.getValue(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            CachedResponse cached = decode(value);
+            putLocal(key, cached, now + (cached.isMissing() ? config.getNegativeTtlMillis() : config.getLocalTtlMillis()));
+            return Optional.of(cached);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency cache read from Redis failed. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(
+            Long memberId,
+            Long videoId,
+            String idempotencyKey,
+            CachedResponse response,
+            LocalDateTime expiresAt) {
+        String key = cacheKey(memberId, videoId, idempotencyKey);
+        long now = System.currentTimeMillis();
+        long remainingMillis = Duration.between(LocalDateTime.now(), expiresAt).toMillis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+
+        putLocal(key, response, now + Math.min(remainingMillis, config.getLocalTtlMillis()));
+        if (!config.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisService.setValue(key, encode(response), Duration.ofMillis(remainingMillis));
+        } catch (RuntimeException e) {
+            log.warn("Idempotency cache write to Redis failed. key={}", key, e);
+        }
+    }
+
+    /**
+     * 아직 기록이 없음을 짧게 기억한다. 이미 저장된 응답은 덮어쓰지 않는다.
+     */
+    public void putMissing(Long memberId, Long videoId, String idempotencyKey) {
+        String key = cacheKey(memberId, videoId, idempotencyKey);
+        synchronized (localEntries) {
+            LocalEntry existing = localEntries.get(key);
+            if (existing == null || existing.response().isMissing()) {
+                localEntries.put(key, new LocalEntry(
+                        CachedResponse.MISSING, System.currentTimeMillis() + config.getNegativeTtlMillis()));
+            }
+        }
+        if (!config.isRedisEnabled()) {
+            return;
+        }
+        try {
+            redisService.setIfAbsent(key, MISSING_VALUE, Duration.ofMillis(config.getNegativeTtlMillis()));
+        } catch (RuntimeException e) {
+            log.debug("Idempotency negative cache write to Redis failed. key={}", key, e);
+        }
+    }
+
+    int localSize() {
+        synchronized (localEntries) {
+            return localEntries.size();
+        }
+    }
+
+    private Optional<CachedResponse> getLocal(String key, long now) {
+        synchronized (localEntries) {
+            LocalEntry entry = localEntries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (now >= entry.expiresAtMillis()) {
+                localEntries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.response());
+        }
+    }
+
+    private void putLocal(String key, CachedResponse response, long expiresAtMillis) {
+        synchronized (localEntries) {
+            localEntries.put(key, new LocalEntry(response, expiresAtMillis));
+        }
+    }
+
+    private String cacheKey(Long memberId, Long videoId, String idempotencyKey) {
+        return config.getRedisKeyPrefix() + memberId + ":" + videoId + ":" + idempotencyKey;
+    }
+
+    private static String encode(CachedResponse response) {
+        return response.requestHash() + SEPARATOR + Base64.getEncoder().encodeToString(response.responsePayload());
+    }
+
+    private static CachedResponse decode(String value) {
+        if (MISSING_VALUE.equals(value)) {
+            return CachedResponse.MISSING;
+        }
+        int index = value.indexOf(SEPARATOR);
+        return new CachedResponse(value.substring(0, index), Base64.getDecoder().decode(value.substring(index + 1)));
+    }
+
+    /**
+     * 캐시된 성공 응답. {@link #MISSING}은 "아직 기록 없음".
+     */
+    public record CachedResponse(String requestHash, byte[] responsePayload) {
+
+        public static final CachedResponse MISSING = new CachedResponse(null, null);
+
+        public boolean isMissing() {
+            return requestHash == null;
+        }
+    }
+
+    private record LocalEntry(CachedResponse response, long expiresAtMillis) {
+    }
+}
@@ -1,13 +1,13 @@
 package com.example.echoshotx.video.application.service;
 
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.service.VideoUploadIdempotencyCache.CachedResponse;
 import com.example.echoshotx.video.domain.entity.VideoUploadIdempotencyRecord;
 import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
 import com.example.echoshotx.video.infrastructure.persistence.VideoUploadIdempotencyRepository;
 import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
 import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
 import com.example.echoshotx.video.presentation.exception.VideoHandler;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -17,12 +17,21 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업로드 완료 멱등 응답 저장/조회.
+ *
+ * <p>조회는 {@link VideoUploadIdempotencyCache}를 먼저 확인하고 미스일 때만 MySQL을 조회하므로
+ * 캐시 적중 시 트랜잭션도 열지 않는다. 저장한 응답은 커밋 후에 캐시에 올려 롤백된 응답이 재생되지 않게 한다.
+ * 응답은 {@link CompleteUploadResponseCodec} 바이너리로 저장하고, 만료된 행은 주기적으로 나눠 삭제한다.
+ */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class VideoUploadIdempotencyService {
 
@@ -30,7 +39,8 @@ public class VideoUploadIdempotencyService {
     private static final long DEFAULT_TTL_HOURS = 24L;
 
     private final VideoUploadIdempotencyRepository repository;
-    private final ObjectMapper objectMapper;
+    private final VideoUploadIdempotencyCache cache;
+    private final VideoProps videoProps;
 
     public String createRequestHash(Long videoId, CompleteUploadRequest request) {
         String payload =
@@ -52,10 +62,16 @@ public class VideoUploadIdempotencyService {
 
     public Optional<CompleteUploadResponse> findSuccessResponse(
             Long memberId, Long videoId, String idempotencyKey, String requestHash) {
+        Optional<CachedResponse> cached = cache.get(memberId, videoId, idempotencyKey);
+        if (cached.isPresent()) {
+            return toResponse(cached.get(), requestHash);
+        }
+
         Optional<VideoUploadIdempotencyRecord> optionalRecord =
                 repository.findByMemberIdAndVideoIdAndIdempotencyKey(memberId, videoId, idempotencyKey);
 
         if (optionalRecord.isEmpty()) {
+            cache.putMissing(memberId, videoId, idempotencyKey);
             return Optional.empty();
         }
 
@@ -72,7 +88,9 @@ public class VideoUploadIdempotencyService {
             return Optional.empty();
         }
 
-        return Optional.of(readResponse(record.getResponseBody()));
+        cache.put(memberId, videoId, idempotencyKey,
+                new CachedResponse(record.getRequestHash(), record.getResponsePayload()), record.getExpiresAt());
+        return Optional.of(CompleteUploadResponseCodec.decode(record.getResponsePayload()));
     }
 
     @Transactional
@@ -82,7 +100,8 @@ public class VideoUploadIdempotencyService {
             String idempotencyKey,
             String requestHash,
             CompleteUploadResponse response) {
-        String responseBody = writeResponse(response);
+        byte[] responsePayload = CompleteUploadResponseCodec.encode(response);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(DEFAULT_TTL_HOURS);
         VideoUploadIdempotencyRecord record =
                 VideoUploadIdempotencyRecord.create(
                         memberId,
@@ -90,11 +109,13 @@ public class VideoUploadIdempotencyService {
                         idempotencyKey,
                         requestHash,
                         SUCCESS_STATUS,
-                        responseBody,
-                        LocalDateTime.now().plusHours(DEFAULT_TTL_HOURS));
+                        responsePayload,
+                        expiresAt);
 
         try {
             repository.save(record);
+            cacheAfterCommit(memberId, videoId, idempotencyKey,
+                    new CachedResponse(requestHash, responsePayload), expiresAt);
         } catch (DataIntegrityViolationException e) {
             log.info(
                     "Idempotency record already exists. memberId={}, videoId={}, key={}",
@@ -110,20 +131,51 @@ public class VideoUploadIdempotencyService {
         }
     }
 
-    private String writeResponse(CompleteUploadResponse response) {
-        try {
-            return objectMapper.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
-            throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_SERIALIZATION_FAILED);
+    /**
+     * 만료된 멱등 기록 삭제. 한 번에 purgeChunkSize개씩 별도 트랜잭션으로 지워 긴 잠금과 undo 로그 증가를 피한다.
+     */
+    @Scheduled(cron = "${app.video.idempotency.purge-cron:0 */10 * * * *}")
+    public void purgeExpired() {
+        int chunkSize = Math.max(1, videoProps.getIdempotency().getPurgeChunkSize());
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = repository.deleteExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        if (total > 0) {
+            log.info("Purged expired idempotency records. count={}", total);
         }
     }
 
-    private CompleteUploadResponse readResponse(String responseBody) {
-        try {
-            return objectMapper.readValue(responseBody, CompleteUploadResponse.class);
-        } catch (JsonProcessingException e) {
-            throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_DESERIALIZATION_FAILED);
+    private Optional<CompleteUploadResponse> toResponse(CachedResponse cached, String requestHash) {
+        if (cached.isMissing()) {
+            return Optional.empty();
+        }
+        if (!cached.requestHash().equals(requestHash)) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_IDEMPOTENCY_KEY_CONFLICT);
+        }
+        return Optional.of(CompleteUploadResponseCodec.decode(cached.responsePayload()));
+    }
+
+    private void cacheAfterCommit(
+            Long memberId,
+            Long videoId,
+            String idempotencyKey,
+            CachedResponse response,
+            LocalDateTime expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(memberId, videoId, idempotencyKey, response, expiresAt);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(memberId, videoId, idempotencyKey, response, expiresAt);
+            }
+        });
     }
 
     private String sha256(String input) {
@@ -0,0 +1,157 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.entity.WebhookInboxEvent;
+import com.example.echoshotx.video.domain.entity.WebhookInboxStatus;
+import com.example.echoshotx.video.infrastructure.persistence.WebhookInboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 웹훅 inbox 저장/선점/결과 기록을 담당하는 서비스.
+ */
+@Slf4j
+@Service
+public class WebhookInboxService {
+
+    private final WebhookInboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final WebhookProps.Inbox config;
+
+    public WebhookInboxService(
+            WebhookInboxEventRepository repository, ObjectMapper objectMapper, WebhookProps webhookProps) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.config = webhookProps.getInbox();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 웹훅을 inbox에 저장한다. 같은 (aiJobId, eventType)이 이미 있으면 저장하지 않는다.
+     *
+     * <p>유니크 제약 위반을 잡아야 하므로 트랜잭션을 열지 않고 repository의 단일 트랜잭션에 맡긴다.
+     *
+     * @return 새로 저장했으면 true, 중복이면 false
+     */
+    public boolean accept(WebhookEventType eventType, Long videoId, String aiJobId, Object request) {
+        if (repository.existsByAiJobIdAndEventType(aiJobId, eventType)) {
+            log.info("Duplicate webhook ignored: aiJobId={}, eventType={}", aiJobId, eventType);
+            return false;
+        }
+        try {
+            repository.saveAndFlush(WebhookInboxEvent.pending(
+                    videoId, aiJobId, eventType, serialize(request), LocalDateTime.now()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 재전송 - 먼저 저장된 행이 처리된다
+            log.info("Duplicate webhook ignored (concurrent): aiJobId={}, eventType={}", aiJobId, eventType);
+            return false;
+        }
+    }
+
+    /**
+     * 처리할 행을 최대 batchSize개 선점한다. 다른 노드가 먼저 선점한 행은 제외된다.
+     */
+    @Transactional
+    public List<WebhookInboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = repository.findClaimableIds(
+                WebhookInboxStatus.PENDING, now, PageRequest.of(0, Math.max(1, config.getBatchSize())));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        if (repository.claim(ids, token, now) == 0) {
+            return List.of();
+        }
+        return repository.findByClaimTokenOrderByIdAsc(token);
+    }
+
+    /**
+     * 처리 완료 기록. 선점이 만료되어 다른 worker가 가져간 행이면 기록하지 않는다.
+     *
+     * @param event claimBatch로 선점한 행
+     */
+    @Transactional
+    public void markDone(WebhookInboxEvent event) {
+        String token = event.getClaimToken();
+        event.markDone(LocalDateTime.now());
+        completeClaim(event, token);
+    }
+
+    /**
+     * 처리 실패 기록. 재시도할 수 없는 오류이거나 재시도 횟수가 maxRetries 이상이면 FAILED로 확정하고 true 반환.
+     * 선점이 만료되어 다른 worker가 가져간 행이면 기록하지 않고 false 반환.
+     *
+     * @param event claimBatch로 선점한 행
+     */
+    @Transactional
+    public boolean markRetryOrFailed(WebhookInboxEvent event, RuntimeException error, boolean retryable) {
+        String token = event.getClaimToken();
+        if (!retryable || event.getRetryCount() >= config.getMaxRetries()) {
+            event.markFailed(LocalDateTime.now(), error);
+            if (!completeClaim(event, token)) {
+                return false;
+            }
+            log.error("Webhook inbox event permanently failed. eventId={}, aiJobId={}",
+                    event.getId(), event.getAiJobId(), error);
+            return true;
+        }
+        event.markRetry(LocalDateTime.now(), error);
+        if (completeClaim(event, token)) {
+            log.warn("Webhook inbox event will retry. eventId={}, retryCount={}",
+                    event.getId(), event.getRetryCount(), error);
+        }
+        return false;
+    }
+
+    @Transactional
+    public int releaseStaleClaims() {
+        return repository.releaseStaleClaims(LocalDateTime.now().minusNanos(config.getStaleClaimMillis() * 1_000_000));
+    }
+
+    @Transactional
+    public void deleteProcessed() {
+        repository.deleteByStatusAndCreatedAtBefore(
+                WebhookInboxStatus.DONE, LocalDateTime.now().minusDays(config.getRetentionDays()));
+    }
+
+    public <T> T deserialize(WebhookInboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize webhook inbox payload", e);
+        }
+    }
+
+    private boolean completeClaim(WebhookInboxEvent event, String token) {
+        int updated = repository.completeClaim(event.getId(), token, event.getStatus(), event.getRetryCount(),
+                event.getNextAttemptAt(), event.getProcessedAt(), event.getLastError());
+        if (updated == 0) {
+            log.warn("Webhook inbox claim lost, result ignored. eventId={}, status={}",
+                    event.getId(), event.getStatus());
+            return false;
+        }
+        return true;
+    }
+
+    private String serialize(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize webhook inbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.echoshotx.video.application.service;
+
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.shared.exception.object.general.GeneralException;
+import com.example.echoshotx.video.application.usecase.ProcessingCompletedWebhookUseCase;
+import com.example.echoshotx.video.application.usecase.ProcessingFailedWebhookUseCase;
+import com.example.echoshotx.video.domain.entity.WebhookInboxEvent;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingCompletedRequest;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingFailedRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 inbox worker.
+ *
+ * <p>batchSize개씩 선점한 행을 worker 풀({@code webhookInboxExecutor})에서 병렬로 처리하고, 배치가 가득 차 있으면 바로 다음 배치를 가져온다.
+ * 비즈니스 오류(잘못된 상태 전이 등)는 재시도하지 않고 FAILED로 남기며, 그 외 오류는 backoff 후 재시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.webhook.inbox.enabled", havingValue = "true")
+public class WebhookInboxWorkerScheduler {
+
+    private final WebhookInboxService webhookInboxService;
+    private final ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase;
+    private final ProcessingFailedWebhookUseCase processingFailedWebhookUseCase;
+    private final WebhookProps.Inbox config;
+    private final AsyncTaskExecutor workers;
+
+    public WebhookInboxWorkerScheduler(
+            WebhookInboxService webhookInboxService,
+            ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase,
+            ProcessingFailedWebhookUseCase processingFailedWebhookUseCase,
+            WebhookProps webhookProps,
+            @Qualifier("webhookInboxExecutor") AsyncTaskExecutor workers) {
+        this.webhookInboxService = webhookInboxService;
+        this.processingCompletedWebhookUseCase = processingCompletedWebhookUseCase;
+        this.processingFailedWebhookUseCase = processingFailedWebhookUseCase;
+        this.config = webhookProps.getInbox();
+        this.workers = workers;
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhook.inbox.poll-interval-millis:200}")
+    public void processPending() {
+        List<WebhookInboxEvent> batch;
+        do {
+            batch = webhookInboxService.claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Future<?>> futures = new ArrayList<>(batch.size());
+            for (WebhookInboxEvent event : batch) {
+                futures.add(workers.submit(() -> process(event)));
+            }
+            awaitAll(futures);
+        } while (batch.size() >= config.getBatchSize());
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhook.inbox.stale-claim-millis:60000}")
+    public void releaseStaleClaims() {
+        int released = webhookInboxService.releaseStaleClaims();
+        if (released > 0) {
+            log.warn("Released stale webhook inbox claims: count={}", released);
+        }
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void cleanupProcessed() {
+        webhookInboxService.deleteProcessed();
+    }
+
+    void process(WebhookInboxEvent event) {
+        try {
+            switch (event.getEventType()) {
+                case PROCESSING_COMPLETED -> processingCompletedWebhookUseCase.execute(
+                        webhookInboxService.deserialize(event, WebhookProcessingCompletedRequest.class));
+                case PROCESSING_FAILED -> processingFailedWebhookUseCase.execute(
+                        webhookInboxService.deserialize(event, WebhookProcessingFailedRequest.class));
+            }
+            webhookInboxService.markDone(event);
+        } catch (GeneralException e) {
+            // 버전 충돌은 일시적인 오류이므로 다시 시도한다
+            boolean retryable = e.getCode() == VideoErrorStatus.VIDEO_TRANSITION_CONFLICT;
+            webhookInboxService.markRetryOrFailed(event, e, retryable);
+        } catch (RuntimeException e) {
+            webhookInboxService.markRetryOrFailed(event, e, true);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Webhook inbox worker failed unexpectedly", e);
+            }
+        }
+    }
+}
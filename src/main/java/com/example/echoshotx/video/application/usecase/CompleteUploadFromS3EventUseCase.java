@@ -0,0 +1,147 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.application.adaptor.MemberAdaptor;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.shared.config.aws.props.AwsProps;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.exception.object.general.GeneralException;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.dto.S3UploadedObject;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadBatchRequest;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 ObjectCreated 이벤트로 업로드 완료를 처리하는 UseCase.
+ *
+ * <p>클라이언트의 complete-upload 호출 없이 서버가 업로드를 확인하고 처리를 시작한다.
+ * 객체 키({@code videos/{memberId}/original/{uploadId}/...})의 uploadId로 영상을 찾고 키가 일치하는지 확인한 뒤,
+ * initiate-upload 때 메타데이터를 받은 영상만 회원별로 묶어 {@link CompleteVideoUploadBatchUseCase}로 처리한다.
+ * 메타데이터가 없는 영상은 기존처럼 클라이언트의 complete-upload를 기다린다.
+ * 크레딧 부족 등 도메인 예외는 재전달해도 같은 결과이므로 기록만 하고, 그 외 예외는 그대로 던져 SQS가 다시 전달하게 한다.
+ */
+@Slf4j
+@UseCase
+public class CompleteUploadFromS3EventUseCase {
+
+    private static final String ORIGINAL_KEY_PREFIX = "videos/";
+    private static final String ORIGINAL_KEY_SEGMENT = "original";
+
+    private final VideoAdaptor videoAdaptor;
+    private final MemberAdaptor memberAdaptor;
+    private final CompleteVideoUploadBatchUseCase completeVideoUploadBatchUseCase;
+    private final AwsProps awsProps;
+    private final VideoProps.CompleteUpload config;
+    private final MeterRegistry meterRegistry;
+
+    public CompleteUploadFromS3EventUseCase(
+            VideoAdaptor videoAdaptor,
+            MemberAdaptor memberAdaptor,
+            CompleteVideoUploadBatchUseCase completeVideoUploadBatchUseCase,
+            AwsProps awsProps,
+            VideoProps videoProps,
+            MeterRegistry meterRegistry) {
+        this.videoAdaptor = videoAdaptor;
+        this.memberAdaptor = memberAdaptor;
+        this.completeVideoUploadBatchUseCase = completeVideoUploadBatchUseCase;
+        this.awsProps = awsProps;
+        this.config = videoProps.getCompleteUpload();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void execute(List<S3UploadedObject> objects) {
+        Map<String, S3UploadedObject> objectsByUploadId = new LinkedHashMap<>();
+        for (S3UploadedObject object : objects) {
+            String uploadId = extractUploadId(object);
+            if (uploadId == null) {
+                count("ignored", 1);
+            } else {
+                objectsByUploadId.put(uploadId, object);
+            }
+        }
+        if (objectsByUploadId.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<CompleteUploadBatchRequest.Entry>> entriesByMember = new LinkedHashMap<>();
+        List<Video> videos = videoAdaptor.queryAllByUploadIds(objectsByUploadId.keySet());
+        count("unmatched", objectsByUploadId.size() - videos.size());
+        for (Video video : videos) {
+            S3UploadedObject object = objectsByUploadId.get(video.getUploadId());
+            if (!object.key().equals(video.getOriginalFile().getS3Key())) {
+                log.warn("S3 upload event key mismatch: videoId={}, key={}", video.getId(), object.key());
+                count("unmatched", 1);
+            } else if (video.getStatus() != VideoStatus.PENDING_UPLOAD) {
+                count("already_processed", 1);
+            } else if (!video.hasDeclaredOriginalMetadata()) {
+                log.debug("S3 upload event waits for client completion: videoId={}", video.getId());
+                count("awaiting_metadata", 1);
+            } else {
+                entriesByMember.computeIfAbsent(video.getMemberId(), id -> new ArrayList<>())
+                        .add(new CompleteUploadBatchRequest.Entry(
+                                video.getId(), CompleteUploadRequest.from(video.getOriginalMetadata())));
+            }
+        }
+
+        int batchSize = Math.max(1, config.getMaxBatchSize());
+        entriesByMember.forEach((memberId, entries) -> {
+            Member member = memberAdaptor.queryById(memberId);
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                complete(member, entries.subList(from, Math.min(from + batchSize, entries.size())));
+            }
+        });
+    }
+
+    private void complete(Member member, List<CompleteUploadBatchRequest.Entry> entries) {
+        try {
+            CompleteUploadBatchResponse response = completeVideoUploadBatchUseCase.execute(
+                    new CompleteUploadBatchRequest(new ArrayList<>(entries)), member);
+            count("completed", response.getSucceeded());
+            count("failed", response.getFailed());
+        } catch (GeneralException e) {
+            log.warn("S3 upload event completion rejected: memberId={}, videos={}, reason={}",
+                    member.getId(), entries.size(), e.getErrorReason().getMessage());
+            count("failed", entries.size());
+        }
+    }
+
+    /**
+     * 설정된 버킷의 원본 업로드 키에서 uploadId를 꺼낸다. 형식이 다르면 null.
+     */
+    private String extractUploadId(S3UploadedObject object) {
+        String bucket = awsProps.getS3() == null ? null : awsProps.getS3().getBucket();
+        if (bucket != null && !bucket.equals(object.bucket())) {
+            return null;
+        }
+        String key = object.key();
+        if (!key.startsWith(ORIGINAL_KEY_PREFIX)) {
+            return null;
+        }
+        String[] segments = key.split("/", 5);
+        if (segments.length < 5 || !ORIGINAL_KEY_SEGMENT.equals(segments[2]) || segments[3].isEmpty()) {
+            return null;
+        }
+        return segments[3];
+    }
+
+    private void count(String outcome, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder("video.s3_event.objects")
+                .description("S3 upload events by completion outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.credit.application.service.CreditService;
+import com.example.echoshotx.job.application.service.JobOutboxService;
+import com.example.echoshotx.job.application.service.JobService;
+import com.example.echoshotx.job.domain.entity.Job;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.exception.object.general.GeneralException;
+import com.example.echoshotx.shared.exception.payload.code.Reason;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.application.service.VideoOriginalObjectService;
+import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadBatchRequest;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse.EntryResult;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse.EntryStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 영상의 업로드 완료를 한 번에 처리하는 UseCase (앨범 업로드 등).
+ *
+ * <p>영상 N개를 N번의 트랜잭션 대신 하나의 트랜잭션으로 처리한다.
+ * <ul>
+ *   <li>영상을 id 순서로 한 번에 잠그고 소유자·상태를 검사한다 (단건 요청·웹훅 배치와 락 순서가 같다)</li>
+ *   <li>회원을 한 번만 잠그고 합계 크레딧을 차감한다</li>
+ *   <li>작업, 크레딧 내역, outbox 이벤트를 각각 배치 INSERT로 기록한다</li>
+ * </ul>
+ * 없는 영상, 다른 회원의 영상, 중복 항목, 공유하던 원본이 삭제된 영상은 항목 실패로, 이미 업로드 완료된 영상은 ALREADY_PROCESSED로 기록하므로
+ * 같은 요청을 재시도해도 안전하다. 크레딧이 부족하면 배치 전체가 롤백된다.
+ */
+@Slf4j
+@UseCase
+public class CompleteVideoUploadBatchUseCase {
+
+    private static final String JOB_MESSAGE_ID_PREFIX = "job:";
+
+    private final VideoAdaptor videoAdaptor;
+    private final VideoService videoService;
+    private final CreditService creditService;
+    private final JobService jobService;
+    private final JobOutboxService jobOutboxService;
+    private final MultipartUploadService multipartUploadService;
+    private final VideoOriginalObjectService videoOriginalObjectService;
+    private final TransactionTemplate transactionTemplate;
+    private final VideoProps.CompleteUpload config;
+
+    public CompleteVideoUploadBatchUseCase(
+            VideoAdaptor videoAdaptor,
+            VideoService videoService,
+            CreditService creditService,
+            JobService jobService,
+            JobOutboxService jobOutboxService,
+            MultipartUploadService multipartUploadService,
+            VideoOriginalObjectService videoOriginalObjectService,
+            PlatformTransactionManager transactionManager,
+            VideoProps videoProps) {
+        this.videoAdaptor = videoAdaptor;
+        this.videoService = videoService;
+        this.creditService = creditService;
+        this.jobService = jobService;
+        this.jobOutboxService = jobOutboxService;
+        this.multipartUploadService = multipartUploadService;
+        this.videoOriginalObjectService = videoOriginalObjectService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = videoProps.getCompleteUpload();
+    }
+
+    public CompleteUploadBatchResponse execute(CompleteUploadBatchRequest request, Member member) {
+        List<CompleteUploadBatchRequest.Entry> entries = request.getUploads();
+        if (entries.size() > config.getMaxBatchSize()) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_COMPLETE_UPLOAD_BATCH_TOO_LARGE);
+        }
+
+        EntryResult[] results = new EntryResult[entries.size()];
+        List<Integer> valid = new ArrayList<>(entries.size());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (seen.add(entries.get(i).getVideoId())) {
+                valid.add(i);
+            } else {
+                results[i] = failed(i, entries.get(i).getVideoId(),
+                        VideoErrorStatus.VIDEO_COMPLETE_UPLOAD_BATCH_DUPLICATE_VIDEO.getReason());
+            }
+        }
+
+        completeMultipartUploads(valid, entries, member, results);
+
+        Integer usedCredits = transactionTemplate.execute(
+                status -> completeInTransaction(valid, entries, member, results));
+        log.info("Batch upload completed: memberId={}, entries={}, usedCredits={}",
+                member.getId(), entries.size(), usedCredits);
+        return CompleteUploadBatchResponse.of(Arrays.asList(results), usedCredits == null ? 0 : usedCredits);
+    }
+
+    /**
+     * 멀티파트 업로드 영상의 S3 객체를 트랜잭션 밖에서 먼저 조립한다. 실패한 항목은 결과에 기록하고 제외한다.
+     */
+    private void completeMultipartUploads(
+            List<Integer> valid,
+            List<CompleteUploadBatchRequest.Entry> entries,
+            Member member,
+            EntryResult[] results) {
+        List<Long> videoIds = valid.stream().map(i -> entries.get(i).getVideoId()).toList();
+        Map<Long, Video> videos = videoAdaptor.queryAllByIds(videoIds).stream()
+                .filter(video -> video.isMultipartUpload() && video.getMemberId().equals(member.getId()))
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+        if (videos.isEmpty()) {
+            return;
+        }
+        valid.removeIf(index -> {
+            CompleteUploadBatchRequest.Entry entry = entries.get(index);
+            Video video = videos.get(entry.getVideoId());
+            if (video == null) {
+                return false;
+            }
+            try {
+                multipartUploadService.completeIfMultipart(video, entry.getMetadata().getParts());
+                return false;
+            } catch (GeneralException e) {
+                results[index] = failed(index, entry.getVideoId(), e.getErrorReason());
+                return true;
+            }
+        });
+    }
+
+    private int completeInTransaction(
+            List<Integer> valid,
+            List<CompleteUploadBatchRequest.Entry> entries,
+            Member member,
+            EntryResult[] results) {
+        List<Long> videoIds = valid.stream().map(i -> entries.get(i).getVideoId()).toList();
+        Map<Long, Video> videos = videoAdaptor.queryAllByIdsWithLock(videoIds).stream()
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+
+        // 예외가 나면 배치 전체가 롤백되므로 실패할 항목은 미리 걸러낸다
+        List<Integer> pending = new ArrayList<>(valid.size());
+        List<Video> completed = new ArrayList<>(valid.size());
+        for (int index : valid) {
+            CompleteUploadBatchRequest.Entry entry = entries.get(index);
+            Video video = videos.get(entry.getVideoId());
+            if (video == null) {
+                results[index] = failed(index, entry.getVideoId(), VideoErrorStatus.VIDEO_NOT_FOUND.getReason());
+            } else if (!video.getMemberId().equals(member.getId())) {
+                results[index] = failed(index, entry.getVideoId(), VideoErrorStatus.VIDEO_MEMBER_MISMATCH.getReason());
+            } else if (video.getStatus() != VideoStatus.PENDING_UPLOAD) {
+                results[index] = result(index, video, EntryStatus.ALREADY_PROCESSED);
+            } else if (!videoOriginalObjectService.retain(video)) {
+                results[index] = failed(
+                        index, entry.getVideoId(), VideoErrorStatus.VIDEO_SHARED_ORIGINAL_RELEASED.getReason());
+            } else {
+                pending.add(index);
+                completed.add(videoService.completeUpload(video, entry.getMetadata().toVideoMetadata()));
+            }
+        }
+        if (completed.isEmpty()) {
+            return 0;
+        }
+
+        int usedCredits = creditService.useCreditsForVideoProcessing(member, completed);
+
+        List<Job> jobs = jobService.createJobs(completed.stream()
+                .map(video -> Job.create(
+                        member.getId(),
+                        video.getId(),
+                        video.getOriginalFile().getS3Key(),
+                        video.getProcessingType()))
+                .toList());
+        jobOutboxService.enqueueJobsCreated(jobs, member.getId());
+        Map<Long, Job> jobsByVideoId = jobs.stream().collect(Collectors.toMap(Job::getVideoId, Function.identity()));
+
+        for (int k = 0; k < completed.size(); k++) {
+            Video video = completed.get(k);
+            String sqsMessageId = JOB_MESSAGE_ID_PREFIX + jobsByVideoId.get(video.getId()).getId();
+            video = videoService.enqueueForProcessing(video, sqsMessageId);
+            results[pending.get(k)] = result(pending.get(k), video, EntryStatus.COMPLETED);
+        }
+        return usedCredits;
+    }
+
+    private static EntryResult result(int index, Video video, EntryStatus status) {
+        return EntryResult.builder()
+                .index(index)
+                .videoId(video.getId())
+                .status(status)
+                .videoStatus(video.getStatus())
+                .sqsMessageId(video.getSqsMessageId())
+                .build();
+    }
+
+    private static EntryResult failed(int index, Long videoId, Reason reason) {
+        return EntryResult.builder()
+                .index(index)
+                .videoId(videoId)
+                .status(EntryStatus.FAILED)
+                .errorCode(reason.getCode())
+                .message(reason.getMessage())
+                .build();
+    }
+}
@@ -2,12 +2,16 @@ package com.example.echoshotx.video.application.usecase;
 
 import com.example.echoshotx.credit.application.service.CreditService;
 
+import com.example.echoshotx.job.application.service.JobOutboxService;
 import com.example.echoshotx.job.application.service.JobService;
 import com.example.echoshotx.job.domain.entity.Job;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.shared.annotation.usecase.UseCase;
-import com.example.echoshotx.shared.redis.service.RedisLockService;
 import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.lock.LockStrategyRegistry;
+import com.example.echoshotx.video.application.service.CompleteUploadSingleFlight;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.application.service.VideoOriginalObjectService;
 import com.example.echoshotx.video.application.service.VideoUploadIdempotencyService;
 import com.example.echoshotx.video.application.service.VideoService;
 import com.example.echoshotx.video.domain.entity.Video;
@@ -17,20 +21,19 @@ import com.example.echoshotx.video.domain.vo.VideoMetadata;
 import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
 import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
 
-import java.time.Duration;
 import java.util.Optional;
-import java.util.UUID;
 
 import com.example.echoshotx.video.presentation.exception.VideoHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 /**
  * 클라이언트가 S3 업로드 완료 후 호출하는 UseCase.
  *
  * <ul>
+ *   <li>멀티파트 업로드 조립 (멀티파트 모드)</li>
+ *   <li>원본 참조 등록 (같은 내용의 원본 공유)</li>
  *   <li>업로드 완료 처리</li>
  *   <li>크레딧 차감</li>
  *   <li>SQS 큐에 메시지 전송</li>
@@ -39,21 +42,21 @@ import org.springframework.util.StringUtils;
  */
 @Slf4j
 @UseCase
-@Transactional
 @RequiredArgsConstructor
 public class CompleteVideoUploadUseCase {
 
-    private static final Duration REDIS_LOCK_TTL = Duration.ofSeconds(20);
-    private static final String REDIS_LOCK_KEY_PREFIX = "video:complete:";
     private static final String JOB_MESSAGE_ID_PREFIX = "job:";
 
-    private final VideoAdaptor videoAdaptor;
     private final VideoService videoService;
     private final CreditService creditService;
     private final JobService jobService;
     private final JobOutboxService jobOutboxService;
     private final VideoUploadIdempotencyService idempotencyService;
-    private final RedisLockService redisLockService;
+    private final LockStrategyRegistry lockStrategyRegistry;
+    private final CompleteUploadSingleFlight singleFlight;
+    private final VideoAdaptor videoAdaptor;
+    private final MultipartUploadService multipartUploadService;
+    private final VideoOriginalObjectService videoOriginalObjectService;
 
     public CompleteUploadResponse execute(
             Long videoId, CompleteUploadRequest request, Member member) {
@@ -69,50 +72,53 @@ public class CompleteVideoUploadUseCase {
         String normalizedKey = normalizeIdempotencyKey(idempotencyKey);
         String requestHash = createRequestHashIfNeeded(normalizedKey, videoId, request);
 
+        if (normalizedKey == null) {
+            return executeOnce(videoId, request, member, null, null);
+        }
+
+        // 같은 멱등 키의 동시 재시도는 이 노드에서 진행 중인 실행 결과를 공유
+        return singleFlight.execute(member.getId(), videoId, normalizedKey, requestHash,
+                () -> executeOnce(videoId, request, member, normalizedKey, requestHash));
+    }
+
+    private CompleteUploadResponse executeOnce(
+            Long videoId,
+            CompleteUploadRequest request,
+            Member member,
+            String normalizedKey,
+            String requestHash) {
         Optional<CompleteUploadResponse> cachedResponse =
                 findCachedResponse(normalizedKey, member.getId(), videoId, requestHash);
         if (cachedResponse.isPresent()) {
             return cachedResponse.get();
         }
 
-        if (normalizedKey == null) {
-            return processCompleteUpload(videoId, request, member, null, null);
-        }
-
-        String lockKey = REDIS_LOCK_KEY_PREFIX + videoId;
-        String lockToken = UUID.randomUUID().toString();
-        boolean acquired = tryAcquireRedisLock(lockKey, lockToken);
-
-        if (!acquired) {
-            Optional<CompleteUploadResponse> retryCachedResponse =
-                    findCachedResponse(normalizedKey, member.getId(), videoId, requestHash);
-            if (retryCachedResponse.isPresent()) {
-                return retryCachedResponse.get();
-            }
-            log.info("Redis lock not acquired. continue with DB lock. key={}", lockKey);
-        }
+        // 멀티파트 업로드는 트랜잭션 밖에서 S3 객체를 먼저 조립한다
+        Video uploaded = videoAdaptor.queryById(videoId);
+        uploaded.validateMember(member);
+        multipartUploadService.completeIfMultipart(uploaded, request.getParts());
 
-        try {
-            return processCompleteUpload(videoId, request, member, normalizedKey, requestHash);
-        } finally {
-            releaseRedisLockIfNeeded(acquired, lockKey, lockToken);
-        }
+        // 업로드 완료 → 크레딧 차감 → outbox 기록을 한 트랜잭션으로 실행 (잠금 방식은 LockStrategyRegistry.current())
+        return lockStrategyRegistry.current().execute(
+                videoId, video -> completeUpload(video, request, member, normalizedKey, requestHash));
     }
 
-    private CompleteUploadResponse processCompleteUpload(
-            Long videoId,
+    private CompleteUploadResponse completeUpload(
+            Video video,
             CompleteUploadRequest request,
             Member member,
             String normalizedKey,
             String requestHash) {
-
-        Video video = videoAdaptor.queryByIdWithLock(videoId);
+        Long videoId = video.getId();
         video.validateMember(member);
 
         if (video.getStatus() != VideoStatus.PENDING_UPLOAD) {
             return handleAlreadyProcessedVideo(video, member.getId(), videoId, normalizedKey, requestHash);
         }
 
+        if (!videoOriginalObjectService.retain(video)) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_SHARED_ORIGINAL_RELEASED);
+        }
         VideoMetadata metadata = createVideoMetadata(request);
         video = videoService.completeUpload(video, metadata);
         creditService.useCreditsForVideoProcessing(member, video, video.getProcessingType());
@@ -173,27 +179,6 @@ public class CompleteVideoUploadUseCase {
         return idempotencyService.findSuccessResponse(memberId, videoId, normalizedKey, requestHash);
     }
 
-    private boolean tryAcquireRedisLock(String lockKey, String lockToken) {
-        try {
-            return redisLockService.tryLock(lockKey, lockToken, REDIS_LOCK_TTL);
-        } catch (RuntimeException e) {
-            log.warn("Redis lock acquire failed. fallback to DB lock. key={}", lockKey, e);
-            return false;
-        }
-    }
-
-    private void releaseRedisLockIfNeeded(boolean acquired, String lockKey, String lockToken) {
-        if (!acquired) {
-            return;
-        }
-
-        try {
-            redisLockService.unlock(lockKey, lockToken);
-        } catch (RuntimeException e) {
-            log.warn("Redis unlock failed. key={}", lockKey, e);
-        }
-    }
-
     private void cacheSuccessResponseIfNeeded(
             Long memberId,
             Long videoId,
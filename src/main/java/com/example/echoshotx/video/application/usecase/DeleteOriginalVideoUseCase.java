@@ -0,0 +1,45 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.domain.entity.Video;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리가 끝난 영상의 원본 파일을 삭제하는 UseCase.
+ *
+ * <p>다른 영상과 공유하는 원본이면 참조만 놓고, 마지막 참조일 때만 커밋 후 S3 객체를 지운다.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class DeleteOriginalVideoUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final VideoService videoService;
+    private final AwsS3Service awsS3Service;
+
+    public void execute(Long videoId, Member member) {
+        Video video = videoAdaptor.queryById(videoId);
+        video.validateMember(member);
+        if (!video.hasOriginalFile()) {
+            return;
+        }
+
+        String s3Key = video.getOriginalFile().getS3Key();
+        if (!videoService.deleteOriginal(video)) {
+            log.info("Shared original released: videoId={}, s3Key={}", videoId, s3Key);
+            return;
+        }
+        try {
+            awsS3Service.deleteFile(s3Key);
+            log.info("Original deleted: videoId={}, s3Key={}", videoId, s3Key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete original object: videoId={}, s3Key={}", videoId, s3Key, e);
+        }
+    }
+}
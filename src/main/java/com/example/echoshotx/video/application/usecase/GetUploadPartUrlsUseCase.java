@@ -0,0 +1,33 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.presentation.dto.request.UploadPartUrlsRequest;
+import com.example.echoshotx.video.presentation.dto.response.UploadPartUrlsResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멀티파트 업로드의 파트 URL 재발급 UseCase.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class GetUploadPartUrlsUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final MultipartUploadService multipartUploadService;
+
+    public UploadPartUrlsResponse execute(Long videoId, UploadPartUrlsRequest request, Member member) {
+        Video video = videoAdaptor.queryById(videoId);
+        video.validateMember(member);
+
+        List<PresignedPartUploadUrl> parts = multipartUploadService.refreshPartUrls(video, request.getPartNumbers());
+        return UploadPartUrlsResponse.of(video, parts);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.dto.UploadSessionStatus;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.presentation.dto.response.UploadSessionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멀티파트 업로드 이어 올리기 상태 조회 UseCase (앱 재시작 후 재개).
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class GetUploadSessionUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final MultipartUploadService multipartUploadService;
+
+    public UploadSessionResponse execute(Long videoId, Member member) {
+        Video video = videoAdaptor.queryById(videoId);
+        video.validateMember(member);
+
+        UploadSessionStatus status = multipartUploadService.getSessionStatus(video);
+        return UploadSessionResponse.of(video, status);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressView;
+import com.example.echoshotx.video.presentation.dto.response.VideoProgressStatusResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영상 진행률 조회 UseCase.
+ *
+ * <p>처리 중인 영상은 최신 진행률 스냅샷 캐시에서 바로 응답하고(DB 조회 없음),
+ * 캐시에 없을 때만 진행률 컬럼 projection을 조회합니다.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class GetVideoProgressUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final VideoProgressSnapshotCache videoProgressSnapshotCache;
+
+    public VideoProgressStatusResponse execute(Long videoId, Member member) {
+        // 캐시는 소유자가 일치할 때만 값을 돌려준다
+        return videoProgressSnapshotCache.get(member.getId(), videoId)
+                .map(VideoProgressStatusResponse::from)
+                .orElseGet(() -> queryFromDatabase(videoId, member));
+    }
+
+    private VideoProgressStatusResponse queryFromDatabase(Long videoId, Member member) {
+        VideoProgressView view = videoAdaptor.queryProgressView(videoId);
+        if (!view.getMemberId().equals(member.getId())) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_MEMBER_MISMATCH);
+        }
+        return VideoProgressStatusResponse.from(videoId, view);
+    }
+}
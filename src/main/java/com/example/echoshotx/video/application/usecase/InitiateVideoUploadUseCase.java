@@ -1,8 +1,12 @@
 package com.example.echoshotx.video.application.usecase;
 
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
 import com.example.echoshotx.video.application.dto.PresignedUploadUrlResponse;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.application.service.VideoOriginalObjectService;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoOriginalObject;
 import com.example.echoshotx.video.application.service.VideoService;
 import com.example.echoshotx.shared.annotation.usecase.UseCase;
 import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
@@ -13,7 +17,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -24,10 +32,22 @@ public class InitiateVideoUploadUseCase {
 
     private final VideoService videoService;
     private final AwsS3Service awsS3Service;
+    private final MultipartUploadService multipartUploadService;
+    private final VideoOriginalObjectService videoOriginalObjectService;
 
     public InitiateUploadResponse execute(InitiateUploadRequest request, Member member) {
+        String contentSha256 = normalizeContentHash(request.getContentSha256());
+        Optional<VideoOriginalObject> shared = videoOriginalObjectService.findShareable(
+                member.getId(), contentSha256, request.getFilesSizeBytes());
+        if (shared.isPresent()) {
+            return initiateDeduplicated(request, member, shared.get());
+        }
+
         String uploadId = UUID.randomUUID().toString();
         String s3Key = generateS3Key(member.getId(), uploadId, request.getFileName());
+        if (multipartUploadService.shouldUseMultipart(request.getMultipart(), request.getFilesSizeBytes())) {
+            return initiateMultipart(request, member, uploadId, s3Key, contentSha256);
+        }
         // Presigned URL 생성
         PresignedUploadUrlResponse urlResponse = awsS3Service.generateUploadUrl(
                 s3Key,
@@ -40,6 +60,7 @@ public class InitiateVideoUploadUseCase {
                 request.getFilesSizeBytes(), request.getProcessingType(),
                 s3Key, uploadId, urlResponse.getExpiresAt()
         );
+        declareOriginal(video, request, contentSha256);
 
         return InitiateUploadResponse.from(
                 video, urlResponse,
@@ -47,6 +68,56 @@ public class InitiateVideoUploadUseCase {
         );
     }
 
+    /**
+     * 멀티파트 업로드로 시작. 단일 PUT URL 대신 파트별 URL을 발급한다.
+     */
+    private InitiateUploadResponse initiateMultipart(
+            InitiateUploadRequest request, Member member, String uploadId, String s3Key, String contentSha256) {
+        LocalDateTime expiresAt = multipartUploadService.expiresAt().toInstant()
+                .atZone(ZoneId.systemDefault()).toLocalDateTime();
+        Video video = videoService.uploadVideo(
+                member.getId(), request.getFileName(),
+                request.getFilesSizeBytes(), request.getProcessingType(),
+                s3Key, uploadId, expiresAt
+        );
+        declareOriginal(video, request, contentSha256);
+        List<PresignedPartUploadUrl> parts = multipartUploadService.start(video, request.getContentType());
+        log.info("Multipart upload initiated: videoId={}, parts={}", video.getId(), video.getMultipartPartCount());
+
+        return InitiateUploadResponse.multipart(video, parts, request.getContentType(), expiresAt);
+    }
+
+    /**
+     * 같은 내용의 원본을 이미 올린 경우. 업로드 URL을 발급하지 않고 새 영상이 기존 원본 키를 공유한다.
+     * 참조는 complete-upload에서 잡는다.
+     */
+    private InitiateUploadResponse initiateDeduplicated(
+            InitiateUploadRequest request, Member member, VideoOriginalObject shared) {
+        Video video = videoService.uploadVideo(
+                member.getId(), request.getFileName(),
+                request.getFilesSizeBytes(), request.getProcessingType(),
+                shared.getS3Key(), UUID.randomUUID().toString(), null
+        );
+        video.shareOriginal(shared);
+        declareOriginal(video, request, null);
+        log.info("Upload deduplicated: videoId={}, originalObjectId={}", video.getId(), shared.getId());
+
+        return InitiateUploadResponse.deduplicated(video, request.getContentType());
+    }
+
+    private void declareOriginal(Video video, InitiateUploadRequest request, String contentSha256) {
+        if (contentSha256 != null) {
+            video.declareOriginalContentHash(contentSha256);
+        }
+        if (request.getMetadata() != null) {
+            video.declareOriginalMetadata(request.getMetadata().toVideoMetadata());
+        }
+    }
+
+    private String normalizeContentHash(String contentSha256) {
+        return contentSha256 == null ? null : contentSha256.toLowerCase(Locale.ROOT);
+    }
+
     // 구조: videos/{memberId}/original/{uploadId}/{timestamp}_{fileName}
     private String generateS3Key(Long memberId, String uploadId, String fileName) {
         String timestamp = LocalDateTime.now()
@@ -0,0 +1,189 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.shared.exception.object.general.GeneralException;
+import com.example.echoshotx.shared.exception.payload.code.Reason;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.WebhookInboxService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.WebhookBatchRequest;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse.EntryResult;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse.EntryStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * AI 서버의 배치 웹훅 UseCase.
+ *
+ * <p>항목을 videoId 순으로 정렬한 뒤 chunkSize개씩 하나의 트랜잭션으로 반영한다.
+ * 청크의 비디오는 id 순서로 한 번에 잠그므로 단건 웹훅·다른 배치와 락 순서가 엇갈리지 않는다.
+ * 없는 비디오나 전환할 수 없는 상태는 미리 걸러 항목 실패로 기록하고, 그래도 청크가 실패하면
+ * 롤백 후 해당 청크만 단건 UseCase로 다시 처리하여 항목별 결과를 만든다.
+ * inbox 모드에서는 항목별로 inbox에 저장만 한다.
+ */
+@Slf4j
+@UseCase
+public class ProcessWebhookBatchUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase;
+    private final ProcessingFailedWebhookUseCase processingFailedWebhookUseCase;
+    private final WebhookInboxService webhookInboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final WebhookProps.Batch config;
+
+    public ProcessWebhookBatchUseCase(
+            VideoAdaptor videoAdaptor,
+            ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase,
+            ProcessingFailedWebhookUseCase processingFailedWebhookUseCase,
+            WebhookInboxService webhookInboxService,
+            PlatformTransactionManager transactionManager,
+            WebhookProps webhookProps) {
+        this.videoAdaptor = videoAdaptor;
+        this.processingCompletedWebhookUseCase = processingCompletedWebhookUseCase;
+        this.processingFailedWebhookUseCase = processingFailedWebhookUseCase;
+        this.webhookInboxService = webhookInboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = webhookProps.getBatch();
+    }
+
+    public WebhookBatchResponse execute(WebhookBatchRequest request) {
+        List<WebhookBatchRequest.Entry> entries = request.getResults();
+        if (entries.size() > config.getMaxEntries()) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_WEBHOOK_BATCH_TOO_LARGE);
+        }
+        log.info("Batch webhook received: entries={}", entries.size());
+
+        EntryResult[] results = new EntryResult[entries.size()];
+        List<Integer> valid = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).isConsistent()) {
+                valid.add(i);
+            } else {
+                results[i] = failed(i, entries.get(i), VideoErrorStatus.VIDEO_WEBHOOK_BATCH_INVALID_ENTRY.getReason());
+            }
+        }
+
+        if (webhookInboxService.isEnabled()) {
+            valid.forEach(i -> results[i] = accept(i, entries.get(i)));
+            return WebhookBatchResponse.of(Arrays.asList(results));
+        }
+
+        // 같은 비디오의 항목은 요청 순서를 유지한다 (stable sort)
+        valid.sort(Comparator.comparing(i -> entries.get(i).getVideoId()));
+        int chunkSize = Math.max(1, config.getChunkSize());
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            applyChunk(chunk, entries, results);
+        }
+        return WebhookBatchResponse.of(Arrays.asList(results));
+    }
+
+    private void applyChunk(List<Integer> chunk, List<WebhookBatchRequest.Entry> entries, EntryResult[] results) {
+        try {
+            EntryResult[] chunkResults = transactionTemplate.execute(status -> applyInTransaction(chunk, entries));
+            IntStream.range(0, chunk.size()).forEach(k -> results[chunk.get(k)] = chunkResults[k]);
+        } catch (RuntimeException e) {
+            log.warn("Batch webhook chunk rolled back, retrying per entry. size={}, error={}",
+                    chunk.size(), e.getMessage());
+            chunk.forEach(i -> results[i] = applySingle(i, entries.get(i)));
+        }
+    }
+
+    private EntryResult[] applyInTransaction(List<Integer> chunk, List<WebhookBatchRequest.Entry> entries) {
+        List<Long> videoIds = chunk.stream().map(i -> entries.get(i).getVideoId()).distinct().toList();
+        Map<Long, Video> videos = videoAdaptor.queryAllByIdsWithLock(videoIds).stream()
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+
+        EntryResult[] chunkResults = new EntryResult[chunk.size()];
+        for (int k = 0; k < chunk.size(); k++) {
+            int index = chunk.get(k);
+            WebhookBatchRequest.Entry entry = entries.get(index);
+            Video video = videos.get(entry.getVideoId());
+            // 예외가 나면 청크 트랜잭션 전체가 롤백되므로 실패할 항목은 미리 걸러낸다
+            if (video == null) {
+                chunkResults[k] = failed(index, entry, VideoErrorStatus.VIDEO_NOT_FOUND.getReason());
+            } else if (!isTransitionable(video, entry.getEventType())) {
+                chunkResults[k] = failed(index, entry, VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION.getReason());
+            } else {
+                apply(video, entry);
+                chunkResults[k] = result(index, entry, EntryStatus.APPLIED);
+            }
+        }
+        return chunkResults;
+    }
+
+    private EntryResult applySingle(int index, WebhookBatchRequest.Entry entry) {
+        try {
+            if (entry.getEventType() == WebhookEventType.PROCESSING_COMPLETED) {
+                processingCompletedWebhookUseCase.execute(entry.getCompleted());
+            } else {
+                processingFailedWebhookUseCase.execute(entry.getFailed());
+            }
+            return result(index, entry, EntryStatus.APPLIED);
+        } catch (GeneralException e) {
+            return failed(index, entry, e.getErrorReason());
+        } catch (RuntimeException e) {
+            log.error("Batch webhook entry failed. videoId={}, aiJobId={}", entry.getVideoId(), entry.getAiJobId(), e);
+            return failed(index, entry, VideoErrorStatus.VIDEO_PROCESSING_FAILED.getReason());
+        }
+    }
+
+    private void apply(Video video, WebhookBatchRequest.Entry entry) {
+        if (entry.getEventType() == WebhookEventType.PROCESSING_COMPLETED) {
+            processingCompletedWebhookUseCase.apply(video, entry.getCompleted());
+        } else {
+            processingFailedWebhookUseCase.apply(video, entry.getFailed());
+        }
+    }
+
+    private EntryResult accept(int index, WebhookBatchRequest.Entry entry) {
+        Object body = entry.getEventType() == WebhookEventType.PROCESSING_COMPLETED
+                ? entry.getCompleted() : entry.getFailed();
+        boolean accepted = webhookInboxService.accept(
+                entry.getEventType(), entry.getVideoId(), entry.getAiJobId(), body);
+        return result(index, entry, accepted ? EntryStatus.ACCEPTED : EntryStatus.DUPLICATE);
+    }
+
+    private static boolean isTransitionable(Video video, WebhookEventType eventType) {
+        return eventType == WebhookEventType.PROCESSING_COMPLETED
+                ? video.canCompleteProcessing()
+                : video.canFailProcessing();
+    }
+
+    private static EntryResult result(int index, WebhookBatchRequest.Entry entry, EntryStatus status) {
+        return EntryResult.builder()
+                .index(index)
+                .videoId(entry.getVideoId())
+                .aiJobId(entry.getAiJobId())
+                .eventType(entry.getEventType())
+                .status(status)
+                .build();
+    }
+
+    private static EntryResult failed(int index, WebhookBatchRequest.Entry entry, Reason reason) {
+        return EntryResult.builder()
+                .index(index)
+                .videoId(entry.getVideoId())
+                .aiJobId(entry.getAiJobId())
+                .eventType(entry.getEventType())
+                .status(EntryStatus.FAILED)
+                .errorCode(reason.getCode())
+                .message(reason.getMessage())
+                .build();
+    }
+}
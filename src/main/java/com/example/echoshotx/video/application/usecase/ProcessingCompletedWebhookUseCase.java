@@ -2,8 +2,8 @@ package com.example.echoshotx.video.application.usecase;
 
 import com.example.echoshotx.notification.application.event.VideoProcessingCompletedEvent;
 import com.example.echoshotx.shared.annotation.usecase.UseCase;
-import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
 import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
 import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.domain.vo.ProcessedVideo;
 import com.example.echoshotx.video.domain.vo.VideoMetadata;
@@ -11,7 +11,6 @@ import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingCom
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * AI 서버에서 처리 완료 시 호출하는 Webhook UseCase.
@@ -24,17 +23,22 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Slf4j
 @UseCase
-@Transactional
 @RequiredArgsConstructor
 public class ProcessingCompletedWebhookUseCase {
 
-    private final VideoAdaptor videoAdaptor;
     private final VideoService videoService;
+    private final VideoTransitionExecutor videoTransitionExecutor;
     private final ApplicationEventPublisher eventPublisher;
 
     public void execute(WebhookProcessingCompletedRequest request) {
-        // 1. 비디오 조회
-        Video video = videoAdaptor.queryByIdWithLock(request.getVideoId());
+        // 1. 비디오 조회 및 전환 (잠금 방식은 app.video.transition.lock-mode)
+        videoTransitionExecutor.run(request.getVideoId(), video -> apply(video, request));
+    }
+
+    /**
+     * 트랜잭션 안에서 조회(또는 잠금)한 비디오에 처리 완료를 반영한다 (배치 웹훅에서 여러 비디오를 한 번에 잠근 뒤 호출).
+     */
+    public void apply(Video video, WebhookProcessingCompletedRequest request) {
         log.info(
                 "Processing completed webhook received: videoId={}, aiJobId={}",
                 request.getVideoId(),
@@ -1,17 +1,16 @@
 package com.example.echoshotx.video.application.usecase;
 
 import com.example.echoshotx.credit.application.service.CreditService;
-import com.example.echoshotx.credit.domain.util.CreditCalculator;
+import com.example.echoshotx.credit.domain.entity.CreditHistory;
 import com.example.echoshotx.notification.application.event.VideoProcessingFailedEvent;
 import com.example.echoshotx.shared.annotation.usecase.UseCase;
-import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
 import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
 import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingFailedRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * AI 서버에서 처리 실패 시 호출하는 Webhook UseCase.
@@ -24,28 +23,30 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Slf4j
 @UseCase
-@Transactional
 @RequiredArgsConstructor
 public class ProcessingFailedWebhookUseCase {
 
-    private final VideoAdaptor videoAdaptor;
     private final VideoService videoService;
+    private final VideoTransitionExecutor videoTransitionExecutor;
     private final CreditService creditService;
     private final ApplicationEventPublisher eventPublisher;
 
     public void execute(WebhookProcessingFailedRequest request) {
-        // 1. 비디오 조회
-        Video video = videoAdaptor.queryByIdWithLock(request.getVideoId());
+        // 1. 비디오 조회 및 전환 (잠금 방식은 app.video.transition.lock-mode)
+        videoTransitionExecutor.run(request.getVideoId(), video -> apply(video, request));
+    }
+
+    /**
+     * 트랜잭션 안에서 조회(또는 잠금)한 비디오에 처리 실패를 반영한다 (배치 웹훅에서 여러 비디오를 한 번에 잠근 뒤 호출).
+     */
+    public void apply(Video video, WebhookProcessingFailedRequest request) {
         log.warn(
                 "Processing failed webhook received: videoId={}, aiJobId={}, error={}",
                 request.getVideoId(),
                 request.getAiJobId(),
                 request.getErrorMessage());
 
-        // 2. 사용된 크레딧 계산 (환불을 위해)
-        int usedCredits = CreditCalculator.calculateRequiredCredits(video.getProcessingType(), video.getOriginalMetadata().getDurationSeconds());
-
-        // 3. 처리 실패 및 알림 발행 (QUEUED/PROCESSING → FAILED)
+        // 2. 처리 실패 및 알림 발행 (QUEUED/PROCESSING → FAILED)
         String errorMessage = createErrorMessage(request);
         videoService.failProcessing(video, errorMessage);
 
@@ -61,11 +62,11 @@ public class ProcessingFailedWebhookUseCase {
                 request.getVideoId(),
                 video.getRetryCount());
 
-        // 4. 크레딧 환불
-        if (usedCredits > 0) {
-            creditService.refundCreditsForVideoProcessingFailure(
-                    video.getMemberId(), video.getId(), usedCredits, "영상 처리 실패로 인한 크레딧 환불");
-            log.info("Credits refunded: videoId={}, amount={}", request.getVideoId(), usedCredits);
+        // 3. 크레딧 환불 (업로드 완료 시 실제로 차감한 금액)
+        CreditHistory refund = creditService.refundVideoProcessingCharge(
+                video.getMemberId(), video.getId(), "영상 처리 실패로 인한 크레딧 환불");
+        if (refund != null) {
+            log.info("Credits refunded: videoId={}, amount={}", request.getVideoId(), refund.getAmount());
         }
     }
 
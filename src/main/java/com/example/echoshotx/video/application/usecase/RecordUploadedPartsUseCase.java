@@ -0,0 +1,32 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.annotation.usecase.UseCase;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.dto.UploadSessionStatus;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.presentation.dto.request.UploadedPartsRequest;
+import com.example.echoshotx.video.presentation.dto.response.UploadSessionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멀티파트 업로드에서 업로드가 끝난 파트를 이어 올리기 세션에 기록하는 UseCase.
+ */
+@Slf4j
+@UseCase
+@RequiredArgsConstructor
+public class RecordUploadedPartsUseCase {
+
+    private final VideoAdaptor videoAdaptor;
+    private final MultipartUploadService multipartUploadService;
+
+    public UploadSessionResponse execute(Long videoId, UploadedPartsRequest request, Member member) {
+        Video video = videoAdaptor.queryById(videoId);
+        video.validateMember(member);
+
+        UploadSessionStatus status = multipartUploadService.recordUploadedParts(video, request.getParts());
+        return UploadSessionResponse.of(video, status);
+    }
+}
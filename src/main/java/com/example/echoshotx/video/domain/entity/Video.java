@@ -56,6 +56,24 @@ public class Video extends BaseTimeEntity {
             @AttributeOverride(name = "frameRate", column = @Column(name = "original_frame_rate"))
     })
     private VideoMetadata originalMetadata;
+
+    /**
+     * 서버가 업로드된 파일의 컨테이너 헤더로 원본 메타데이터를 확인한 시각. null이면 클라이언트가 보낸 값 그대로.
+     */
+    @Column(name = "original_metadata_verified_at")
+    private LocalDateTime originalMetadataVerifiedAt;
+
+    /**
+     * 클라이언트가 initiate-upload 때 알려준 원본 내용의 SHA-256. 있으면 업로드 완료 시 공유 가능한 원본으로 등록한다.
+     */
+    @Column(name = "original_content_sha256", length = 64)
+    private String originalContentSha256;
+
+    /**
+     * 다른 영상이 올린 원본을 공유하는 경우 그 {@link VideoOriginalObject} ID. 이 영상은 S3 업로드를 하지 않는다.
+     */
+    @Column(name = "shared_original_object_id")
+    private Long sharedOriginalObjectId;
     // ====
 
     // == 처리된 영상 파일 정보 ==
@@ -113,16 +131,15 @@ public class Video extends BaseTimeEntity {
     @Column(name = "retry_count")
     private Integer retryCount = 0;
 
-    // == 진행률 추적 ==
-    @Column(name = "processing_progress_percentage")
-    private Integer processingProgressPercentage; // 0-100
-
-    @Column(name = "estimated_time_left_seconds")
-    private Integer estimatedTimeLeftSeconds; // 예상 남은 시간 (초)
+    /**
+     * 낙관적 락 버전. optimistic 모드와 DB 잠금을 쓰지 않는 업로드 완료 전략(none, redis, striped)의 커밋 시 검사에 쓰인다.
+     * 상태를 바꾸는 모든 쓰기(JDBC 포함)는 버전을 올려야 한다.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 
-    @Column(name = "current_processing_step", length = 100)
-    private String currentProcessingStep; // 현재 처리 단계 (예: "영상 분석 중", "AI 처리 중", "인코딩 중")
-    // ====
+    // 진행률 값은 video_progress 테이블({@link VideoProgress})에 저장한다
 
     // == presigned url ==
     /**
@@ -135,6 +152,16 @@ public class Video extends BaseTimeEntity {
     @Column(name = "presigned_url_expires_at")
     private LocalDateTime presignedUrlExpiresAt;
 
+    /**
+     * S3 멀티파트 업로드 ID. 멀티파트 모드로 시작한 업로드만 값이 있다.
+     */
+    @Column(name = "s3_multipart_upload_id", length = 512)
+    private String multipartUploadId;
+
+    //멀티파트 파트 크기 (마지막 파트 제외)
+    @Column(name = "multipart_part_size_bytes")
+    private Long multipartPartSizeBytes;
+
     //업로드 완료 시간
     @Column(name = "upload_completed_at")
     private LocalDateTime uploadCompletedAt;
@@ -178,6 +205,99 @@ public class Video extends BaseTimeEntity {
 
     // business
 
+    /**
+     * 멀티파트 업로드로 시작.
+     */
+    public void startMultipartUpload(String multipartUploadId, long partSizeBytes) {
+        if (this.status != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
+        }
+        this.multipartUploadId = multipartUploadId;
+        this.multipartPartSizeBytes = partSizeBytes;
+    }
+
+    public boolean isMultipartUpload() {
+        return this.multipartUploadId != null;
+    }
+
+    /**
+     * 멀티파트 업로드의 전체 파트 수.
+     */
+    public int getMultipartPartCount() {
+        if (!isMultipartUpload()) {
+            return 0;
+        }
+        return (int) ((this.originalFile.getFileSizeBytes() + multipartPartSizeBytes - 1) / multipartPartSizeBytes);
+    }
+
+    /**
+     * 멀티파트 파트의 원본 파일 내 시작 위치 (byte).
+     */
+    public long getMultipartPartOffset(int partNumber) {
+        return (partNumber - 1L) * multipartPartSizeBytes;
+    }
+
+    /**
+     * 멀티파트 파트 크기. 마지막 파트만 나머지 크기.
+     */
+    public long getMultipartPartSize(int partNumber) {
+        return Math.min(multipartPartSizeBytes, this.originalFile.getFileSizeBytes() - getMultipartPartOffset(partNumber));
+    }
+
+    /**
+     * 업로드 세션(presigned URL, 멀티파트 업로드) 만료 여부.
+     */
+    public boolean isUploadSessionExpired(LocalDateTime now) {
+        return this.presignedUrlExpiresAt != null && now.isAfter(this.presignedUrlExpiresAt);
+    }
+
+    /**
+     * 원본 내용 해시 기록 (initiate-upload).
+     */
+    public void declareOriginalContentHash(String contentSha256) {
+        if (this.status != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
+        }
+        this.originalContentSha256 = contentSha256;
+    }
+
+    /**
+     * 이미 올라간 같은 내용의 원본을 공유한다. 원본 S3 키는 공유 객체의 키를 그대로 쓴다.
+     */
+    public void shareOriginal(VideoOriginalObject originalObject) {
+        if (this.status != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
+        }
+        if (!this.originalFile.getS3Key().equals(originalObject.getS3Key())) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_S3_KEY);
+        }
+        this.originalContentSha256 = originalObject.getContentSha256();
+        this.sharedOriginalObjectId = originalObject.getId();
+    }
+
+    public boolean isSharedOriginal() {
+        return this.sharedOriginalObjectId != null;
+    }
+
+    /**
+     * 업로드 전에 클라이언트가 알려준 원본 메타데이터 기록.
+     * 기록된 영상은 S3 업로드 이벤트만으로 업로드 완료 처리할 수 있다.
+     */
+    public void declareOriginalMetadata(VideoMetadata metadata) {
+        if (this.status != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
+        }
+        this.originalMetadata = metadata;
+    }
+
+    /**
+     * 업로드 전에 기록된 원본 메타데이터가 있는지 여부.
+     */
+    public boolean hasDeclaredOriginalMetadata() {
+        return this.status == VideoStatus.PENDING_UPLOAD && this.originalMetadata != null
+                && this.originalMetadata.getDurationSeconds() != null;
+    }
+
     /**
      * 업로드 완료 처리 (클라이언트가 S3 업로드 완료 후 호출).
      */
@@ -210,41 +330,64 @@ public class Video extends BaseTimeEntity {
         }
         this.status = VideoStatus.PROCESSING;
         this.aiJobId = aiJobId;
-        this.processingProgressPercentage = 0; // 초기화
     }
 
     /**
-     * 처리 진행률 업데이트.
+     * 처리 진행률 보고.
      *
-     * <p>첫 번째 진행률 업데이트가 오면 자동으로 QUEUED → PROCESSING 상태로 전환한다.
+     * <p>첫 번째 진행률 보고가 오면 자동으로 QUEUED → PROCESSING 상태로 전환한다.
      * 이는 AI Worker가 실제로 처리를 시작했음을 의미한다.
+     * 진행률 값 자체는 video_progress 테이블에 별도로 저장한다.
      */
-    public void updateProcessingProgress(
-            Integer progressPercentage, Integer estimatedTimeLeft, String currentStep) {
-        if (this.status != VideoStatus.PROCESSING && this.status != VideoStatus.QUEUED) {
+    public void reportProgress(Integer progressPercentage) {
+        if (!isProgressUpdatable(this.status)) {
             throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_FOR_PROGRESS_UPDATE);
         }
 
-        if (progressPercentage != null && (progressPercentage < 0 || progressPercentage > 100)) {
-            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_PROGRESS_PERCENTAGE);
-        }
+        validateProgressPercentage(progressPercentage);
 
-        // QUEUED 상태에서 첫 진행률 업데이트가 오면 PROCESSING으로 자동 전환
+        // QUEUED 상태에서 첫 진행률 보고가 오면 PROCESSING으로 자동 전환
         if (this.status == VideoStatus.QUEUED) {
             this.status = VideoStatus.PROCESSING;
             this.processingStartedAt = LocalDateTime.now();
         }
+    }
 
-        this.processingProgressPercentage = progressPercentage;
-        this.estimatedTimeLeftSeconds = estimatedTimeLeft;
-        this.currentProcessingStep = currentStep;
+    /**
+     * 진행률 업데이트가 허용되는 상태인지 여부 (QUEUED, PROCESSING).
+     */
+    public static boolean isProgressUpdatable(VideoStatus status) {
+        return status == VideoStatus.PROCESSING || status == VideoStatus.QUEUED;
+    }
+
+    /**
+     * 진행률 범위(0-100) 검증.
+     */
+    public static void validateProgressPercentage(Integer progressPercentage) {
+        if (progressPercentage != null && (progressPercentage < 0 || progressPercentage > 100)) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_PROGRESS_PERCENTAGE);
+        }
+    }
+
+    /**
+     * 처리 완료로 전환할 수 있는 상태인지 여부 (QUEUED, PROCESSING).
+     */
+    public boolean canCompleteProcessing() {
+        return this.status == VideoStatus.PROCESSING || this.status == VideoStatus.QUEUED;
+    }
+
+    /**
+     * 처리 실패로 전환할 수 있는 상태인지 여부 (UPLOAD_COMPLETED, QUEUED, PROCESSING).
+     */
+    public boolean canFailProcessing() {
+        return canCompleteProcessing() || this.status == VideoStatus.UPLOAD_COMPLETED;
     }
 
     /**
      * AI 처리 완료.
      */
     public void completeProcessing(ProcessedVideo processedVideo, VideoMetadata processedMetadata) {
-        if (this.status != VideoStatus.PROCESSING && this.status != VideoStatus.QUEUED) {
+        if (!canCompleteProcessing()) {
             throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
         }
         this.status = VideoStatus.COMPLETED;
@@ -260,9 +403,7 @@ public class Video extends BaseTimeEntity {
      * UPLOAD_COMPLETED, QUEUED, PROCESSING 상태에서 모두 실패 처리가 가능하다.
      */
     public void failProcessing(String errorMessage) {
-        if (this.status != VideoStatus.PROCESSING
-                && this.status != VideoStatus.QUEUED
-                && this.status != VideoStatus.UPLOAD_COMPLETED) {
+        if (!canFailProcessing()) {
             throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
         }
         this.status = VideoStatus.FAILED;
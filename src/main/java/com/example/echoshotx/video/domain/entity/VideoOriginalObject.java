@@ -0,0 +1,62 @@
+package com.example.echoshotx.video.domain.entity;
+
+import com.example.echoshotx.shared.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 여러 영상이 공유할 수 있는 원본 S3 객체.
+ *
+ * <p>내용 해시(SHA-256)와 크기가 같은 원본은 회원별로 하나만 두고, 이 객체를 원본으로 쓰는 업로드 완료 영상 수를
+ * referenceCount로 센다. 원본 삭제는 참조를 하나 놓고, 마지막 참조가 놓일 때만 행과 S3 객체를 지운다.
+ */
+@Getter
+@Entity
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "video_original_object",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_video_original_object_content",
+                        columnNames = {"member_id", "content_sha256", "file_size_bytes"}),
+                @UniqueConstraint(name = "uk_video_original_object_s3_key", columnNames = {"s3_key"})
+        })
+public class VideoOriginalObject extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    /**
+     * 클라이언트가 계산한 원본 내용의 SHA-256 (소문자 hex).
+     */
+    @Column(name = "content_sha256", nullable = false, length = 64)
+    private String contentSha256;
+
+    @Column(name = "file_size_bytes", nullable = false)
+    private Long fileSizeBytes;
+
+    @Column(name = "s3_key", nullable = false)
+    private String s3Key;
+
+    /**
+     * 이 객체를 원본으로 쓰는 업로드 완료 영상 수. 0이 되는 트랜잭션에서 행을 지운다.
+     */
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+}
@@ -0,0 +1,45 @@
+package com.example.echoshotx.video.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비디오 처리 진행률 (video 행에서 분리한 좁은 테이블).
+ *
+ * <p>진행률은 초당 여러 번 갱신되지만 video 행은 webhook/업로드 완료 처리에서 비관적 락으로 잡히므로,
+ * 진행률 쓰기가 그 락과 경쟁하지 않도록 별도 행에 upsert 한다.
+ * 쓰기는 {@code VideoProgressJdbcRepository}의 배치 upsert로만 수행하고, 엔티티는 조회 join과 스키마 정의에 사용한다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "video_progress")
+public class VideoProgress {
+
+    @Id
+    @Column(name = "video_id")
+    private Long videoId;
+
+    @Column(name = "progress_percentage")
+    private Integer progressPercentage; // 0-100
+
+    @Column(name = "estimated_time_left_seconds")
+    private Integer estimatedTimeLeftSeconds;
+
+    @Column(name = "current_step", length = 100)
+    private String currentStep;
+
+    /** AI 서버가 진행률을 보고한 시각 */
+    @Column(name = "reported_at", nullable = false)
+    private LocalDateTime reportedAt;
+}
@@ -6,27 +6,30 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
 
 @Getter
 @Entity
-@Builder
+@SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(
-        name = "video_upload_idempotency_record",
+        name = "video_upload_idempotency",
         uniqueConstraints = {
                 @UniqueConstraint(
                         name = "uk_video_upload_idempotency_key",
                         columnNames = {"member_id", "video_id", "idempotency_key"})
+        },
+        indexes = {
+                @Index(name = "idx_video_upload_idempotency_expires_at", columnList = "expires_at")
         })
 public class VideoUploadIdempotencyRecord extends BaseTimeEntity {
 
@@ -49,9 +52,11 @@ public class VideoUploadIdempotencyRecord extends BaseTimeEntity {
     @Column(name = "response_status", nullable = false)
     private Integer responseStatus;
 
-    @Lob
-    @Column(name = "response_body", nullable = false)
-    private String responseBody;
+    /**
+     * 응답 바이너리 인코딩 (CompleteUploadResponseCodec). 행 안에 저장되도록 작은 varbinary를 쓴다.
+     */
+    @Column(name = "response_payload", nullable = false, columnDefinition = "varbinary(512)")
+    private byte[] responsePayload;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -62,7 +67,7 @@ public class VideoUploadIdempotencyRecord extends BaseTimeEntity {
             String idempotencyKey,
             String requestHash,
             Integer responseStatus,
-            String responseBody,
+            byte[] responsePayload,
             LocalDateTime expiresAt) {
         return VideoUploadIdempotencyRecord.builder()
                 .memberId(memberId)
@@ -70,7 +75,7 @@ public class VideoUploadIdempotencyRecord extends BaseTimeEntity {
                 .idempotencyKey(idempotencyKey)
                 .requestHash(requestHash)
                 .responseStatus(responseStatus)
-                .responseBody(responseBody)
+                .responsePayload(responsePayload)
                 .expiresAt(expiresAt)
                 .build();
     }
@@ -0,0 +1,6 @@
+package com.example.echoshotx.video.domain.entity;
+
+public enum WebhookEventType {
+    PROCESSING_COMPLETED,
+    PROCESSING_FAILED
+}
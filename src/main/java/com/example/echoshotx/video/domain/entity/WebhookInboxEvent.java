@@ -0,0 +1,127 @@
+package com.example.echoshotx.video.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수신한 AI 웹훅 (inbox).
+ *
+ * <p>(ai_job_id, event_type) 유니크 제약으로 AI 서버의 재전송을 한 번만 저장한다.
+ * worker는 claim_token을 기록하는 조건부 UPDATE로 행을 선점한 뒤 처리한다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "webhook_inbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_webhook_inbox_job_event", columnNames = {"ai_job_id", "event_type"})
+        },
+        indexes = {
+                @Index(name = "idx_webhook_inbox_status_next", columnList = "status, next_attempt_at")
+        }
+)
+public class WebhookInboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "video_id", nullable = false)
+    private Long videoId;
+
+    @Column(name = "ai_job_id", nullable = false, length = 100)
+    private String aiJobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private WebhookEventType eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WebhookInboxStatus status;
+
+    @Builder.Default
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static WebhookInboxEvent pending(
+            Long videoId, String aiJobId, WebhookEventType eventType, String payload, LocalDateTime now) {
+        return WebhookInboxEvent.builder()
+                .videoId(videoId)
+                .aiJobId(aiJobId)
+                .eventType(eventType)
+                .payload(payload)
+                .status(WebhookInboxStatus.PENDING)
+                .retryCount(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void markDone(LocalDateTime now) {
+        this.status = WebhookInboxStatus.DONE;
+        this.processedAt = now;
+        this.claimToken = null;
+        this.lastError = null;
+    }
+
+    public void markRetry(LocalDateTime now, Exception e) {
+        this.status = WebhookInboxStatus.PENDING;
+        this.retryCount += 1;
+        this.nextAttemptAt = now.plusSeconds(Math.min(60L, 1L << Math.min(this.retryCount, 6)));
+        this.claimToken = null;
+        this.lastError = truncate(e.getMessage());
+    }
+
+    public void markFailed(LocalDateTime now, Exception e) {
+        this.status = WebhookInboxStatus.FAILED;
+        this.processedAt = now;
+        this.claimToken = null;
+        this.lastError = truncate(e.getMessage());
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
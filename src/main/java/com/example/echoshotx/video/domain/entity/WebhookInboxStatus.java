@@ -0,0 +1,8 @@
+package com.example.echoshotx.video.domain.entity;
+
+public enum WebhookInboxStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
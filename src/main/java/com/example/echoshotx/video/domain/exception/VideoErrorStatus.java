@@ -47,10 +47,27 @@ public enum VideoErrorStatus implements BaseCode {
     VIDEO_IDEMPOTENCY_SERIALIZATION_FAILED(INTERNAL_SERVER_ERROR, 4334, "멱등 응답 직렬화에 실패했습니다."),
     VIDEO_IDEMPOTENCY_DESERIALIZATION_FAILED(INTERNAL_SERVER_ERROR, 4335, "멱등 응답 역직렬화에 실패했습니다."),
     VIDEO_IDEMPOTENCY_HASH_FAILED(INTERNAL_SERVER_ERROR, 4336, "멱등 요청 해시 생성에 실패했습니다."),
+    VIDEO_WEBHOOK_BATCH_TOO_LARGE(BAD_REQUEST, 4337, "배치 웹훅의 항목 수가 허용 범위를 초과했습니다."),
+    VIDEO_WEBHOOK_BATCH_INVALID_ENTRY(BAD_REQUEST, 4338, "배치 웹훅 항목의 이벤트 타입과 본문이 일치하지 않습니다."),
+    VIDEO_TRANSITION_CONFLICT(CONFLICT, 4339, "다른 요청이 영상 상태를 먼저 변경했습니다. 잠시 후 다시 시도해주세요."),
 
     // 진행률 관련 에러 (4340 ~ 4350)
     VIDEO_INVALID_STATUS_FOR_PROGRESS_UPDATE(BAD_REQUEST, 4340, "진행률을 업데이트할 수 없는 상태입니다."),
-    VIDEO_INVALID_PROGRESS_PERCENTAGE(BAD_REQUEST, 4341, "진행률은 0에서 100 사이여야 합니다.");
+    VIDEO_INVALID_PROGRESS_PERCENTAGE(BAD_REQUEST, 4341, "진행률은 0에서 100 사이여야 합니다."),
+
+    // 배치 업로드 완료 관련 에러 (4350 ~ 4360)
+    VIDEO_COMPLETE_UPLOAD_BATCH_TOO_LARGE(BAD_REQUEST, 4350, "배치 업로드 완료 요청의 영상 수가 허용 범위를 초과했습니다."),
+    VIDEO_COMPLETE_UPLOAD_BATCH_DUPLICATE_VIDEO(BAD_REQUEST, 4351, "배치 업로드 완료 요청에 같은 영상이 중복되었습니다."),
+
+    // 멀티파트 업로드 관련 에러 (4360 ~ 4370)
+    VIDEO_NOT_MULTIPART_UPLOAD(BAD_REQUEST, 4360, "멀티파트 업로드로 시작한 영상이 아닙니다."),
+    VIDEO_INVALID_PART_NUMBER(BAD_REQUEST, 4361, "유효하지 않은 파트 번호입니다."),
+    VIDEO_MULTIPART_PARTS_REQUIRED(BAD_REQUEST, 4362, "멀티파트 업로드를 완료하려면 모든 파트의 ETag가 필요합니다."),
+    VIDEO_MULTIPART_TOO_MANY_PART_URLS(BAD_REQUEST, 4363, "한 번에 요청할 수 있는 파트 URL 수를 초과했습니다."),
+    VIDEO_UPLOAD_SESSION_EXPIRED(GONE, 4364, "업로드 세션이 만료되었습니다. 업로드를 다시 시작해주세요."),
+
+    // 원본 공유(중복 업로드 제거) 관련 에러 (4370 ~ 4380)
+    VIDEO_SHARED_ORIGINAL_RELEASED(GONE, 4370, "공유하던 원본 파일이 삭제되었습니다. 업로드를 다시 시작해주세요.");
 
     private final HttpStatus httpStatus;
     private final Integer code;
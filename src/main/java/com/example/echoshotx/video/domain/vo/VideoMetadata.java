@@ -20,4 +20,21 @@ public class VideoMetadata {
     private Long bitrate;              // 비트레이트
     private Double frameRate;          // 프레임 레이트
 
+    /**
+     * 이 값이 없는 필드는 fallback 값으로 채운다.
+     */
+    public VideoMetadata orElse(VideoMetadata fallback) {
+        if (fallback == null) {
+            return this;
+        }
+        return VideoMetadata.builder()
+                .durationSeconds(durationSeconds != null ? durationSeconds : fallback.durationSeconds)
+                .width(width != null ? width : fallback.width)
+                .height(height != null ? height : fallback.height)
+                .codec(codec != null ? codec : fallback.codec)
+                .bitrate(bitrate != null ? bitrate : fallback.bitrate)
+                .frameRate(frameRate != null ? frameRate : fallback.frameRate)
+                .build();
+    }
+
 }
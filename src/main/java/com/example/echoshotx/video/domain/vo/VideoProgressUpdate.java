@@ -0,0 +1,20 @@
+package com.example.echoshotx.video.domain.vo;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 영속화 대기 중인 최신 진행률 스냅샷.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VideoProgressUpdate {
+    private final Long videoId;
+    private final Integer progressPercentage;
+    private final Integer estimatedTimeLeftSeconds;
+    private final String currentStep;
+    private final LocalDateTime reportedAt;
+}
@@ -0,0 +1,52 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영상 파일 전체를 받지 않고 컨테이너 헤더 구간만 읽어 메타데이터를 추출한다.
+ *
+ * <p>앞부분(headBytes)을 한 번 읽어 컨테이너를 판별하고, MP4/MOV는 moov, MKV/WebM은 Info/Tracks 구간만 추가로 읽는다.
+ * 비트레이트는 파일 크기와 길이로 계산한 전체 평균값이다. 지원하지 않는 형식이면 empty.
+ */
+@Component
+public class ContainerMetadataExtractor {
+
+    private final VideoProps.MetadataExtraction config;
+
+    public ContainerMetadataExtractor(VideoProps videoProps) {
+        this.config = videoProps.getMetadataExtraction();
+    }
+
+    public Optional<VideoMetadata> extract(RangeReader reader) {
+        ByteBuffer head = reader.read(0, (int) Math.min(reader.size(), config.getHeadBytes()));
+
+        Optional<VideoMetadata> metadata;
+        if (Mp4MetadataParser.supports(head)) {
+            metadata = Mp4MetadataParser.parse(reader, head, config.getMaxMetadataBytes());
+        } else if (MatroskaMetadataParser.supports(head)) {
+            metadata = MatroskaMetadataParser.parse(reader, head, config.getMaxMetadataBytes());
+        } else {
+            metadata = Optional.empty();
+        }
+        return metadata.map(parsed -> withBitrate(parsed, reader.size()));
+    }
+
+    private static VideoMetadata withBitrate(VideoMetadata metadata, long fileSizeBytes) {
+        Double duration = metadata.getDurationSeconds();
+        if (duration == null || duration <= 0) {
+            return metadata;
+        }
+        return VideoMetadata.builder()
+                .durationSeconds(duration)
+                .width(metadata.getWidth())
+                .height(metadata.getHeight())
+                .codec(metadata.getCodec())
+                .bitrate(Math.round(fileSizeBytes * 8 / duration))
+                .frameRate(metadata.getFrameRate())
+                .build();
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * MKV/WebM(EBML) 메타데이터 파서.
+ *
+ * <p>Segment 앞부분에서 Info(길이), Tracks(첫 비디오 트랙의 코덱·해상도·프레임 레이트)를 찾는다.
+ * Cluster가 먼저 나오면 더 읽지 않고, SeekHead가 가리키는 위치의 Info/Tracks만 ranged read로 읽는다.
+ * 요소 객체를 만들지 않고 버퍼의 절대 위치로만 읽는다.
+ */
+final class MatroskaMetadataParser {
+
+    private static final int EBML = 0x1A45DFA3;
+    private static final int SEGMENT = 0x18538067;
+    private static final int SEEK_HEAD = 0x114D9B74;
+    private static final int SEEK = 0x4DBB;
+    private static final int SEEK_ID = 0x53AB;
+    private static final int SEEK_POSITION = 0x53AC;
+    private static final int INFO = 0x1549A966;
+    private static final int TIMECODE_SCALE = 0x2AD7B1;
+    private static final int DURATION = 0x4489;
+    private static final int TRACKS = 0x1654AE6B;
+    private static final int TRACK_ENTRY = 0xAE;
+    private static final int TRACK_TYPE = 0x83;
+    private static final int CODEC_ID = 0x86;
+    private static final int DEFAULT_DURATION = 0x23E383;
+    private static final int VIDEO = 0xE0;
+    private static final int PIXEL_WIDTH = 0xB0;
+    private static final int PIXEL_HEIGHT = 0xBA;
+    private static final int CLUSTER = 0x1F43B675;
+
+    private static final int TRACK_TYPE_VIDEO = 1;
+    private static final long DEFAULT_TIMECODE_SCALE = 1_000_000L;
+    /** 요소 헤더 최대 길이 (ID 4 + size 8) */
+    private static final int MAX_HEADER_BYTES = 12;
+
+    private MatroskaMetadataParser() {
+    }
+
+    static boolean supports(ByteBuffer head) {
+        return head.limit() >= 4 && head.getInt(0) == EBML;
+    }
+
+    static Optional<VideoMetadata> parse(RangeReader reader, ByteBuffer head, int maxElementBytes) {
+        Header header = new Header();
+        Scan scan = new Scan();
+        int end = head.limit();
+
+        if (!readHeader(head, 0, end, header) || header.id != EBML || header.size < 0) {
+            return Optional.empty();
+        }
+        if (!readHeader(head, (int) (header.dataStart + header.size), end, header) || header.id != SEGMENT) {
+            return Optional.empty();
+        }
+        long segmentStart = header.dataStart;
+
+        long pos = segmentStart;
+        while (pos < end && !(scan.infoFound && scan.tracksFound)) {
+            if (!readHeader(head, (int) pos, end, header) || header.id == CLUSTER || header.size < 0) {
+                break;
+            }
+            int id = header.id;
+            long elementEnd = header.dataStart + header.size;
+            if (id == INFO || id == TRACKS || id == SEEK_HEAD) {
+                if (elementEnd <= end) {
+                    parseLevel1(head, id, header.dataStart, (int) elementEnd, scan);
+                } else {
+                    readElementAt(reader, pos, maxElementBytes, header, scan);
+                }
+            }
+            pos = elementEnd;
+        }
+
+        if (!scan.infoFound && scan.infoPosition >= 0) {
+            readElementAt(reader, segmentStart + scan.infoPosition, maxElementBytes, header, scan);
+        }
+        if (!scan.tracksFound && scan.tracksPosition >= 0) {
+            readElementAt(reader, segmentStart + scan.tracksPosition, maxElementBytes, header, scan);
+        }
+        if (!scan.videoFound) {
+            return Optional.empty();
+        }
+
+        Double durationSeconds = scan.duration > 0 ? scan.duration * scan.timecodeScale / 1_000_000_000d : null;
+        Double frameRate = scan.videoDefaultDuration > 0
+                ? Math.round(1_000_000_000d / scan.videoDefaultDuration * 1000) / 1000.0
+                : null;
+        return Optional.of(VideoMetadata.builder()
+                .durationSeconds(durationSeconds)
+                .width(scan.videoWidth > 0 ? scan.videoWidth : null)
+                .height(scan.videoHeight > 0 ? scan.videoHeight : null)
+                .codec(codecName(scan.videoCodec))
+                .frameRate(frameRate)
+                .build());
+    }
+
+    /**
+     * head 밖의 Info/Tracks/SeekHead 요소를 헤더 → 본문 순서로 읽는다.
+     */
+    private static void readElementAt(RangeReader reader, long offset, int maxElementBytes, Header header, Scan scan) {
+        ByteBuffer headerBuffer = reader.read(offset, MAX_HEADER_BYTES);
+        if (!readHeader(headerBuffer, 0, headerBuffer.limit(), header) || header.size < 0) {
+            return;
+        }
+        int id = header.id;
+        if (id != INFO && id != TRACKS && id != SEEK_HEAD) {
+            return;
+        }
+        long length = header.dataStart + header.size;
+        if (length > maxElementBytes) {
+            return;
+        }
+        ByteBuffer element = reader.read(offset, (int) length);
+        if (element.limit() < length) {
+            return;
+        }
+        parseLevel1(element, id, header.dataStart, (int) length, scan);
+    }
+
+    private static void parseLevel1(ByteBuffer buf, int id, int start, int end, Scan scan) {
+        if (id == INFO) {
+            parseInfo(buf, start, end, scan);
+        } else if (id == TRACKS) {
+            scan.tracksFound = true;
+            forEachChild(buf, start, end, TRACK_ENTRY, scan, MatroskaMetadataParser::parseTrackEntry);
+        } else if (id == SEEK_HEAD) {
+            forEachChild(buf, start, end, SEEK, scan, MatroskaMetadataParser::parseSeek);
+        }
+    }
+
+    private static void parseInfo(ByteBuffer buf, int start, int end, Scan scan) {
+        scan.infoFound = true;
+        Header header = new Header();
+        for (int pos = start; readChild(buf, pos, end, header); pos = header.next()) {
+            if (header.id == TIMECODE_SCALE) {
+                long scale = readUnsigned(buf, header.dataStart, (int) header.size);
+                scan.timecodeScale = scale > 0 ? scale : DEFAULT_TIMECODE_SCALE;
+            } else if (header.id == DURATION) {
+                scan.duration = header.size == 4
+                        ? buf.getFloat(header.dataStart)
+                        : header.size == 8 ? buf.getDouble(header.dataStart) : 0;
+            }
+        }
+    }
+
+    private static void parseTrackEntry(ByteBuffer buf, int start, int end, Scan scan) {
+        if (scan.videoFound) {
+            return;
+        }
+        long trackType = 0;
+        long defaultDuration = 0;
+        int width = 0;
+        int height = 0;
+        int codecStart = -1;
+        int codecLength = 0;
+
+        Header header = new Header();
+        for (int pos = start; readChild(buf, pos, end, header); pos = header.next()) {
+            if (header.id == TRACK_TYPE) {
+                trackType = readUnsigned(buf, header.dataStart, (int) header.size);
+            } else if (header.id == CODEC_ID) {
+                codecStart = header.dataStart;
+                codecLength = (int) header.size;
+            } else if (header.id == DEFAULT_DURATION) {
+                defaultDuration = readUnsigned(buf, header.dataStart, (int) header.size);
+            } else if (header.id == VIDEO) {
+                Header child = new Header();
+                int videoEnd = header.next();
+                for (int p = header.dataStart; readChild(buf, p, videoEnd, child); p = child.next()) {
+                    if (child.id == PIXEL_WIDTH) {
+                        width = (int) readUnsigned(buf, child.dataStart, (int) child.size);
+                    } else if (child.id == PIXEL_HEIGHT) {
+                        height = (int) readUnsigned(buf, child.dataStart, (int) child.size);
+                    }
+                }
+            }
+        }
+
+        if (trackType != TRACK_TYPE_VIDEO) {
+            return;
+        }
+        scan.videoFound = true;
+        scan.videoWidth = width;
+        scan.videoHeight = height;
+        scan.videoDefaultDuration = defaultDuration;
+        if (codecStart >= 0) {
+            byte[] codec = new byte[codecLength];
+            buf.get(codecStart, codec);
+            scan.videoCodec = new String(codec, StandardCharsets.US_ASCII).trim();
+        }
+    }
+
+    private static void parseSeek(ByteBuffer buf, int start, int end, Scan scan) {
+        long seekId = 0;
+        long position = -1;
+        Header header = new Header();
+        for (int pos = start; readChild(buf, pos, end, header); pos = header.next()) {
+            if (header.id == SEEK_ID) {
+                seekId = readUnsigned(buf, header.dataStart, (int) header.size);
+            } else if (header.id == SEEK_POSITION) {
+                position = readUnsigned(buf, header.dataStart, (int) header.size);
+            }
+        }
+        if (seekId == INFO) {
+            scan.infoPosition = position;
+        } else if (seekId == TRACKS) {
+            scan.tracksPosition = position;
+        }
+    }
+
+    private static void forEachChild(ByteBuffer buf, int start, int end, int childId, Scan scan, ElementHandler handler) {
+        Header header = new Header();
+        for (int pos = start; readChild(buf, pos, end, header); pos = header.next()) {
+            if (header.id == childId) {
+                handler.handle(buf, header.dataStart, header.next(), scan);
+            }
+        }
+    }
+
+    /**
+     * 크기를 알고 본문이 end 안에 있는 하위 요소 헤더만 읽는다.
+     */
+    private static boolean readChild(ByteBuffer buf, int pos, int end, Header header) {
+        return readHeader(buf, pos, end, header) && header.size >= 0 && header.dataStart + header.size <= end;
+    }
+
+    /**
+     * pos의 요소 헤더(ID, 크기)를 읽는다. 크기를 모르면(unknown size) size=-1.
+     * 헤더가 end를 넘으면 false (본문은 검사하지 않는다).
+     */
+    private static boolean readHeader(ByteBuffer buf, int pos, int end, Header header) {
+        if (pos < 0 || pos >= end) {
+            return false;
+        }
+        int idLength = vintLength(buf.get(pos) & 0xFF);
+        if (idLength == 0 || idLength > 4 || pos + idLength >= end) {
+            return false;
+        }
+        int sizePos = pos + idLength;
+        int sizeLength = vintLength(buf.get(sizePos) & 0xFF);
+        if (sizeLength == 0 || sizePos + sizeLength > end) {
+            return false;
+        }
+
+        long size = buf.get(sizePos) & (0xFF >>> sizeLength);
+        boolean unknown = size == (0xFF >>> sizeLength);
+        for (int i = 1; i < sizeLength; i++) {
+            int b = buf.get(sizePos + i) & 0xFF;
+            unknown &= b == 0xFF;
+            size = (size << 8) | b;
+        }
+
+        header.id = (int) readUnsigned(buf, pos, idLength);
+        header.dataStart = sizePos + sizeLength;
+        header.size = unknown ? -1 : size;
+        return true;
+    }
+
+    private static int vintLength(int firstByte) {
+        return firstByte == 0 ? 0 : Integer.numberOfLeadingZeros(firstByte) - 23;
+    }
+
+    private static long readUnsigned(ByteBuffer buf, int pos, int length) {
+        long value = 0;
+        for (int i = 0; i < Math.min(length, 8); i++) {
+            value = (value << 8) | (buf.get(pos + i) & 0xFF);
+        }
+        return value;
+    }
+
+    private static String codecName(String codecId) {
+        if (codecId == null || codecId.isEmpty()) {
+            return null;
+        }
+        return switch (codecId) {
+            case "V_MPEG4/ISO/AVC" -> "h264";
+            case "V_MPEGH/ISO/HEVC" -> "hevc";
+            case "V_AV1" -> "av1";
+            case "V_VP8" -> "vp8";
+            case "V_VP9" -> "vp9";
+            case "V_MPEG4/ISO/SP", "V_MPEG4/ISO/ASP", "V_MPEG4/ISO/AP" -> "mpeg4";
+            case "V_PRORES" -> "prores";
+            default -> codecId.startsWith("V_") ? codecId.substring(2).toLowerCase() : codecId.toLowerCase();
+        };
+    }
+
+    @FunctionalInterface
+    private interface ElementHandler {
+        void handle(ByteBuffer buf, int start, int end, Scan scan);
+    }
+
+    private static final class Header {
+        int id;
+        int dataStart;
+        long size;
+
+        int next() {
+            return (int) (dataStart + size);
+        }
+    }
+
+    private static final class Scan {
+        boolean infoFound;
+        boolean tracksFound;
+        long infoPosition = -1;
+        long tracksPosition = -1;
+
+        long timecodeScale = DEFAULT_TIMECODE_SCALE;
+        double duration;
+
+        boolean videoFound;
+        int videoWidth;
+        int videoHeight;
+        long videoDefaultDuration;
+        String videoCodec;
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * MP4/MOV(ISO BMFF) 메타데이터 파서.
+ *
+ * <p>최상위 박스 헤더만 따라가며 {@code moov} 위치를 찾고({@code mdat}은 읽지 않고 건너뜀),
+ * {@code moov} 구간만 읽어 mvhd(길이), 첫 비디오 trak의 tkhd(해상도), stsd(코덱), mdhd/stts(프레임 레이트)를 읽는다.
+ * 박스 객체를 만들지 않고 버퍼의 절대 위치로만 읽는다.
+ */
+final class Mp4MetadataParser {
+
+    private static final int FTYP = fourcc("ftyp");
+    private static final int MOOV = fourcc("moov");
+    private static final int MDAT = fourcc("mdat");
+    private static final int FREE = fourcc("free");
+    private static final int SKIP = fourcc("skip");
+    private static final int WIDE = fourcc("wide");
+    private static final int MVHD = fourcc("mvhd");
+    private static final int TRAK = fourcc("trak");
+    private static final int TKHD = fourcc("tkhd");
+    private static final int MDIA = fourcc("mdia");
+    private static final int MDHD = fourcc("mdhd");
+    private static final int HDLR = fourcc("hdlr");
+    private static final int MINF = fourcc("minf");
+    private static final int STBL = fourcc("stbl");
+    private static final int STSD = fourcc("stsd");
+    private static final int STTS = fourcc("stts");
+    private static final int VIDE = fourcc("vide");
+
+    /** 최상위 박스 헤더 (size 4 + type 4 + largesize 8) */
+    private static final int MAX_HEADER_BYTES = 16;
+
+    private Mp4MetadataParser() {
+    }
+
+    static boolean supports(ByteBuffer head) {
+        if (head.limit() < 8) {
+            return false;
+        }
+        int type = head.getInt(4);
+        return type == FTYP || type == MOOV || type == MDAT || type == FREE || type == SKIP || type == WIDE;
+    }
+
+    static Optional<VideoMetadata> parse(RangeReader reader, ByteBuffer head, int maxMoovBytes) {
+        long fileSize = reader.size();
+        long offset = 0;
+        while (offset + 8 <= fileSize) {
+            // head 안의 박스는 그대로, 그 뒤(mdat 이후의 moov 등)는 헤더 16바이트만 읽는다
+            ByteBuffer header = head;
+            int base = (int) Math.min(offset, Integer.MAX_VALUE);
+            if (offset + MAX_HEADER_BYTES > head.limit()) {
+                header = reader.read(offset, MAX_HEADER_BYTES);
+                base = 0;
+                if (header.limit() < 8) {
+                    return Optional.empty();
+                }
+            }
+
+            long size = header.getInt(base) & 0xFFFFFFFFL;
+            int type = header.getInt(base + 4);
+            int headerLength = 8;
+            if (size == 1) {
+                if (header.limit() < base + 16) {
+                    return Optional.empty();
+                }
+                size = header.getLong(base + 8);
+                headerLength = 16;
+            } else if (size == 0) {
+                size = fileSize - offset;
+            }
+            if (size < headerLength) {
+                return Optional.empty();
+            }
+
+            if (type == MOOV) {
+                if (size > maxMoovBytes) {
+                    return Optional.empty();
+                }
+                if (offset + size <= head.limit()) {
+                    return parseMoov(head, (int) offset + headerLength, (int) (offset + size));
+                }
+                ByteBuffer moov = reader.read(offset, (int) size);
+                return parseMoov(moov, headerLength, moov.limit());
+            }
+            offset += size;
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<VideoMetadata> parseMoov(ByteBuffer buf, int start, int end) {
+        Scan scan = new Scan();
+        walk(buf, start, end, scan);
+        if (!scan.videoFound) {
+            return Optional.empty();
+        }
+
+        Double durationSeconds = seconds(scan.movieDuration, scan.movieTimescale);
+        if (durationSeconds == null) {
+            durationSeconds = seconds(scan.videoDuration, scan.videoTimescale);
+        }
+        Double trackSeconds = seconds(scan.videoDuration, scan.videoTimescale);
+        Double frameRate = trackSeconds == null || scan.videoSampleCount <= 0
+                ? null
+                : Math.round(scan.videoSampleCount / trackSeconds * 1000) / 1000.0;
+
+        return Optional.of(VideoMetadata.builder()
+                .durationSeconds(durationSeconds)
+                .width(scan.videoWidth > 0 ? scan.videoWidth : null)
+                .height(scan.videoHeight > 0 ? scan.videoHeight : null)
+                .codec(codecName(scan.videoCodec))
+                .frameRate(frameRate)
+                .build());
+    }
+
+    private static void walk(ByteBuffer buf, int start, int end, Scan scan) {
+        int pos = start;
+        while (pos + 8 <= end) {
+            long size = buf.getInt(pos) & 0xFFFFFFFFL;
+            int type = buf.getInt(pos + 4);
+            int headerLength = 8;
+            if (size == 1 && pos + 16 <= end) {
+                size = buf.getLong(pos + 8);
+                headerLength = 16;
+            } else if (size == 0) {
+                size = end - pos;
+            }
+            if (size < headerLength || pos + size > end) {
+                return;
+            }
+            int payload = pos + headerLength;
+            int boxEnd = (int) (pos + size);
+
+            if (type == TRAK) {
+                scan.resetTrack();
+                walk(buf, payload, boxEnd, scan);
+                scan.finishTrack();
+            } else if (type == MDIA || type == MINF || type == STBL) {
+                walk(buf, payload, boxEnd, scan);
+            } else if (type == MVHD) {
+                readTimescaleAndDuration(buf, payload, boxEnd, scan, true);
+            } else if (type == MDHD) {
+                readTimescaleAndDuration(buf, payload, boxEnd, scan, false);
+            } else if (type == TKHD) {
+                readTrackHeader(buf, payload, boxEnd, scan);
+            } else if (type == HDLR && payload + 12 <= boxEnd) {
+                scan.trackHandler = buf.getInt(payload + 8);
+            } else if (type == STSD) {
+                readSampleDescription(buf, payload, boxEnd, scan);
+            } else if (type == STTS) {
+                readSampleCount(buf, payload, boxEnd, scan);
+            }
+            pos = boxEnd;
+        }
+    }
+
+    /**
+     * mvhd/mdhd: version 0은 32bit, version 1은 64bit 시간 필드.
+     */
+    private static void readTimescaleAndDuration(ByteBuffer buf, int payload, int end, Scan scan, boolean movie) {
+        if (payload >= end) {
+            return;
+        }
+        int version = buf.get(payload);
+        long timescale;
+        long duration;
+        if (version == 1) {
+            if (payload + 32 > end) {
+                return;
+            }
+            timescale = buf.getInt(payload + 20) & 0xFFFFFFFFL;
+            duration = buf.getLong(payload + 24);
+        } else {
+            if (payload + 20 > end) {
+                return;
+            }
+            timescale = buf.getInt(payload + 12) & 0xFFFFFFFFL;
+            duration = buf.getInt(payload + 16) & 0xFFFFFFFFL;
+        }
+        if (movie) {
+            scan.movieTimescale = timescale;
+            scan.movieDuration = duration;
+        } else {
+            scan.trackTimescale = timescale;
+            scan.trackDuration = duration;
+        }
+    }
+
+    /**
+     * tkhd 끝의 width/height (16.16 고정소수점, 표시 해상도).
+     */
+    private static void readTrackHeader(ByteBuffer buf, int payload, int end, Scan scan) {
+        if (payload >= end) {
+            return;
+        }
+        int dimensions = payload + (buf.get(payload) == 1 ? 88 : 76);
+        if (dimensions + 8 > end) {
+            return;
+        }
+        scan.trackWidth = buf.getInt(dimensions) >>> 16;
+        scan.trackHeight = buf.getInt(dimensions + 4) >>> 16;
+    }
+
+    /**
+     * stsd 첫 sample entry의 포맷(코덱)과 VisualSampleEntry width/height.
+     */
+    private static void readSampleDescription(ByteBuffer buf, int payload, int end, Scan scan) {
+        int entry = payload + 8;
+        if (entry + 8 > end) {
+            return;
+        }
+        scan.trackCodec = buf.getInt(entry + 4);
+        if (entry + 36 <= end) {
+            scan.sampleEntryWidth = buf.getShort(entry + 32) & 0xFFFF;
+            scan.sampleEntryHeight = buf.getShort(entry + 34) & 0xFFFF;
+        }
+    }
+
+    /**
+     * stts 항목의 sample_count 합 (프레임 수).
+     */
+    private static void readSampleCount(ByteBuffer buf, int payload, int end, Scan scan) {
+        if (payload + 8 > end) {
+            return;
+        }
+        long entries = Math.min(buf.getInt(payload + 4) & 0xFFFFFFFFL, (end - payload - 8) / 8);
+        long samples = 0;
+        for (int i = 0; i < entries; i++) {
+            samples += buf.getInt(payload + 8 + i * 8) & 0xFFFFFFFFL;
+        }
+        scan.trackSampleCount = samples;
+    }
+
+    private static Double seconds(long duration, long timescale) {
+        if (duration <= 0 || timescale <= 0) {
+            return null;
+        }
+        return (double) duration / timescale;
+    }
+
+    private static String codecName(int fourcc) {
+        if (fourcc == 0) {
+            return null;
+        }
+        String format = new String(new byte[] {
+                (byte) (fourcc >>> 24), (byte) (fourcc >>> 16), (byte) (fourcc >>> 8), (byte) fourcc},
+                StandardCharsets.ISO_8859_1);
+        return switch (format) {
+            case "avc1", "avc3" -> "h264";
+            case "hvc1", "hev1" -> "hevc";
+            case "av01" -> "av1";
+            case "vp08" -> "vp8";
+            case "vp09" -> "vp9";
+            case "mp4v" -> "mpeg4";
+            case "apcn", "apch", "apcs", "apco", "ap4h" -> "prores";
+            default -> format.trim();
+        };
+    }
+
+    private static int fourcc(String type) {
+        return (type.charAt(0) << 24) | (type.charAt(1) << 16) | (type.charAt(2) << 8) | type.charAt(3);
+    }
+
+    /**
+     * 파싱 상태. trak마다 값을 덮어쓰고, 첫 비디오 trak의 값만 video* 필드로 옮긴다.
+     */
+    private static final class Scan {
+        long movieTimescale;
+        long movieDuration;
+
+        int trackHandler;
+        int trackWidth;
+        int trackHeight;
+        int sampleEntryWidth;
+        int sampleEntryHeight;
+        int trackCodec;
+        long trackTimescale;
+        long trackDuration;
+        long trackSampleCount;
+
+        boolean videoFound;
+        int videoWidth;
+        int videoHeight;
+        int videoCodec;
+        long videoTimescale;
+        long videoDuration;
+        long videoSampleCount;
+
+        void resetTrack() {
+            trackHandler = 0;
+            trackWidth = 0;
+            trackHeight = 0;
+            sampleEntryWidth = 0;
+            sampleEntryHeight = 0;
+            trackCodec = 0;
+            trackTimescale = 0;
+            trackDuration = 0;
+            trackSampleCount = 0;
+        }
+
+        void finishTrack() {
+            if (videoFound || trackHandler != VIDE) {
+                return;
+            }
+            videoFound = true;
+            videoWidth = trackWidth > 0 ? trackWidth : sampleEntryWidth;
+            videoHeight = trackHeight > 0 ? trackHeight : sampleEntryHeight;
+            videoCodec = trackCodec;
+            videoTimescale = trackTimescale;
+            videoDuration = trackDuration;
+            videoSampleCount = trackSampleCount;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 파일의 일부 구간만 읽는 reader (S3 ranged GET 등).
+ */
+public interface RangeReader {
+
+    /**
+     * 전체 파일 크기 (byte).
+     */
+    long size();
+
+    /**
+     * offset부터 length 바이트를 읽는다. 파일 끝을 넘는 구간은 잘려서 더 짧은 버퍼가 반환된다.
+     */
+    ByteBuffer read(long offset, int length);
+}
@@ -0,0 +1,34 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import java.nio.ByteBuffer;
+
+/**
+ * S3 객체를 ranged GET으로 읽는 {@link RangeReader}.
+ */
+public class S3RangeReader implements RangeReader {
+
+    private final AwsS3Service awsS3Service;
+    private final String s3Key;
+    private final long size;
+
+    public S3RangeReader(AwsS3Service awsS3Service, String s3Key, long size) {
+        this.awsS3Service = awsS3Service;
+        this.s3Key = s3Key;
+        this.size = size;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public ByteBuffer read(long offset, int length) {
+        if (offset >= size || length <= 0) {
+            return ByteBuffer.allocate(0);
+        }
+        long last = Math.min(size, offset + length) - 1;
+        return ByteBuffer.wrap(awsS3Service.readRange(s3Key, offset, last));
+    }
+}
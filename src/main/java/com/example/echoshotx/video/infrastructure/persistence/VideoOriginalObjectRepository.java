@@ -0,0 +1,61 @@
+package com.example.echoshotx.video.infrastructure.persistence;
+
+import com.example.echoshotx.video.domain.entity.VideoOriginalObject;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VideoOriginalObjectRepository extends JpaRepository<VideoOriginalObject, Long> {
+
+    /**
+     * 회원의 같은 내용(해시, 크기) 원본 중 참조가 남아 있는 객체
+     */
+    @Query("select o from VideoOriginalObject o "
+            + "where o.memberId = :memberId and o.contentSha256 = :contentSha256 "
+            + "and o.fileSizeBytes = :fileSizeBytes and o.referenceCount > 0")
+    Optional<VideoOriginalObject> findShareable(
+            @Param("memberId") Long memberId,
+            @Param("contentSha256") String contentSha256,
+            @Param("fileSizeBytes") Long fileSizeBytes);
+
+    /**
+     * 업로드가 끝난 원본을 참조 1로 등록. 같은 내용이나 같은 키가 이미 있으면 아무것도 하지 않는다.
+     */
+    @Modifying
+    @Query(value = "insert ignore into video_original_object "
+            + "(member_id, content_sha256, file_size_bytes, s3_key, reference_count, created_date, last_modified_date) "
+            + "values (:memberId, :contentSha256, :fileSizeBytes, :s3Key, 1, :now, :now)",
+            nativeQuery = true)
+    int register(
+            @Param("memberId") Long memberId,
+            @Param("contentSha256") String contentSha256,
+            @Param("fileSizeBytes") Long fileSizeBytes,
+            @Param("s3Key") String s3Key,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 참조 추가. 이미 모든 참조가 놓인(삭제 중이거나 삭제된) 객체면 0.
+     */
+    @Modifying
+    @Query("update VideoOriginalObject o set o.referenceCount = o.referenceCount + 1 "
+            + "where o.id = :id and o.referenceCount > 0")
+    int retain(@Param("id") Long id);
+
+    /**
+     * 참조 하나 해제. 등록되지 않은 키(공유되지 않는 원본)면 0.
+     */
+    @Modifying
+    @Query("update VideoOriginalObject o set o.referenceCount = o.referenceCount - 1 "
+            + "where o.s3Key = :s3Key and o.referenceCount > 0")
+    int release(@Param("s3Key") String s3Key);
+
+    /**
+     * 마지막 참조가 놓인 행 삭제. 지웠으면 1.
+     */
+    @Modifying
+    @Query("delete from VideoOriginalObject o where o.s3Key = :s3Key and o.referenceCount = 0")
+    int deleteReleased(@Param("s3Key") String s3Key);
+}
@@ -0,0 +1,85 @@
+package com.example.echoshotx.video.infrastructure.persistence;
+
+import com.example.echoshotx.video.domain.vo.VideoProgressUpdate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 진행률 JDBC 배치 리포지토리.
+ *
+ * <p>진행률 값은 좁은 video_progress 테이블에 upsert 하여 video 행을 건드리지 않는다.
+ * video 행은 QUEUED → PROCESSING 전환 시 비디오당 한 번만 갱신한다.
+ * MySQL은 SET 절을 왼쪽부터 평가하므로 processing_started_at을 status보다 먼저 갱신해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VideoProgressJdbcRepository {
+
+    private static final String UPSERT_PROGRESS_SQL = """
+            INSERT INTO video_progress
+                   (video_id, progress_percentage, estimated_time_left_seconds, current_step, reported_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                   progress_percentage = VALUES(progress_percentage),
+                   estimated_time_left_seconds = VALUES(estimated_time_left_seconds),
+                   current_step = VALUES(current_step),
+                   reported_at = VALUES(reported_at)
+            """;
+
+    private static final String MARK_PROCESSING_SQL = """
+            UPDATE video
+               SET processing_started_at = ?,
+                   status = 'PROCESSING',
+                   last_modified_date = ?,
+                   version = version + 1
+             WHERE id = ?
+               AND status = 'QUEUED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행률 일괄 upsert.
+     */
+    public void batchUpsertProgress(List<VideoProgressUpdate> updates) {
+        jdbcTemplate.batchUpdate(UPSERT_PROGRESS_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setLong(1, update.getVideoId());
+            setNullableInt(ps, 2, update.getProgressPercentage());
+            setNullableInt(ps, 3, update.getEstimatedTimeLeftSeconds());
+            ps.setString(4, update.getCurrentStep());
+            ps.setTimestamp(5, Timestamp.valueOf(update.getReportedAt()));
+        });
+    }
+
+    /**
+     * 첫 진행률을 받은 비디오들을 QUEUED → PROCESSING으로 전환.
+     *
+     * @return 각 비디오의 반영 행 수 (0이면 이미 PROCESSING이거나 종료된 비디오)
+     */
+    public int[] batchMarkProcessingStarted(List<Long> videoIds, LocalDateTime startedAt) {
+        Timestamp timestamp = Timestamp.valueOf(startedAt);
+        int[][] result = jdbcTemplate.batchUpdate(MARK_PROCESSING_SQL, videoIds, videoIds.size(), (ps, videoId) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, videoId);
+        });
+        return Arrays.stream(result).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value)
+            throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
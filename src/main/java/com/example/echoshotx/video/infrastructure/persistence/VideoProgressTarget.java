@@ -0,0 +1,12 @@
+package com.example.echoshotx.video.infrastructure.persistence;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+
+/**
+ * 진행률 처리에 필요한 최소 컬럼 projection (엔티티 전체를 로드하지 않음).
+ */
+public interface VideoProgressTarget {
+    Long getMemberId();
+
+    VideoStatus getStatus();
+}
@@ -0,0 +1,22 @@
+package com.example.echoshotx.video.infrastructure.persistence;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 진행률 조회 API용 projection (스냅샷 캐시 miss 시에만 사용).
+ * video의 소유자/상태와 video_progress의 진행률을 join 한다.
+ */
+public interface VideoProgressView {
+    Long getMemberId();
+
+    VideoStatus getStatus();
+
+    Integer getProgressPercentage();
+
+    Integer getEstimatedTimeLeftSeconds();
+
+    String getCurrentStep();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -2,12 +2,16 @@ package com.example.echoshotx.video.infrastructure.persistence;
 
 import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,7 +37,55 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
      */
     List<Video> findByStatus(VideoStatus status);
 
+    /**
+     * 진행률 처리용 소유자/상태 조회 (projection)
+     */
+    Optional<VideoProgressTarget> findProgressTargetById(Long id);
+
+    /**
+     * 진행률 조회 API용 진행률 컬럼 조회 (projection)
+     */
+    @Query("select v.memberId as memberId, v.status as status, "
+            + "p.progressPercentage as progressPercentage, "
+            + "p.estimatedTimeLeftSeconds as estimatedTimeLeftSeconds, "
+            + "p.currentStep as currentStep, "
+            + "coalesce(p.reportedAt, v.lastModifiedDate) as updatedAt "
+            + "from Video v left join VideoProgress p on p.videoId = v.id "
+            + "where v.id = :videoId")
+    Optional<VideoProgressView> findProgressViewById(@Param("videoId") Long videoId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select v from Video v where v.id = :videoId")
     Optional<Video> findByIdWithLock(@Param("videoId") Long videoId);
+
+    /**
+     * 여러 영상을 id 순서로 잠근다 (배치 처리 시 락 순서를 고정하여 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from Video v where v.id in :videoIds order by v.id asc")
+    List<Video> findAllByIdInWithLock(@Param("videoIds") Collection<Long> videoIds);
+
+    /**
+     * 업로드 추적 ID로 여러 영상 조회 (S3 업로드 이벤트 매칭용)
+     */
+    List<Video> findAllByUploadIdIn(Collection<String> uploadIds);
+
+    /**
+     * 서버에서 추출한 원본 메타데이터 반영. 상태 전환과 같은 행을 쓰므로 버전을 올린다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Video v set "
+            + "v.originalMetadata.durationSeconds = :#{#metadata.durationSeconds}, "
+            + "v.originalMetadata.width = :#{#metadata.width}, "
+            + "v.originalMetadata.height = :#{#metadata.height}, "
+            + "v.originalMetadata.codec = :#{#metadata.codec}, "
+            + "v.originalMetadata.bitrate = :#{#metadata.bitrate}, "
+            + "v.originalMetadata.frameRate = :#{#metadata.frameRate}, "
+            + "v.originalMetadataVerifiedAt = :verifiedAt, "
+            + "v.version = v.version + 1 "
+            + "where v.id = :videoId")
+    int updateOriginalMetadata(
+            @Param("videoId") Long videoId,
+            @Param("metadata") VideoMetadata metadata,
+            @Param("verifiedAt") LocalDateTime verifiedAt);
 }
@@ -1,12 +1,26 @@
 package com.example.echoshotx.video.infrastructure.persistence;
 
 import com.example.echoshotx.video.domain.entity.VideoUploadIdempotencyRecord;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface VideoUploadIdempotencyRepository
         extends JpaRepository<VideoUploadIdempotencyRecord, Long> {
 
     Optional<VideoUploadIdempotencyRecord> findByMemberIdAndVideoIdAndIdempotencyKey(
             Long memberId, Long videoId, String idempotencyKey);
+
+    /**
+     * 만료된 행을 expires_at 인덱스 순으로 limit개까지 삭제 (호출마다 별도 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from video_upload_idempotency where expires_at < :now order by expires_at limit :limit",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
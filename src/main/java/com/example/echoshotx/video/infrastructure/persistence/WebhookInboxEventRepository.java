@@ -0,0 +1,71 @@
+package com.example.echoshotx.video.infrastructure.persistence;
+
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.entity.WebhookInboxEvent;
+import com.example.echoshotx.video.domain.entity.WebhookInboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WebhookInboxEventRepository extends JpaRepository<WebhookInboxEvent, Long> {
+
+    boolean existsByAiJobIdAndEventType(String aiJobId, WebhookEventType eventType);
+
+    /**
+     * 처리 대기 중인 행 ID 조회 (선점은 {@link #claim}으로 따로 수행)
+     */
+    @Query("select e.id from WebhookInboxEvent e "
+            + "where e.status = :status and e.nextAttemptAt <= :now order by e.id asc")
+    List<Long> findClaimableIds(
+            @Param("status") WebhookInboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * PENDING 상태인 행만 선점 (다른 노드가 먼저 선점한 행은 건너뜀)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update WebhookInboxEvent e "
+            + "set e.status = com.example.echoshotx.video.domain.entity.WebhookInboxStatus.PROCESSING, "
+            + "e.claimToken = :token, e.claimedAt = :now "
+            + "where e.id in :ids "
+            + "and e.status = com.example.echoshotx.video.domain.entity.WebhookInboxStatus.PENDING")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    List<WebhookInboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    /**
+     * 처리 결과 기록. 아직 같은 claim_token으로 선점 중인 행만 갱신한다
+     * (선점이 만료되어 다른 worker가 다시 가져간 행이면 0)
+     */
+    @Modifying
+    @Query("update WebhookInboxEvent e "
+            + "set e.status = :status, e.retryCount = :retryCount, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.processedAt = :processedAt, e.lastError = :lastError, e.claimToken = null "
+            + "where e.id = :id and e.claimToken = :token")
+    int completeClaim(
+            @Param("id") Long id,
+            @Param("token") String token,
+            @Param("status") WebhookInboxStatus status,
+            @Param("retryCount") int retryCount,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("processedAt") LocalDateTime processedAt,
+            @Param("lastError") String lastError);
+
+    /**
+     * 오래 PROCESSING으로 남은 행 (worker 비정상 종료) 재대기
+     */
+    @Modifying
+    @Query("update WebhookInboxEvent e "
+            + "set e.status = com.example.echoshotx.video.domain.entity.WebhookInboxStatus.PENDING, "
+            + "e.claimToken = null "
+            + "where e.status = com.example.echoshotx.video.domain.entity.WebhookInboxStatus.PROCESSING "
+            + "and e.claimedAt < :threshold")
+    int releaseStaleClaims(@Param("threshold") LocalDateTime threshold);
+
+    void deleteByStatusAndCreatedAtBefore(WebhookInboxStatus status, LocalDateTime threshold);
+}
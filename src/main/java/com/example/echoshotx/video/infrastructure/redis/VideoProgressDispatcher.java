@@ -0,0 +1,211 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비디오 ID 기반 샤딩 순차 실행기.
+ *
+ * <p>videoId를 N개의 단일 스레드 레인 중 하나로 해싱하여, 같은 비디오의 메시지는 수신 순서대로,
+ * 다른 비디오는 병렬로 처리합니다. 레인 큐는 bounded이며, 가득 차면 같은 비디오의 가장 오래된 메시지를
+ * 먼저 버리고, 없으면 레인에서 가장 오래된 메시지를 버립니다 (진행률은 최신 값만 의미가 있음).
+ */
+@Slf4j
+@Component
+public class VideoProgressDispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final Lane[] lanes;
+    private final Counter droppedCounter;
+
+    public VideoProgressDispatcher(VideoProps videoProps, MeterRegistry meterRegistry) {
+        VideoProps.Dispatcher config = videoProps.getProgress().getDispatcher();
+        int laneCount = Math.max(1, config.getLanes());
+        int capacity = Math.max(1, config.getLaneCapacity());
+
+        this.droppedCounter = Counter.builder("video.progress.dispatcher.dropped")
+                .description("Progress messages dropped because a lane queue was full")
+                .register(meterRegistry);
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, capacity);
+            Gauge.builder("video.progress.dispatcher.queue.size", lanes[i], Lane::size)
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lanes[i].start();
+        }
+    }
+
+    /**
+     * 비디오의 레인에 작업을 추가한다. 큐가 가득 차면 오래된 작업을 버리고 추가한다.
+     */
+    public void dispatch(Long videoId, Runnable task) {
+        dispatch(videoId, task, null);
+    }
+
+    /**
+     * 작업 추가. 작업이 실행되지 못하고 버려지면 onDiscard를 호출한다 (예: 스트림 메시지 ACK).
+     */
+    public void dispatch(Long videoId, Runnable task, Runnable onDiscard) {
+        Lane lane = lanes[laneIndex(videoId)];
+        Task dropped = lane.offer(new Task(videoId, task, onDiscard));
+        if (dropped != null) {
+            droppedCounter.increment();
+            log.debug("Progress lane {} full, dropped message for video {}", lane.index, dropped.videoId());
+            if (dropped.onDiscard() != null) {
+                runQuietly(dropped.onDiscard(), dropped.videoId());
+            }
+        }
+    }
+
+    private static void runQuietly(Runnable runnable, Long videoId) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            log.warn("Progress discard callback failed: videoId={}, error={}", videoId, e.getMessage());
+        }
+    }
+
+    int laneIndex(Long videoId) {
+        return Math.floorMod(Objects.hashCode(videoId), lanes.length);
+    }
+
+    int queuedCount() {
+        int total = 0;
+        for (Lane lane : lanes) {
+            total += lane.size();
+        }
+        return total;
+    }
+
+    /**
+     * 남은 작업을 처리한 뒤 레인 스레드를 종료한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record Task(Long videoId, Runnable work, Runnable onDiscard) {
+    }
+
+    private static final class Lane implements Runnable {
+
+        private final int index;
+        private final int capacity;
+        private final ArrayDeque<Task> queue;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Lane(int index, int capacity) {
+            this.index = index;
+            this.capacity = capacity;
+            this.queue = new ArrayDeque<>(Math.min(capacity, 1024));
+            this.thread = new Thread(this, "video-progress-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private Task offer(Task task) {
+            lock.lock();
+            try {
+                Task dropped = null;
+                if (queue.size() >= capacity) {
+                    dropped = removeOldest(task.videoId());
+                }
+                queue.addLast(task);
+                notEmpty.signal();
+                return dropped;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Task removeOldest(Long videoId) {
+            Iterator<Task> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                Task queued = iterator.next();
+                if (Objects.equals(queued.videoId(), videoId)) {
+                    iterator.remove();
+                    return queued;
+                }
+            }
+            return queue.pollFirst();
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void stop() {
+            lock.lock();
+            try {
+                running = false;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Task task;
+                lock.lock();
+                try {
+                    while (queue.isEmpty()) {
+                        if (!running) {
+                            return;
+                        }
+                        notEmpty.await(1, TimeUnit.SECONDS);
+                    }
+                    task = queue.pollFirst();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    task.work().run();
+                } catch (RuntimeException e) {
+                    log.error("Progress task failed: lane={}, videoId={}", index, task.videoId(), e);
+                }
+            }
+        }
+    }
+}
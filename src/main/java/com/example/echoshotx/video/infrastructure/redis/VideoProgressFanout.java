@@ -0,0 +1,92 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingProgressEvent;
+import com.example.echoshotx.notification.application.service.NotificationService;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.infrastructure.redis.dto.VideoProgressFanoutMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * stream 수신 모드의 진행률 노드 간 전달 (app.video.progress.ingestion=stream).
+ *
+ * <p>consumer group은 메시지를 한 노드에만 주지만 SSE / WebSocket 세션과 스냅샷 캐시는 노드마다 따로 있다.
+ * 처리한 노드는 로컬 이벤트로 자기 세션에 보내고, 같은 진행률을 Pub/Sub으로 발행해 나머지 노드가 각자의 세션에 보내게 한다.
+ * 레인 스레드에서 동기로 발행하므로 비디오별 순서가 유지됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.video.progress.ingestion", havingValue = "stream")
+public class VideoProgressFanout implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String origin = UUID.randomUUID().toString();
+
+    public VideoProgressFanout(
+            StringRedisTemplate stringRedisTemplate,
+            NotificationService notificationService,
+            ObjectMapper objectMapper,
+            VideoProps videoProps) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.channel = videoProps.getProgress().getFanoutChannel();
+    }
+
+    /**
+     * 이 노드가 수락한 진행률을 다른 노드에 전달한다. 실패하면 다른 노드의 사용자는 다음 진행률을 기다린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(VideoProcessingProgressEvent event) {
+        VideoProgressFanoutMessage message = VideoProgressFanoutMessage.builder()
+                .origin(origin)
+                .videoId(event.getVideoId())
+                .memberId(event.getMemberId())
+                .progressPercentage(event.getProgressPercentage())
+                .estimatedTimeLeftSeconds(event.getEstimatedTimeLeftSeconds())
+                .currentStep(event.getCurrentStep())
+                .build();
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to fan out progress: videoId={}, error={}", event.getVideoId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        VideoProgressFanoutMessage fanout;
+        try {
+            fanout = objectMapper.readValue(message.getBody(), VideoProgressFanoutMessage.class);
+        } catch (IOException e) {
+            log.warn("Invalid progress fan-out message ignored: {}", e.getMessage());
+            return;
+        }
+        if (origin.equals(fanout.getOrigin()) || fanout.getMemberId() == null) {
+            return;
+        }
+        notificationService.sendProgressUpdate(
+                fanout.getMemberId(),
+                fanout.getVideoId(),
+                fanout.getProgressPercentage(),
+                fanout.getEstimatedTimeLeftSeconds(),
+                fanout.getCurrentStep());
+    }
+
+    String getOrigin() {
+        return origin;
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.echoshotx.video.infrastructure.redis;
 
 import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore;
+import com.example.echoshotx.video.application.service.VideoProgressWriteBehindBuffer;
 import com.example.echoshotx.video.application.service.VideoService;
 import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
 import com.example.echoshotx.video.infrastructure.redis.dto.VideoProgressMessage;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -13,6 +18,10 @@ import org.springframework.stereotype.Component;
 
 /**
  * Redis Pub/Sub 메시지를 수신하는 리스너. AI 서버가 Redis에 발행한 진행률 메시지를 받아서 처리합니다.
+ *
+ * <p>수신 스레드에서는 JSON 파싱만 수행하고, 실제 처리는 {@link VideoProgressDispatcher}의
+ * 비디오별 레인에서 순서대로 실행합니다. 늦게 도착했거나 역행하거나 종료 이후의 메시지는
+ * {@link VideoProgressStateStore}에서 DB 작업 전에 걸러집니다.
  */
 @Slf4j
 @Component
@@ -21,6 +30,9 @@ public class VideoProgressRedisListener implements MessageListener {
 
   private final VideoAdaptor videoAdaptor;
   private final VideoService videoService;
+  private final VideoProgressWriteBehindBuffer videoProgressWriteBehindBuffer;
+  private final VideoProgressStateStore videoProgressStateStore;
+  private final VideoProgressDispatcher videoProgressDispatcher;
   private final ObjectMapper objectMapper;
 
   /**
@@ -31,20 +43,55 @@ public class VideoProgressRedisListener implements MessageListener {
    */
   @Override
   public void onMessage(Message message, byte[] pattern) {
+	VideoProgressMessage progressMessage;
 	try {
-	  String messageBody = new String(message.getBody());
+	  String messageBody = new String(message.getBody(), StandardCharsets.UTF_8);
 	  log.debug("Received Redis message: {}", messageBody);
 
 	  // JSON 메시지 파싱
-	  VideoProgressMessage progressMessage =
-		  objectMapper.readValue(messageBody, VideoProgressMessage.class);
+	  progressMessage = objectMapper.readValue(messageBody, VideoProgressMessage.class);
+	} catch (Exception e) {
+	  log.error("Error parsing Redis message: {}", e.getMessage());
+	  return;
+	}
+
+	if (progressMessage.getVideoId() == null) {
+	  log.warn("Progress message without video_id ignored");
+	  return;
+	}
+	videoProgressDispatcher.dispatch(progressMessage.getVideoId(), () -> process(progressMessage));
+  }
 
-	  log.info(
+  /**
+   * 진행률 메시지 처리 (비디오 레인 스레드에서 실행).
+   */
+  void process(VideoProgressMessage progressMessage) {
+	try {
+	  log.debug(
 		  "Processing video progress update: videoId={}, progress={}%, step={}",
 		  progressMessage.getVideoId(),
 		  progressMessage.getProgressPercentage(),
 		  progressMessage.getCurrentStep());
 
+	  // 상태 테이블 필터: stale/역행/종료 이후 메시지는 DB·SSE 작업 없이 버린다
+	  VideoProgressStateStore.Decision decision = videoProgressStateStore.evaluate(
+		  progressMessage.getVideoId(),
+		  progressMessage.getSequence(),
+		  progressMessage.getProgressPercentage());
+	  if (decision != VideoProgressStateStore.Decision.ACCEPT) {
+		return;
+	  }
+
+	  // write-behind: 최신 값만 버퍼링하고 이벤트는 즉시 발행
+	  if (videoProgressWriteBehindBuffer.isEnabled()) {
+		videoProgressWriteBehindBuffer.submit(
+			progressMessage.getVideoId(),
+			progressMessage.getProgressPercentage(),
+			progressMessage.getEstimatedTimeLeftSeconds(),
+			progressMessage.getCurrentStep());
+		return;
+	  }
+
 	  // 비디오 조회
 	  Video video = videoAdaptor.queryById(progressMessage.getVideoId());
 
@@ -55,6 +102,14 @@ public class VideoProgressRedisListener implements MessageListener {
 		  progressMessage.getEstimatedTimeLeftSeconds(),
 		  progressMessage.getCurrentStep());
 
+	} catch (VideoHandler e) {
+	  if (e.getCode() == VideoErrorStatus.VIDEO_INVALID_STATUS_FOR_PROGRESS_UPDATE) {
+		// 이미 종료된 비디오 - 이후 메시지는 상태 테이블에서 바로 걸러지도록 표시
+		videoProgressStateStore.markTerminal(progressMessage.getVideoId());
+		log.debug("Progress update for finished video ignored: videoId={}", progressMessage.getVideoId());
+		return;
+	  }
+	  log.error("Error processing Redis message: {}", e.getMessage(), e);
 	} catch (Exception e) {
 	  log.error("Error processing Redis message: {}", e.getMessage(), e);
 	  // Redis 메시지 처리 실패 시 메시지를 버립니다 (재시도 없음)
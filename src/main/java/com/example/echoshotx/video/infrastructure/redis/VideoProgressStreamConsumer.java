@@ -0,0 +1,286 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.infrastructure.redis.dto.VideoProgressMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Redis Stream consumer group 기반 진행률 수신기 (app.video.progress.ingestion=stream).
+ *
+ * <p>모든 노드가 같은 consumer group에 참여하므로 메시지는 클러스터 전체에서 한 번만 처리됩니다.
+ * SSE / WebSocket 세션은 노드마다 있으므로 처리한 진행률은 {@link VideoProgressFanout}이 다른 노드에 전달합니다.
+ * <ul>
+ *   <li>XREADGROUP으로 batchSize씩 읽어 {@link VideoProgressDispatcher} 레인에 넘긴다.</li>
+ *   <li>처리 완료(또는 레인 overflow로 폐기)된 메시지는 모아서 다음 루프에서 XACK 한 번으로 확인한다.</li>
+ *   <li>reclaimIdleMillis 이상 ACK되지 않은 다른 consumer의 메시지는 XPENDING + XCLAIM으로 가져온다.</li>
+ *   <li>같은 주기로 pending 메시지 없이 오래 읽지 않은 다른 consumer를 group에서 지우고, 스트림을 대략적 MAXLEN으로 트리밍한다.</li>
+ * </ul>
+ * Redis가 내려가 있어도 애플리케이션 기동을 막지 않도록 consumer group 생성은 poll 스레드에서 재시도합니다.
+ * 메시지 필드는 JSON 한 덩어리(payload 필드) 또는 VideoProgressMessage와 같은 이름의 평면 필드를 지원합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.video.progress.ingestion", havingValue = "stream")
+public class VideoProgressStreamConsumer implements SmartLifecycle {
+
+    static final String PAYLOAD_FIELD = "payload";
+    private static final long ERROR_BACKOFF_MS = 1_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoProgressRedisListener videoProgressRedisListener;
+    private final VideoProgressDispatcher videoProgressDispatcher;
+    private final ObjectMapper objectMapper;
+    private final VideoProps.Stream config;
+    private final String consumerName;
+
+    private final Queue<RecordId> pendingAcks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    private Thread pollThread;
+    private long lastReclaimAt;
+
+    public VideoProgressStreamConsumer(
+            StringRedisTemplate stringRedisTemplate,
+            VideoProgressRedisListener videoProgressRedisListener,
+            VideoProgressDispatcher videoProgressDispatcher,
+            ObjectMapper objectMapper,
+            VideoProps videoProps) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.videoProgressRedisListener = videoProgressRedisListener;
+        this.videoProgressDispatcher = videoProgressDispatcher;
+        this.objectMapper = objectMapper;
+        this.config = videoProps.getProgress().getStream();
+        this.consumerName = StringUtils.hasText(config.getConsumerName())
+                ? config.getConsumerName()
+                : defaultConsumerName();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        pollThread = new Thread(this::pollLoop, "video-progress-stream");
+        pollThread.setDaemon(true);
+        pollThread.start();
+        log.info("Video progress stream consumer started: key={}, group={}, consumer={}",
+                config.getKey(), config.getGroup(), consumerName);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollThread != null) {
+            try {
+                pollThread.join(config.getBlockMillis() + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushAcks();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        StreamOperations<String, Object, Object> ops = stringRedisTemplate.opsForStream();
+        Consumer consumer = Consumer.from(config.getGroup(), consumerName);
+        StreamReadOptions readOptions = StreamReadOptions.empty()
+                .count(config.getBatchSize())
+                .block(Duration.ofMillis(config.getBlockMillis()));
+        StreamOffset<String> offset = StreamOffset.create(config.getKey(), ReadOffset.lastConsumed());
+        boolean groupReady = false;
+
+        while (running) {
+            try {
+                if (!groupReady) {
+                    ensureGroup();
+                    groupReady = true;
+                }
+                flushAcks();
+                List<MapRecord<String, Object, Object>> records = ops.read(consumer, readOptions, offset);
+                if (records != null) {
+                    records.forEach(this::dispatch);
+                }
+                reclaimIfDue(ops);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Video progress stream poll failed: {}", e.getMessage());
+                recoverGroupIfMissing(e);
+                sleepQuietly(ERROR_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void dispatch(MapRecord<String, Object, Object> record) {
+        RecordId recordId = record.getId();
+        VideoProgressMessage message = toMessage(record.getValue());
+        if (message == null || message.getVideoId() == null) {
+            log.warn("Invalid progress stream record acknowledged and skipped: id={}", recordId);
+            pendingAcks.add(recordId);
+            return;
+        }
+
+        videoProgressDispatcher.dispatch(
+                message.getVideoId(),
+                () -> {
+                    try {
+                        videoProgressRedisListener.process(message);
+                    } finally {
+                        pendingAcks.add(recordId);
+                    }
+                },
+                () -> pendingAcks.add(recordId));
+    }
+
+    VideoProgressMessage toMessage(Map<Object, Object> fields) {
+        try {
+            Object payload = fields.get(PAYLOAD_FIELD);
+            if (payload != null) {
+                return objectMapper.readValue(payload.toString(), VideoProgressMessage.class);
+            }
+            return objectMapper.convertValue(fields, VideoProgressMessage.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void flushAcks() {
+        if (pendingAcks.isEmpty()) {
+            return;
+        }
+        List<RecordId> ids = new ArrayList<>();
+        RecordId id;
+        while ((id = pendingAcks.poll()) != null) {
+            ids.add(id);
+        }
+        try {
+            stringRedisTemplate.opsForStream()
+                    .acknowledge(config.getKey(), config.getGroup(), ids.toArray(RecordId[]::new));
+        } catch (RuntimeException e) {
+            // ACK 실패한 메시지는 pending으로 남아 reclaim 대상이 된다 (진행률은 중복 처리에 안전)
+            log.warn("Failed to acknowledge {} progress records: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private void reclaimIfDue(StreamOperations<String, Object, Object> ops) {
+        long now = System.currentTimeMillis();
+        if (now - lastReclaimAt < config.getReclaimIntervalMillis()) {
+            return;
+        }
+        lastReclaimAt = now;
+
+        PendingMessages pending = ops.pending(
+                config.getKey(), config.getGroup(), Range.unbounded(), config.getBatchSize());
+        Duration minIdle = Duration.ofMillis(config.getReclaimIdleMillis());
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (!consumerName.equals(message.getConsumerName())
+                    && message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                staleIds.add(message.getId());
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            List<MapRecord<String, Object, Object>> claimed = ops.claim(
+                    config.getKey(), config.getGroup(), consumerName, minIdle, staleIds.toArray(RecordId[]::new));
+            log.info("Reclaimed {} stale progress records from dead consumers", claimed.size());
+            claimed.forEach(this::dispatch);
+        }
+
+        removeDeadConsumers(ops);
+        ops.trim(config.getKey(), config.getMaxLen(), true);
+    }
+
+    /**
+     * 재시작으로 이름이 바뀐 consumer는 group에 남는다. pending 메시지가 없는 consumer만 지워 메시지를 잃지 않는다.
+     */
+    private void removeDeadConsumers(StreamOperations<String, Object, Object> ops) {
+        for (StreamInfo.XInfoConsumer info : ops.consumers(config.getKey(), config.getGroup())) {
+            if (!consumerName.equals(info.consumerName())
+                    && info.pendingCount() == 0
+                    && info.idleTimeMs() >= config.getDeadConsumerIdleMillis()) {
+                ops.deleteConsumer(config.getKey(), Consumer.from(config.getGroup(), info.consumerName()));
+                log.info("Removed idle progress stream consumer: {}", info.consumerName());
+            }
+        }
+    }
+
+    private void ensureGroup() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(config.getKey(), ReadOffset.latest(), config.getGroup());
+        } catch (RedisSystemException e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private void recoverGroupIfMissing(RuntimeException e) {
+        String message = rootMessage(e);
+        if (message != null && message.contains("NOGROUP")) {
+            try {
+                ensureGroup();
+            } catch (RuntimeException ignored) {
+                log.warn("Failed to recreate progress consumer group: {}", ignored.getMessage());
+            }
+        }
+    }
+
+    private static boolean isBusyGroup(Throwable e) {
+        String message = rootMessage(e);
+        return message != null && message.contains("BUSYGROUP");
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String defaultConsumerName() {
+        String pid = String.valueOf(ProcessHandle.current().pid());
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + pid;
+        } catch (UnknownHostException e) {
+            return "consumer:" + pid;
+        }
+    }
+}
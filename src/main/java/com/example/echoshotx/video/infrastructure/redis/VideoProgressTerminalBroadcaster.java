@@ -0,0 +1,69 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore;
+import com.example.echoshotx.video.application.service.VideoProgressWriteBehindBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 완료/실패된 비디오를 모든 노드에 알려 각 노드의 진행률 상태를 종료 처리한다.
+ *
+ * <p>Pub/Sub 수신 방식에서는 모든 노드가 진행률을 처리하지만 완료/실패 webhook은 한 노드에만 도착한다.
+ * 수신한 노드는 상태 테이블(메모리 저장소는 노드별)에 tombstone을 남기고, write-behind 대기 값과 소유자 캐시,
+ * 스냅샷을 버린다. 이후 늦게 도착한 진행률은 SSE 전송이나 video_progress 반영 없이 걸러진다.
+ */
+@Slf4j
+@Component
+public class VideoProgressTerminalBroadcaster implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final VideoProgressSnapshotCache videoProgressSnapshotCache;
+    private final VideoProgressStateStore videoProgressStateStore;
+    private final VideoProgressWriteBehindBuffer videoProgressWriteBehindBuffer;
+    private final String channel;
+
+    public VideoProgressTerminalBroadcaster(
+            StringRedisTemplate stringRedisTemplate,
+            VideoProgressSnapshotCache videoProgressSnapshotCache,
+            VideoProgressStateStore videoProgressStateStore,
+            VideoProgressWriteBehindBuffer videoProgressWriteBehindBuffer,
+            VideoProps videoProps) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.videoProgressSnapshotCache = videoProgressSnapshotCache;
+        this.videoProgressStateStore = videoProgressStateStore;
+        this.videoProgressWriteBehindBuffer = videoProgressWriteBehindBuffer;
+        this.channel = videoProps.getProgress().getTerminalChannel();
+    }
+
+    /**
+     * 다른 노드에 종료를 알린다. 실패해도 스냅샷은 TTL로 만료되므로 로그만 남긴다.
+     */
+    public void publish(Long videoId) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, String.valueOf(videoId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast progress terminal: videoId={}, error={}", videoId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        Long videoId;
+        try {
+            videoId = Long.valueOf(body);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid progress terminal message ignored: {}", body);
+            return;
+        }
+        videoProgressStateStore.markTerminal(videoId);
+        videoProgressWriteBehindBuffer.discard(videoId);
+        videoProgressSnapshotCache.evict(videoId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.echoshotx.video.infrastructure.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * stream 수신 모드에서 진행률을 처리한 노드가 다른 노드에 전달하는 메시지.
+ * 각 노드는 자기 SSE / WebSocket 세션과 스냅샷 캐시에 반영합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoProgressFanoutMessage {
+
+    /** 발행한 노드 식별자. 발행 노드는 이미 로컬 이벤트로 전송했으므로 자기 메시지를 건너뛴다. */
+    private String origin;
+    private Long videoId;
+    private Long memberId;
+    private Integer progressPercentage;
+    private Integer estimatedTimeLeftSeconds;
+    private String currentStep;
+}
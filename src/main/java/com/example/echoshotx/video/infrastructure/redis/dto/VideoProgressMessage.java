@@ -47,6 +47,13 @@ public class VideoProgressMessage {
   @JsonProperty("current_step")
   private String currentStep;
 
+  /**
+   * 비디오별 단조 증가 번호 (선택사항).
+   * 이보다 작거나 같은 번호의 메시지는 늦게 도착한 것으로 보고 버립니다.
+   */
+  @JsonProperty("sequence")
+  private Long sequence;
+
   /**
    * 메시지 타임스탬프
    */
@@ -0,0 +1,62 @@
+package com.example.echoshotx.video.infrastructure.sqs;
+
+import com.example.echoshotx.video.application.dto.S3UploadedObject;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 이벤트 알림(SQS 메시지 본문) 파서.
+ *
+ * <p>ObjectCreated:* 레코드만 꺼내며, 버킷 설정 시 보내는 s3:TestEvent나 다른 이벤트는 무시한다.
+ * S3는 객체 키를 URL 인코딩(공백은 '+')해서 보내므로 디코딩한 키를 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3EventNotificationParser {
+
+    private static final String OBJECT_CREATED_PREFIX = "ObjectCreated:";
+
+    private final ObjectMapper objectMapper;
+
+    public List<S3UploadedObject> parse(String body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed S3 event notification ignored: {}", e.getOriginalMessage());
+            return List.of();
+        }
+
+        JsonNode records = root.path("Records");
+        if (!records.isArray()) {
+            log.debug("S3 event notification without records ignored: event={}", root.path("Event").asText());
+            return List.of();
+        }
+
+        List<S3UploadedObject> objects = new ArrayList<>(records.size());
+        for (JsonNode record : records) {
+            if (!record.path("eventName").asText().startsWith(OBJECT_CREATED_PREFIX)) {
+                continue;
+            }
+            JsonNode s3 = record.path("s3");
+            String key = s3.path("object").path("key").asText(null);
+            if (key == null) {
+                continue;
+            }
+            objects.add(new S3UploadedObject(
+                    s3.path("bucket").path("name").asText(),
+                    URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    s3.path("object").path("size").asLong()));
+        }
+        return objects;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.echoshotx.video.infrastructure.sqs;
+
+import com.example.echoshotx.video.application.dto.S3UploadedObject;
+import com.example.echoshotx.video.application.usecase.CompleteUploadFromS3EventUseCase;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 ObjectCreated 이벤트 SQS 리스너.
+ *
+ * <p>한 번의 폴링으로 받은 메시지를 모아 한 번에 업로드 완료 처리한다.
+ * 처리 중 예외가 나면 배치 전체가 ack되지 않아 SQS가 다시 전달하며,
+ * 이미 완료된 영상은 건너뛰므로 재전달되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.video.s3-event", name = "enabled", havingValue = "true")
+public class S3UploadEventListener {
+
+    private final S3EventNotificationParser parser;
+    private final CompleteUploadFromS3EventUseCase completeUploadFromS3EventUseCase;
+
+    @SqsListener(value = "${app.video.s3-event.queue-url}", factory = "defaultSqsListenerContainerFactory")
+    public void onMessages(List<String> messages) {
+        List<S3UploadedObject> objects = messages.stream()
+                .flatMap(message -> parser.parse(message).stream())
+                .toList();
+        log.debug("S3 upload events received: messages={}, objects={}", messages.size(), objects.size());
+        if (!objects.isEmpty()) {
+            completeUploadFromS3EventUseCase.execute(objects);
+        }
+    }
+}
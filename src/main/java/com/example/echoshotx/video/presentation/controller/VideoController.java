@@ -3,23 +3,43 @@ package com.example.echoshotx.video.presentation.controller;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.shared.exception.payload.dto.ApiResponseDto;
 import com.example.echoshotx.shared.security.aop.CurrentMember;
+import com.example.echoshotx.video.application.service.WebhookInboxService;
+import com.example.echoshotx.video.application.usecase.CompleteVideoUploadBatchUseCase;
 import com.example.echoshotx.video.application.usecase.CompleteVideoUploadUseCase;
+import com.example.echoshotx.video.application.usecase.DeleteOriginalVideoUseCase;
+import com.example.echoshotx.video.application.usecase.GetUploadPartUrlsUseCase;
+import com.example.echoshotx.video.application.usecase.GetUploadSessionUseCase;
+import com.example.echoshotx.video.application.usecase.GetVideoProgressUseCase;
 import com.example.echoshotx.video.application.usecase.GetVideoUseCase;
 import com.example.echoshotx.video.application.usecase.InitiateVideoUploadUseCase;
+import com.example.echoshotx.video.application.usecase.ProcessWebhookBatchUseCase;
 import com.example.echoshotx.video.application.usecase.ProcessingCompletedWebhookUseCase;
 import com.example.echoshotx.video.application.usecase.ProcessingFailedWebhookUseCase;
+import com.example.echoshotx.video.application.usecase.RecordUploadedPartsUseCase;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadBatchRequest;
 import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
 import com.example.echoshotx.video.presentation.dto.request.InitiateUploadRequest;
+import com.example.echoshotx.video.presentation.dto.request.UploadPartUrlsRequest;
+import com.example.echoshotx.video.presentation.dto.request.UploadedPartsRequest;
+import com.example.echoshotx.video.presentation.dto.request.WebhookBatchRequest;
 import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingCompletedRequest;
 import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingFailedRequest;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse;
 import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
 import com.example.echoshotx.video.presentation.dto.response.InitiateUploadResponse;
+import com.example.echoshotx.video.presentation.dto.response.UploadPartUrlsResponse;
+import com.example.echoshotx.video.presentation.dto.response.UploadSessionResponse;
 import com.example.echoshotx.video.presentation.dto.response.VideoDetailResponse;
+import com.example.echoshotx.video.presentation.dto.response.VideoProgressStatusResponse;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -34,10 +54,20 @@ public class VideoController {
 
   // UseCases
   private final InitiateVideoUploadUseCase initiateVideoUploadUseCase;
+  private final GetUploadPartUrlsUseCase getUploadPartUrlsUseCase;
+  private final GetUploadSessionUseCase getUploadSessionUseCase;
+  private final RecordUploadedPartsUseCase recordUploadedPartsUseCase;
   private final GetVideoUseCase getVideoUseCase;
+  private final GetVideoProgressUseCase getVideoProgressUseCase;
   private final CompleteVideoUploadUseCase completeVideoUploadUseCase;
+  private final CompleteVideoUploadBatchUseCase completeVideoUploadBatchUseCase;
+  private final DeleteOriginalVideoUseCase deleteOriginalVideoUseCase;
   private final ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase;
   private final ProcessingFailedWebhookUseCase processingFailedWebhookUseCase;
+  private final ProcessWebhookBatchUseCase processWebhookBatchUseCase;
+
+  // Webhook inbox (app.webhook.inbox.enabled)
+  private final WebhookInboxService webhookInboxService;
 
   // TODO: 이후 메서드 (업로드 시작, 완료, 조회, Webhook 등) 추가
 
@@ -51,10 +81,24 @@ public class VideoController {
 	return ApiResponseDto.onSuccess(response);
   }
 
+  @Operation(
+	  summary = "영상 진행률 조회",
+	  description = "처리 중인 영상의 최신 진행률을 조회합니다. " +
+		  "폴링 클라이언트용 경량 API로, 처리 중에는 DB를 조회하지 않습니다.")
+  @GetMapping("/{videoId}/progress")
+  public ApiResponseDto<VideoProgressStatusResponse> getVideoProgress(
+	  @PathVariable Long videoId,
+	  @CurrentMember Member member) {
+
+	VideoProgressStatusResponse response = getVideoProgressUseCase.execute(videoId, member);
+	return ApiResponseDto.onSuccess(response);
+  }
+
   @Operation(
 	  summary = "영상 업로드 시작",
 	  description = "영상 업로드를 위한 Presigned URL을 발급받습니다. " +
-		  "이 URL로 클라이언트가 직접 S3에 업로드합니다."
+		  "이 URL로 클라이언트가 직접 S3에 업로드합니다. " +
+		  "contentSha256이 이미 올린 원본과 같으면 URL 없이 deduplicated=true로 응답하며, 바로 업로드 완료를 호출합니다."
   )
   @PostMapping("/upload/initiate")
   public ApiResponseDto<InitiateUploadResponse> initiateUpload(
@@ -65,6 +109,57 @@ public class VideoController {
 	return ApiResponseDto.onSuccess(response);
   }
 
+  /**
+   * 멀티파트 업로드 파트 URL 재발급.
+   *
+   * <p>파트 URL이 만료됐거나 initiate 응답에 없던 뒤쪽 파트를 올릴 때 호출한다.
+   */
+  @Operation(
+	  summary = "멀티파트 업로드 파트 URL 재발급",
+	  description = "멀티파트 업로드의 파트별 Presigned URL을 발급합니다. "
+		  + "만료된 파트나 이어 올릴 파트 번호를 지정합니다.")
+  @PostMapping("/{videoId}/upload/parts")
+  public ApiResponseDto<UploadPartUrlsResponse> getUploadPartUrls(
+	  @PathVariable Long videoId,
+	  @Valid @RequestBody UploadPartUrlsRequest request,
+	  @CurrentMember Member member) {
+
+	UploadPartUrlsResponse response = getUploadPartUrlsUseCase.execute(videoId, request, member);
+	return ApiResponseDto.onSuccess(response);
+  }
+
+  /**
+   * 멀티파트 업로드 이어 올리기 상태 조회.
+   *
+   * <p>앱 재시작 등으로 업로드가 끊긴 뒤 호출해 완료된 파트와 빠진 파트를 확인하고, 빠진 파트만 이어 올린다.
+   */
+  @Operation(
+	  summary = "업로드 세션 상태 조회",
+	  description = "멀티파트 업로드의 완료된 파트(offset 포함)와 빠진 파트, 다음에 올릴 파트 URL을 조회합니다. "
+		  + "세션은 업로드 만료 시간까지 유지됩니다.")
+  @GetMapping("/{videoId}/upload/session")
+  public ApiResponseDto<UploadSessionResponse> getUploadSession(
+	  @PathVariable Long videoId,
+	  @CurrentMember Member member) {
+
+	UploadSessionResponse response = getUploadSessionUseCase.execute(videoId, member);
+	return ApiResponseDto.onSuccess(response);
+  }
+
+  @Operation(
+	  summary = "업로드 완료 파트 기록",
+	  description = "업로드가 끝난 파트의 번호와 ETag를 업로드 세션에 기록합니다. "
+		  + "기록된 파트는 complete-upload에서 파트 목록 없이도 조립에 사용됩니다.")
+  @PostMapping("/{videoId}/upload/session/parts")
+  public ApiResponseDto<UploadSessionResponse> recordUploadedParts(
+	  @PathVariable Long videoId,
+	  @Valid @RequestBody UploadedPartsRequest request,
+	  @CurrentMember Member member) {
+
+	UploadSessionResponse response = recordUploadedPartsUseCase.execute(videoId, request, member);
+	return ApiResponseDto.onSuccess(response);
+  }
+
   /**
    * 영상 업로드 완료 및 처리 시작.
    *
@@ -88,40 +183,112 @@ public class VideoController {
 	return ApiResponseDto.onSuccess(response);
   }
 
+  /**
+   * 여러 영상 업로드 완료 (배치).
+   *
+   * <p>앨범처럼 여러 파일을 올린 뒤 한 번에 호출하며, 하나의 트랜잭션으로 합계 크레딧을 차감하고 영상별 결과를 반환한다.
+   */
+  @Operation(
+	  summary = "여러 영상 업로드 완료 및 처리 시작",
+	  description =
+		  "여러 영상의 S3 업로드 완료 후 한 번에 호출합니다. "
+			  + "합계 크레딧을 차감하고 AI 처리를 시작하며, 영상별 처리 결과를 반환합니다.")
+  @PostMapping("/complete-upload/batch")
+  public ApiResponseDto<CompleteUploadBatchResponse> completeUploadBatch(
+	  @Valid @RequestBody CompleteUploadBatchRequest request,
+	  @CurrentMember Member member) {
+
+	CompleteUploadBatchResponse response = completeVideoUploadBatchUseCase.execute(request, member);
+	return ApiResponseDto.onSuccess(response);
+  }
+
+  /**
+   * 원본 파일 삭제.
+   *
+   * <p>처리가 완료된 영상의 원본을 지운다. 같은 내용으로 업로드를 공유하는 다른 영상이 있으면 S3 객체는 남긴다.
+   */
+  @Operation(
+	  summary = "원본 파일 삭제",
+	  description = "처리가 완료된 영상의 원본 파일을 삭제합니다. "
+		  + "같은 원본을 공유하는 다른 영상이 있으면 해당 영상의 참조만 해제합니다.")
+  @DeleteMapping("/{videoId}/original")
+  public ApiResponseDto<Void> deleteOriginal(
+	  @PathVariable Long videoId,
+	  @CurrentMember Member member) {
+
+	deleteOriginalVideoUseCase.execute(videoId, member);
+	return ApiResponseDto.onSuccess(null);
+  }
+
   /**
    * AI 처리 완료 웹훅.
    *
    * <p>AI 서버에서 처리 완료 시 호출하는 엔드포인트로, 처리 완료 알림을 SSE로 브로드캐스팅한다.
+   * inbox 모드에서는 저장 후 202로 바로 응답하고 worker가 비동기로 처리한다.
    */
   @Operation(
 	  summary = "AI 처리 완료 웹훅",
 	  description =
 		  "AI 서버에서 처리 완료 시 호출하는 웹훅 엔드포인트입니다. "
-			  + "처리 완료 알림을 SSE로 브로드캐스팅합니다.")
+			  + "처리 완료 알림을 SSE로 브로드캐스팅합니다. "
+			  + "inbox 모드에서는 202 Accepted로 응답합니다.")
   @PostMapping("/webhook/processing-completed")
-  public ApiResponseDto<Void> processingCompletedWebhook(
+  public ResponseEntity<ApiResponseDto<Void>> processingCompletedWebhook(
 	  @Valid @RequestBody WebhookProcessingCompletedRequest request) {
 
+	if (webhookInboxService.isEnabled()) {
+	  webhookInboxService.accept(
+		  WebhookEventType.PROCESSING_COMPLETED, request.getVideoId(), request.getAiJobId(), request);
+	  return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponseDto.onSuccess(null));
+	}
 	processingCompletedWebhookUseCase.execute(request);
-	return ApiResponseDto.onSuccess(null);
+	return ResponseEntity.ok(ApiResponseDto.onSuccess(null));
   }
 
   /**
    * AI 처리 실패 웹훅.
    *
    * <p>AI 서버에서 처리 실패 시 호출하는 엔드포인트로, 실패 알림을 전송하고 크레딧을 환불한다.
+   * inbox 모드에서는 저장 후 202로 바로 응답하고 worker가 비동기로 처리한다.
    */
   @Operation(
 	  summary = "AI 처리 실패 웹훅",
 	  description =
 		  "AI 서버에서 처리 실패 시 호출하는 웹훅 엔드포인트입니다. "
-			  + "처리 실패 알림을 전송하고 크레딧을 환불합니다.")
+			  + "처리 실패 알림을 전송하고 크레딧을 환불합니다. "
+			  + "inbox 모드에서는 202 Accepted로 응답합니다.")
   @PostMapping("/webhook/processing-failed")
-  public ApiResponseDto<Void> processingFailedWebhook(
+  public ResponseEntity<ApiResponseDto<Void>> processingFailedWebhook(
 	  @Valid @RequestBody WebhookProcessingFailedRequest request) {
 
+	if (webhookInboxService.isEnabled()) {
+	  webhookInboxService.accept(
+		  WebhookEventType.PROCESSING_FAILED, request.getVideoId(), request.getAiJobId(), request);
+	  return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponseDto.onSuccess(null));
+	}
 	processingFailedWebhookUseCase.execute(request);
-	return ApiResponseDto.onSuccess(null);
+	return ResponseEntity.ok(ApiResponseDto.onSuccess(null));
+  }
+
+  /**
+   * AI 처리 결과 배치 웹훅.
+   *
+   * <p>완료/실패 결과 여러 건을 하나의 서명으로 받아 청크 단위 트랜잭션으로 반영하고 항목별 결과를 반환한다.
+   * inbox 모드에서는 항목별로 저장만 하고 202로 응답한다.
+   */
+  @Operation(
+	  summary = "AI 처리 결과 배치 웹훅",
+	  description =
+		  "AI 서버가 여러 처리 완료/실패 결과를 한 번에 전송하는 웹훅 엔드포인트입니다. "
+			  + "항목별 처리 결과를 반환합니다. "
+			  + "inbox 모드에서는 202 Accepted로 응답합니다.")
+  @PostMapping("/webhook/batch")
+  public ResponseEntity<ApiResponseDto<WebhookBatchResponse>> processingBatchWebhook(
+	  @Valid @RequestBody WebhookBatchRequest request) {
+
+	WebhookBatchResponse response = processWebhookBatchUseCase.execute(request);
+	HttpStatus status = webhookInboxService.isEnabled() ? HttpStatus.ACCEPTED : HttpStatus.OK;
+	return ResponseEntity.status(status).body(ApiResponseDto.onSuccess(response));
   }
 
 }
@@ -0,0 +1,37 @@
+package com.example.echoshotx.video.presentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 영상의 S3 업로드 완료를 한 번에 알리는 배치 요청 (앨범 업로드 등).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteUploadBatchRequest {
+
+  @NotEmpty(message = "uploads는 비어 있을 수 없습니다.")
+  private List<@Valid @NotNull Entry> uploads;
+
+  /**
+   * 배치 항목. 영상 ID와 단건 요청과 같은 메타데이터를 담는다.
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Entry {
+
+	@NotNull(message = "videoId는 필수입니다.")
+	private Long videoId;
+
+	@Valid
+	@NotNull(message = "metadata는 필수입니다.")
+	private CompleteUploadRequest metadata;
+  }
+}
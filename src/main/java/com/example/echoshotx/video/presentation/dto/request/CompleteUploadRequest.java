@@ -1,7 +1,11 @@
 package com.example.echoshotx.video.presentation.dto.request;
 
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,4 +33,48 @@ public class CompleteUploadRequest {
   private String codec;
   private Long bitrate;
   private Double frameRate;
+
+  /**
+   * 멀티파트 업로드의 파트별 ETag (멀티파트 모드에서만 필요).
+   */
+  private List<@Valid @NotNull Part> parts;
+
+  public CompleteUploadRequest(
+	  Double durationSeconds, Integer width, Integer height, String codec, Long bitrate, Double frameRate) {
+	this(durationSeconds, width, height, codec, bitrate, frameRate, null);
+  }
+
+  public static CompleteUploadRequest from(VideoMetadata metadata) {
+	return new CompleteUploadRequest(
+		metadata.getDurationSeconds(),
+		metadata.getWidth(),
+		metadata.getHeight(),
+		metadata.getCodec(),
+		metadata.getBitrate(),
+		metadata.getFrameRate());
+  }
+
+  public VideoMetadata toVideoMetadata() {
+	return VideoMetadata.builder()
+		.durationSeconds(durationSeconds)
+		.width(width)
+		.height(height)
+		.codec(codec)
+		.bitrate(bitrate)
+		.frameRate(frameRate)
+		.build();
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Part {
+
+	@NotNull(message = "partNumber는 필수입니다.")
+	@Positive(message = "partNumber는 양수여야 합니다.")
+	private Integer partNumber;
+
+	@NotBlank(message = "etag는 필수입니다.")
+	private String etag;
+  }
 }
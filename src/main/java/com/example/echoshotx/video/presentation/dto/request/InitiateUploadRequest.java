@@ -1,6 +1,7 @@
 package com.example.echoshotx.video.presentation.dto.request;
 
 import com.example.echoshotx.video.domain.entity.ProcessingType;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,4 +28,23 @@ public class InitiateUploadRequest {
     @NotNull(message = "처리 타입은 필수입니다")
     private ProcessingType processingType;
 
+    /**
+     * 선택: 멀티파트 업로드 요청. 비어 있어도 파일이 임계 크기 이상이면 멀티파트로 시작한다.
+     */
+    private Boolean multipart;
+
+    /**
+     * 선택: 원본 파일 내용의 SHA-256 (hex).
+     * 같은 회원이 같은 내용·크기의 원본을 이미 올렸으면 업로드 없이 기존 원본을 공유한다.
+     */
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "contentSha256은 64자리 hex 문자열이어야 합니다")
+    private String contentSha256;
+
+    /**
+     * 선택: 업로드 전에 알고 있는 영상 메타데이터.
+     * 있으면 complete-upload 호출 없이 S3 업로드 이벤트만으로 처리가 시작된다.
+     */
+    @Valid
+    private CompleteUploadRequest metadata;
+
 }
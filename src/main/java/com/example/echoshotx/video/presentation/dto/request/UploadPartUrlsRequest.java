@@ -0,0 +1,21 @@
+package com.example.echoshotx.video.presentation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멀티파트 업로드 파트 URL 재발급 요청 (만료된 URL, 이어 올릴 파트).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadPartUrlsRequest {
+
+  @NotEmpty(message = "partNumbers는 비어 있을 수 없습니다.")
+  private List<@NotNull @Positive Integer> partNumbers;
+}
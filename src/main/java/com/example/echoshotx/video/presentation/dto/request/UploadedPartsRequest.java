@@ -0,0 +1,22 @@
+package com.example.echoshotx.video.presentation.dto.request;
+
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest.Part;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멀티파트 업로드에서 업로드가 끝난 파트 보고 (이어 올리기 세션 기록).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadedPartsRequest {
+
+  @NotEmpty(message = "parts는 비어 있을 수 없습니다.")
+  private List<@Valid @NotNull Part> parts;
+}
@@ -0,0 +1,64 @@
+package com.example.echoshotx.video.presentation.dto.request;
+
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 서버가 여러 처리 결과(완료/실패)를 한 번의 서명으로 전송하는 배치 웹훅 요청.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookBatchRequest {
+
+  @NotEmpty(message = "results는 비어 있을 수 없습니다.")
+  private List<@Valid @NotNull Entry> results;
+
+  /**
+   * 배치 항목. eventType에 맞는 본문(completed 또는 failed) 하나만 채워야 한다.
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Entry {
+
+	@NotNull(message = "eventType은 필수입니다.")
+	private WebhookEventType eventType;
+
+	@Valid
+	private WebhookProcessingCompletedRequest completed;
+
+	@Valid
+	private WebhookProcessingFailedRequest failed;
+
+	public Long getVideoId() {
+	  if (completed != null) {
+		return completed.getVideoId();
+	  }
+	  return failed != null ? failed.getVideoId() : null;
+	}
+
+	public String getAiJobId() {
+	  if (completed != null) {
+		return completed.getAiJobId();
+	  }
+	  return failed != null ? failed.getAiJobId() : null;
+	}
+
+	/**
+	 * eventType과 본문이 일치하는지 여부.
+	 */
+	public boolean isConsistent() {
+	  if (eventType == WebhookEventType.PROCESSING_COMPLETED) {
+		return completed != null && failed == null;
+	  }
+	  return failed != null && completed == null;
+	}
+  }
+}
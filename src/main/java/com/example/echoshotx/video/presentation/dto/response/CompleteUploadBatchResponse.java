@@ -0,0 +1,51 @@
+package com.example.echoshotx.video.presentation.dto.response;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배치 업로드 완료 응답. 영상별 결과를 요청 순서(index)대로 담는다.
+ */
+@Getter
+@Builder
+public class CompleteUploadBatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private int usedCredits;
+    private List<EntryResult> results;
+
+    public static CompleteUploadBatchResponse of(List<EntryResult> results, int usedCredits) {
+        int failed = (int) results.stream().filter(r -> r.getStatus() == EntryStatus.FAILED).count();
+        return CompleteUploadBatchResponse.builder()
+                .total(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .usedCredits(usedCredits)
+                .results(results)
+                .build();
+    }
+
+    public enum EntryStatus {
+        /** 업로드 완료 처리 후 처리 대기열에 추가됨 */
+        COMPLETED,
+        /** 이미 업로드 완료 처리된 영상 (재시도) */
+        ALREADY_PROCESSED,
+        FAILED
+    }
+
+    @Getter
+    @Builder
+    public static class EntryResult {
+        private int index;
+        private Long videoId;
+        private EntryStatus status;
+        private VideoStatus videoStatus;
+        private String sqsMessageId;
+        private Integer errorCode;
+        private String message;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.echoshotx.video.presentation.dto.response;
 
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
 import com.example.echoshotx.video.application.dto.PresignedUploadUrlResponse;
 import com.example.echoshotx.video.domain.entity.Video;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -23,6 +25,15 @@ public class InitiateUploadResponse {
     private String contentType;        // Content-Type (클라이언트가 PUT 요청 시 사용)
     private Long maxSizeBytes;         // 최대 크기
 
+    // 멀티파트 모드 (uploadUrl 대신 파트별 URL 사용)
+    private String multipartUploadId;  // S3 멀티파트 업로드 ID
+    private Long partSizeBytes;        // 파트 크기 (마지막 파트 제외)
+    private Integer partCount;         // 전체 파트 수
+    private List<PresignedPartUploadUrl> parts; // 앞쪽 파트 URL (나머지는 파트 URL 재발급 API)
+
+    // 같은 원본을 이미 올린 경우 (업로드 없이 바로 complete-upload 호출)
+    private boolean deduplicated;      // 기존 원본 공유 여부
+
     public static InitiateUploadResponse from(
             Video video, PresignedUploadUrlResponse urlResponse,
             String uploadId, String s3Key, String contentType, Long filesSizeBytes
@@ -38,4 +49,36 @@ public class InitiateUploadResponse {
                 .build();
     }
 
+    public static InitiateUploadResponse multipart(
+            Video video, List<PresignedPartUploadUrl> parts,
+            String contentType, LocalDateTime expiresAt
+    ) {
+        return InitiateUploadResponse.builder()
+                .videoId(video.getId())
+                .uploadId(video.getUploadId())
+                .s3Key(video.getOriginalFile().getS3Key())
+                .expiresAt(expiresAt)
+                .contentType(contentType)
+                .maxSizeBytes(video.getOriginalFile().getFileSizeBytes())
+                .multipartUploadId(video.getMultipartUploadId())
+                .partSizeBytes(video.getMultipartPartSizeBytes())
+                .partCount(video.getMultipartPartCount())
+                .parts(parts)
+                .build();
+    }
+
+    /**
+     * 같은 내용의 원본을 공유하는 경우. 업로드 URL 없이 바로 complete-upload를 호출한다.
+     */
+    public static InitiateUploadResponse deduplicated(Video video, String contentType) {
+        return InitiateUploadResponse.builder()
+                .videoId(video.getId())
+                .uploadId(video.getUploadId())
+                .s3Key(video.getOriginalFile().getS3Key())
+                .contentType(contentType)
+                .maxSizeBytes(video.getOriginalFile().getFileSizeBytes())
+                .deduplicated(true)
+                .build();
+    }
+
 }
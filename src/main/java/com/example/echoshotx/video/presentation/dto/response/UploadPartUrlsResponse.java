@@ -0,0 +1,31 @@
+package com.example.echoshotx.video.presentation.dto.response;
+
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
+import com.example.echoshotx.video.domain.entity.Video;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadPartUrlsResponse {
+
+    private Long videoId;
+    private String multipartUploadId;
+    private Integer partCount;
+    private List<PresignedPartUploadUrl> parts;
+
+    public static UploadPartUrlsResponse of(Video video, List<PresignedPartUploadUrl> parts) {
+        return UploadPartUrlsResponse.builder()
+                .videoId(video.getId())
+                .multipartUploadId(video.getMultipartUploadId())
+                .partCount(video.getMultipartPartCount())
+                .parts(parts)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.echoshotx.video.presentation.dto.response;
+
+import com.example.echoshotx.video.application.dto.PresignedPartUploadUrl;
+import com.example.echoshotx.video.application.dto.UploadSessionStatus;
+import com.example.echoshotx.video.domain.entity.Video;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResponse {
+
+    private Long videoId;
+    private String uploadId;
+    private String multipartUploadId;
+    private Long partSizeBytes;
+    private Integer partCount;
+    private Long totalBytes;                      // 원본 파일 크기
+    private Long uploadedBytes;                   // 완료된 파트 크기 합
+    private LocalDateTime expiresAt;              // 세션 만료 시간 (presignedUrlExpiresAt)
+    private List<CompletedPart> completedParts;   // 완료된 파트 (offset 포함)
+    private List<Integer> missingPartNumbers;     // 이어 올릴 파트 번호
+    private List<PresignedPartUploadUrl> parts;   // 다음에 올릴 파트 URL (나머지는 파트 URL 재발급 API)
+
+    public static UploadSessionResponse of(Video video, UploadSessionStatus status) {
+        List<CompletedPart> completedParts = status.getCompletedParts().entrySet().stream()
+                .map(entry -> new CompletedPart(
+                        entry.getKey(),
+                        entry.getValue(),
+                        video.getMultipartPartOffset(entry.getKey()),
+                        video.getMultipartPartSize(entry.getKey())))
+                .toList();
+
+        return UploadSessionResponse.builder()
+                .videoId(video.getId())
+                .uploadId(video.getUploadId())
+                .multipartUploadId(video.getMultipartUploadId())
+                .partSizeBytes(video.getMultipartPartSizeBytes())
+                .partCount(video.getMultipartPartCount())
+                .totalBytes(video.getOriginalFile().getFileSizeBytes())
+                .uploadedBytes(completedParts.stream().mapToLong(CompletedPart::getSizeBytes).sum())
+                .expiresAt(video.getPresignedUrlExpiresAt())
+                .completedParts(completedParts)
+                .missingPartNumbers(status.getMissingPartNumbers())
+                .parts(status.getParts())
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CompletedPart {
+        private Integer partNumber;
+        private String etag;
+        private Long offset;
+        private Long sizeBytes;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.echoshotx.video.presentation.dto.response;
+
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressView;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 영상 진행률 조회 응답.
+ */
+@Getter
+@Builder
+public class VideoProgressStatusResponse {
+
+    private Long videoId;
+    private VideoStatus status;
+    private Integer progressPercentage;
+    private Integer estimatedTimeLeftSeconds;
+    private String currentStep;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 스냅샷 캐시는 완료/실패 시 모든 노드에서 비워지고 이후 늦은 진행률도 받지 않으므로,
+     * 캐시 값이 있으면 처리 중인 영상이다. 종료된 영상은 DB projection의 실제 상태로 응답한다.
+     */
+    public static VideoProgressStatusResponse from(VideoProgressResponse snapshot) {
+        return VideoProgressStatusResponse.builder()
+                .videoId(snapshot.getVideoId())
+                .status(VideoStatus.PROCESSING)
+                .progressPercentage(snapshot.getProgressPercentage())
+                .estimatedTimeLeftSeconds(snapshot.getEstimatedTimeLeftSeconds())
+                .currentStep(snapshot.getCurrentStep())
+                .updatedAt(snapshot.getTimestamp())
+                .build();
+    }
+
+    public static VideoProgressStatusResponse from(Long videoId, VideoProgressView view) {
+        return VideoProgressStatusResponse.builder()
+                .videoId(videoId)
+                .status(view.getStatus())
+                .progressPercentage(view.getProgressPercentage())
+                .estimatedTimeLeftSeconds(view.getEstimatedTimeLeftSeconds())
+                .currentStep(view.getCurrentStep())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+}
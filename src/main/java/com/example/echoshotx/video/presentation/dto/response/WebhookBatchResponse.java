@@ -0,0 +1,51 @@
+package com.example.echoshotx.video.presentation.dto.response;
+
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 배치 웹훅 응답. 항목별 처리 결과를 요청 순서(index)대로 담는다.
+ */
+@Getter
+@Builder
+public class WebhookBatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<EntryResult> results;
+
+    public static WebhookBatchResponse of(List<EntryResult> results) {
+        int failed = (int) results.stream().filter(r -> r.getStatus() == EntryStatus.FAILED).count();
+        return WebhookBatchResponse.builder()
+                .total(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    public enum EntryStatus {
+        /** 상태 반영 완료 */
+        APPLIED,
+        /** inbox에 저장됨 (worker가 비동기 처리) */
+        ACCEPTED,
+        /** 이미 받은 웹훅 (inbox 중복) */
+        DUPLICATE,
+        FAILED
+    }
+
+    @Getter
+    @Builder
+    public static class EntryResult {
+        private int index;
+        private Long videoId;
+        private String aiJobId;
+        private WebhookEventType eventType;
+        private EntryStatus status;
+        private Integer errorCode;
+        private String message;
+    }
+}
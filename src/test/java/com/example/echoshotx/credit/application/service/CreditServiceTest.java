@@ -0,0 +1,137 @@
+package com.example.echoshotx.credit.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.credit.domain.entity.CreditHistory;
+import com.example.echoshotx.credit.domain.entity.TransactionType;
+import com.example.echoshotx.credit.domain.exception.CreditErrorStatus;
+import com.example.echoshotx.credit.infrastructure.persistence.CreditHistoryJdbcRepository;
+import com.example.echoshotx.credit.infrastructure.persistence.CreditHistoryRepository;
+import com.example.echoshotx.credit.presentation.exception.CreditHandler;
+import com.example.echoshotx.member.application.adaptor.MemberAdaptor;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CreditServiceTest {
+
+    private static final String USAGE_KEY = "VIDEO_PROCESSING:10";
+    private static final String ADJUSTMENT_KEY = "VIDEO_PROCESSING_ADJUST:10";
+    private static final String REFUND_KEY = "VIDEO_PROCESSING_REFUND:10";
+
+    @Mock
+    private MemberAdaptor memberAdaptor;
+
+    @Mock
+    private CreditHistoryRepository creditHistoryRepository;
+
+    @Mock
+    private CreditHistoryJdbcRepository creditHistoryJdbcRepository;
+
+    @InjectMocks
+    private CreditService creditService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = mock(Member.class);
+        given(memberAdaptor.queryByIdWithLock(7L)).willReturn(member);
+        given(creditHistoryRepository.findByDeductionKey(any())).willReturn(Optional.empty());
+        given(creditHistoryRepository.save(any(CreditHistory.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private void givenCharged(int amount) {
+        given(creditHistoryRepository.findByDeductionKey(USAGE_KEY)).willReturn(Optional.of(
+                CreditHistory.createUsage(7L, 10L, amount, ProcessingType.AI_UPSCALING, USAGE_KEY)));
+    }
+
+    @Test
+    @DisplayName("성공: 확인한 길이가 더 길면 모자란 크레딧만 추가 차감한다")
+    void reconcile_ChargesShortfall_WhenDurationUnderstated() {
+        givenCharged(30);
+
+        CreditHistory adjustment = creditService.reconcileVideoProcessingCharge(
+                7L, 10L, ProcessingType.AI_UPSCALING, 60.0);
+
+        verify(member).useCredits(570);
+        assertThat(adjustment.getTransactionType()).isEqualTo(TransactionType.USAGE);
+        assertThat(adjustment.getAmount()).isEqualTo(570);
+        assertThat(adjustment.getDeductionKey()).isEqualTo(ADJUSTMENT_KEY);
+    }
+
+    @Test
+    @DisplayName("성공: 확인한 길이가 더 짧으면 넘친 크레딧을 환불한다")
+    void reconcile_RefundsExcess_WhenDurationOverstated() {
+        givenCharged(600);
+
+        CreditHistory adjustment = creditService.reconcileVideoProcessingCharge(
+                7L, 10L, ProcessingType.AI_UPSCALING, 3.0);
+
+        verify(member).addCredits(570);
+        assertThat(adjustment.getTransactionType()).isEqualTo(TransactionType.REFUND);
+        assertThat(adjustment.getAmount()).isEqualTo(570);
+    }
+
+    @Test
+    @DisplayName("성공: 이미 정산했거나 실패 환불된 비디오, 차이가 없는 경우는 다시 정산하지 않는다")
+    void reconcile_Skips_WhenAlreadySettled() {
+        givenCharged(600);
+        assertThat(creditService.reconcileVideoProcessingCharge(7L, 10L, ProcessingType.AI_UPSCALING, 60.0))
+                .isNull();
+
+        given(creditHistoryRepository.findByDeductionKey(REFUND_KEY)).willReturn(Optional.of(
+                CreditHistory.createRefund(7L, 10L, 600, "영상 처리 실패", REFUND_KEY)));
+        assertThat(creditService.reconcileVideoProcessingCharge(7L, 10L, ProcessingType.AI_UPSCALING, 3.0))
+                .isNull();
+
+        verify(member, never()).useCredits(anyInt());
+        verify(member, never()).addCredits(anyInt());
+        verify(creditHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("실패: 잔액이 모자라면 예외가 나고 정산 내역을 남기지 않는다")
+    void reconcile_Throws_WhenCreditsNotEnough() {
+        givenCharged(30);
+        willThrow(new CreditHandler(CreditErrorStatus.CREDIT_NOT_ENOUGH)).given(member).useCredits(570);
+
+        assertThatThrownBy(() -> creditService.reconcileVideoProcessingCharge(
+                7L, 10L, ProcessingType.AI_UPSCALING, 60.0))
+                .isInstanceOf(CreditHandler.class);
+        verify(creditHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("성공: 처리 실패 환불은 업로드 시 차감액에 정산 차액을 더한 금액을 돌려준다")
+    void refundVideoProcessingCharge_RefundsNetCharge() {
+        givenCharged(30);
+        given(creditHistoryRepository.findByDeductionKey(ADJUSTMENT_KEY)).willReturn(Optional.of(
+                CreditHistory.createUsage(7L, 10L, 570, ProcessingType.AI_UPSCALING, ADJUSTMENT_KEY)));
+
+        CreditHistory refund = creditService.refundVideoProcessingCharge(7L, 10L, "영상 처리 실패");
+
+        verify(member).addCredits(600);
+        assertThat(refund.getAmount()).isEqualTo(600);
+        assertThat(refund.getDeductionKey()).isEqualTo(REFUND_KEY);
+    }
+}
@@ -7,14 +7,25 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 
 import com.example.echoshotx.credit.application.service.CreditService;
 import com.example.echoshotx.credit.domain.entity.CreditHistory;
 import com.example.echoshotx.credit.domain.entity.TransactionType;
+import com.example.echoshotx.job.application.service.JobOutboxService;
+import com.example.echoshotx.job.application.service.JobService;
+import com.example.echoshotx.job.domain.entity.Job;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.member.domain.entity.Role;
 import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.lock.LockStrategy;
+import com.example.echoshotx.video.application.lock.LockStrategyRegistry;
+import com.example.echoshotx.video.application.service.CompleteUploadSingleFlight;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.application.service.VideoOriginalObjectService;
 import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.application.service.VideoUploadIdempotencyService;
 import com.example.echoshotx.video.application.usecase.CompleteVideoUploadUseCase;
 import com.example.echoshotx.video.domain.entity.ProcessingType;
 import com.example.echoshotx.video.domain.entity.Video;
@@ -23,6 +34,7 @@ import com.example.echoshotx.video.domain.vo.VideoFile;
 import com.example.echoshotx.video.domain.vo.VideoMetadata;
 import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
 import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -58,6 +70,30 @@ class CompleteVideoUploadUseCaseTest {
     @Mock
     private CreditService creditService;
 
+    @Mock
+    private VideoOriginalObjectService videoOriginalObjectService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobOutboxService jobOutboxService;
+
+    @Mock
+    private VideoUploadIdempotencyService idempotencyService;
+
+    @Mock
+    private LockStrategyRegistry lockStrategyRegistry;
+
+    @Mock
+    private LockStrategy lockStrategy;
+
+    @Mock
+    private CompleteUploadSingleFlight singleFlight;
+
+    @Mock
+    private MultipartUploadService multipartUploadService;
+
     @InjectMocks
     private CompleteVideoUploadUseCase completeVideoUploadUseCase;
 
@@ -71,6 +107,16 @@ class CompleteVideoUploadUseCaseTest {
     @BeforeEach
     void setUp() {
         // Given: 테스트 데이터 준비
+        lenient().when(videoOriginalObjectService.retain(any())).thenReturn(true);
+        // 잠금 전략은 잠금 조회한 영상으로 전환을 바로 실행한다
+        lenient().when(lockStrategyRegistry.current()).thenReturn(lockStrategy);
+        lenient().when(lockStrategy.execute(any(), any())).thenAnswer(invocation -> {
+            Function<Video, Object> transition = invocation.getArgument(1);
+            return transition.apply(videoAdaptor.queryByIdWithLock(invocation.getArgument(0)));
+        });
+        Job job = mock(Job.class);
+        lenient().when(job.getId()).thenReturn(1L);
+        lenient().when(jobService.createJob(any(), any(), any(), any())).thenReturn(job);
         testMember =
                 Member.builder()
                         .id(1L)
@@ -172,6 +218,14 @@ class CompleteVideoUploadUseCaseTest {
                         .build();
     }
 
+    /**
+     * 업로드 완료 전 조회와 잠금 조회가 같은 영상을 돌려주도록 설정.
+     */
+    private void givenVideo(Video video) {
+        given(videoAdaptor.queryById(100L)).willReturn(video);
+        given(videoAdaptor.queryByIdWithLock(100L)).willReturn(video);
+    }
+
     @Nested
     @DisplayName("execute 메서드 테스트")
     class ExecuteTest {
@@ -180,7 +234,7 @@ class CompleteVideoUploadUseCaseTest {
         @DisplayName("성공: 업로드 완료 워크플로우 정상 실행")
         void execute_Success_WhenValidRequest() {
             // Given
-            given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+            givenVideo(testVideo);
             given(videoService.completeUpload(eq(testVideo), any(VideoMetadata.class)))
                     .willReturn(uploadCompletedVideo);
             given(
@@ -202,18 +256,20 @@ class CompleteVideoUploadUseCaseTest {
             assertThat(response.getSqsMessageId()).isEqualTo("sqs-msg-uuid-12345");
 
             verify(videoAdaptor).queryById(100L);
+            verify(multipartUploadService).completeIfMultipart(eq(testVideo), any());
             verify(videoService).completeUpload(eq(testVideo), any(VideoMetadata.class));
             verify(creditService)
                     .useCreditsForVideoProcessing( eq(testMember),
                             eq(uploadCompletedVideo), eq(ProcessingType.AI_UPSCALING));
             verify(videoService).enqueueForProcessing(eq(uploadCompletedVideo), anyString());
+            verify(jobOutboxService).enqueueJobCreated(any(), eq(1L));
         }
 
         @Test
         @DisplayName("성공: VideoService.completeUpload가 올바른 메타데이터로 호출됨")
         void execute_CallsCompleteUpload_WithCorrectMetadata() {
             // Given
-            given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+            givenVideo(testVideo);
             given(videoService.completeUpload(eq(testVideo), any(VideoMetadata.class)))
                     .willReturn(uploadCompletedVideo);
             given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(testCreditHistory);
@@ -241,7 +297,7 @@ class CompleteVideoUploadUseCaseTest {
         @DisplayName("성공: CreditService가 올바른 처리 타입으로 호출됨")
         void execute_CallsCreditService_WithCorrectProcessingType() {
             // Given
-            given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+            givenVideo(testVideo);
             given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
             given(
                     creditService.useCreditsForVideoProcessing(eq(testMember),
@@ -262,7 +318,7 @@ class CompleteVideoUploadUseCaseTest {
         @DisplayName("성공: VideoService.enqueueForProcessing에 SQS 메시지 ID가 전달됨")
         void execute_CallsEnqueueForProcessing_WithSqsMessageId() {
             // Given
-            given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+            givenVideo(testVideo);
             given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
             given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(testCreditHistory);
             given(videoService.enqueueForProcessing(eq(uploadCompletedVideo), anyString()))
@@ -280,16 +336,15 @@ class CompleteVideoUploadUseCaseTest {
             String capturedSqsMessageId = sqsMessageIdCaptor.getValue();
             assertThat(capturedSqsMessageId).isNotNull();
             assertThat(capturedSqsMessageId).isNotEmpty();
-            // Mock SQS는 UUID 형식이어야 함
-            assertThat(capturedSqsMessageId)
-                    .matches("[a-f0-9]{8}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{12}");
+            // SQS 전송은 outbox가 맡으므로 메시지 ID는 Job ID 기반 ("job:" + jobId)
+            assertThat(capturedSqsMessageId).isEqualTo("job:1");
         }
 
         @Test
         @DisplayName("성공: 메서드 호출 순서가 올바름")
         void execute_CallsMethodsInCorrectOrder() {
             // Given
-            given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+            givenVideo(testVideo);
             given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
             given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(testCreditHistory);
             given(videoService.enqueueForProcessing(any(), anyString())).willReturn(queuedVideo);
@@ -348,7 +403,7 @@ class CompleteVideoUploadUseCaseTest {
                             .retryCount(0)
                             .build();
 
-            given(videoAdaptor.queryById(100L)).willReturn(aiVideo);
+            givenVideo(aiVideo);
             given(videoService.completeUpload(any(), any())).willReturn(aiUploadCompleted);
             given(
                     creditService.useCreditsForVideoProcessing(eq(testMember),
@@ -384,7 +439,7 @@ class CompleteVideoUploadUseCaseTest {
                                 60.0 // 60fps
                         );
 
-                given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+                givenVideo(testVideo);
                 given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
                 given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(
                         testCreditHistory);
@@ -420,7 +475,7 @@ class CompleteVideoUploadUseCaseTest {
                                 24.0 // 24fps
                         );
 
-                given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+                givenVideo(testVideo);
                 given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
                 given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(
                         testCreditHistory);
@@ -450,7 +505,7 @@ class CompleteVideoUploadUseCaseTest {
             @DisplayName("성공: Response에 모든 필수 필드가 올바르게 매핑됨")
             void response_ContainsAllRequiredFields() {
                 // Given
-                given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+                givenVideo(testVideo);
                 given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
                 given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(
                         testCreditHistory);
@@ -471,7 +526,7 @@ class CompleteVideoUploadUseCaseTest {
             @DisplayName("성공: Response 상태가 QUEUED로 설정됨")
             void response_StatusIsQueued() {
                 // Given
-                given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+                givenVideo(testVideo);
                 given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
                 given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(
                         testCreditHistory);
@@ -489,7 +544,7 @@ class CompleteVideoUploadUseCaseTest {
             @DisplayName("성공: Response 메시지가 올바름")
             void response_MessageIsCorrect() {
                 // Given
-                given(videoAdaptor.queryById(100L)).willReturn(testVideo);
+                givenVideo(testVideo);
                 given(videoService.completeUpload(any(), any())).willReturn(uploadCompletedVideo);
                 given(creditService.useCreditsForVideoProcessing(any(), any(), any())).willReturn(
                         testCreditHistory);
@@ -0,0 +1,165 @@
+package com.example.echoshotx.notification.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.shared.config.notification.props.NotificationProps;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * NotificationCoalescer 단위 테스트.
+ *
+ * <p>테스트 범위:
+ * <ol>
+ *   <li>병합 대상 타입 판별</li>
+ *   <li>윈도우 만료 시 단건/다이제스트 전송</li>
+ *   <li>최대 배치 크기 도달 시 즉시 전송</li>
+ * </ol>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationCoalescer 테스트")
+class NotificationCoalescerTest {
+
+	private static final NotificationType COMPLETED = NotificationType.VIDEO_PROCESSING_COMPLETED;
+
+	@Mock
+	private NotificationService notificationService;
+
+	private NotificationProps notificationProps;
+	private NotificationCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		notificationProps = new NotificationProps();
+		notificationProps.getCoalescing().setEnabled(true);
+		notificationProps.getCoalescing().setWindowMillis(3000);
+		notificationProps.getCoalescing().setMaxBatchSize(50);
+		coalescer = new NotificationCoalescer(notificationService, notificationProps);
+	}
+
+	private void offer(Long memberId, Long videoId) {
+		coalescer.offer(
+				memberId,
+				videoId,
+				"video" + videoId + ".mp4",
+				COMPLETED,
+				"영상 처리 완료",
+				String.format("'video%d.mp4' 영상 처리가 완료되었습니다.", videoId));
+	}
+
+	@Nested
+	@DisplayName("병합 대상 판별 테스트")
+	class IsCoalescingTest {
+
+		@Test
+		@DisplayName("성공: 설정된 타입만 병합 대상")
+		void isCoalescing_OnlyConfiguredTypes() {
+			assertThat(coalescer.isCoalescing(COMPLETED)).isTrue();
+			assertThat(coalescer.isCoalescing(NotificationType.VIDEO_PROCESSING_FAILED)).isFalse();
+		}
+
+		@Test
+		@DisplayName("성공: 비활성화 시 병합하지 않음")
+		void isCoalescing_Disabled() {
+			notificationProps.getCoalescing().setEnabled(false);
+
+			assertThat(coalescer.isCoalescing(COMPLETED)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("윈도우 flush 테스트")
+	class FlushTest {
+
+		@Test
+		@DisplayName("성공: 윈도우 만료 전에는 전송하지 않음")
+		void flushExpired_BeforeWindowEnds() {
+			offer(1L, 10L);
+
+			coalescer.flushExpired(System.currentTimeMillis());
+
+			verify(notificationService, never())
+					.createAndSendVideoNotification(anyLong(), anyLong(), any(), anyString(), anyString());
+			assertThat(coalescer.getPendingWindowCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("성공: 이벤트가 한 건이면 일반 알림으로 전송")
+		void flushExpired_SingleEvent() {
+			offer(1L, 10L);
+
+			coalescer.flushAll();
+
+			verify(notificationService)
+					.createAndSendVideoNotification(
+							eq(1L), eq(10L), eq(COMPLETED), eq("영상 처리 완료"), contains("video10.mp4"));
+			verify(notificationService, never())
+					.createAndSendVideoDigestNotification(anyLong(), anyList(), any(), anyString(), anyString());
+			assertThat(coalescer.getPendingWindowCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("성공: 여러 건이면 다이제스트 한 건으로 전송")
+		void flushExpired_MultipleEvents() {
+			offer(1L, 10L);
+			offer(1L, 11L);
+			offer(1L, 12L);
+
+			coalescer.flushAll();
+
+			verify(notificationService)
+					.createAndSendVideoDigestNotification(
+							eq(1L),
+							eq(List.of(10L, 11L, 12L)),
+							eq(COMPLETED),
+							eq("영상 처리 완료"),
+							contains("외 2개"));
+			verify(notificationService, never())
+					.createAndSendVideoNotification(anyLong(), anyLong(), any(), anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("성공: 회원별로 윈도우가 분리됨")
+		void flushExpired_SeparatedByMember() {
+			offer(1L, 10L);
+			offer(2L, 20L);
+
+			coalescer.flushAll();
+
+			verify(notificationService)
+					.createAndSendVideoNotification(eq(1L), eq(10L), eq(COMPLETED), anyString(), anyString());
+			verify(notificationService)
+					.createAndSendVideoNotification(eq(2L), eq(20L), eq(COMPLETED), anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("성공: 최대 배치 크기 도달 시 즉시 전송하고 새 윈도우를 연다")
+		void offer_FlushesWhenBatchIsFull() {
+			notificationProps.getCoalescing().setMaxBatchSize(2);
+
+			offer(1L, 10L);
+			offer(1L, 11L);
+			offer(1L, 12L);
+
+			verify(notificationService)
+					.createAndSendVideoDigestNotification(
+							eq(1L), eq(List.of(10L, 11L)), eq(COMPLETED), anyString(), anyString());
+			assertThat(coalescer.getPendingWindowCount()).isEqualTo(1);
+		}
+	}
+}
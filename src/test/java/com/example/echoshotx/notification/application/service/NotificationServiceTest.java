@@ -8,6 +8,7 @@ import com.example.echoshotx.notification.application.adaptor.NotificationAdapto
 import com.example.echoshotx.notification.domain.entity.Notification;
 import com.example.echoshotx.notification.domain.entity.NotificationStatus;
 import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
 import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +42,15 @@ class NotificationServiceTest {
 	@Mock
 	private SseConnectionManager sseConnectionManager;
 
+	@Mock
+	private WebSocketSessionManager webSocketSessionManager;
+
+	@Mock
+	private NotificationMetrics notificationMetrics;
+
+	@Mock
+	private VideoProgressSnapshotCache videoProgressSnapshotCache;
+
 	@InjectMocks
 	private NotificationService notificationService;
 
@@ -130,6 +140,27 @@ class NotificationServiceTest {
 			verify(sseConnectionManager).sendToMember(eq(testMemberId), any());
 		}
 
+		@Test
+		@DisplayName("성공: SSE 연결 없이 WebSocket으로 전송되면 SENT 상태로 저장됨")
+		void createAndSendVideoNotification_Sent_WhenOnlyWebSocketConnected() {
+			// Given
+			given(notificationAdaptor.save(any(Notification.class))).willReturn(testNotification);
+			given(sseConnectionManager.sendToMember(eq(testMemberId), any())).willReturn(false);
+			given(webSocketSessionManager.sendNotification(eq(testMemberId), any())).willReturn(true);
+
+			// When
+			Notification result = notificationService.createAndSendVideoNotification(
+					testMemberId,
+					testVideoId,
+					NotificationType.VIDEO_PROCESSING_STARTED,
+					"영상 처리 시작",
+					"'test.mp4' 영상 처리가 시작되었습니다.");
+
+			// Then
+			assertThat(result.getStatus()).isEqualTo(NotificationStatus.SENT);
+			verify(webSocketSessionManager).sendNotification(eq(testMemberId), any(NotificationResponse.class));
+		}
+
 		@Test
 		@DisplayName("성공: Notification 엔티티가 올바르게 생성됨")
 		void createAndSendVideoNotification_CreatesCorrectEntity() {
@@ -3,7 +3,9 @@ package com.example.echoshotx.notification.application.service;
 import static org.assertj.core.api.Assertions.*;
 
 import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
 import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,13 +29,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @DisplayName("SseConnectionManager 테스트")
 class SseConnectionManagerTest {
 
+	private SimpleMeterRegistry meterRegistry;
 	private SseConnectionManager sseConnectionManager;
 	private Long testMemberId1;
 	private Long testMemberId2;
 
 	@BeforeEach
 	void setUp() {
-		sseConnectionManager = new SseConnectionManager();
+		meterRegistry = new SimpleMeterRegistry();
+		sseConnectionManager = new SseConnectionManager(new NotificationMetrics(meterRegistry));
 		testMemberId1 = 1L;
 		testMemberId2 = 2L;
 	}
@@ -292,4 +296,43 @@ class SseConnectionManagerTest {
 			assertThat(sseConnectionManager.isConnected(testMemberId1)).isFalse();
 		}
 	}
+
+	@Nested
+	@DisplayName("지표 기록 테스트")
+	class MetricsTest {
+
+		@Test
+		@DisplayName("성공: 활성 연결 수와 연결 카운터가 기록됨")
+		void createConnection_RecordsConnectionMetrics() {
+			// When
+			sseConnectionManager.createConnection(testMemberId1);
+			sseConnectionManager.createConnection(testMemberId2);
+			sseConnectionManager.disconnectMember(testMemberId2);
+
+			// Then
+			assertThat(meterRegistry.get("notification.realtime.connections.active")
+					.tag("channel", NotificationMetrics.CHANNEL_SSE).gauge().value()).isEqualTo(1.0);
+			assertThat(meterRegistry.get("notification.realtime.connections.opened")
+					.tag("channel", NotificationMetrics.CHANNEL_SSE).counter().count()).isEqualTo(2.0);
+			assertThat(meterRegistry.get("notification.realtime.connections.closed")
+					.tag("reason", "server").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("성공: 전송 성공은 지연시간, 연결 없음은 실패 원인별로 기록됨")
+		void sendToMember_RecordsLatencyAndFailures() {
+			// Given
+			sseConnectionManager.createConnection(testMemberId1);
+
+			// When
+			sseConnectionManager.sendToMember(testMemberId1, "data");
+			sseConnectionManager.sendToMember(999L, "data");
+
+			// Then
+			assertThat(meterRegistry.get("notification.realtime.send.latency")
+					.tag("channel", NotificationMetrics.CHANNEL_SSE).timer().count()).isEqualTo(1L);
+			assertThat(meterRegistry.get("notification.realtime.send.failures")
+					.tag("cause", NotificationMetrics.CAUSE_NO_CONNECTION).counter().count()).isEqualTo(1.0);
+		}
+	}
 }
@@ -2,6 +2,8 @@ package com.example.echoshotx.notification.application.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.example.echoshotx.notification.infrastructure.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Map;
@@ -31,7 +33,7 @@ class SseHeartbeatIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        sseConnectionManager = new SseConnectionManager();
+        sseConnectionManager = new SseConnectionManager(new NotificationMetrics(new SimpleMeterRegistry()));
     }
 
     @Nested
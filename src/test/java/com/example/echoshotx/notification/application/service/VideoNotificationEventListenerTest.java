@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
@@ -43,6 +44,8 @@ class VideoNotificationEventListenerTest {
 
   @Mock private NotificationService notificationService;
 
+  @Mock private NotificationCoalescer notificationCoalescer;
+
   @InjectMocks private VideoNotificationEventListener eventListener;
 
   private Long testMemberId;
@@ -308,4 +311,35 @@ class VideoNotificationEventListenerTest {
 			  anyLong(), anyLong(), any(NotificationType.class), anyString(), anyString());
 	}
   }
+
+  @Nested
+  @DisplayName("알림 병합 테스트")
+  class CoalescingTest {
+
+	@Test
+	@DisplayName("성공: 병합 대상 타입이면 coalescer로 전달하고 즉시 생성하지 않음")
+	void handleVideoProcessingCompleted_OffersToCoalescer() {
+	  // Given
+	  VideoProcessingCompletedEvent event =
+		  new VideoProcessingCompletedEvent(testVideoId, testMemberId, testFileName);
+	  given(notificationCoalescer.isCoalescing(NotificationType.VIDEO_PROCESSING_COMPLETED))
+		  .willReturn(true);
+
+	  // When
+	  eventListener.handleVideoProcessingCompleted(event);
+
+	  // Then
+	  verify(notificationCoalescer)
+		  .offer(
+			  eq(testMemberId),
+			  eq(testVideoId),
+			  eq(testFileName),
+			  eq(NotificationType.VIDEO_PROCESSING_COMPLETED),
+			  eq("영상 처리 완료"),
+			  contains(testFileName));
+	  verify(notificationService, never())
+		  .createAndSendVideoNotification(
+			  anyLong(), anyLong(), any(NotificationType.class), anyString(), anyString());
+	}
+  }
 }
@@ -0,0 +1,105 @@
+package com.example.echoshotx.notification.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.shared.config.notification.props.NotificationProps;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VideoProgressSnapshotCache 테스트")
+class VideoProgressSnapshotCacheTest {
+
+	private NotificationProps notificationProps;
+	private VideoProgressSnapshotCache cache;
+
+	@BeforeEach
+	void setUp() {
+		notificationProps = new NotificationProps();
+		notificationProps.getProgressSnapshot().setMaxEntries(2);
+		cache = new VideoProgressSnapshotCache(notificationProps);
+	}
+
+	private VideoProgressResponse progress(Long videoId, int percentage) {
+		return VideoProgressResponse.builder()
+				.videoId(videoId)
+				.progressPercentage(percentage)
+				.timestamp(LocalDateTime.now())
+				.build();
+	}
+
+	@Test
+	@DisplayName("성공: 최신 진행률만 보관하고 소유자에게만 반환한다")
+	void get_ReturnsLatestSnapshot_OnlyForOwner() {
+		cache.put(1L, progress(10L, 20));
+		cache.put(1L, progress(10L, 40));
+
+		assertThat(cache.get(1L, 10L)).get()
+				.extracting(VideoProgressResponse::getProgressPercentage)
+				.isEqualTo(40);
+		assertThat(cache.get(2L, 10L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공: 회원별 진행 중인 스냅샷 목록을 조회한다")
+	void getByMember_ReturnsMemberSnapshots() {
+		cache.put(1L, progress(10L, 20));
+		cache.put(1L, progress(11L, 30));
+
+		assertThat(cache.getByMember(1L))
+				.extracting(VideoProgressResponse::getVideoId)
+				.containsExactlyInAnyOrder(10L, 11L);
+		assertThat(cache.getByMember(2L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공: 용량을 넘으면 가장 오래 사용되지 않은 스냅샷을 제거한다")
+	void put_EvictsLeastRecentlyUsed_WhenFull() {
+		cache.put(1L, progress(10L, 20));
+		cache.put(1L, progress(11L, 30));
+		cache.get(1L, 10L);
+		cache.put(2L, progress(12L, 40));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(1L, 11L)).isEmpty();
+		assertThat(cache.getByMember(1L))
+				.extracting(VideoProgressResponse::getVideoId)
+				.containsExactly(10L);
+	}
+
+	@Test
+	@DisplayName("성공: TTL이 지난 스냅샷은 반환하지 않는다")
+	void get_ReturnsEmpty_WhenExpired() {
+		notificationProps.getProgressSnapshot().setTtlMillis(0);
+		cache = new VideoProgressSnapshotCache(notificationProps);
+		cache.put(1L, progress(10L, 20));
+
+		assertThat(cache.get(1L, 10L)).isEmpty();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공: evict 시 스냅샷과 회원 인덱스에서 제거된다")
+	void evict_RemovesSnapshot() {
+		cache.put(1L, progress(10L, 20));
+
+		cache.evict(10L);
+
+		assertThat(cache.get(1L, 10L)).isEmpty();
+		assertThat(cache.getByMember(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공: evict 이후 늦게 도착한 진행률은 다시 캐시하지 않는다")
+	void put_Ignored_AfterEvict() {
+		cache.put(1L, progress(10L, 20));
+		cache.evict(10L);
+
+		cache.put(1L, progress(10L, 30));
+
+		assertThat(cache.get(1L, 10L)).isEmpty();
+		assertThat(cache.size()).isZero();
+	}
+}
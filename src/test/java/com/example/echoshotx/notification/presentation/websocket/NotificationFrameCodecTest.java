@@ -0,0 +1,157 @@
+package com.example.echoshotx.notification.presentation.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.echoshotx.notification.domain.entity.NotificationStatus;
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.notification.presentation.dto.response.NotificationResponse;
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.notification.presentation.exception.NotificationHandler;
+import com.example.echoshotx.notification.presentation.websocket.NotificationFrameCodec.ClientFrame;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NotificationFrameCodec 단위 테스트.
+ *
+ * <p>테스트 범위:
+ * <ol>
+ *   <li>서버 프레임(알림/진행률) 인코딩 왕복</li>
+ *   <li>클라이언트 프레임(구독/해제/ACK) 디코딩</li>
+ *   <li>잘못된 프레임 거부</li>
+ * </ol>
+ */
+@DisplayName("NotificationFrameCodec 테스트")
+class NotificationFrameCodecTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+	@Nested
+	@DisplayName("서버 프레임 테스트")
+	class ServerFrameTest {
+
+		@Test
+		@DisplayName("성공: 알림 프레임 인코딩 후 디코딩하면 값이 보존됨")
+		void notification_RoundTrip() {
+			// Given
+			NotificationResponse response = NotificationResponse.builder()
+					.id(123L)
+					.type(NotificationType.VIDEO_PROCESSING_COMPLETED)
+					.title("영상 처리 완료")
+					.content("'a.mp4' 외 2개 영상 처리가 완료되었습니다.")
+					.isRead(false)
+					.status(NotificationStatus.SENT)
+					.videoId(12L)
+					.videoIds(List.of(10L, 11L, 12L))
+					.aggregatedCount(3)
+					.createdAt(NOW)
+					.build();
+
+			// When
+			byte[] frame = NotificationFrameCodec.encodeNotification(response);
+			NotificationResponse decoded = NotificationFrameCodec.decodeNotification(ByteBuffer.wrap(frame));
+
+			// Then
+			assertThat(frame[0]).isEqualTo(NotificationFrameCodec.OP_NOTIFICATION);
+			assertThat(decoded.getId()).isEqualTo(123L);
+			assertThat(decoded.getType()).isEqualTo(NotificationType.VIDEO_PROCESSING_COMPLETED);
+			assertThat(decoded.getTitle()).isEqualTo(response.getTitle());
+			assertThat(decoded.getContent()).isEqualTo(response.getContent());
+			assertThat(decoded.getIsRead()).isFalse();
+			assertThat(decoded.getVideoId()).isEqualTo(12L);
+			assertThat(decoded.getVideoIds()).containsExactly(10L, 11L, 12L);
+			assertThat(decoded.getAggregatedCount()).isEqualTo(3);
+			assertThat(decoded.getCreatedAt()).isEqualTo(NOW);
+		}
+
+		@Test
+		@DisplayName("성공: 알림 유형은 enum 순서가 아닌 고정 코드로 인코딩됨")
+		void notification_TypeUsesFixedCode() {
+			// Given
+			NotificationResponse response = NotificationResponse.builder()
+					.id(1L)
+					.type(NotificationType.SYSTEM_ANNOUNCEMENT)
+					.isRead(true)
+					.createdAt(NOW)
+					.build();
+
+			// When
+			byte[] frame = NotificationFrameCodec.encodeNotification(response);
+
+			// Then: opcode, id(1바이트 varint) 다음이 type
+			assertThat(frame[2]).isEqualTo((byte) 4);
+			assertThat(NotificationFrameCodec.decodeNotification(ByteBuffer.wrap(frame)).getType())
+					.isEqualTo(NotificationType.SYSTEM_ANNOUNCEMENT);
+		}
+
+		@Test
+		@DisplayName("성공: 진행률 프레임은 JSON보다 작고 값이 보존됨")
+		void progress_RoundTripAndSmallerThanJson() throws Exception {
+			// Given
+			VideoProgressResponse response = VideoProgressResponse.builder()
+					.videoId(100L)
+					.progressPercentage(42)
+					.estimatedTimeLeftSeconds(null)
+					.currentStep("AI 처리 중")
+					.timestamp(NOW)
+					.build();
+			ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+			// When
+			byte[] frame = NotificationFrameCodec.encodeProgress(response);
+			VideoProgressResponse decoded = NotificationFrameCodec.decodeProgress(ByteBuffer.wrap(frame));
+
+			// Then
+			assertThat(decoded.getVideoId()).isEqualTo(100L);
+			assertThat(decoded.getProgressPercentage()).isEqualTo(42);
+			assertThat(decoded.getEstimatedTimeLeftSeconds()).isNull();
+			assertThat(decoded.getCurrentStep()).isEqualTo("AI 처리 중");
+			assertThat(decoded.getTimestamp()).isEqualTo(NOW);
+			assertThat(frame.length).isLessThan(objectMapper.writeValueAsBytes(response).length);
+		}
+	}
+
+	@Nested
+	@DisplayName("클라이언트 프레임 테스트")
+	class ClientFrameTest {
+
+		@Test
+		@DisplayName("성공: 구독/해제/ACK 프레임 디코딩")
+		void decodeClientFrame_Success() {
+			ClientFrame subscribe = NotificationFrameCodec.decodeClientFrame(
+					ByteBuffer.wrap(NotificationFrameCodec.encodeClientFrame(NotificationFrameCodec.OP_SUBSCRIBE, 300L)));
+			ClientFrame ack = NotificationFrameCodec.decodeClientFrame(
+					ByteBuffer.wrap(NotificationFrameCodec.encodeClientFrame(NotificationFrameCodec.OP_ACK, Long.MAX_VALUE)));
+
+			assertThat(subscribe.opcode()).isEqualTo(NotificationFrameCodec.OP_SUBSCRIBE);
+			assertThat(subscribe.id()).isEqualTo(300L);
+			assertThat(ack.opcode()).isEqualTo(NotificationFrameCodec.OP_ACK);
+			assertThat(ack.id()).isEqualTo(Long.MAX_VALUE);
+		}
+
+		@Test
+		@DisplayName("실패: 알 수 없는 opcode")
+		void decodeClientFrame_UnknownOpcode() {
+			byte[] frame = NotificationFrameCodec.encodeClientFrame((byte) 0x7F, 1L);
+
+			assertThatThrownBy(() -> NotificationFrameCodec.decodeClientFrame(ByteBuffer.wrap(frame)))
+					.isInstanceOf(NotificationHandler.class);
+		}
+
+		@Test
+		@DisplayName("실패: 잘린 프레임")
+		void decodeClientFrame_Truncated() {
+			byte[] frame = {NotificationFrameCodec.OP_SUBSCRIBE, (byte) 0x80};
+
+			assertThatThrownBy(() -> NotificationFrameCodec.decodeClientFrame(ByteBuffer.wrap(frame)))
+					.isInstanceOf(NotificationHandler.class);
+		}
+	}
+}
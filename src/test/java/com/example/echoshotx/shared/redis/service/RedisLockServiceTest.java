@@ -0,0 +1,166 @@
+package com.example.echoshotx.shared.redis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.shared.config.redis.props.RedisLockProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RedisLockServiceTest {
+
+    private RedisLockProps props;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisLockReleaseSubscriber releaseSubscriber;
+    private InMemoryRedisLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        props = new RedisLockProps();
+        meterRegistry = new SimpleMeterRegistry();
+        releaseSubscriber = new RedisLockReleaseSubscriber();
+        lockService = new InMemoryRedisLockService(releaseSubscriber, props, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockService.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 대기 중인 요청은 해제 알림으로 깨어나 획득하고, fencing token은 증가한다")
+    void tryAcquire_WakesUpOnRelease() throws Exception {
+        props.setMaxWaitSliceMillis(10_000);
+        RedisLock first = lockService.tryAcquire("video:complete:1").orElseThrow();
+
+        CompletableFuture<Optional<RedisLock>> waiter = CompletableFuture.supplyAsync(
+                () -> lockService.tryAcquire("video:complete:1", Duration.ofSeconds(5)));
+        Thread.sleep(50);
+        long releasedAt = System.nanoTime();
+        first.close();
+        RedisLock second = waiter.get(2, TimeUnit.SECONDS).orElseThrow();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt)).isLessThan(1_000);
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+        assertThat(meterRegistry.get("redis.lock.contention").tag("name", "video:complete").counter().count())
+                .isEqualTo(1.0);
+        second.close();
+    }
+
+    @Test
+    @DisplayName("실패: 대기 시간 안에 해제되지 않으면 빈 값을 돌려주고 timeout을 기록한다")
+    void tryAcquire_ReturnsEmpty_WhenWaitTimesOut() {
+        props.setMaxWaitSliceMillis(10);
+        RedisLock holder = lockService.tryAcquire("video:complete:1").orElseThrow();
+
+        Optional<RedisLock> result = lockService.tryAcquire("video:complete:1", Duration.ofMillis(50));
+
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("redis.lock.wait").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("성공: watchdog은 보유 중 lease를 연장하고, 연장에 실패하면 락을 lost로 표시한다")
+    void watchdog_RenewsLease_AndMarksLostOnFailure() throws Exception {
+        props.setLeaseMillis(60);
+        lockService.renewalsBeforeFailure.set(2);
+
+        RedisLock lock = lockService.tryAcquire("video:complete:1").orElseThrow();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (lock.isHeld() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(lock.isHeld()).isFalse();
+        assertThat(lockService.renewCalls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("redis.lock.lease.lost").counter().count()).isEqualTo(1.0);
+        lock.close();
+    }
+
+    @Test
+    @DisplayName("실패: Redis 오류로 lease가 지나도록 연장하지 못하면 락을 lost로 표시한다")
+    void watchdog_MarksLost_WhenRenewalFailsPastLease() throws Exception {
+        props.setLeaseMillis(60);
+        lockService.renewError.set(true);
+
+        RedisLock lock = lockService.tryAcquire("video:complete:1").orElseThrow();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (lock.isHeld() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(lock.isHeld()).isFalse();
+        assertThat(lockService.renewCalls.get()).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("redis.lock.lease.lost").counter().count()).isEqualTo(1.0);
+        lock.close();
+    }
+
+    @Test
+    @DisplayName("성공: 두 번 닫아도 해제와 보유 시간 기록은 한 번만 한다")
+    void close_IsIdempotent() {
+        RedisLock lock = lockService.tryAcquire("video:complete:1").orElseThrow();
+
+        lock.close();
+        lock.close();
+
+        assertThat(lockService.releaseCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("redis.lock.hold").timer().count()).isEqualTo(1);
+        assertThat(lockService.tryAcquire("video:complete:1")).isPresent();
+    }
+
+    /**
+     * 스크립트 호출만 메모리로 바꾼 RedisLockService.
+     */
+    private static class InMemoryRedisLockService extends RedisLockService {
+
+        private final Map<String, String> locks = new ConcurrentHashMap<>();
+        private final AtomicLong fence = new AtomicLong();
+        private final AtomicInteger renewalsBeforeFailure = new AtomicInteger(Integer.MAX_VALUE);
+        private final AtomicInteger renewCalls = new AtomicInteger();
+        private final AtomicBoolean renewError = new AtomicBoolean();
+        private final AtomicInteger releaseCalls = new AtomicInteger();
+        private final RedisLockReleaseSubscriber releaseSubscriber;
+
+        InMemoryRedisLockService(
+                RedisLockReleaseSubscriber releaseSubscriber, RedisLockProps props, SimpleMeterRegistry registry) {
+            super(null, releaseSubscriber, props, registry);
+            this.releaseSubscriber = releaseSubscriber;
+        }
+
+        @Override
+        protected long acquireOnce(String key, String token, long leaseMillis) {
+            return locks.putIfAbsent(key, token) == null ? fence.incrementAndGet() : 0;
+        }
+
+        @Override
+        protected boolean renewOnce(String key, String token, long leaseMillis) {
+            renewCalls.incrementAndGet();
+            if (renewError.get()) {
+                throw new IllegalStateException("redis unavailable");
+            }
+            return renewalsBeforeFailure.getAndDecrement() > 0 && token.equals(locks.get(key));
+        }
+
+        @Override
+        protected boolean releaseOnce(String key, String token) {
+            releaseCalls.incrementAndGet();
+            boolean released = locks.remove(key, token);
+            if (released) {
+                releaseSubscriber.signal(key);
+            }
+            return released;
+        }
+    }
+}
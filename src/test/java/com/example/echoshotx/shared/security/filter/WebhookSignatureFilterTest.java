@@ -0,0 +1,170 @@
+package com.example.echoshotx.shared.security.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.example.echoshotx.shared.security.config.WebhookSecurityProperties;
+import com.example.echoshotx.shared.security.service.WebhookReplayGuardService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WebhookSignatureFilterTest {
+
+    private static final String SECRET = "test-secret";
+    private static final String URI = "/videos/webhook/processing-completed";
+
+    @Mock
+    private WebhookSecurityProperties properties;
+
+    @Mock
+    private WebhookReplayGuardService replayGuardService;
+
+    private WebhookSignatureFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        given(properties.getSecret()).willReturn(SECRET);
+        given(properties.getAllowedSkewSeconds()).willReturn(300L);
+        given(properties.getMaxBodyBytes()).willReturn(1024);
+        given(replayGuardService.registerNonce(anyString())).willReturn(true);
+        filter = new WebhookSignatureFilter(properties, replayGuardService);
+    }
+
+    private static String sign(String timestamp, String nonce, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String payload = timestamp + "." + nonce + ".POST." + URI + "." + body;
+        return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MockHttpServletRequest request(String timestamp, String body, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", URI);
+        request.addHeader("X-Timestamp", timestamp);
+        request.addHeader("X-Nonce", "nonce-1");
+        request.addHeader("X-Signature", signature);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest signedRequest(String body) throws Exception {
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        return request(timestamp, body, sign(timestamp, "nonce-1", body));
+    }
+
+    @Test
+    @DisplayName("성공: 서명이 맞으면 읽은 본문을 그대로 다음 필터에 넘긴다")
+    void doFilter_PassesCachedBody_WhenSignatureValid() throws Exception {
+        String body = "{\"videoId\":1,\"aiJobId\":\"job-1\",\"note\":\"한글 본문\"}";
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(signedRequest(body), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(chain.getRequest()).isInstanceOf(CachedBodyHttpServletRequest.class);
+        assertThat(StreamUtils.copyToString(chain.getRequest().getInputStream(), StandardCharsets.UTF_8))
+                .isEqualTo(body);
+        assertThat(chain.getRequest().getContentLength()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("성공: 대문자 hex 서명도 허용하고 스레드의 Mac을 재사용해도 결과가 같다")
+    void doFilter_AcceptsUpperCaseSignature_AndReusesMac() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            String body = "{\"videoId\":" + i + "}";
+            MockHttpServletRequest request = signedRequest(body);
+            String signature = request.getHeader("X-Signature").toUpperCase();
+            request.removeHeader("X-Signature");
+            request.addHeader("X-Signature", signature);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 본문이 변조되면 401이며 nonce를 등록하지 않는다")
+    void doFilter_Rejects_WhenBodyTampered() throws Exception {
+        MockHttpServletRequest request = signedRequest("{\"videoId\":1}");
+        request.setContent("{\"videoId\":2}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(replayGuardService, never()).registerNonce(anyString());
+    }
+
+    @Test
+    @DisplayName("실패: hex가 아니거나 길이가 다른 서명은 401")
+    void doFilter_Rejects_WhenSignatureMalformed() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(
+                request(String.valueOf(Instant.now().getEpochSecond()), "{}", "zz" + "0".repeat(62)),
+                response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("실패: Content-Length가 최대 크기를 넘으면 본문을 읽지 않고 413")
+    void doFilter_Rejects_WhenContentLengthTooLarge() throws Exception {
+        MockHttpServletRequest request = signedRequest("x".repeat(2048));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("실패: Content-Length 없이 최대 크기를 넘는 본문이 오면 413")
+    void doFilter_Rejects_WhenChunkedBodyTooLarge() throws Exception {
+        byte[] content = "x".repeat(2048).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", URI) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public jakarta.servlet.ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new ByteArrayInputStream(content));
+            }
+        };
+        request.addHeader("X-Timestamp", String.valueOf(Instant.now().getEpochSecond()));
+        request.addHeader("X-Nonce", "nonce-1");
+        request.addHeader("X-Signature", "0".repeat(64));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.echoshotx.shared.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.example.echoshotx.shared.redis.service.RedisService;
+import com.example.echoshotx.shared.security.config.WebhookSecurityProperties;
+import com.example.echoshotx.shared.security.infrastructure.WebhookNonceJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WebhookReplayGuardServiceTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private WebhookNonceBatchWriter nonceBatchWriter;
+
+    @Mock
+    private WebhookNonceJdbcRepository nonceJdbcRepository;
+
+    @Mock
+    private WebhookSecurityProperties properties;
+
+    private WebhookNonceLocalFilter localFilter;
+    private WebhookReplayGuardService guardService;
+
+    @BeforeEach
+    void setUp() {
+        given(properties.getNonceBucketSeconds()).willReturn(30L);
+        given(properties.getNonceRetentionSeconds()).willReturn(600L);
+        given(properties.getNonceRedisBackoffMillis()).willReturn(60_000L);
+        given(properties.getNonceDbBatchSize()).willReturn(10);
+        given(properties.getNonceDbMaxWaitMillis()).willReturn(1L);
+        localFilter = new WebhookNonceLocalFilter(properties);
+        guardService = new WebhookReplayGuardService(
+                redisService, localFilter, nonceBatchWriter, nonceJdbcRepository, properties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("성공: 같은 노드의 재전송은 Redis 조회 없이 로컬 필터에서 거부한다")
+    void registerNonce_RejectsLocalReplay_WithoutRedis() {
+        given(redisService.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        assertThat(guardService.registerNonce("nonce-1")).isTrue();
+        assertThat(guardService.registerNonce("nonce-1")).isFalse();
+
+        verify(redisService, times(1)).setIfAbsent(eq("webhook:nonce:nonce-1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드가 먼저 등록한 nonce는 Redis에서 거부한다")
+    void registerNonce_RejectsReplayFromOtherNode() {
+        given(redisService.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        assertThat(guardService.registerNonce("nonce-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: Redis 오류 후 backoff 동안은 Redis를 건너뛰고 DB 배치 경로를 사용한다")
+    void registerNonce_SkipsRedisDuringBackoff() {
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisService).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        given(nonceBatchWriter.register(anyString())).willReturn(true);
+
+        assertThat(guardService.registerNonce("nonce-1")).isTrue();
+        assertThat(guardService.registerNonce("nonce-2")).isTrue();
+
+        verify(redisService, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verify(nonceBatchWriter).register("nonce-1");
+        verify(nonceBatchWriter).register("nonce-2");
+    }
+
+    @Test
+    @DisplayName("성공: Redis와 DB 등록이 모두 예외로 끝나면 로컬 기록을 지워 같은 요청의 재시도를 받아들인다")
+    void registerNonce_UnmarksLocal_WhenFallbackThrows() {
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisService).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        given(nonceBatchWriter.register("nonce-1"))
+                .willThrow(new IllegalStateException("nonce batch timed out"))
+                .willReturn(true);
+
+        assertThatThrownBy(() -> guardService.registerNonce("nonce-1")).isInstanceOf(IllegalStateException.class);
+        assertThat(guardService.registerNonce("nonce-1")).isTrue();
+        assertThat(guardService.registerNonce("nonce-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 로컬 필터는 보관 기간 동안 기억하고 지난 버킷은 통째로 버린다")
+    void localFilter_RemembersWithinRetention_AndDropsExpiredBuckets() {
+        long now = 1_700_000_000_000L;
+
+        assertThat(localFilter.markIfAbsent("nonce-1", now)).isTrue();
+        assertThat(localFilter.markIfAbsent("nonce-1", now + 599_000)).isFalse();
+        assertThat(localFilter.markIfAbsent("nonce-2", now)).isTrue();
+
+        assertThat(localFilter.dropExpiredBuckets(now + 700_000)).isEqualTo(1);
+        assertThat(localFilter.markIfAbsent("nonce-2", now + 700_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: DB 배치는 이미 있는 nonce와 배치 안의 중복을 거부하고 나머지를 한 번에 기록한다")
+    void batchWriter_RejectsExistingAndDuplicates_InOneBatch() {
+        WebhookNonceBatchWriter writer = new WebhookNonceBatchWriter(nonceJdbcRepository, localFilter, properties);
+        given(nonceJdbcRepository.findExisting(List.of("a", "b", "a"))).willReturn(Set.of("b"));
+        given(nonceJdbcRepository.batchInsertIgnore(eq(List.of("a")), anyLong(), any(), any()))
+                .willReturn(new int[] {1});
+        var a = new WebhookNonceBatchWriter.PendingNonce("a", new CompletableFuture<>());
+        var b = new WebhookNonceBatchWriter.PendingNonce("b", new CompletableFuture<>());
+        var duplicate = new WebhookNonceBatchWriter.PendingNonce("a", new CompletableFuture<>());
+
+        writer.flush(List.of(a, b, duplicate));
+        writer.shutdown();
+
+        assertThat(a.result().join()).isTrue();
+        assertThat(b.result().join()).isFalse();
+        assertThat(duplicate.result().join()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 정리 작업은 DB 만료 버킷을 limit 단위로 반복 삭제한다")
+    void cleanupExpiredNonces_DeletesInChunks() {
+        given(nonceJdbcRepository.deleteExpiredBuckets(anyLong(), any(LocalDateTime.class), anyInt())).willReturn(5_000, 10);
+
+        guardService.cleanupExpiredNonces();
+
+        verify(nonceJdbcRepository, times(2)).deleteExpiredBuckets(anyLong(), any(LocalDateTime.class), eq(5_000));
+        verify(redisService, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.echoshotx.video.application.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.shared.config.redis.props.RedisLockProps;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.redis.service.RedisLockReleaseSubscriber;
+import com.example.echoshotx.shared.redis.service.RedisLockService;
+import com.example.echoshotx.video.application.service.VideoTransitionExecutor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * 업로드 완료 잠금 전략 벤치마크.
+ *
+ * <p>DB와 Redis 대신 지연을 흉내 내는 로컬 stand-in을 사용해 각 전략의 처리량과 p99 지연을 비교합니다.
+ * <ul>
+ *   <li>same-video: 모든 스레드가 같은 영상 순서로 호출 (영상마다 스레드 수만큼 경합)</li>
+ *   <li>distinct-video: 스레드마다 서로 다른 영상을 호출 (경합 없음, 잠금 오버헤드만 측정)</li>
+ * </ul>
+ * 수치는 로그로만 남기고, 모든 전략에서 영상당 Job이 정확히 1개인지를 검증합니다.
+ */
+@Slf4j
+@DisplayName("업로드 완료 잠금 전략 벤치마크")
+class LockStrategyBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int VIDEOS_PER_ROUND = 30;
+    private static final long DB_ROUND_TRIP_NANOS = 300_000;
+    private static final long REDIS_ROUND_TRIP_NANOS = 100_000;
+    private static final long WORK_NANOS = 500_000;
+
+    private StandInDatabase database;
+    private List<LockStrategy> strategies;
+
+    @BeforeEach
+    void setUp() {
+        VideoProps videoProps = new VideoProps();
+        videoProps.getTransition().setRetryBackoffMillis(1);
+        database = new StandInDatabase();
+        VideoTransitionExecutor executor = new StandInTransitionExecutor(database, videoProps);
+        RedisLockService redisLockService = new StandInRedisLockService(new RedisLockReleaseSubscriber());
+
+        strategies = List.of(
+                new NoLockStrategy(executor),
+                new DbPessimisticLockStrategy(executor),
+                new RedisLockStrategy(redisLockService, executor, videoProps),
+                new RedisDbLockStrategy(redisLockService, executor),
+                new OptimisticLockStrategy(executor),
+                new StripedLockStrategy(executor, videoProps));
+    }
+
+    @Test
+    @DisplayName("같은 영상 경합: 모든 전략이 영상당 Job 1개를 보장한다")
+    void sameVideoContention() throws Exception {
+        log.info("=== same-video (스레드 {}개 x 영상 {}개) ===", THREADS, VIDEOS_PER_ROUND);
+        for (LockStrategy strategy : strategies) {
+            run(strategy, true);
+            Result result = run(strategy, true);
+            log.info("[{}] {}", String.format("%-14s", strategy.name()), result);
+
+            assertThat(result.jobsPerVideo()).as(strategy.name()).containsOnly(1);
+            assertThat(result.succeeded()).as(strategy.name()).isEqualTo(VIDEOS_PER_ROUND);
+        }
+    }
+
+    @Test
+    @DisplayName("서로 다른 영상: 경합이 없으면 모든 요청이 성공한다")
+    void distinctVideoLoad() throws Exception {
+        log.info("=== distinct-video (스레드 {}개 x 영상 {}개) ===", THREADS, VIDEOS_PER_ROUND);
+        for (LockStrategy strategy : strategies) {
+            run(strategy, false);
+            Result result = run(strategy, false);
+            log.info("[{}] {}", String.format("%-14s", strategy.name()), result);
+
+            assertThat(result.jobsPerVideo()).as(strategy.name()).containsOnly(1);
+            assertThat(result.succeeded()).as(strategy.name()).isEqualTo(THREADS * VIDEOS_PER_ROUND);
+        }
+    }
+
+    private Result run(LockStrategy strategy, boolean sameVideo) throws Exception {
+        int videoCount = sameVideo ? VIDEOS_PER_ROUND : THREADS * VIDEOS_PER_ROUND;
+        long firstVideoId = database.createVideos(videoCount);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (int t = 0; t < THREADS; t++) {
+            long base = sameVideo ? firstVideoId : firstVideoId + (long) t * VIDEOS_PER_ROUND;
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < VIDEOS_PER_ROUND; i++) {
+                        long begin = System.nanoTime();
+                        try {
+                            strategy.execute(base + i, this::completeUpload);
+                            succeeded.incrementAndGet();
+                        } catch (VideoHandler | ObjectOptimisticLockingFailureException e) {
+                            // 이미 처리됨 / 충돌: 중복 요청의 정상 거부
+                        } finally {
+                            latencies.add(System.nanoTime() - begin);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        long elapsedNanos = System.nanoTime() - begin;
+        pool.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        List<Integer> jobsPerVideo = new ArrayList<>();
+        for (long id = firstVideoId; id < firstVideoId + videoCount; id++) {
+            jobsPerVideo.add(database.row(id).jobs);
+        }
+        return new Result(
+                sorted.size() * 1_000_000_000.0 / elapsedNanos,
+                percentileMs(sorted, 0.5),
+                percentileMs(sorted, 0.99),
+                succeeded.get(),
+                jobsPerVideo);
+    }
+
+    /**
+     * CompleteVideoUploadUseCase의 전환 작업을 흉내 낸다 (상태 확인 → 상태 변경 + Job 생성).
+     */
+    private Void completeUpload(Video ignored) {
+        Transaction tx = StandInTransitionExecutor.CURRENT.get();
+        if (tx.status != VideoStatus.PENDING_UPLOAD) {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_ALREADY_PROCESSED);
+        }
+        tx.status = VideoStatus.QUEUED;
+        tx.jobCreated = true;
+        pause(WORK_NANOS);
+        return null;
+    }
+
+    private static double percentileMs(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.size() - 1, Math.ceil(percentile * sortedNanos.size()) - 1);
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static void pause(long nanos) {
+        LockSupport.parkNanos(nanos);
+    }
+
+    private record Result(double opsPerSecond, double p50Ms, double p99Ms, int succeeded, List<Integer> jobsPerVideo) {
+
+        @Override
+        public String toString() {
+            return String.format("throughput=%.0f ops/s, p50=%.2fms, p99=%.2fms, succeeded=%d",
+                    opsPerSecond, p50Ms, p99Ms, succeeded);
+        }
+    }
+
+    /**
+     * 영상 행. lock은 InnoDB 행 락(FOR UPDATE, UPDATE 시 획득)을 흉내 낸다.
+     */
+    private static class Row {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile VideoStatus status = VideoStatus.PENDING_UPLOAD;
+        private volatile long version;
+        private volatile int jobs;
+    }
+
+    private static class Transaction {
+        private final long readVersion;
+        private VideoStatus status;
+        private boolean jobCreated;
+
+        private Transaction(Row row) {
+            this.readVersion = row.version;
+            this.status = row.status;
+        }
+    }
+
+    private static class StandInDatabase {
+        private final Map<Long, Row> rows = new ConcurrentHashMap<>();
+        private long nextId = 1;
+
+        synchronized long createVideos(int count) {
+            long first = nextId;
+            for (int i = 0; i < count; i++) {
+                rows.put(nextId++, new Row());
+            }
+            return first;
+        }
+
+        Row row(long videoId) {
+            return rows.get(videoId);
+        }
+    }
+
+    /**
+     * 트랜잭션 경계와 @Version 검사를 메모리에서 흉내 내는 실행기. 재시도 루프는 실제 구현을 그대로 사용한다.
+     */
+    private static class StandInTransitionExecutor extends VideoTransitionExecutor {
+
+        private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+
+        private final StandInDatabase database;
+
+        StandInTransitionExecutor(StandInDatabase database, VideoProps videoProps) {
+            super(null, null, videoProps, new SimpleMeterRegistry());
+            this.database = database;
+        }
+
+        @Override
+        public <T> T executeWithLock(Long videoId, Function<Video, T> transition) {
+            Row row = database.row(videoId);
+            row.lock.lock();
+            try {
+                return runTransaction(row, transition);
+            } finally {
+                row.lock.unlock();
+            }
+        }
+
+        @Override
+        public <T> T executeWithoutLock(Long videoId, Function<Video, T> transition) {
+            return runTransaction(database.row(videoId), transition);
+        }
+
+        private <T> T runTransaction(Row row, Function<Video, T> transition) {
+            pause(DB_ROUND_TRIP_NANOS);
+            Transaction tx = new Transaction(row);
+            CURRENT.set(tx);
+            try {
+                T result = transition.apply(null);
+                commit(row, tx);
+                return result;
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        private void commit(Row row, Transaction tx) {
+            if (!tx.jobCreated) {
+                return;
+            }
+            pause(DB_ROUND_TRIP_NANOS);
+            row.lock.lock();
+            try {
+                if (row.version != tx.readVersion) {
+                    throw new ObjectOptimisticLockingFailureException(Video.class, row);
+                }
+                row.status = tx.status;
+                row.version++;
+                row.jobs++;
+            } finally {
+                row.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 획득/연장/해제 스크립트만 메모리로 바꾼 Redis 락. 대기, 해제 알림, watchdog은 실제 구현을 사용한다.
+     * lease 만료는 다루지 않는다.
+     */
+    private static class StandInRedisLockService extends RedisLockService {
+
+        private final Map<String, String> locks = new ConcurrentHashMap<>();
+        private final AtomicLong fence = new AtomicLong();
+        private final RedisLockReleaseSubscriber releaseSubscriber;
+
+        StandInRedisLockService(RedisLockReleaseSubscriber releaseSubscriber) {
+            super(null, releaseSubscriber, new RedisLockProps(), new SimpleMeterRegistry());
+            this.releaseSubscriber = releaseSubscriber;
+        }
+
+        @Override
+        protected long acquireOnce(String key, String token, long leaseMillis) {
+            pause(REDIS_ROUND_TRIP_NANOS);
+            return locks.putIfAbsent(key, token) == null ? fence.incrementAndGet() : 0;
+        }
+
+        @Override
+        protected boolean renewOnce(String key, String token, long leaseMillis) {
+            return token.equals(locks.get(key));
+        }
+
+        @Override
+        protected boolean releaseOnce(String key, String token) {
+            pause(REDIS_ROUND_TRIP_NANOS);
+            boolean released = locks.remove(key, token);
+            if (released) {
+                releaseSubscriber.signal(key);
+            }
+            return released;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.echoshotx.video.application.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LockStrategyRegistryTest {
+
+    private VideoProps videoProps;
+    private LockStrategyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        registry = new LockStrategyRegistry(
+                List.of(strategy(RedisDbLockStrategy.NAME), strategy(OptimisticLockStrategy.NAME),
+                        strategy(StripedLockStrategy.NAME)),
+                videoProps);
+    }
+
+    private static LockStrategy strategy(String name) {
+        LockStrategy strategy = mock(LockStrategy.class);
+        given(strategy.name()).willReturn(name);
+        return strategy;
+    }
+
+    @Test
+    @DisplayName("성공: lock-strategy가 없으면 transition.lock-mode를 따른다")
+    void current_FollowsTransitionLockMode_WhenNotConfigured() {
+        assertThat(registry.current().name()).isEqualTo(RedisDbLockStrategy.NAME);
+
+        videoProps.getTransition().setLockMode("optimistic");
+
+        assertThat(registry.current().name()).isEqualTo(OptimisticLockStrategy.NAME);
+    }
+
+    @Test
+    @DisplayName("성공: lock-strategy를 지정하면 lock-mode보다 우선한다")
+    void current_UsesConfiguredStrategy() {
+        videoProps.getTransition().setLockMode("optimistic");
+        videoProps.getCompleteUpload().setLockStrategy(StripedLockStrategy.NAME);
+
+        assertThat(registry.current().name()).isEqualTo(StripedLockStrategy.NAME);
+    }
+}
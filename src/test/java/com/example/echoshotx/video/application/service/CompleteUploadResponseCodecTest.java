@@ -0,0 +1,48 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompleteUploadResponseCodecTest {
+
+    @Test
+    @DisplayName("성공: 기본 안내 문구를 쓰는 응답은 짧게 인코딩되고 그대로 복원된다")
+    void roundTrip_DefaultMessage() {
+        CompleteUploadResponse response = CompleteUploadResponse.builder()
+                .videoId(42L)
+                .status(VideoStatus.QUEUED)
+                .message("영상 처리가 시작되었습니다.")
+                .sqsMessageId("job:123")
+                .build();
+
+        byte[] payload = CompleteUploadResponseCodec.encode(response);
+
+        assertThat(payload.length).isLessThan(40);
+        assertThat(CompleteUploadResponseCodec.decode(payload)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("성공: null 필드와 임의 문구도 복원된다")
+    void roundTrip_NullsAndCustomMessage() {
+        CompleteUploadResponse response = CompleteUploadResponse.builder()
+                .status(VideoStatus.UPLOAD_COMPLETED)
+                .message("custom")
+                .build();
+
+        assertThat(CompleteUploadResponseCodec.decode(CompleteUploadResponseCodec.encode(response)))
+                .isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("실패: 알 수 없는 버전은 역직렬화 예외")
+    void decode_RejectsUnknownVersion() {
+        assertThatThrownBy(() -> CompleteUploadResponseCodec.decode(new byte[] {9, 0}))
+                .isInstanceOf(VideoHandler.class);
+    }
+}
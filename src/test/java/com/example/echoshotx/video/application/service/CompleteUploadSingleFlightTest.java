@@ -0,0 +1,122 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompleteUploadSingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompleteUploadSingleFlight singleFlight;
+    private final CompleteUploadResponse response = CompleteUploadResponse.builder()
+            .videoId(1L)
+            .status(VideoStatus.QUEUED)
+            .sqsMessageId("job:1")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new CompleteUploadSingleFlight(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키의 동시 요청은 한 번만 실행하고 같은 응답을 받는다")
+    void execute_CoalescesConcurrentDuplicates() throws Exception {
+        int threads = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        List<Future<CompleteUploadResponse>> results = new ArrayList<>();
+        results.add(pool.submit(() -> singleFlight.execute(1L, 1L, "key", "hash", () -> {
+            executions.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return response;
+        })));
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < threads; i++) {
+            results.add(pool.submit(() -> singleFlight.execute(1L, 1L, "key", "hash", () -> {
+                executions.incrementAndGet();
+                return response;
+            })));
+        }
+        waitUntilCoalesced(threads - 1);
+        releaseLeader.countDown();
+
+        for (Future<CompleteUploadResponse> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        pool.shutdown();
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 진행 중인 키에 다른 요청 본문이 오면 VIDEO_IDEMPOTENCY_KEY_CONFLICT")
+    void execute_RejectsDifferentRequestHash() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        CompletableFuture<CompleteUploadResponse> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute(1L, 1L, "key", "hash", () -> {
+                    leaderStarted.countDown();
+                    await(releaseLeader);
+                    return response;
+                }));
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> singleFlight.execute(1L, 1L, "key", "other-hash", () -> response))
+                .isInstanceOf(VideoHandler.class)
+                .extracting(e -> ((VideoHandler) e).getCode())
+                .isEqualTo(VideoErrorStatus.VIDEO_IDEMPOTENCY_KEY_CONFLICT);
+
+        releaseLeader.countDown();
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("성공: 실행이 실패하면 예외를 전달하고 키를 비워 다음 요청은 새로 실행한다")
+    void execute_PropagatesFailure_AndClearsFlight() {
+        assertThatThrownBy(() -> singleFlight.execute(1L, 1L, "key", "hash", () -> {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+        })).isInstanceOf(VideoHandler.class);
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute(1L, 1L, "key", "hash", () -> response)).isSameAs(response);
+    }
+
+    private void waitUntilCoalesced(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (meterRegistry.get("video.complete_upload.coalesced").counter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
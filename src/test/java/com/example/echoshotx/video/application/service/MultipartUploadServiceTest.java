@@ -0,0 +1,188 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.dto.UploadSessionStatus;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MultipartUploadServiceTest {
+
+    private static final long MB = 1024L * 1024;
+    private static final String S3_KEY = "videos/7/original/upload-1/movie.mp4";
+
+    @Mock
+    private AwsS3Service awsS3Service;
+
+    @Mock
+    private UploadSessionStore uploadSessionStore;
+
+    private VideoProps videoProps;
+    private MultipartUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        videoProps.getMultipart().setPartSizeBytes(8 * MB);
+        videoProps.getMultipart().setInitialPartUrls(2);
+        service = new MultipartUploadService(awsS3Service, uploadSessionStore, videoProps);
+    }
+
+    private static Video multipartVideo(long fileSizeBytes, long partSizeBytes) {
+        return multipartVideo(fileSizeBytes, partSizeBytes, LocalDateTime.now().plusDays(1));
+    }
+
+    private static Video multipartVideo(long fileSizeBytes, long partSizeBytes, LocalDateTime expiresAt) {
+        Video video = Video.createForPresignedUpload(
+                7L, "movie.mp4", fileSizeBytes, ProcessingType.AI_UPSCALING,
+                S3_KEY, "upload-1", expiresAt);
+        video.startMultipartUpload("mpu-1", partSizeBytes);
+        return video;
+    }
+
+    private static CompleteUploadRequest.Part part(int partNumber, String etag) {
+        return new CompleteUploadRequest.Part(partNumber, etag);
+    }
+
+    @Test
+    @DisplayName("성공: 파트 크기는 설정값을 쓰되 S3 최대 파트 수를 넘지 않도록 키운다")
+    void partSizeFor_KeepsPartCountWithinLimit() {
+        assertThat(service.partSizeFor(100 * MB)).isEqualTo(8 * MB);
+
+        long huge = 200_000 * MB;
+        long partSize = service.partSizeFor(huge);
+        assertThat(partSize).isGreaterThan(8 * MB);
+        assertThat((huge + partSize - 1) / partSize).isLessThanOrEqualTo(MultipartUploadService.MAX_PARTS);
+    }
+
+    @Test
+    @DisplayName("성공: 업로드를 시작하면 앞쪽 파트 URL만 발급한다")
+    void start_IssuesInitialPartUrls() {
+        Video video = Video.createForPresignedUpload(
+                7L, "movie.mp4", 20 * MB, ProcessingType.AI_UPSCALING,
+                S3_KEY, "upload-1", LocalDateTime.now().plusDays(1));
+        given(awsS3Service.initiateMultipartUpload(eq(S3_KEY), anyString(), anyLong())).willReturn("mpu-1");
+
+        service.start(video, "video/mp4");
+
+        assertThat(video.getMultipartUploadId()).isEqualTo("mpu-1");
+        assertThat(video.getMultipartPartCount()).isEqualTo(3);
+        verify(awsS3Service).generateUploadPartUrls(S3_KEY, "mpu-1", List.of(1, 2), 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("실패: 범위를 벗어난 파트 번호로 URL을 재발급할 수 없다")
+    void refreshPartUrls_Throws_WhenPartNumberOutOfRange() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+
+        assertThatThrownBy(() -> service.refreshPartUrls(video, List.of(2, 4)))
+                .isInstanceOf(VideoHandler.class)
+                .extracting("code")
+                .isEqualTo(VideoErrorStatus.VIDEO_INVALID_PART_NUMBER);
+        verify(awsS3Service, never()).generateUploadPartUrls(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: 파트를 번호 순으로 정렬해 멀티파트 업로드를 완료한다")
+    @SuppressWarnings("unchecked")
+    void completeIfMultipart_CompletesWithSortedParts() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+
+        service.completeIfMultipart(video, List.of(part(3, "c"), part(1, "a"), part(2, "b")));
+
+        ArgumentCaptor<SortedMap<Integer, String>> captor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(awsS3Service).completeMultipartUpload(eq(S3_KEY), eq("mpu-1"), captor.capture());
+        assertThat(captor.getValue().keySet()).containsExactly(1, 2, 3);
+        assertThat(captor.getValue().values()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("실패: 빠진 파트가 있으면 완료하지 않는다")
+    void completeIfMultipart_Throws_WhenPartMissing() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+
+        assertThatThrownBy(() -> service.completeIfMultipart(video, List.of(part(1, "a"), part(3, "c"))))
+                .isInstanceOf(VideoHandler.class)
+                .extracting("code")
+                .isEqualTo(VideoErrorStatus.VIDEO_MULTIPART_PARTS_REQUIRED);
+        verify(awsS3Service, never()).completeMultipartUpload(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 이미 조립된 업로드는 파트 없이도 통과한다")
+    void completeIfMultipart_Passes_WhenAlreadyAssembled() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+        given(awsS3Service.doesObjectExist(S3_KEY)).willReturn(true);
+
+        service.completeIfMultipart(video, null);
+
+        verify(awsS3Service, never()).completeMultipartUpload(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 세션 파트 목록이 모두 있으면 complete-upload에 파트가 없어도 세션 파트로 조립한다")
+    void completeIfMultipart_UsesSessionParts_WhenRequestHasNone() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+        SortedMap<Integer, String> tracked = new TreeMap<>(Map.of(1, "a", 2, "b", 3, "c"));
+        given(uploadSessionStore.findParts(video)).willReturn(Optional.of(tracked));
+
+        service.completeIfMultipart(video, List.of());
+
+        verify(awsS3Service).completeMultipartUpload(S3_KEY, "mpu-1", tracked);
+        verify(uploadSessionStore).delete(video);
+    }
+
+    @Test
+    @DisplayName("성공: 세션이 없으면 S3에 올라간 파트로 다시 채우고 빠진 파트의 URL을 발급한다")
+    void getSessionStatus_RebuildsFromS3_WhenSessionMissing() {
+        Video video = multipartVideo(20 * MB, 8 * MB);
+        SortedMap<Integer, String> uploaded = new TreeMap<>(Map.of(2, "b"));
+        given(awsS3Service.listUploadedParts(S3_KEY, "mpu-1")).willReturn(uploaded);
+
+        UploadSessionStatus status = service.getSessionStatus(video);
+
+        assertThat(status.getCompletedParts()).containsOnlyKeys(2);
+        assertThat(status.getMissingPartNumbers()).containsExactly(1, 3);
+        verify(uploadSessionStore).recordParts(video, uploaded);
+        verify(awsS3Service).generateUploadPartUrls(S3_KEY, "mpu-1", List.of(1, 3), 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("실패: 만료된 업로드 세션은 이어 올릴 수 없다")
+    void recordUploadedParts_Throws_WhenSessionExpired() {
+        Video video = multipartVideo(20 * MB, 8 * MB, LocalDateTime.now().minusMinutes(1));
+
+        assertThatThrownBy(() -> service.recordUploadedParts(video, List.of(part(1, "a"))))
+                .isInstanceOf(VideoHandler.class)
+                .extracting("code")
+                .isEqualTo(VideoErrorStatus.VIDEO_UPLOAD_SESSION_EXPIRED);
+        verify(uploadSessionStore, never()).recordParts(any(), any());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.credit.application.service.CreditService;
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.vo.VideoFile;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import com.example.echoshotx.video.infrastructure.media.ContainerMetadataExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoMetadataExtractionServiceTest {
+
+    private static final String S3_KEY = "videos/7/original/upload-1/movie.mp4";
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private CreditService creditService;
+
+    @Mock
+    private AwsS3Service awsS3Service;
+
+    @Mock
+    private ContainerMetadataExtractor containerMetadataExtractor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoMetadataExtractionService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new VideoMetadataExtractionService(
+                videoAdaptor, videoService, creditService, awsS3Service, containerMetadataExtractor, new VideoProps(), meterRegistry);
+
+        Video video = mock(Video.class);
+        lenient().when(video.getMemberId()).thenReturn(7L);
+        lenient().when(video.getProcessingType()).thenReturn(ProcessingType.AI_UPSCALING);
+        lenient().when(video.getOriginalFile()).thenReturn(VideoFile.builder().s3Key(S3_KEY).build());
+        lenient().when(video.getOriginalMetadata()).thenReturn(VideoMetadata.builder()
+                .durationSeconds(3.0).width(1920).height(1080).codec("h264").bitrate(5000L).frameRate(30.0)
+                .build());
+        given(videoAdaptor.queryById(1L)).willReturn(video);
+        given(awsS3Service.getObjectSize(S3_KEY)).willReturn(2_000_000L);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("video.metadata.extraction").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("성공: 추출한 값으로 원본 메타데이터를 덮어쓰고 클라이언트가 보낸 길이와 다르면 불일치로 기록한다")
+    void extract_AppliesExtractedMetadata_AndRecordsMismatch() {
+        given(containerMetadataExtractor.extract(any())).willReturn(Optional.of(VideoMetadata.builder()
+                .durationSeconds(60.0).width(1280).height(720).codec("hevc").bitrate(266_667L)
+                .build()));
+
+        service.extract(1L);
+
+        ArgumentCaptor<VideoMetadata> captor = ArgumentCaptor.forClass(VideoMetadata.class);
+        verify(videoService).applyExtractedMetadata(eq(1L), captor.capture());
+        assertThat(captor.getValue().getDurationSeconds()).isEqualTo(60.0);
+        assertThat(captor.getValue().getCodec()).isEqualTo("hevc");
+        assertThat(captor.getValue().getFrameRate()).isEqualTo(30.0);
+        assertThat(count("mismatch")).isEqualTo(1.0);
+        verify(creditService).reconcileVideoProcessingCharge(7L, 1L, ProcessingType.AI_UPSCALING, 60.0);
+    }
+
+    @Test
+    @DisplayName("실패: 크레딧 정산에 실패해도 추출한 메타데이터는 유지하고 실패로 기록한다")
+    void extract_KeepsMetadata_WhenReconciliationFails() {
+        given(containerMetadataExtractor.extract(any())).willReturn(Optional.of(VideoMetadata.builder()
+                .durationSeconds(60.0)
+                .build()));
+        given(creditService.reconcileVideoProcessingCharge(7L, 1L, ProcessingType.AI_UPSCALING, 60.0))
+                .willThrow(new IllegalStateException("credit not enough"));
+
+        service.extract(1L);
+
+        verify(videoService).applyExtractedMetadata(eq(1L), any());
+        assertThat(count("reconcile_failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 지원하지 않는 형식이면 메타데이터를 바꾸지 않는다")
+    void extract_KeepsDeclaredMetadata_WhenUnsupported() {
+        given(containerMetadataExtractor.extract(any())).willReturn(Optional.empty());
+
+        service.extract(1L);
+
+        verify(videoService, never()).applyExtractedMetadata(anyLong(), any());
+        verify(creditService, never()).reconcileVideoProcessingCharge(any(), any(), any(), any());
+        assertThat(count("unsupported")).isEqualTo(1.0);
+    }
+}
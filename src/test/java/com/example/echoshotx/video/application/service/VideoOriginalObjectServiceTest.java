@@ -0,0 +1,112 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoOriginalObject;
+import com.example.echoshotx.video.infrastructure.persistence.VideoOriginalObjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoOriginalObjectServiceTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String S3_KEY = "videos/7/original/upload-1/20250101120000_movie.mp4";
+
+    @Mock
+    private VideoOriginalObjectRepository repository;
+
+    private VideoProps videoProps;
+    private SimpleMeterRegistry meterRegistry;
+    private VideoOriginalObjectService service;
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new VideoOriginalObjectService(repository, videoProps, meterRegistry);
+    }
+
+    private static Video pendingVideo(String s3Key) {
+        return Video.createForPresignedUpload(
+                7L, "movie.mp4", 1_000L, ProcessingType.AI_UPSCALING, s3Key, "upload-2", null);
+    }
+
+    private static VideoOriginalObject originalObject() {
+        return VideoOriginalObject.builder()
+                .id(3L).memberId(7L).contentSha256(SHA256).fileSizeBytes(1_000L).s3Key(S3_KEY).referenceCount(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 회원의 같은 내용·크기 원본을 찾고 hit로 기록한다")
+    void findShareable_ReturnsExistingOriginal() {
+        given(repository.findShareable(7L, SHA256, 1_000L)).willReturn(Optional.of(originalObject()));
+
+        assertThat(service.findShareable(7L, SHA256, 1_000L)).map(VideoOriginalObject::getS3Key).contains(S3_KEY);
+        assertThat(meterRegistry.get("video.upload.dedup").tag("outcome", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 해시가 없거나 기능이 꺼져 있으면 조회하지 않는다")
+    void findShareable_SkipsLookup_WhenNoHashOrDisabled() {
+        assertThat(service.findShareable(7L, null, 1_000L)).isEmpty();
+        videoProps.getDedup().setEnabled(false);
+        assertThat(service.findShareable(7L, SHA256, 1_000L)).isEmpty();
+
+        verify(repository, never()).findShareable(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: 해시와 함께 직접 올린 원본은 업로드 완료 시 참조 1로 등록한다")
+    void retain_RegistersUploadedOriginal() {
+        Video video = pendingVideo(S3_KEY);
+        video.declareOriginalContentHash(SHA256);
+
+        assertThat(service.retain(video)).isTrue();
+
+        verify(repository).register(eq(7L), eq(SHA256), eq(1_000L), eq(S3_KEY), any());
+        verify(repository, never()).retain(anyLong());
+    }
+
+    @Test
+    @DisplayName("실패: 공유하던 원본의 참조가 모두 놓였으면 false")
+    void retain_ReturnsFalse_WhenSharedOriginalReleased() {
+        Video video = pendingVideo(S3_KEY);
+        video.shareOriginal(originalObject());
+        given(repository.retain(3L)).willReturn(0);
+
+        assertThat(service.retain(video)).isFalse();
+        verify(repository, never()).register(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 다른 영상이 참조 중이면 S3 객체를 지우지 않고, 마지막 참조이거나 공유되지 않은 원본이면 지운다")
+    void release_ReportsLastReference() {
+        given(repository.release(S3_KEY)).willReturn(1);
+        given(repository.deleteReleased(S3_KEY)).willReturn(0, 1);
+
+        assertThat(service.release(S3_KEY)).isFalse();
+        assertThat(service.release(S3_KEY)).isTrue();
+
+        given(repository.release("videos/7/original/other.mp4")).willReturn(0);
+        assertThat(service.release("videos/7/original/other.mp4")).isTrue();
+        verify(repository, never()).deleteReleased("videos/7/original/other.mp4");
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.member.domain.entity.Role;
+import com.example.echoshotx.member.infrastructure.persistence.MemberRepository;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.vo.ProcessedVideo;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import com.example.echoshotx.video.domain.vo.VideoProgressUpdate;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressJdbcRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 진행률 쓰기 vs 완료 webhook 행 락 경쟁 벤치마크.
+ *
+ * <p>완료 webhook과 같은 방식(비관적 락 조회 → 완료 처리)으로 영상을 완료시키는 동안,
+ * 진행률 writer 스레드가 고빈도로 진행률을 기록합니다.
+ * <ol>
+ *   <li>Before: 진행률을 video 행에 UPDATE (분리 이전 방식)</li>
+ *   <li>After: 진행률을 video_progress 테이블에 upsert</li>
+ * </ol>
+ * 두 방식의 webhook 트랜잭션 지연(p50/p99/max)과 진행률 쓰기 처리량을 비교합니다.
+ */
+@Slf4j
+@SpringBootTest
+@DisplayName("진행률 쓰기 / webhook 락 경쟁 벤치마크")
+class VideoProgressContentionBenchmarkTest {
+
+    private static final int VIDEO_COUNT = 50;
+    private static final int PROGRESS_WRITERS = 4;
+
+    private static final String LEGACY_PROGRESS_SQL = """
+            UPDATE video
+               SET processing_started_at = ?,
+                   last_modified_date = ?
+             WHERE id = ?
+               AND status IN ('QUEUED', 'PROCESSING')
+            """;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private VideoAdaptor videoAdaptor;
+
+    @Autowired
+    private VideoProgressJdbcRepository videoProgressJdbcRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member testMember;
+
+    @BeforeEach
+    void setUp() {
+        testMember = memberRepository.save(Member.builder()
+                .username("progress-bench-" + System.currentTimeMillis())
+                .email("progress-bench@example.com")
+                .role(Role.USER)
+                .currentCredits(0)
+                .build());
+    }
+
+    @Test
+    @DisplayName("📊 Before vs After: webhook 완료 중 고빈도 진행률 쓰기")
+    void progressWrites_DoNotBlockWebhookCompletion() throws Exception {
+        BenchmarkResult before = run("video 행 UPDATE", videoIds -> {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(LEGACY_PROGRESS_SQL, videoIds, videoIds.size(), (ps, videoId) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(now));
+                ps.setTimestamp(2, Timestamp.valueOf(now));
+                ps.setLong(3, videoId);
+            });
+        });
+
+        BenchmarkResult after = run("video_progress upsert", videoIds -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<VideoProgressUpdate> updates = new ArrayList<>(videoIds.size());
+            for (Long videoId : videoIds) {
+                updates.add(VideoProgressUpdate.builder()
+                        .videoId(videoId)
+                        .progressPercentage(50)
+                        .estimatedTimeLeftSeconds(30)
+                        .currentStep("AI 처리 중")
+                        .reportedAt(now)
+                        .build());
+            }
+            videoProgressJdbcRepository.batchUpsertProgress(updates);
+        });
+
+        System.out.println("\n" + "=".repeat(60));
+        System.out.println("📊 진행률 쓰기 / webhook 락 경쟁 (영상 " + VIDEO_COUNT + "개, writer " + PROGRESS_WRITERS + "개)");
+        System.out.println("=".repeat(60));
+        before.print();
+        after.print();
+        System.out.println("=".repeat(60) + "\n");
+
+        assertThat(before.completed()).isEqualTo(VIDEO_COUNT);
+        assertThat(after.completed()).isEqualTo(VIDEO_COUNT);
+    }
+
+    private BenchmarkResult run(String label, Consumer<List<Long>> progressWriter) throws Exception {
+        List<Long> videoIds = createQueuedVideos();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong progressWrites = new AtomicLong();
+        ExecutorService writers = Executors.newFixedThreadPool(PROGRESS_WRITERS);
+        CountDownLatch writersStarted = new CountDownLatch(PROGRESS_WRITERS);
+
+        for (int i = 0; i < PROGRESS_WRITERS; i++) {
+            writers.submit(() -> {
+                writersStarted.countDown();
+                while (running.get()) {
+                    progressWriter.accept(videoIds);
+                    progressWrites.addAndGet(videoIds.size());
+                }
+            });
+        }
+        writersStarted.await();
+
+        List<Long> webhookNanos = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        for (Long videoId : videoIds) {
+            long webhookStart = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                Video video = videoAdaptor.queryByIdWithLock(videoId);
+                videoService.completeProcessing(video,
+                        ProcessedVideo.builder().s3Key("processed/" + videoId).fileSizeBytes(1L).build(),
+                        VideoMetadata.builder().durationSeconds(10.0).build());
+            });
+            webhookNanos.add(System.nanoTime() - webhookStart);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        running.set(false);
+        writers.shutdown();
+        writers.awaitTermination(10, TimeUnit.SECONDS);
+
+        return new BenchmarkResult(label, webhookNanos, progressWrites.get(), elapsedNanos);
+    }
+
+    private List<Long> createQueuedVideos() {
+        List<Long> videoIds = new ArrayList<>(VIDEO_COUNT);
+        for (int i = 0; i < VIDEO_COUNT; i++) {
+            Long videoId = transactionTemplate.execute(status -> {
+                Video video = videoService.uploadVideo(testMember.getId(), "bench.mp4", 1024L,
+                        ProcessingType.AI_UPSCALING, "originals/bench-" + System.nanoTime(), null,
+                        LocalDateTime.now().plusHours(1));
+                videoService.completeUpload(video, VideoMetadata.builder().durationSeconds(10.0).build());
+                videoService.enqueueForProcessing(video, "bench");
+                return video.getId();
+            });
+            videoIds.add(videoId);
+        }
+        return videoIds;
+    }
+
+    private record BenchmarkResult(String label, List<Long> webhookNanos, long progressWrites, long elapsedNanos) {
+
+        int completed() {
+            return webhookNanos.size();
+        }
+
+        void print() {
+            List<Long> sorted = new ArrayList<>(webhookNanos);
+            Collections.sort(sorted);
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            System.out.printf("[%s] webhook p50=%.2fms p99=%.2fms max=%.2fms, 진행률 쓰기 %.0f건/s%n",
+                    label,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    sorted.get(sorted.size() - 1) / 1_000_000.0,
+                    progressWrites / seconds);
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
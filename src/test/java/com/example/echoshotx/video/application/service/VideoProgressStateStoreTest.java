@@ -0,0 +1,76 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore.Decision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class VideoProgressStateStoreTest {
+
+    private VideoProps videoProps;
+    private SimpleMeterRegistry meterRegistry;
+    private VideoProgressStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        meterRegistry = new SimpleMeterRegistry();
+        store = new VideoProgressStateStore(mock(StringRedisTemplate.class), videoProps, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: sequence가 증가하는 메시지는 허용한다")
+    void evaluate_AcceptsIncreasingSequence() {
+        assertThat(store.evaluate(10L, 1L, 10)).isEqualTo(Decision.ACCEPT);
+        assertThat(store.evaluate(10L, 2L, 10)).isEqualTo(Decision.ACCEPT);
+        assertThat(store.evaluate(10L, 3L, 40)).isEqualTo(Decision.ACCEPT);
+    }
+
+    @Test
+    @DisplayName("실패: 이미 처리한 sequence 이하의 메시지는 STALE로 버린다")
+    void evaluate_RejectsStaleSequence() {
+        store.evaluate(10L, 5L, 50);
+
+        assertThat(store.evaluate(10L, 5L, 60)).isEqualTo(Decision.STALE);
+        assertThat(store.evaluate(10L, 3L, 70)).isEqualTo(Decision.STALE);
+        assertThat(meterRegistry.get("video.progress.rejected").tag("reason", "stale").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("실패: sequence가 없으면 진행률 역행을 REGRESSION으로 버린다")
+    void evaluate_RejectsRegression_WithoutSequence() {
+        store.evaluate(10L, null, 60);
+
+        assertThat(store.evaluate(10L, null, 40)).isEqualTo(Decision.REGRESSION);
+        assertThat(store.evaluate(10L, null, 60)).isEqualTo(Decision.ACCEPT);
+    }
+
+    @Test
+    @DisplayName("실패: 종료 표시 이후 메시지는 TERMINAL로 버리고 진행 상태는 tombstone만 남는다")
+    void evaluate_RejectsAfterTerminal() {
+        store.evaluate(10L, 1L, 90);
+        store.markTerminal(10L);
+
+        assertThat(store.evaluate(10L, 2L, 95)).isEqualTo(Decision.TERMINAL);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: TTL이 지난 진행 상태와 tombstone은 sweep으로 제거된다")
+    void sweep_RemovesExpiredEntries() {
+        store.evaluate(10L, 1L, 10);
+        store.markTerminal(20L);
+
+        store.sweep(System.currentTimeMillis() + videoProps.getProgress().getState().getEntryTtlMillis());
+
+        assertThat(store.size()).isZero();
+        assertThat(store.evaluate(20L, 1L, 10)).isEqualTo(Decision.ACCEPT);
+    }
+}
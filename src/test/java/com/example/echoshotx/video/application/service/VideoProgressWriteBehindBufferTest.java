@@ -0,0 +1,160 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingProgressEvent;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.vo.VideoProgressUpdate;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressJdbcRepository;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressTarget;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class VideoProgressWriteBehindBufferTest {
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private VideoProgressJdbcRepository videoProgressJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private VideoProgressTarget target;
+
+    private VideoProgressWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new VideoProgressWriteBehindBuffer(
+                videoAdaptor, videoProgressJdbcRepository, eventPublisher, new VideoProps());
+    }
+
+    private void givenTarget(VideoStatus status) {
+        given(target.getStatus()).willReturn(status);
+        given(videoAdaptor.queryProgressTarget(10L)).willReturn(target);
+    }
+
+    @Test
+    @DisplayName("성공: 진행률 이벤트는 즉시 발행되고 소유자는 한 번만 조회한다")
+    void submit_PublishesEventImmediately_AndCachesOwner() {
+        givenTarget(VideoStatus.PROCESSING);
+        given(target.getMemberId()).willReturn(1L);
+
+        buffer.submit(10L, 10, 100, "AI 처리 중");
+        buffer.submit(10L, 20, 90, "AI 처리 중");
+
+        ArgumentCaptor<VideoProcessingProgressEvent> captor =
+                ArgumentCaptor.forClass(VideoProcessingProgressEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(VideoProcessingProgressEvent::getMemberId)
+                .containsOnly(1L);
+        verify(videoAdaptor, times(1)).queryProgressTarget(10L);
+        verify(videoProgressJdbcRepository, never()).batchUpsertProgress(anyList());
+    }
+
+    @Test
+    @DisplayName("성공: flush 시 비디오별 최신 진행률만 한 번의 배치로 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_WritesOnlyLatestProgressPerVideo() {
+        givenTarget(VideoStatus.QUEUED);
+        given(target.getMemberId()).willReturn(1L);
+
+        buffer.submit(10L, 10, 100, "분석 중");
+        buffer.submit(10L, 30, 70, "AI 처리 중");
+        buffer.submit(10L, 50, 50, "인코딩 중");
+        buffer.flush();
+
+        ArgumentCaptor<List<VideoProgressUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(videoProgressJdbcRepository, times(1)).batchUpsertProgress(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getProgressPercentage()).isEqualTo(50);
+        assertThat(captor.getValue().get(0).getCurrentStep()).isEqualTo("인코딩 중");
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: QUEUED 비디오의 상태 전환은 첫 flush에서 한 번만 수행한다")
+    void flush_MarksProcessingStartedOnlyOnce() {
+        givenTarget(VideoStatus.QUEUED);
+        given(target.getMemberId()).willReturn(1L);
+
+        buffer.submit(10L, 10, 100, "분석 중");
+        buffer.flush();
+        buffer.submit(10L, 20, 90, "AI 처리 중");
+        buffer.flush();
+
+        verify(videoProgressJdbcRepository, times(2)).batchUpsertProgress(anyList());
+        verify(videoProgressJdbcRepository, times(1))
+                .batchMarkProcessingStarted(eq(List.of(10L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("성공: 이미 PROCESSING인 비디오는 video 행을 갱신하지 않는다")
+    void flush_SkipsStatusUpdate_WhenAlreadyProcessing() {
+        givenTarget(VideoStatus.PROCESSING);
+        given(target.getMemberId()).willReturn(1L);
+
+        buffer.submit(10L, 10, 100, "분석 중");
+        buffer.flush();
+
+        verify(videoProgressJdbcRepository).batchUpsertProgress(anyList());
+        verify(videoProgressJdbcRepository, never()).batchMarkProcessingStarted(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 배치 실패 시 값을 다시 대기열에 넣는다")
+    void flush_RequeuesOnFailure() {
+        givenTarget(VideoStatus.PROCESSING);
+        given(target.getMemberId()).willReturn(1L);
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(videoProgressJdbcRepository).batchUpsertProgress(anyList());
+
+        buffer.submit(10L, 40, 60, "AI 처리 중");
+        buffer.flush();
+
+        assertThat(buffer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 진행률을 받을 수 없는 상태면 예외이며 이벤트를 발행하지 않는다")
+    void submit_Throws_WhenVideoAlreadyCompleted() {
+        givenTarget(VideoStatus.COMPLETED);
+
+        assertThatThrownBy(() -> buffer.submit(10L, 40, 60, "AI 처리 중"))
+                .isInstanceOf(VideoHandler.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("실패: 진행률 범위를 벗어나면 조회 없이 예외")
+    void submit_Throws_WhenPercentageOutOfRange() {
+        assertThatThrownBy(() -> buffer.submit(10L, 120, 0, "AI 처리 중"))
+                .isInstanceOf(VideoHandler.class);
+        verify(videoAdaptor, never()).queryProgressTarget(any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class VideoTransitionExecutorTest {
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VideoProps videoProps;
+    private SimpleMeterRegistry meterRegistry;
+    private VideoTransitionExecutor executor;
+    private final Video video = mock(Video.class);
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        videoProps.getTransition().setRetryBackoffMillis(0);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new VideoTransitionExecutor(videoAdaptor, transactionManager, videoProps, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: pessimistic 모드는 영상을 잠가서 조회한 뒤 전환한다")
+    void execute_LocksVideo_WhenPessimistic() {
+        given(videoAdaptor.queryByIdWithLock(1L)).willReturn(video);
+
+        String result = executor.execute(1L, v -> "done");
+
+        assertThat(result).isEqualTo("done");
+        verify(videoAdaptor, never()).queryById(1L);
+    }
+
+    @Test
+    @DisplayName("성공: optimistic 모드는 잠금 없이 조회하고 버전 충돌 시 새 트랜잭션으로 다시 실행한다")
+    void execute_RetriesOnConflict_WhenOptimistic() {
+        videoProps.getTransition().setLockMode("optimistic");
+        given(videoAdaptor.queryById(1L)).willReturn(video);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(1L, v -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Video.class, 1L);
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        verify(videoAdaptor, times(3)).queryById(1L);
+        verify(videoAdaptor, never()).queryByIdWithLock(1L);
+        verify(transactionManager, times(2)).rollback(null);
+        assertThat(meterRegistry.get("video.transition.conflict").tag("outcome", "retried").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("실패: 재시도 횟수를 넘기면 VIDEO_TRANSITION_CONFLICT")
+    void execute_ThrowsConflict_WhenRetriesExhausted() {
+        videoProps.getTransition().setLockMode("optimistic");
+        videoProps.getTransition().setMaxRetries(1);
+        given(videoAdaptor.queryById(1L)).willReturn(video);
+
+        assertThatThrownBy(() -> executor.execute(1L, v -> {
+            throw new ObjectOptimisticLockingFailureException(Video.class, 1L);
+        }))
+                .isInstanceOf(VideoHandler.class)
+                .extracting(e -> ((VideoHandler) e).getCode())
+                .isEqualTo(VideoErrorStatus.VIDEO_TRANSITION_CONFLICT);
+        verify(videoAdaptor, times(2)).queryById(1L);
+    }
+
+    @Test
+    @DisplayName("실패: 도메인 예외는 재시도하지 않는다")
+    void execute_DoesNotRetryDomainException() {
+        videoProps.getTransition().setLockMode("optimistic");
+        given(videoAdaptor.queryById(1L)).willReturn(video);
+
+        assertThatThrownBy(() -> executor.run(1L, v -> {
+            throw new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION);
+        })).isInstanceOf(VideoHandler.class);
+        verify(videoAdaptor, times(1)).queryById(1L);
+    }
+}
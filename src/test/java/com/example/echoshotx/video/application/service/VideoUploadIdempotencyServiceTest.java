@@ -2,15 +2,25 @@ package com.example.echoshotx.video.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
 
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.shared.redis.service.RedisService;
 import com.example.echoshotx.video.domain.entity.VideoStatus;
 import com.example.echoshotx.video.domain.entity.VideoUploadIdempotencyRecord;
 import com.example.echoshotx.video.infrastructure.persistence.VideoUploadIdempotencyRepository;
 import com.example.echoshotx.video.presentation.dto.response.CompleteUploadResponse;
 import com.example.echoshotx.video.presentation.exception.VideoHandler;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +35,17 @@ class VideoUploadIdempotencyServiceTest {
     @Mock
     private VideoUploadIdempotencyRepository repository;
 
+    @Mock
+    private RedisService redisService;
+
+    private VideoProps videoProps;
     private VideoUploadIdempotencyService service;
 
     @BeforeEach
     void setUp() {
-        service = new VideoUploadIdempotencyService(repository, new ObjectMapper());
+        videoProps = new VideoProps();
+        VideoUploadIdempotencyCache cache = new VideoUploadIdempotencyCache(redisService, videoProps);
+        service = new VideoUploadIdempotencyService(repository, cache, videoProps);
     }
 
     @Test
@@ -50,7 +66,7 @@ class VideoUploadIdempotencyServiceTest {
                         "idem-key",
                         "same-hash",
                         200,
-                        "{\"videoId\":10,\"status\":\"QUEUED\",\"message\":\"영상 처리가 시작되었습니다.\",\"sqsMessageId\":\"msg-1\"}",
+                        CompleteUploadResponseCodec.encode(response),
                         LocalDateTime.now().plusHours(1));
 
         given(repository.findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key"))
@@ -74,7 +90,7 @@ class VideoUploadIdempotencyServiceTest {
                         "idem-key",
                         "old-hash",
                         200,
-                        "{}",
+                        CompleteUploadResponseCodec.encode(new CompleteUploadResponse()),
                         LocalDateTime.now().plusHours(1));
 
         given(repository.findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key"))
@@ -83,4 +99,78 @@ class VideoUploadIdempotencyServiceTest {
         assertThatThrownBy(() -> service.findSuccessResponse(1L, 10L, "idem-key", "new-hash"))
                 .isInstanceOf(VideoHandler.class);
     }
+
+    @Test
+    @DisplayName("성공: 한 번 조회한 응답은 로컬 캐시에서 재생하고 DB를 다시 조회하지 않는다")
+    void findSuccessResponse_ServesReplayFromLocalCache() {
+        VideoUploadIdempotencyRecord record =
+                VideoUploadIdempotencyRecord.create(
+                        1L,
+                        10L,
+                        "idem-key",
+                        "same-hash",
+                        200,
+                        CompleteUploadResponseCodec.encode(queued(10L)),
+                        LocalDateTime.now().plusHours(1));
+        given(repository.findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key"))
+                .willReturn(Optional.of(record));
+
+        service.findSuccessResponse(1L, 10L, "idem-key", "same-hash");
+        Optional<CompleteUploadResponse> replay = service.findSuccessResponse(1L, 10L, "idem-key", "same-hash");
+
+        assertThat(replay).isPresent();
+        assertThat(replay.get().getVideoId()).isEqualTo(10L);
+        verify(repository, times(1)).findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key");
+        verify(redisService).setValue(eq("video:idem:1:10:idem-key"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("성공: Redis에 있는 응답은 DB 조회 없이 재생하고, 요청 해시가 다르면 예외가 발생한다")
+    void findSuccessResponse_ServesFromRedis() {
+        given(redisService.getValue("video:idem:1:10:idem-key"))
+                .willReturn("same-hash\n" + Base64.getEncoder().encodeToString(CompleteUploadResponseCodec.encode(queued(10L))));
+
+        Optional<CompleteUploadResponse> cached = service.findSuccessResponse(1L, 10L, "idem-key", "same-hash");
+
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getStatus()).isEqualTo(VideoStatus.QUEUED);
+        assertThatThrownBy(() -> service.findSuccessResponse(1L, 10L, "idem-key", "new-hash"))
+                .isInstanceOf(VideoHandler.class);
+        verify(repository, never()).findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key");
+    }
+
+    @Test
+    @DisplayName("성공: 아직 기록이 없는 키는 짧게 기억하고, 저장하면 바로 캐시된 응답을 돌려준다")
+    void findSuccessResponse_CachesMissing_UntilSaved() {
+        given(repository.findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key"))
+                .willReturn(Optional.empty());
+
+        assertThat(service.findSuccessResponse(1L, 10L, "idem-key", "hash")).isEmpty();
+        assertThat(service.findSuccessResponse(1L, 10L, "idem-key", "hash")).isEmpty();
+        verify(repository, times(1)).findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key");
+        verify(redisService).setIfAbsent(eq("video:idem:1:10:idem-key"), eq("-"), any(Duration.class));
+
+        service.saveSuccessResponse(1L, 10L, "idem-key", "hash",
+                CompleteUploadResponse.builder().videoId(10L).status(VideoStatus.QUEUED).build());
+
+        Optional<CompleteUploadResponse> replay = service.findSuccessResponse(1L, 10L, "idem-key", "hash");
+        assertThat(replay).isPresent();
+        assertThat(replay.get().getVideoId()).isEqualTo(10L);
+        verify(repository, times(1)).findByMemberIdAndVideoIdAndIdempotencyKey(1L, 10L, "idem-key");
+    }
+
+    @Test
+    @DisplayName("성공: 만료 기록은 chunk 단위로 남은 행이 chunk보다 적을 때까지 삭제한다")
+    void purgeExpired_DeletesInChunks() {
+        videoProps.getIdempotency().setPurgeChunkSize(100);
+        given(repository.deleteExpired(any(LocalDateTime.class), anyInt())).willReturn(100, 100, 7);
+
+        service.purgeExpired();
+
+        verify(repository, times(3)).deleteExpired(any(LocalDateTime.class), eq(100));
+    }
+
+    private static CompleteUploadResponse queued(Long videoId) {
+        return CompleteUploadResponse.builder().videoId(videoId).status(VideoStatus.QUEUED).build();
+    }
 }
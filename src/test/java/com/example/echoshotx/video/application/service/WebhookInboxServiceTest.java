@@ -0,0 +1,154 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.entity.WebhookInboxEvent;
+import com.example.echoshotx.video.domain.entity.WebhookInboxStatus;
+import com.example.echoshotx.video.infrastructure.persistence.WebhookInboxEventRepository;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingFailedRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookInboxServiceTest {
+
+    @Mock
+    private WebhookInboxEventRepository repository;
+
+    private WebhookInboxService service;
+
+    private final WebhookProcessingFailedRequest request =
+            new WebhookProcessingFailedRequest(10L, "job-1", "decoder error", "E01");
+
+    @BeforeEach
+    void setUp() {
+        service = new WebhookInboxService(repository, new ObjectMapper(), new WebhookProps());
+    }
+
+    @Test
+    @DisplayName("성공: 새 웹훅은 payload와 함께 PENDING으로 저장한다")
+    void accept_SavesPendingEvent() {
+        given(repository.existsByAiJobIdAndEventType("job-1", WebhookEventType.PROCESSING_FAILED)).willReturn(false);
+
+        boolean accepted = service.accept(WebhookEventType.PROCESSING_FAILED, 10L, "job-1", request);
+
+        ArgumentCaptor<WebhookInboxEvent> captor = ArgumentCaptor.forClass(WebhookInboxEvent.class);
+        verify(repository).saveAndFlush(captor.capture());
+        assertThat(accepted).isTrue();
+        assertThat(captor.getValue().getStatus()).isEqualTo(WebhookInboxStatus.PENDING);
+        assertThat(service.deserialize(captor.getValue(), WebhookProcessingFailedRequest.class).getErrorCode())
+                .isEqualTo("E01");
+    }
+
+    @Test
+    @DisplayName("성공: 이미 저장된 (aiJobId, eventType)은 다시 저장하지 않는다")
+    void accept_IgnoresDuplicate() {
+        given(repository.existsByAiJobIdAndEventType("job-1", WebhookEventType.PROCESSING_FAILED)).willReturn(true);
+
+        assertThat(service.accept(WebhookEventType.PROCESSING_FAILED, 10L, "job-1", request)).isFalse();
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("성공: 동시 재전송으로 유니크 제약에 걸리면 중복으로 처리한다")
+    void accept_TreatsUniqueViolationAsDuplicate() {
+        given(repository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("uk_webhook_inbox_job_event"));
+
+        assertThat(service.accept(WebhookEventType.PROCESSING_FAILED, 10L, "job-1", request)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 선점한 행이 없으면 빈 배치를 반환한다")
+    void claimBatch_ReturnsEmpty_WhenOtherNodeClaimedAll() {
+        given(repository.findClaimableIds(eq(WebhookInboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(repository.claim(anyList(), anyString(), any(LocalDateTime.class))).willReturn(0);
+
+        assertThat(service.claimBatch()).isEmpty();
+        verify(repository, never()).findByClaimTokenOrderByIdAsc(anyString());
+    }
+
+    private static WebhookInboxEvent claimedEvent() {
+        return WebhookInboxEvent.builder()
+                .id(1L)
+                .videoId(10L)
+                .aiJobId("job-1")
+                .eventType(WebhookEventType.PROCESSING_FAILED)
+                .payload("{}")
+                .status(WebhookInboxStatus.PROCESSING)
+                .nextAttemptAt(LocalDateTime.now())
+                .claimToken("token-1")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("실패: 재시도할 수 없는 오류는 바로 FAILED로 확정한다")
+    void markRetryOrFailed_FailsImmediately_WhenNotRetryable() {
+        WebhookInboxEvent event = claimedEvent();
+        given(repository.completeClaim(eq(1L), eq("token-1"), eq(WebhookInboxStatus.FAILED), eq(0),
+                any(), any(), eq("invalid"))).willReturn(1);
+
+        boolean failed = service.markRetryOrFailed(event, new IllegalStateException("invalid"), false);
+
+        assertThat(failed).isTrue();
+        assertThat(event.getStatus()).isEqualTo(WebhookInboxStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("성공: 재시도 가능한 오류는 backoff 후 PENDING으로 되돌린다")
+    void markRetryOrFailed_SchedulesRetry() {
+        WebhookInboxEvent event = claimedEvent();
+        given(repository.completeClaim(eq(1L), eq("token-1"), eq(WebhookInboxStatus.PENDING), eq(1),
+                any(), any(), eq("db timeout"))).willReturn(1);
+
+        boolean failed = service.markRetryOrFailed(event, new IllegalStateException("db timeout"), true);
+
+        assertThat(failed).isFalse();
+        assertThat(event.getStatus()).isEqualTo(WebhookInboxStatus.PENDING);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("실패: 선점이 만료되어 다른 worker가 가져간 행이면 결과를 기록하지 않는다")
+    void markRetryOrFailed_Ignored_WhenClaimLost() {
+        WebhookInboxEvent event = claimedEvent();
+        given(repository.completeClaim(eq(1L), eq("token-1"), any(), anyInt(), any(), any(), any()))
+                .willReturn(0);
+
+        assertThat(service.markRetryOrFailed(event, new IllegalStateException("invalid"), false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 완료는 선점한 claim_token 조건으로 기록한다")
+    void markDone_UpdatesOnlyOwnClaim() {
+        WebhookInboxEvent event = claimedEvent();
+
+        service.markDone(event);
+
+        verify(repository).completeClaim(eq(1L), eq("token-1"), eq(WebhookInboxStatus.DONE), eq(0),
+                any(), any(LocalDateTime.class), isNull());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.echoshotx.video.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.video.application.usecase.ProcessingCompletedWebhookUseCase;
+import com.example.echoshotx.video.application.usecase.ProcessingFailedWebhookUseCase;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.entity.WebhookInboxEvent;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingCompletedRequest;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookInboxWorkerSchedulerTest {
+
+    @Mock
+    private WebhookInboxService webhookInboxService;
+
+    @Mock
+    private ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase;
+
+    @Mock
+    private ProcessingFailedWebhookUseCase processingFailedWebhookUseCase;
+
+    private ThreadPoolTaskExecutor workers;
+    private WebhookInboxWorkerScheduler scheduler;
+    private WebhookInboxEvent event;
+    private WebhookProcessingCompletedRequest request;
+
+    @BeforeEach
+    void setUp() {
+        workers = new ThreadPoolTaskExecutor();
+        workers.initialize();
+        scheduler = new WebhookInboxWorkerScheduler(
+                webhookInboxService, processingCompletedWebhookUseCase, processingFailedWebhookUseCase,
+                new WebhookProps(), workers);
+        event = WebhookInboxEvent.builder()
+                .id(1L)
+                .videoId(10L)
+                .aiJobId("job-1")
+                .eventType(WebhookEventType.PROCESSING_COMPLETED)
+                .payload("{}")
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+        request = new WebhookProcessingCompletedRequest();
+        given(webhookInboxService.deserialize(event, WebhookProcessingCompletedRequest.class)).willReturn(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 선점한 배치를 처리하고 DONE으로 기록한다")
+    void processPending_ProcessesClaimedBatch() {
+        given(webhookInboxService.claimBatch()).willReturn(List.of(event));
+
+        scheduler.processPending();
+
+        verify(processingCompletedWebhookUseCase).execute(request);
+        verify(webhookInboxService).markDone(event);
+    }
+
+    @Test
+    @DisplayName("실패: 비즈니스 오류는 재시도하지 않는다")
+    void process_DoesNotRetry_OnBusinessError() {
+        willThrow(new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION))
+                .given(processingCompletedWebhookUseCase).execute(request);
+
+        scheduler.process(event);
+
+        verify(webhookInboxService).markRetryOrFailed(eq(event), any(VideoHandler.class), eq(false));
+        verify(webhookInboxService, never()).markDone(event);
+    }
+
+    @Test
+    @DisplayName("실패: 일시적 오류는 재시도로 기록한다")
+    void process_Retries_OnTransientError() {
+        willThrow(new QueryTimeoutException("lock wait timeout"))
+                .given(processingCompletedWebhookUseCase).execute(request);
+
+        scheduler.process(event);
+
+        verify(webhookInboxService).markRetryOrFailed(eq(event), any(QueryTimeoutException.class), eq(true));
+    }
+}
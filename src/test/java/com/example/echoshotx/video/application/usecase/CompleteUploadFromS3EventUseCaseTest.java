@@ -0,0 +1,145 @@
+package com.example.echoshotx.video.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.credit.domain.exception.CreditErrorStatus;
+import com.example.echoshotx.credit.presentation.exception.CreditHandler;
+import com.example.echoshotx.member.application.adaptor.MemberAdaptor;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.config.aws.props.AwsProps;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.dto.S3UploadedObject;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.vo.VideoFile;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadBatchRequest;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompleteUploadFromS3EventUseCaseTest {
+
+    private static final String BUCKET = "echoshot";
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private MemberAdaptor memberAdaptor;
+
+    @Mock
+    private CompleteVideoUploadBatchUseCase completeVideoUploadBatchUseCase;
+
+    @Mock
+    private Member member;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompleteUploadFromS3EventUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        AwsProps awsProps = new AwsProps();
+        awsProps.setS3(new AwsProps.S3());
+        awsProps.getS3().setBucket(BUCKET);
+        meterRegistry = new SimpleMeterRegistry();
+        useCase = new CompleteUploadFromS3EventUseCase(
+                videoAdaptor, memberAdaptor, completeVideoUploadBatchUseCase, awsProps, new VideoProps(), meterRegistry);
+    }
+
+    private static String key(String uploadId) {
+        return "videos/7/original/" + uploadId + "/20250101_clip.mp4";
+    }
+
+    private static S3UploadedObject object(String uploadId) {
+        return new S3UploadedObject(BUCKET, key(uploadId), 1024L);
+    }
+
+    private static Video video(Long id, String uploadId, VideoStatus status, boolean declared) {
+        Video video = mock(Video.class);
+        lenient().when(video.getId()).thenReturn(id);
+        lenient().when(video.getMemberId()).thenReturn(7L);
+        lenient().when(video.getUploadId()).thenReturn(uploadId);
+        lenient().when(video.getStatus()).thenReturn(status);
+        lenient().when(video.getOriginalFile())
+                .thenReturn(VideoFile.builder().fileName("clip.mp4").s3Key(key(uploadId)).build());
+        lenient().when(video.hasDeclaredOriginalMetadata()).thenReturn(declared);
+        lenient().when(video.getOriginalMetadata()).thenReturn(declared
+                ? VideoMetadata.builder().durationSeconds(12.0).width(1920).height(1080).build()
+                : null);
+        return video;
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("video.s3_event.objects").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("성공: 메타데이터가 있는 대기 영상만 회원별 배치로 완료 처리한다")
+    void execute_CompletesDeclaredPendingVideosPerMember() {
+        Video ready = video(1L, "u1", VideoStatus.PENDING_UPLOAD, true);
+        Video waiting = video(2L, "u2", VideoStatus.PENDING_UPLOAD, false);
+        Video done = video(3L, "u3", VideoStatus.QUEUED, true);
+        given(videoAdaptor.queryAllByUploadIds(Set.of("u1", "u2", "u3", "u4")))
+                .willReturn(List.of(ready, waiting, done));
+        given(memberAdaptor.queryById(7L)).willReturn(member);
+        given(completeVideoUploadBatchUseCase.execute(any(), eq(member)))
+                .willReturn(CompleteUploadBatchResponse.of(List.of(
+                        CompleteUploadBatchResponse.EntryResult.builder()
+                                .videoId(1L).status(CompleteUploadBatchResponse.EntryStatus.COMPLETED).build()), 12));
+
+        useCase.execute(List.of(object("u1"), object("u2"), object("u3"), object("u4"),
+                new S3UploadedObject(BUCKET, "thumbnails/7/a.jpg", 10L)));
+
+        ArgumentCaptor<CompleteUploadBatchRequest> request = ArgumentCaptor.forClass(CompleteUploadBatchRequest.class);
+        verify(completeVideoUploadBatchUseCase).execute(request.capture(), eq(member));
+        assertThat(request.getValue().getUploads()).singleElement().satisfies(entry -> {
+            assertThat(entry.getVideoId()).isEqualTo(1L);
+            assertThat(entry.getMetadata().getDurationSeconds()).isEqualTo(12.0);
+        });
+        assertThat(outcome("completed")).isEqualTo(1.0);
+        assertThat(outcome("awaiting_metadata")).isEqualTo(1.0);
+        assertThat(outcome("already_processed")).isEqualTo(1.0);
+        assertThat(outcome("unmatched")).isEqualTo(1.0);
+        assertThat(outcome("ignored")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 다른 버킷의 이벤트는 조회 없이 무시한다")
+    void execute_IgnoresOtherBucket() {
+        useCase.execute(List.of(new S3UploadedObject("other", key("u1"), 1024L)));
+
+        verify(videoAdaptor, never()).queryAllByUploadIds(any());
+    }
+
+    @Test
+    @DisplayName("성공: 크레딧 부족 같은 도메인 예외는 재전달하지 않도록 기록만 한다")
+    void execute_RecordsDomainFailure_WithoutRethrowing() {
+        Video ready = video(1L, "u1", VideoStatus.PENDING_UPLOAD, true);
+        given(videoAdaptor.queryAllByUploadIds(Set.of("u1"))).willReturn(List.of(ready));
+        given(memberAdaptor.queryById(7L)).willReturn(member);
+        given(completeVideoUploadBatchUseCase.execute(any(), eq(member)))
+                .willThrow(new CreditHandler(CreditErrorStatus.CREDIT_NOT_ENOUGH));
+
+        useCase.execute(List.of(object("u1")));
+
+        assertThat(outcome("failed")).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.echoshotx.video.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.credit.application.service.CreditService;
+import com.example.echoshotx.credit.domain.exception.CreditErrorStatus;
+import com.example.echoshotx.credit.presentation.exception.CreditHandler;
+import com.example.echoshotx.job.application.service.JobOutboxService;
+import com.example.echoshotx.job.application.service.JobService;
+import com.example.echoshotx.job.domain.entity.Job;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.MultipartUploadService;
+import com.example.echoshotx.video.application.service.VideoOriginalObjectService;
+import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.domain.vo.VideoFile;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadBatchRequest;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse.EntryResult;
+import com.example.echoshotx.video.presentation.dto.response.CompleteUploadBatchResponse.EntryStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CompleteVideoUploadBatchUseCaseTest {
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private CreditService creditService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobOutboxService jobOutboxService;
+
+    @Mock
+    private MultipartUploadService multipartUploadService;
+
+    @Mock
+    private VideoOriginalObjectService videoOriginalObjectService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Member member;
+
+    private VideoProps videoProps;
+    private CompleteVideoUploadBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        videoProps = new VideoProps();
+        useCase = new CompleteVideoUploadBatchUseCase(
+                videoAdaptor, videoService, creditService, jobService, jobOutboxService,
+                multipartUploadService, videoOriginalObjectService, transactionManager, videoProps);
+        lenient().when(member.getId()).thenReturn(7L);
+        lenient().when(videoOriginalObjectService.retain(any())).thenReturn(true);
+    }
+
+    private static CompleteUploadBatchRequest.Entry entry(Long videoId) {
+        return new CompleteUploadBatchRequest.Entry(
+                videoId, new CompleteUploadRequest(10.0, 1920, 1080, "h264", 5000L, 30.0));
+    }
+
+    private static Video video(Long id, Long memberId, VideoStatus status) {
+        Video video = mock(Video.class);
+        lenient().when(video.getId()).thenReturn(id);
+        lenient().when(video.getMemberId()).thenReturn(memberId);
+        lenient().when(video.getStatus()).thenReturn(status);
+        lenient().when(video.getOriginalFile())
+                .thenReturn(VideoFile.builder().fileName(id + ".mp4").s3Key("videos/" + id + ".mp4").build());
+        return video;
+    }
+
+    @Test
+    @DisplayName("성공: 처리 가능한 영상만 한 번에 차감·배치 기록하고 영상별 결과를 요청 순서대로 반환한다")
+    void execute_CompletesPendingVideosInOneBatch() {
+        Video v1 = video(1L, 7L, VideoStatus.PENDING_UPLOAD);
+        Video v2 = video(2L, 7L, VideoStatus.QUEUED);
+        Video v3 = video(3L, 7L, VideoStatus.PENDING_UPLOAD);
+        Video v5 = video(5L, 8L, VideoStatus.PENDING_UPLOAD);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(3L, 1L, 2L, 4L, 5L))).willReturn(List.of(v1, v2, v3, v5));
+        given(videoService.completeUpload(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(videoService.enqueueForProcessing(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(creditService.useCreditsForVideoProcessing(member, List.of(v3, v1))).willReturn(40);
+        given(jobService.createJobs(anyList())).willReturn(List.of(
+                Job.builder().id(11L).videoId(1L).build(),
+                Job.builder().id(13L).videoId(3L).build()));
+
+        CompleteUploadBatchResponse response = useCase.execute(new CompleteUploadBatchRequest(
+                List.of(entry(3L), entry(1L), entry(2L), entry(4L), entry(1L), entry(5L))), member);
+
+        assertThat(response.getTotal()).isEqualTo(6);
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getUsedCredits()).isEqualTo(40);
+        assertThat(response.getResults()).extracting(EntryResult::getStatus).containsExactly(
+                EntryStatus.COMPLETED, EntryStatus.COMPLETED, EntryStatus.ALREADY_PROCESSED,
+                EntryStatus.FAILED, EntryStatus.FAILED, EntryStatus.FAILED);
+        assertThat(response.getResults().subList(3, 6)).extracting(EntryResult::getErrorCode).containsExactly(
+                VideoErrorStatus.VIDEO_NOT_FOUND.getCode(),
+                VideoErrorStatus.VIDEO_COMPLETE_UPLOAD_BATCH_DUPLICATE_VIDEO.getCode(),
+                VideoErrorStatus.VIDEO_MEMBER_MISMATCH.getCode());
+        verify(videoService).enqueueForProcessing(v3, "job:13");
+        verify(videoService).enqueueForProcessing(v1, "job:11");
+        verify(jobOutboxService).enqueueJobsCreated(anyList(), eq(7L));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("실패: 합계 크레딧이 부족하면 작업을 만들지 않고 배치 전체를 롤백한다")
+    void execute_RollsBackWholeBatch_WhenCreditsNotEnough() {
+        Video v1 = video(1L, 7L, VideoStatus.PENDING_UPLOAD);
+        Video v2 = video(2L, 7L, VideoStatus.PENDING_UPLOAD);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1, v2));
+        given(videoService.completeUpload(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(creditService.useCreditsForVideoProcessing(member, List.of(v1, v2)))
+                .willThrow(new CreditHandler(CreditErrorStatus.CREDIT_NOT_ENOUGH));
+
+        assertThatThrownBy(() -> useCase.execute(
+                new CompleteUploadBatchRequest(List.of(entry(1L), entry(2L))), member))
+                .isInstanceOf(CreditHandler.class);
+
+        verify(transactionManager).rollback(any());
+        verify(jobService, never()).createJobs(anyList());
+        verify(jobOutboxService, never()).enqueueJobsCreated(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 공유하던 원본이 이미 삭제된 영상은 항목 실패로 기록하고 나머지만 처리한다")
+    void execute_FailsEntry_WhenSharedOriginalReleased() {
+        Video v1 = video(1L, 7L, VideoStatus.PENDING_UPLOAD);
+        Video v2 = video(2L, 7L, VideoStatus.PENDING_UPLOAD);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1, v2));
+        given(videoOriginalObjectService.retain(v2)).willReturn(false);
+        given(videoService.completeUpload(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(videoService.enqueueForProcessing(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(creditService.useCreditsForVideoProcessing(member, List.of(v1))).willReturn(20);
+        given(jobService.createJobs(anyList())).willReturn(List.of(Job.builder().id(11L).videoId(1L).build()));
+
+        CompleteUploadBatchResponse response =
+                useCase.execute(new CompleteUploadBatchRequest(List.of(entry(1L), entry(2L))), member);
+
+        assertThat(response.getResults()).extracting(EntryResult::getStatus)
+                .containsExactly(EntryStatus.COMPLETED, EntryStatus.FAILED);
+        assertThat(response.getResults().get(1).getErrorCode())
+                .isEqualTo(VideoErrorStatus.VIDEO_SHARED_ORIGINAL_RELEASED.getCode());
+        verify(videoService, never()).completeUpload(eq(v2), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("성공: 처리할 영상이 없으면 크레딧을 차감하지 않는다")
+    void execute_SkipsCredits_WhenNothingPending() {
+        Video v1 = video(1L, 7L, VideoStatus.QUEUED);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L))).willReturn(List.of(v1));
+
+        CompleteUploadBatchResponse response =
+                useCase.execute(new CompleteUploadBatchRequest(List.of(entry(1L))), member);
+
+        assertThat(response.getResults().get(0).getStatus()).isEqualTo(EntryStatus.ALREADY_PROCESSED);
+        assertThat(response.getUsedCredits()).isZero();
+        verify(creditService, never()).useCreditsForVideoProcessing(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("실패: 최대 영상 수를 넘으면 예외")
+    void execute_Throws_WhenTooManyEntries() {
+        videoProps.getCompleteUpload().setMaxBatchSize(2);
+        List<CompleteUploadBatchRequest.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            entries.add(entry(id));
+        }
+
+        assertThatThrownBy(() -> useCase.execute(new CompleteUploadBatchRequest(entries), member))
+                .isInstanceOf(VideoHandler.class);
+        verify(videoAdaptor, never()).queryAllByIdsWithLock(any());
+    }
+}
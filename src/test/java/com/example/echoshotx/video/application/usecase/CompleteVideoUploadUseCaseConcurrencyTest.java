@@ -1,21 +1,20 @@
 package com.example.echoshotx.video.application.usecase;
 
-import com.example.echoshotx.credit.application.service.CreditService;
-import com.example.echoshotx.job.application.handler.JobEventHandler;
-import com.example.echoshotx.job.application.service.JobService;
 import com.example.echoshotx.job.domain.entity.Job;
 import com.example.echoshotx.job.infrastructure.persistence.JobRepository;
 import com.example.echoshotx.member.domain.entity.Member;
 import com.example.echoshotx.member.domain.entity.Role;
 import com.example.echoshotx.member.infrastructure.persistence.MemberRepository;
-import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
-import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.lock.DbPessimisticLockStrategy;
+import com.example.echoshotx.video.application.lock.NoLockStrategy;
 import com.example.echoshotx.video.domain.entity.ProcessingType;
 import com.example.echoshotx.video.domain.entity.Video;
 import com.example.echoshotx.video.infrastructure.persistence.VideoRepository;
 import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
 
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,7 +36,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * CompleteVideoUploadUseCase 동시성 테스트.
  * 
- * <p>비관락 적용 전후를 비교하여 Job 중복 생성 방지 효과를 검증합니다.
+ * <p>비관락 적용 전후(lock-strategy none / db-pessimistic)를 비교하여 Job 중복 생성 방지 효과를 검증합니다.
+ * Video에 @Version이 있으므로 none 전략도 커밋 시 버전 검사로 Job은 1개만 남고, 나머지 요청은 충돌로 실패합니다.
  */
 @Slf4j
 @SpringBootTest
@@ -49,19 +49,7 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
     private CompleteVideoUploadUseCase completeVideoUploadUseCase;
 
     @Autowired
-    private VideoAdaptor videoAdaptor;
-
-    @Autowired
-    private VideoService videoService;
-
-    @Autowired
-    private CreditService creditService;
-
-    @Autowired
-    private JobService jobService;
-
-    @Autowired
-    private JobEventHandler jobEventHandler;
+    private VideoProps videoProps;
 
     @Autowired
     private MemberRepository memberRepository;
@@ -74,20 +62,13 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
 
     private Member testMember;
     private CompleteUploadRequest testRequest;
-    private CompleteVideoUploadUseCaseWithoutLock completeVideoUploadUseCaseWithoutLock;
+    private String originalLockStrategy;
     private static final int CONCURRENT_THREADS = 20;
     private static final int TEST_ITERATIONS = 3;
 
     @BeforeEach
     void setUp() {
-        // 비관락 미적용 UseCase 인스턴스 생성
-        completeVideoUploadUseCaseWithoutLock = new CompleteVideoUploadUseCaseWithoutLock(
-                videoAdaptor,
-                videoService,
-                creditService,
-                jobService,
-                jobEventHandler
-        );
+        originalLockStrategy = videoProps.getCompleteUpload().getLockStrategy();
         // 기존 데이터 정리
         jobRepository.deleteAll();
         videoRepository.deleteAll();
@@ -113,23 +94,31 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        videoProps.getCompleteUpload().setLockStrategy(originalLockStrategy);
+    }
+
     @Test
-    @DisplayName("비관락 적용 전: 동시 실행 시 Job 중복 생성 발생")
-    void testWithoutLock_ConcurrentExecution_CreatesMultipleJobs() throws Exception {
+    @DisplayName("비관락 적용 전: 동시 실행 시 버전 검사로만 Job 중복 생성이 막힘")
+    void testWithoutLock_ConcurrentExecution_RejectedByVersionCheck() throws Exception {
         log.info("=== 비관락 적용 전 테스트 시작 ===");
         
         TestResult result = runConcurrentTest(
-                completeVideoUploadUseCaseWithoutLock,
+                NoLockStrategy.NAME,
                 "비관락 미적용"
         );
 
         log.info("비관락 미적용 결과: 생성된 Job 개수={}, 성공한 스레드={}, 실패한 스레드={}",
                 result.getJobCount(), result.getSuccessCount(), result.getFailureCount());
 
-        // 비관락 미적용 시 여러 Job이 생성될 수 있음
+        // 잠금 없이 모두 진행하지만 커밋 시 버전 검사에서 하나만 남음
         assertThat(result.getJobCount())
-                .as("비관락 미적용 시 여러 Job이 생성될 수 있음")
-                .isGreaterThan(1);
+                .as("비관락 미적용 시에도 버전 검사로 1개의 Job만 남아야 함")
+                .isEqualTo(1);
+        assertThat(result.getFailureCount())
+                .as("나머지 스레드는 버전 충돌로 실패해야 함")
+                .isGreaterThan(0);
     }
 
     @Test
@@ -138,7 +127,7 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
         log.info("=== 비관락 적용 후 테스트 시작 ===");
         
         TestResult result = runConcurrentTest(
-                completeVideoUploadUseCase,
+                DbPessimisticLockStrategy.NAME,
                 "비관락 적용"
         );
 
@@ -170,7 +159,7 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
             
             // 비관락 미적용 테스트
             TestResult withoutLock = runConcurrentTest(
-                    completeVideoUploadUseCaseWithoutLock,
+                    NoLockStrategy.NAME,
                     "비관락 미적용 (반복 " + (i + 1) + ")"
             );
             withoutLockResults.add(withoutLock);
@@ -180,7 +169,7 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
             
             // 비관락 적용 테스트
             TestResult withLock = runConcurrentTest(
-                    completeVideoUploadUseCase,
+                    DbPessimisticLockStrategy.NAME,
                     "비관락 적용 (반복 " + (i + 1) + ")"
             );
             withLockResults.add(withLock);
@@ -213,26 +202,25 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
         log.info("=== 테스트 결과 비교 ===");
         log.info("비관락 미적용 - 평균 Job 개수: {}, 평균 성공 스레드: {}", avgWithoutLock, avgSuccessWithoutLock);
         log.info("비관락 적용 - 평균 Job 개수: {}, 평균 성공 스레드: {}", avgWithLock, avgSuccessWithLock);
-        log.info("중복 생성 감소율: {}%", 
-                ((avgWithoutLock - avgWithLock) / avgWithoutLock * 100));
 
-        // 비관락 적용 시 Job 개수가 현저히 줄어들어야 함
+        // 두 전략 모두 Job은 1개만 남아야 함 (미적용은 버전 검사, 적용은 행 락으로 보장)
         assertThat(avgWithLock)
-                .as("비관락 적용 시 평균 Job 개수는 1에 가까워야 함")
-                .isLessThanOrEqualTo(2.0); // 허용 오차 고려
-        
+                .as("비관락 적용 시 평균 Job 개수는 1이어야 함")
+                .isEqualTo(1.0);
+
         assertThat(avgWithoutLock)
-                .as("비관락 미적용 시 평균 Job 개수는 1보다 커야 함")
-                .isGreaterThan(1.0);
+                .as("비관락 미적용 시에도 평균 Job 개수는 1이어야 함")
+                .isEqualTo(1.0);
     }
 
     /**
      * 동시성 테스트 실행
      */
     private TestResult runConcurrentTest(
-            Object useCase,
+            String lockStrategy,
             String testName) throws Exception {
-        
+        videoProps.getCompleteUpload().setLockStrategy(lockStrategy);
+
         // 테스트용 Video 생성
         Video testVideo = Video.createForPresignedUpload(
                 testMember.getId(),
@@ -271,11 +259,7 @@ class CompleteVideoUploadUseCaseConcurrencyTest {
                     Member currentMember = memberRepository.findById(testMember.getId())
                             .orElseThrow();
                     
-                    if (useCase instanceof CompleteVideoUploadUseCase) {
-                        completeVideoUploadUseCase.execute(videoId, testRequest, currentMember);
-                    } else if (useCase instanceof CompleteVideoUploadUseCaseWithoutLock) {
-                        completeVideoUploadUseCaseWithoutLock.execute(videoId, testRequest, currentMember);
-                    }
+                    completeVideoUploadUseCase.execute(videoId, testRequest, currentMember);
                     
                     successCount.incrementAndGet();
                     log.debug("[{}] {} - 스레드 {} 성공", testName, threadId, Thread.currentThread().getName());
@@ -0,0 +1,84 @@
+package com.example.echoshotx.video.application.usecase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.shared.aws.s3.service.AwsS3Service;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.VideoService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.vo.VideoFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteOriginalVideoUseCaseTest {
+
+    private static final String S3_KEY = "videos/7/original/upload-1/20250101120000_movie.mp4";
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private VideoService videoService;
+
+    @Mock
+    private AwsS3Service awsS3Service;
+
+    @InjectMocks
+    private DeleteOriginalVideoUseCase useCase;
+
+    private Member member;
+    private Video video;
+
+    @BeforeEach
+    void setUp() {
+        member = mock(Member.class);
+        video = mock(Video.class);
+        lenient().when(video.hasOriginalFile()).thenReturn(true);
+        lenient().when(video.getOriginalFile()).thenReturn(VideoFile.builder().s3Key(S3_KEY).build());
+        given(videoAdaptor.queryById(1L)).willReturn(video);
+    }
+
+    @Test
+    @DisplayName("성공: 마지막 참조면 커밋 후 S3 원본 객체를 지운다")
+    void execute_DeletesObject_WhenLastReference() {
+        given(videoService.deleteOriginal(video)).willReturn(true);
+
+        useCase.execute(1L, member);
+
+        verify(video).validateMember(member);
+        verify(awsS3Service).deleteFile(S3_KEY);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 원본을 공유하는 영상이 남아 있으면 S3 객체를 남긴다")
+    void execute_KeepsObject_WhenSharedByOtherVideos() {
+        given(videoService.deleteOriginal(video)).willReturn(false);
+
+        useCase.execute(1L, member);
+
+        verify(awsS3Service, never()).deleteFile(any());
+    }
+
+    @Test
+    @DisplayName("성공: 이미 원본이 삭제된 영상이면 아무것도 하지 않는다")
+    void execute_Noop_WhenOriginalAlreadyDeleted() {
+        given(video.hasOriginalFile()).willReturn(false);
+
+        useCase.execute(1L, member);
+
+        verify(videoService, never()).deleteOriginal(any());
+        verify(awsS3Service, never()).deleteFile(any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.echoshotx.video.application.usecase;
+
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.member.domain.entity.Role;
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.notification.presentation.dto.response.VideoProgressResponse;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.domain.entity.VideoStatus;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.infrastructure.persistence.VideoProgressView;
+import com.example.echoshotx.video.presentation.dto.response.VideoProgressStatusResponse;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetVideoProgressUseCase 테스트")
+class GetVideoProgressUseCaseTest {
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private VideoProgressSnapshotCache videoProgressSnapshotCache;
+
+    @Mock
+    private VideoProgressView view;
+
+    @InjectMocks
+    private GetVideoProgressUseCase getVideoProgressUseCase;
+
+    private Member member;
+    private Long videoId;
+
+    @BeforeEach
+    void setUp() {
+        videoId = 100L;
+        member = Member.builder()
+                .id(1L)
+                .username("testuser@example.com")
+                .email("testuser@example.com")
+                .role(Role.USER)
+                .currentCredits(1000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷 캐시에 있으면 DB를 조회하지 않는다")
+    void execute_ReturnsSnapshot_WithoutDatabase() {
+        given(videoProgressSnapshotCache.get(1L, videoId)).willReturn(Optional.of(
+                VideoProgressResponse.builder()
+                        .videoId(videoId)
+                        .progressPercentage(55)
+                        .currentStep("AI 처리 중")
+                        .timestamp(LocalDateTime.now())
+                        .build()));
+
+        VideoProgressStatusResponse response = getVideoProgressUseCase.execute(videoId, member);
+
+        assertThat(response.getStatus()).isEqualTo(VideoStatus.PROCESSING);
+        assertThat(response.getProgressPercentage()).isEqualTo(55);
+        verify(videoAdaptor, never()).queryProgressView(anyLong());
+    }
+
+    @Test
+    @DisplayName("성공: 캐시에 없으면 진행률 projection으로 응답한다")
+    void execute_FallsBackToProjection() {
+        given(videoProgressSnapshotCache.get(1L, videoId)).willReturn(Optional.empty());
+        given(videoAdaptor.queryProgressView(videoId)).willReturn(view);
+        given(view.getMemberId()).willReturn(1L);
+        given(view.getStatus()).willReturn(VideoStatus.COMPLETED);
+        given(view.getProgressPercentage()).willReturn(100);
+
+        VideoProgressStatusResponse response = getVideoProgressUseCase.execute(videoId, member);
+
+        assertThat(response.getStatus()).isEqualTo(VideoStatus.COMPLETED);
+        assertThat(response.getProgressPercentage()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("실패: 다른 회원의 영상이면 VIDEO_MEMBER_MISMATCH")
+    void execute_ThrowsException_WhenMemberMismatch() {
+        given(videoProgressSnapshotCache.get(1L, videoId)).willReturn(Optional.empty());
+        given(videoAdaptor.queryProgressView(videoId)).willReturn(view);
+        given(view.getMemberId()).willReturn(2L);
+
+        assertThatThrownBy(() -> getVideoProgressUseCase.execute(videoId, member))
+                .isInstanceOf(VideoHandler.class)
+                .extracting("code")
+                .isEqualTo(VideoErrorStatus.VIDEO_MEMBER_MISMATCH);
+    }
+}
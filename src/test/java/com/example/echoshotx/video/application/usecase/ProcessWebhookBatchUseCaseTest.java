@@ -0,0 +1,283 @@
+package com.example.echoshotx.video.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.notification.application.event.VideoNotificationEventListener;
+import com.example.echoshotx.notification.application.event.VideoProcessingCompletedEvent;
+import com.example.echoshotx.notification.application.service.NotificationCoalescer;
+import com.example.echoshotx.notification.application.service.NotificationService;
+import com.example.echoshotx.notification.domain.entity.NotificationType;
+import com.example.echoshotx.shared.config.webhook.props.WebhookProps;
+import com.example.echoshotx.video.application.adaptor.VideoAdaptor;
+import com.example.echoshotx.video.application.service.WebhookInboxService;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.domain.entity.WebhookEventType;
+import com.example.echoshotx.video.domain.exception.VideoErrorStatus;
+import com.example.echoshotx.video.presentation.dto.request.WebhookBatchRequest;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingCompletedRequest;
+import com.example.echoshotx.video.presentation.dto.request.WebhookProcessingFailedRequest;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse.EntryResult;
+import com.example.echoshotx.video.presentation.dto.response.WebhookBatchResponse.EntryStatus;
+import com.example.echoshotx.video.presentation.exception.VideoHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessWebhookBatchUseCaseTest {
+
+    @Mock
+    private VideoAdaptor videoAdaptor;
+
+    @Mock
+    private ProcessingCompletedWebhookUseCase processingCompletedWebhookUseCase;
+
+    @Mock
+    private ProcessingFailedWebhookUseCase processingFailedWebhookUseCase;
+
+    @Mock
+    private WebhookInboxService webhookInboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WebhookProps webhookProps;
+    private ProcessWebhookBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        webhookProps = new WebhookProps();
+        webhookProps.getBatch().setChunkSize(2);
+        useCase = new ProcessWebhookBatchUseCase(
+                videoAdaptor, processingCompletedWebhookUseCase, processingFailedWebhookUseCase,
+                webhookInboxService, transactionManager, webhookProps);
+    }
+
+    private static WebhookBatchRequest.Entry completed(Long videoId) {
+        return new WebhookBatchRequest.Entry(
+                WebhookEventType.PROCESSING_COMPLETED,
+                new WebhookProcessingCompletedRequest(
+                        videoId, "job-" + videoId, "processed/" + videoId + ".mp4", 100L,
+                        10.0, 1920, 1080, "h264", 5000L, 30.0, null),
+                null);
+    }
+
+    private static WebhookBatchRequest.Entry failed(Long videoId) {
+        return new WebhookBatchRequest.Entry(
+                WebhookEventType.PROCESSING_FAILED,
+                null,
+                new WebhookProcessingFailedRequest(videoId, "job-" + videoId, "decoder error", "E01"));
+    }
+
+    private static Video video(Long id, boolean completable) {
+        Video video = mock(Video.class);
+        given(video.getId()).willReturn(id);
+        given(video.canCompleteProcessing()).willReturn(completable);
+        return video;
+    }
+
+    @Test
+    @DisplayName("성공: 청크마다 비디오를 id 순서로 한 번에 잠그고 항목별 결과를 요청 순서대로 반환한다")
+    void execute_LocksChunkInIdOrder_AndReturnsResultsInRequestOrder() {
+        Video v1 = video(1L, true);
+        Video v2 = video(2L, true);
+        Video v3 = video(3L, true);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1, v2));
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(3L))).willReturn(List.of(v3));
+
+        WebhookBatchResponse response = useCase.execute(
+                new WebhookBatchRequest(List.of(completed(3L), completed(1L), completed(2L))));
+
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(EntryResult::getVideoId).containsExactly(3L, 1L, 2L);
+        assertThat(response.getResults()).extracting(EntryResult::getStatus).containsOnly(EntryStatus.APPLIED);
+        verify(processingCompletedWebhookUseCase).apply(eq(v1), any());
+        verify(processingCompletedWebhookUseCase).apply(eq(v3), any());
+        verify(processingCompletedWebhookUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("성공: 없는 비디오와 전환할 수 없는 상태는 청크를 롤백하지 않고 항목 실패로 기록한다")
+    void execute_RecordsEntryFailures_WithoutRollingBackChunk() {
+        Video v1 = video(1L, false);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1));
+
+        WebhookBatchResponse response = useCase.execute(
+                new WebhookBatchRequest(List.of(completed(1L), completed(2L))));
+
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(EntryResult::getErrorCode).containsExactly(
+                VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION.getCode(),
+                VideoErrorStatus.VIDEO_NOT_FOUND.getCode());
+        verify(processingCompletedWebhookUseCase, never()).apply(any(), any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("성공: 청크 반영 중 예외가 나면 롤백 후 해당 청크만 항목별로 다시 처리한다")
+    void execute_FallsBackToSingleEntries_WhenChunkFails() {
+        Video v1 = video(1L, true);
+        Video v2 = video(2L, true);
+        given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1, v2));
+        willThrow(new IllegalStateException("lock timeout"))
+                .given(processingCompletedWebhookUseCase).apply(eq(v2), any());
+        WebhookBatchRequest.Entry second = completed(2L);
+        lenient().doThrow(new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION))
+                .when(processingCompletedWebhookUseCase).execute(second.getCompleted());
+
+        WebhookBatchResponse response = useCase.execute(new WebhookBatchRequest(List.of(completed(1L), second)));
+
+        verify(transactionManager).rollback(any());
+        assertThat(response.getResults()).extracting(EntryResult::getStatus)
+                .containsExactly(EntryStatus.APPLIED, EntryStatus.FAILED);
+        assertThat(response.getResults().get(1).getErrorCode())
+                .isEqualTo(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION.getCode());
+    }
+
+    @Test
+    @DisplayName("성공: 청크가 롤백되면 롤백된 전환의 알림은 보내지 않고 다시 반영된 항목마다 한 번만 보낸다")
+    void execute_NotifiesOncePerAppliedEntry_WhenChunkRollsBack() {
+        NotificationService notificationService = mock(NotificationService.class);
+        try (AnnotationConfigApplicationContext context = notificationContext(notificationService)) {
+            ProcessWebhookBatchUseCase transactionalUseCase = new ProcessWebhookBatchUseCase(
+                    videoAdaptor, processingCompletedWebhookUseCase, processingFailedWebhookUseCase,
+                    webhookInboxService, new SynchronizingTransactionManager(), webhookProps);
+            Video v1 = video(1L, true);
+            Video v2 = video(2L, true);
+            given(videoAdaptor.queryAllByIdsWithLock(List.of(1L, 2L))).willReturn(List.of(v1, v2));
+            WebhookBatchRequest.Entry first = completed(1L);
+            WebhookBatchRequest.Entry second = completed(2L);
+            // 청크 안에서는 두 항목 모두 완료 이벤트를 발행한 뒤 두 번째 항목에서 롤백된다
+            willAnswer(invocation -> {
+                context.publishEvent(completedEvent(1L));
+                return null;
+            }).given(processingCompletedWebhookUseCase).apply(eq(v1), any());
+            willAnswer(invocation -> {
+                context.publishEvent(completedEvent(2L));
+                throw new IllegalStateException("lock timeout");
+            }).given(processingCompletedWebhookUseCase).apply(eq(v2), any());
+            // 항목별 재처리에서는 첫 번째만 반영된다
+            willAnswer(invocation -> {
+                context.publishEvent(completedEvent(1L));
+                return null;
+            }).given(processingCompletedWebhookUseCase).execute(first.getCompleted());
+            willThrow(new VideoHandler(VideoErrorStatus.VIDEO_INVALID_STATUS_TRANSITION))
+                    .given(processingCompletedWebhookUseCase).execute(second.getCompleted());
+
+            WebhookBatchResponse response = transactionalUseCase.execute(
+                    new WebhookBatchRequest(List.of(first, second)));
+
+            assertThat(response.getResults()).extracting(EntryResult::getStatus)
+                    .containsExactly(EntryStatus.APPLIED, EntryStatus.FAILED);
+            verify(notificationService, times(1)).createAndSendVideoNotification(
+                    eq(7L), eq(1L), eq(NotificationType.VIDEO_PROCESSING_COMPLETED), any(), any());
+            verify(notificationService, never()).createAndSendVideoNotification(any(), eq(2L), any(), any(), any());
+        }
+    }
+
+    private static VideoProcessingCompletedEvent completedEvent(Long videoId) {
+        return new VideoProcessingCompletedEvent(videoId, 7L, "video-" + videoId + ".mp4");
+    }
+
+    /**
+     * 알림 리스너만 등록한 컨텍스트 (@EnableAsync가 없어 리스너는 발행 스레드에서 실행된다).
+     */
+    private static AnnotationConfigApplicationContext notificationContext(NotificationService notificationService) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(VideoNotificationEventListener.class,
+                () -> new VideoNotificationEventListener(notificationService, mock(NotificationCoalescer.class)));
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * 자원 없이 트랜잭션 동기화(커밋/롤백 후 콜백)만 수행하는 트랜잭션 매니저.
+     */
+    private static class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 이벤트 타입과 본문이 맞지 않는 항목은 조회 없이 실패로 기록한다")
+    void execute_RejectsInconsistentEntry() {
+        WebhookBatchRequest.Entry invalid = new WebhookBatchRequest.Entry(
+                WebhookEventType.PROCESSING_COMPLETED, null, failed(1L).getFailed());
+
+        WebhookBatchResponse response = useCase.execute(new WebhookBatchRequest(List.of(invalid)));
+
+        assertThat(response.getResults().get(0).getErrorCode())
+                .isEqualTo(VideoErrorStatus.VIDEO_WEBHOOK_BATCH_INVALID_ENTRY.getCode());
+        verify(videoAdaptor, never()).queryAllByIdsWithLock(any());
+    }
+
+    @Test
+    @DisplayName("성공: inbox 모드에서는 항목별로 저장만 하고 중복을 구분한다")
+    void execute_AcceptsIntoInbox_WhenInboxEnabled() {
+        given(webhookInboxService.isEnabled()).willReturn(true);
+        given(webhookInboxService.accept(eq(WebhookEventType.PROCESSING_COMPLETED), eq(1L), eq("job-1"), any()))
+                .willReturn(true);
+        given(webhookInboxService.accept(eq(WebhookEventType.PROCESSING_FAILED), eq(2L), eq("job-2"), any()))
+                .willReturn(false);
+
+        WebhookBatchResponse response = useCase.execute(
+                new WebhookBatchRequest(List.of(completed(1L), failed(2L))));
+
+        assertThat(response.getResults()).extracting(EntryResult::getStatus)
+                .containsExactly(EntryStatus.ACCEPTED, EntryStatus.DUPLICATE);
+        verify(videoAdaptor, never()).queryAllByIdsWithLock(any());
+    }
+
+    @Test
+    @DisplayName("실패: 최대 항목 수를 넘으면 예외")
+    void execute_Throws_WhenTooManyEntries() {
+        webhookProps.getBatch().setMaxEntries(2);
+        List<WebhookBatchRequest.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            entries.add(completed(id));
+        }
+
+        assertThatThrownBy(() -> useCase.execute(new WebhookBatchRequest(entries)))
+                .isInstanceOf(VideoHandler.class);
+    }
+}
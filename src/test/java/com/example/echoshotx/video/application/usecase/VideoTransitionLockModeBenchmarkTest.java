@@ -0,0 +1,170 @@
+package com.example.echoshotx.video.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.job.infrastructure.persistence.JobRepository;
+import com.example.echoshotx.member.domain.entity.Member;
+import com.example.echoshotx.member.domain.entity.Role;
+import com.example.echoshotx.member.infrastructure.persistence.MemberRepository;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.entity.ProcessingType;
+import com.example.echoshotx.video.domain.entity.Video;
+import com.example.echoshotx.video.infrastructure.persistence.VideoRepository;
+import com.example.echoshotx.video.presentation.dto.request.CompleteUploadRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 영상 상태 전환 잠금 방식 벤치마크.
+ *
+ * <p>CompleteVideoUploadUseCaseConcurrencyTest와 같은 부하(영상마다 여러 스레드가 동시에 업로드 완료 호출)를
+ * db-pessimistic / optimistic 전략으로 각각 실행하여 요청 지연(p50/p99)과 전체 처리 시간을 비교합니다.
+ * 두 모드 모두 영상당 Job은 정확히 1개만 생성되어야 합니다.
+ */
+@Slf4j
+@SpringBootTest
+@DisplayName("영상 상태 전환 잠금 방식 벤치마크")
+class VideoTransitionLockModeBenchmarkTest {
+
+    private static final int VIDEO_COUNT = 20;
+    private static final int THREADS_PER_VIDEO = 10;
+
+    @Autowired
+    private CompleteVideoUploadUseCase completeVideoUploadUseCase;
+
+    @Autowired
+    private VideoProps videoProps;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Member testMember;
+    private String originalLockMode;
+    private final CompleteUploadRequest request =
+            new CompleteUploadRequest(120.5, 1920, 1080, "h264", 5_000_000L, 30.0);
+
+    @BeforeEach
+    void setUp() {
+        originalLockMode = videoProps.getCompleteUpload().getLockStrategy();
+        jobRepository.deleteAll();
+        videoRepository.deleteAll();
+        memberRepository.deleteAll();
+        testMember = memberRepository.save(Member.builder()
+                .username("bench-user-" + System.currentTimeMillis())
+                .email("bench@example.com")
+                .role(Role.USER)
+                .currentCredits(10_000_000)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        videoProps.getCompleteUpload().setLockStrategy(originalLockMode);
+    }
+
+    @Test
+    @DisplayName("pessimistic vs optimistic: 영상당 Job 1개 보장 및 지연 비교")
+    void compareLockModes() throws Exception {
+        Result pessimistic = run("db-pessimistic");
+        Result optimistic = run("optimistic");
+
+        log.info("=== 상태 전환 잠금 방식 비교 (영상 {}개 x 스레드 {}개) ===", VIDEO_COUNT, THREADS_PER_VIDEO);
+        log.info("[pessimistic] {}", pessimistic);
+        log.info("[optimistic]  {}", optimistic);
+
+        assertThat(pessimistic.jobCount()).isEqualTo(VIDEO_COUNT);
+        assertThat(optimistic.jobCount()).isEqualTo(VIDEO_COUNT);
+        assertThat(pessimistic.successCount()).isEqualTo(VIDEO_COUNT);
+        assertThat(optimistic.successCount()).isEqualTo(VIDEO_COUNT);
+    }
+
+    private Result run(String lockMode) throws Exception {
+        videoProps.getCompleteUpload().setLockStrategy(lockMode);
+        jobRepository.deleteAll();
+
+        List<Long> videoIds = new ArrayList<>();
+        for (int i = 0; i < VIDEO_COUNT; i++) {
+            videoIds.add(videoRepository.save(Video.createForPresignedUpload(
+                    testMember.getId(),
+                    "bench-" + i + ".mp4",
+                    10_000_000L,
+                    ProcessingType.AI_UPSCALING,
+                    "videos/bench/" + lockMode + "-" + i + ".mp4",
+                    "upload-" + lockMode + "-" + i,
+                    LocalDateTime.now().plusHours(1))).getId());
+        }
+
+        int totalThreads = VIDEO_COUNT * THREADS_PER_VIDEO;
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(totalThreads);
+        AtomicInteger successCount = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (Long videoId : videoIds) {
+            for (int t = 0; t < THREADS_PER_VIDEO; t++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        Member member = memberRepository.findById(testMember.getId()).orElseThrow();
+                        long begin = System.nanoTime();
+                        try {
+                            completeVideoUploadUseCase.execute(videoId, request, member);
+                            successCount.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            log.debug("[{}] videoId={} 실패: {}", lockMode, videoId, e.getMessage());
+                        } finally {
+                            latencies.add(System.nanoTime() - begin);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        executor.shutdown();
+
+        int jobCount = videoIds.stream().mapToInt(id -> jobRepository.findByVideoId(id).size()).sum();
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(jobCount, successCount.get(), elapsedMs, percentileMs(sorted, 0.5), percentileMs(sorted, 0.99));
+    }
+
+    private static double percentileMs(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.size() - 1, Math.ceil(percentile * sortedNanos.size()) - 1);
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private record Result(int jobCount, int successCount, long elapsedMs, double p50Ms, double p99Ms) {
+    }
+}
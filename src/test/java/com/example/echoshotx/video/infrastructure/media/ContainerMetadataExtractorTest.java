@@ -0,0 +1,139 @@
+package com.example.echoshotx.video.infrastructure.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.domain.vo.VideoMetadata;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * src/test/resources/media의 작은 샘플 컨테이너(헤더 구조만 있고 프레임 데이터는 0으로 채움)로 검증한다.
+ */
+class ContainerMetadataExtractorTest {
+
+    private ContainerMetadataExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        VideoProps videoProps = new VideoProps();
+        videoProps.getMetadataExtraction().setHeadBytes(4 * 1024);
+        extractor = new ContainerMetadataExtractor(videoProps);
+    }
+
+    private static CountingRangeReader sample(String name) throws IOException {
+        try (InputStream in = ContainerMetadataExtractorTest.class.getResourceAsStream("/media/" + name)) {
+            return new CountingRangeReader(in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("성공: moov가 앞에 있는 MP4는 앞부분만 읽고 첫 비디오 트랙의 메타데이터를 추출한다")
+    void extract_FaststartMp4() throws IOException {
+        CountingRangeReader reader = sample("faststart.mp4");
+
+        VideoMetadata metadata = extractor.extract(reader).orElseThrow();
+
+        assertThat(metadata.getDurationSeconds()).isEqualTo(10.0);
+        assertThat(metadata.getWidth()).isEqualTo(1920);
+        assertThat(metadata.getHeight()).isEqualTo(1080);
+        assertThat(metadata.getCodec()).isEqualTo("h264");
+        assertThat(metadata.getFrameRate()).isEqualTo(30.0);
+        assertThat(metadata.getBitrate()).isEqualTo(Math.round(reader.size() * 8 / 10.0));
+        assertThat(reader.requests).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: moov가 mdat(64bit 크기) 뒤에 있으면 mdat을 읽지 않고 건너뛴다")
+    void extract_Mp4WithMoovAtEnd() throws IOException {
+        CountingRangeReader reader = sample("moov-at-end.mp4");
+
+        VideoMetadata metadata = extractor.extract(reader).orElseThrow();
+
+        assertThat(metadata.getDurationSeconds()).isEqualTo(12.5);
+        assertThat(metadata.getWidth()).isEqualTo(1280);
+        assertThat(metadata.getHeight()).isEqualTo(720);
+        assertThat(metadata.getCodec()).isEqualTo("hevc");
+        assertThat(metadata.getFrameRate()).isEqualTo(24.96);
+        assertThat(reader.bytesRead).isLessThan(reader.size() / 2);
+    }
+
+    @Test
+    @DisplayName("성공: QuickTime version 1 헤더와 sample entry 해상도를 읽는다")
+    void extract_QuickTimeMov() throws IOException {
+        VideoMetadata metadata = extractor.extract(sample("sample.mov")).orElseThrow();
+
+        assertThat(metadata.getDurationSeconds()).isEqualTo(10.01);
+        assertThat(metadata.getWidth()).isEqualTo(3840);
+        assertThat(metadata.getHeight()).isEqualTo(2160);
+        assertThat(metadata.getCodec()).isEqualTo("prores");
+        assertThat(metadata.getFrameRate()).isEqualTo(29.97);
+    }
+
+    @Test
+    @DisplayName("성공: 크기를 모르는 Segment의 WebM에서 Info/Tracks를 읽는다")
+    void extract_WebmWithUnknownSizeSegment() throws IOException {
+        VideoMetadata metadata = extractor.extract(sample("sample.webm")).orElseThrow();
+
+        assertThat(metadata.getDurationSeconds()).isEqualTo(8.5);
+        assertThat(metadata.getWidth()).isEqualTo(640);
+        assertThat(metadata.getHeight()).isEqualTo(360);
+        assertThat(metadata.getCodec()).isEqualTo("vp9");
+        assertThat(metadata.getFrameRate()).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: Cluster 뒤의 Info/Tracks는 SeekHead 위치만 읽는다")
+    void extract_MkvWithTracksAfterClusters() throws IOException {
+        CountingRangeReader reader = sample("tracks-after-clusters.mkv");
+
+        VideoMetadata metadata = extractor.extract(reader).orElseThrow();
+
+        assertThat(metadata.getDurationSeconds()).isEqualTo(6.0);
+        assertThat(metadata.getWidth()).isEqualTo(1280);
+        assertThat(metadata.getHeight()).isEqualTo(720);
+        assertThat(metadata.getCodec()).isEqualTo("h264");
+        assertThat(metadata.getFrameRate()).isEqualTo(25.0);
+        assertThat(reader.bytesRead).isLessThan(reader.size());
+    }
+
+    @Test
+    @DisplayName("실패: 지원하지 않는 형식이면 empty")
+    void extract_ReturnsEmpty_WhenUnsupported() throws IOException {
+        assertThat(extractor.extract(sample("not-a-video.bin"))).isEqualTo(Optional.empty());
+    }
+
+    /**
+     * 메모리의 바이트 배열을 구간 단위로 읽으며 요청 수와 읽은 크기를 센다.
+     */
+    private static final class CountingRangeReader implements RangeReader {
+
+        private final byte[] bytes;
+        private int requests;
+        private long bytesRead;
+
+        private CountingRangeReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long size() {
+            return bytes.length;
+        }
+
+        @Override
+        public ByteBuffer read(long offset, int length) {
+            int from = (int) Math.min(offset, bytes.length);
+            int to = (int) Math.min(bytes.length, offset + length);
+            requests++;
+            bytesRead += to - from;
+            return ByteBuffer.wrap(Arrays.copyOfRange(bytes, from, to));
+        }
+    }
+}
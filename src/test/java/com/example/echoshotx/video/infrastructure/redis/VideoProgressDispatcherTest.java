@@ -0,0 +1,144 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VideoProgressDispatcherTest {
+
+    private VideoProgressDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    private VideoProgressDispatcher create(int lanes, int capacity) {
+        VideoProps videoProps = new VideoProps();
+        videoProps.getProgress().getDispatcher().setLanes(lanes);
+        videoProps.getProgress().getDispatcher().setLaneCapacity(capacity);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new VideoProgressDispatcher(videoProps, meterRegistry);
+        return dispatcher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 비디오의 메시지는 수신 순서대로 처리된다")
+    void dispatch_PreservesOrderPerVideo() throws Exception {
+        create(4, 10_000);
+        Map<Long, List<Integer>> processed = new ConcurrentHashMap<>();
+        int videos = 8;
+        int messagesPerVideo = 500;
+        CountDownLatch done = new CountDownLatch(videos * messagesPerVideo);
+
+        for (int seq = 0; seq < messagesPerVideo; seq++) {
+            for (long videoId = 1; videoId <= videos; videoId++) {
+                long id = videoId;
+                int value = seq;
+                dispatcher.dispatch(id, () -> {
+                    processed.computeIfAbsent(id, k -> Collections.synchronizedList(new ArrayList<>())).add(value);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        processed.values().forEach(values -> assertThat(values).isSorted().hasSize(messagesPerVideo));
+    }
+
+    @Test
+    @DisplayName("성공: 레인이 가득 차면 같은 비디오의 가장 오래된 메시지를 먼저 버린다")
+    void dispatch_DropsOldestOfSameVideo_WhenLaneIsFull() throws Exception {
+        create(1, 3);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(0L, () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.dispatch(1L, () -> processed.add("v1-a"));
+        dispatcher.dispatch(2L, () -> processed.add("v2-a"));
+        dispatcher.dispatch(1L, () -> processed.add("v1-b"));
+        // 큐 가득 참: v2의 가장 오래된 메시지(v2-a)가 버려진다
+        dispatcher.dispatch(2L, () -> processed.add("v2-b"));
+        // v3 메시지는 큐에 없으므로 가장 오래된 메시지(v1-a)가 버려진다
+        dispatcher.dispatch(3L, () -> processed.add("v3-a"));
+
+        blocker.countDown();
+        awaitDrained();
+
+        assertThat(processed).containsExactly("v1-b", "v2-b", "v3-a");
+        assertThat(meterRegistry.get("video.progress.dispatcher.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("성공: 버려진 메시지는 onDiscard 콜백으로 알린다")
+    void dispatch_InvokesOnDiscard_WhenDropped() throws Exception {
+        create(1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> discarded = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(0L, () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.dispatch(1L, () -> { }, () -> discarded.add("v1-a"));
+        dispatcher.dispatch(1L, () -> { }, () -> discarded.add("v1-b"));
+
+        blocker.countDown();
+        awaitDrained();
+
+        assertThat(discarded).containsExactly("v1-a");
+    }
+
+    @Test
+    @DisplayName("성공: 작업 예외가 레인을 멈추지 않는다")
+    void dispatch_ContinuesAfterTaskFailure() throws Exception {
+        create(1, 10);
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        dispatcher.dispatch(1L, done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (dispatcher.queuedCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        CountDownLatch marker = new CountDownLatch(1);
+        dispatcher.dispatch(0L, marker::countDown);
+        assertThat(marker.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.notification.application.event.VideoProcessingProgressEvent;
+import com.example.echoshotx.notification.application.service.NotificationService;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.infrastructure.redis.dto.VideoProgressFanoutMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class VideoProgressFanoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StringRedisTemplate stringRedisTemplate;
+    private NotificationService notificationService;
+    private VideoProgressFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        notificationService = mock(NotificationService.class);
+        fanout = new VideoProgressFanout(stringRedisTemplate, notificationService, objectMapper, new VideoProps());
+    }
+
+    private DefaultMessage message(String origin) throws Exception {
+        VideoProgressFanoutMessage body = VideoProgressFanoutMessage.builder()
+                .origin(origin).videoId(10L).memberId(7L).progressPercentage(42).currentStep("인코딩 중")
+                .build();
+        return new DefaultMessage("video:progress:fanout".getBytes(), objectMapper.writeValueAsBytes(body));
+    }
+
+    @Test
+    @DisplayName("성공: 수락한 진행률을 전달 채널에 발행한다")
+    void publish_SendsToFanoutChannel() {
+        fanout.publish(new VideoProcessingProgressEvent(10L, 7L, 42, 30, "인코딩 중"));
+
+        verify(stringRedisTemplate).convertAndSend(eq("video:progress:fanout"), any(String.class));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드가 발행한 진행률을 로컬 세션에 전송한다")
+    void onMessage_RelaysProgressFromOtherNode() throws Exception {
+        fanout.onMessage(message("other-node"), null);
+
+        verify(notificationService).sendProgressUpdate(7L, 10L, 42, null, "인코딩 중");
+    }
+
+    @Test
+    @DisplayName("성공: 자기가 발행한 진행률은 이미 전송했으므로 건너뛴다")
+    void onMessage_SkipsOwnMessage() throws Exception {
+        fanout.onMessage(message(fanout.getOrigin()), null);
+
+        verify(notificationService, never()).sendProgressUpdate(anyLong(), anyLong(), any(), any(), any());
+    }
+}
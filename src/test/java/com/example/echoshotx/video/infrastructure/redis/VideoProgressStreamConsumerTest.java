@@ -0,0 +1,67 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.infrastructure.redis.dto.VideoProgressMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class VideoProgressStreamConsumerTest {
+
+    private VideoProgressStreamConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new VideoProgressStreamConsumer(
+                mock(StringRedisTemplate.class),
+                mock(VideoProgressRedisListener.class),
+                mock(VideoProgressDispatcher.class),
+                new ObjectMapper(),
+                new VideoProps());
+    }
+
+    @Test
+    @DisplayName("성공: payload 필드의 JSON을 메시지로 변환한다")
+    void toMessage_ParsesPayloadField() {
+        Map<Object, Object> fields = Map.of(
+                VideoProgressStreamConsumer.PAYLOAD_FIELD,
+                "{\"video_id\":10,\"progress_percentage\":42,\"current_step\":\"인코딩 중\"}");
+
+        VideoProgressMessage message = consumer.toMessage(fields);
+
+        assertThat(message.getVideoId()).isEqualTo(10L);
+        assertThat(message.getProgressPercentage()).isEqualTo(42);
+        assertThat(message.getCurrentStep()).isEqualTo("인코딩 중");
+    }
+
+    @Test
+    @DisplayName("성공: 평면 필드(문자열 값)를 메시지로 변환한다")
+    void toMessage_ParsesFlatFields() {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("video_id", "7");
+        fields.put("progress_percentage", "80");
+        fields.put("estimated_time_left_seconds", "15");
+
+        VideoProgressMessage message = consumer.toMessage(fields);
+
+        assertThat(message.getVideoId()).isEqualTo(7L);
+        assertThat(message.getProgressPercentage()).isEqualTo(80);
+        assertThat(message.getEstimatedTimeLeftSeconds()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("실패: 잘못된 payload는 null을 반환한다")
+    void toMessage_ReturnsNull_WhenPayloadMalformed() {
+        VideoProgressMessage message = consumer.toMessage(
+                Map.of(VideoProgressStreamConsumer.PAYLOAD_FIELD, "{not-json"));
+
+        assertThat(message).isNull();
+    }
+}
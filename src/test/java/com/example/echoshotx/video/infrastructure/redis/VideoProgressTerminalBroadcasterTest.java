@@ -0,0 +1,60 @@
+package com.example.echoshotx.video.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.echoshotx.notification.application.service.VideoProgressSnapshotCache;
+import com.example.echoshotx.shared.config.video.props.VideoProps;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore;
+import com.example.echoshotx.video.application.service.VideoProgressStateStore.Decision;
+import com.example.echoshotx.video.application.service.VideoProgressWriteBehindBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class VideoProgressTerminalBroadcasterTest {
+
+    private VideoProgressSnapshotCache snapshotCache;
+    private VideoProgressStateStore stateStore;
+    private VideoProgressWriteBehindBuffer writeBehindBuffer;
+    private VideoProgressTerminalBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        VideoProps videoProps = new VideoProps();
+        snapshotCache = mock(VideoProgressSnapshotCache.class);
+        writeBehindBuffer = mock(VideoProgressWriteBehindBuffer.class);
+        stateStore = new VideoProgressStateStore(mock(StringRedisTemplate.class), videoProps, new SimpleMeterRegistry());
+        broadcaster = new VideoProgressTerminalBroadcaster(
+                mock(StringRedisTemplate.class), snapshotCache, stateStore, writeBehindBuffer, videoProps);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("video:progress:terminal".getBytes(), body.getBytes());
+    }
+
+    @Test
+    @DisplayName("성공: 다른 노드의 종료 알림을 받으면 이 노드의 상태·write-behind·스냅샷을 종료 처리한다")
+    void onMessage_MarksLocalStateTerminal() {
+        assertThat(stateStore.evaluate(10L, 1L, 40)).isEqualTo(Decision.ACCEPT);
+
+        broadcaster.onMessage(message("10"), null);
+
+        assertThat(stateStore.evaluate(10L, 2L, 60)).isEqualTo(Decision.TERMINAL);
+        verify(writeBehindBuffer).discard(10L);
+        verify(snapshotCache).evict(10L);
+    }
+
+    @Test
+    @DisplayName("실패: 잘못된 메시지는 무시한다")
+    void onMessage_IgnoresInvalidBody() {
+        broadcaster.onMessage(message("not-a-number"), null);
+
+        verifyNoInteractions(writeBehindBuffer, snapshotCache);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.echoshotx.video.infrastructure.sqs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.echoshotx.video.application.dto.S3UploadedObject;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class S3EventNotificationParserTest {
+
+    private final S3EventNotificationParser parser = new S3EventNotificationParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("성공: ObjectCreated 레코드만 꺼내고 URL 인코딩된 키를 디코딩한다")
+    void parse_ExtractsObjectCreatedRecords() {
+        String body = """
+                {"Records":[
+                  {"eventVersion":"2.1","eventSource":"aws:s3","eventName":"ObjectCreated:Put",
+                   "s3":{"bucket":{"name":"echoshot"},
+                         "object":{"key":"videos/7/original/abc/20250101_my+clip%281%29.mp4","size":1048576,"eTag":"e1"}}},
+                  {"eventVersion":"2.1","eventSource":"aws:s3","eventName":"ObjectRemoved:Delete",
+                   "s3":{"bucket":{"name":"echoshot"},"object":{"key":"videos/7/original/def/a.mp4"}}}
+                ]}
+                """;
+
+        List<S3UploadedObject> objects = parser.parse(body);
+
+        assertThat(objects).containsExactly(
+                new S3UploadedObject("echoshot", "videos/7/original/abc/20250101_my clip(1).mp4", 1048576L));
+    }
+
+    @Test
+    @DisplayName("성공: s3:TestEvent와 잘못된 본문은 무시한다")
+    void parse_IgnoresTestEventAndMalformedBody() {
+        String testEvent = """
+                {"Service":"Amazon S3","Event":"s3:TestEvent","Time":"2025-01-01T00:00:00.000Z","Bucket":"echoshot"}
+                """;
+
+        assertThat(parser.parse(testEvent)).isEmpty();
+        assertThat(parser.parse("not-json")).isEmpty();
+    }
+}